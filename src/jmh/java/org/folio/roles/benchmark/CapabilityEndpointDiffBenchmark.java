@@ -0,0 +1,73 @@
+package org.folio.roles.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.roles.domain.dto.Endpoint;
+import org.folio.roles.repository.CapabilityEndpointRepository;
+import org.folio.roles.service.capability.CapabilityCatalogService;
+import org.folio.roles.service.capability.CapabilityEndpointService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CapabilityEndpointService} endpoint diffing on capability (set) assignment, served from the
+ * capability catalog snapshot.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class CapabilityEndpointDiffBenchmark {
+
+  @Param({"5000", "50000"})
+  private int capabilities;
+
+  @Param({"10", "100"})
+  private int setsPerRole;
+
+  private List<UUID> changedSetIds;
+  private List<UUID> assignedSetIds;
+  private List<UUID> changedCapabilityIds;
+  private List<UUID> assignedCapabilityIds;
+  private CapabilityEndpointService capabilityEndpointService;
+
+  @Setup
+  public void setUp() {
+    var tenant = new SyntheticTenant(capabilities, capabilities / 10, 50, 100, setsPerRole, 20);
+    changedSetIds = tenant.randomRoleCapabilitySetIds().subList(0, 1);
+    assignedSetIds = tenant.randomRoleCapabilitySetIds();
+    changedCapabilityIds = tenant.randomCapabilityIds(10);
+    assignedCapabilityIds = tenant.randomCapabilityIds(setsPerRole * 10);
+
+    var capabilityCatalogService = mock(CapabilityCatalogService.class);
+    when(capabilityCatalogService.findCurrent()).thenReturn(Optional.of(tenant.catalog()));
+    capabilityEndpointService =
+      new CapabilityEndpointService(mock(CapabilityEndpointRepository.class), capabilityCatalogService);
+  }
+
+  @Benchmark
+  public List<Endpoint> capabilitySetEndpoints() {
+    return capabilityEndpointService.getByCapabilitySetIds(changedSetIds, assignedSetIds, List.of());
+  }
+
+  @Benchmark
+  public List<Endpoint> capabilityEndpoints() {
+    return capabilityEndpointService.getByCapabilityIds(changedCapabilityIds, assignedCapabilityIds);
+  }
+}
@@ -0,0 +1,69 @@
+package org.folio.roles.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Map;
+import org.folio.roles.integration.kafka.CapabilityEventProcessor;
+import org.folio.roles.integration.kafka.model.CapabilityEvent;
+import org.folio.roles.integration.kafka.model.CapabilityResultHolder;
+import org.folio.roles.integration.kafka.model.Permission;
+import org.folio.roles.service.permission.FolioPermissionService;
+import org.folio.roles.service.permission.PermissionOverrider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CapabilityEventProcessor#process} for large module descriptors.
+ *
+ * <p>Permission expansion is stubbed to return the requested permissions, so only in-memory processing is measured.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class CapabilityEventProcessorBenchmark {
+
+  @Param({"500", "5000"})
+  private int permissions;
+
+  @Param({"50", "500"})
+  private int permissionSets;
+
+  private CapabilityEvent event;
+  private CapabilityEventProcessor capabilityEventProcessor;
+
+  @Setup
+  public void setUp() {
+    event = new SyntheticTenant(permissions, 0, 0, 0, 0, 1).capabilityEvent(permissions, permissionSets);
+
+    var folioPermissionService = mock(FolioPermissionService.class);
+    var permissionOverrider = mock(PermissionOverrider.class);
+    when(permissionOverrider.getPermissionMappings()).thenReturn(Map.of());
+    when(folioPermissionService.expandPermissionNames(any())).thenAnswer(invocation -> {
+      Collection<String> permissionNames = invocation.getArgument(0);
+      return permissionNames.stream().map(name -> new Permission().permissionName(name)).toList();
+    });
+
+    capabilityEventProcessor = new CapabilityEventProcessor(folioPermissionService, permissionOverrider);
+  }
+
+  @Benchmark
+  public CapabilityResultHolder process() {
+    return capabilityEventProcessor.process(event);
+  }
+}
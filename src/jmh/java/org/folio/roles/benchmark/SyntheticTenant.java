@@ -0,0 +1,201 @@
+package org.folio.roles.benchmark;
+
+import static org.folio.roles.domain.dto.HttpMethod.GET;
+import static org.folio.roles.domain.dto.HttpMethod.POST;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.CapabilityAction;
+import org.folio.roles.domain.dto.CapabilityType;
+import org.folio.roles.domain.dto.Endpoint;
+import org.folio.roles.domain.dto.HttpMethod;
+import org.folio.roles.integration.kafka.model.CapabilityEvent;
+import org.folio.roles.integration.kafka.model.FolioResource;
+import org.folio.roles.integration.kafka.model.ModuleType;
+import org.folio.roles.integration.kafka.model.Permission;
+import org.folio.roles.service.capability.model.CapabilityCatalog;
+import org.folio.roles.service.capability.model.UserPermissionMappings;
+
+/**
+ * Generates synthetic tenant data of the configurable size for benchmarks.
+ *
+ * <p>Tenant consists of {@code capabilities} capabilities, each with one permission and two endpoints, grouped into
+ * {@code capabilitySets} capability sets. Every role is assigned with {@code setsPerRole} random capability sets and
+ * every user with {@code rolesPerUser} random roles. Data is generated with a fixed seed, so benchmark runs are
+ * comparable.
+ */
+public final class SyntheticTenant {
+
+  public static final String APPLICATION_PREFIX = "app-bench-";
+  private static final String[] PERMISSION_PREFIXES = {"ui-bench", "mod-bench", "plugin-bench", "module.bench"};
+  private static final String[] ACTIONS = {"get", "post", "put", "delete"};
+
+  private final Random random = new Random(42L);
+  private final List<String> permissions;
+  private final List<Capability> capabilities;
+  private final Map<UUID, List<UUID>> capabilityIdsBySetId;
+  private final List<List<UUID>> capabilitySetIdsByRole;
+  private final int applications;
+
+  /**
+   * Generates synthetic tenant.
+   *
+   * @param capabilities - number of capabilities and permissions
+   * @param capabilitySets - number of capability sets
+   * @param capabilitiesPerSet - number of capabilities in each capability set
+   * @param roles - number of roles
+   * @param setsPerRole - number of capability sets, assigned to each role
+   * @param applications - number of applications, owning capabilities
+   */
+  public SyntheticTenant(int capabilities, int capabilitySets, int capabilitiesPerSet, int roles, int setsPerRole,
+    int applications) {
+    this.applications = applications;
+    this.permissions = IntStream.range(0, capabilities).mapToObj(SyntheticTenant::permissionName).toList();
+    this.capabilities = IntStream.range(0, capabilities).mapToObj(this::capability).toList();
+    this.capabilityIdsBySetId = new LinkedHashMap<>();
+    for (int i = 0; i < capabilitySets; i++) {
+      capabilityIdsBySetId.put(uuid(1, i), randomItems(this.capabilities, capabilitiesPerSet).stream()
+        .map(Capability::getId)
+        .toList());
+    }
+
+    var setIds = List.copyOf(capabilityIdsBySetId.keySet());
+    this.capabilitySetIdsByRole = IntStream.range(0, roles).mapToObj(i -> randomItems(setIds, setsPerRole)).toList();
+  }
+
+  /**
+   * Creates capability catalog snapshot with all tenant capabilities.
+   *
+   * @return {@link CapabilityCatalog} snapshot
+   */
+  public CapabilityCatalog catalog() {
+    return CapabilityCatalog.of(1L, capabilities, capabilityIdsBySetId);
+  }
+
+  /**
+   * Returns capability set identifiers of the random role.
+   *
+   * @return list with capability set identifiers
+   */
+  public List<UUID> randomRoleCapabilitySetIds() {
+    return capabilitySetIdsByRole.get(random.nextInt(capabilitySetIdsByRole.size()));
+  }
+
+  /**
+   * Returns identifiers of the given number of random capabilities.
+   *
+   * @param count - number of capabilities
+   * @return list with capability identifiers
+   */
+  public List<UUID> randomCapabilityIds(int count) {
+    return randomItems(capabilities, count).stream().map(Capability::getId).toList();
+  }
+
+  /**
+   * Resolves permission mappings of the user with the given number of random roles, as they are cached.
+   *
+   * @param rolesPerUser - number of roles, assigned to the user
+   * @return {@link UserPermissionMappings} of the user
+   */
+  public UserPermissionMappings userPermissionMappings(int rolesPerUser) {
+    var capabilitiesById = new HashMap<UUID, Capability>();
+    capabilities.forEach(capability -> capabilitiesById.put(capability.getId(), capability));
+
+    var permissionToApplicationId = new LinkedHashMap<String, String>();
+    for (var capabilitySetIds : randomItems(capabilitySetIdsByRole, rolesPerUser)) {
+      capabilitySetIds.stream()
+        .flatMap(setId -> capabilityIdsBySetId.get(setId).stream())
+        .map(capabilitiesById::get)
+        .forEach(capability -> permissionToApplicationId.putIfAbsent(capability.getPermission(),
+          capability.getApplicationId()));
+    }
+
+    return new UserPermissionMappings(new ArrayList<>(permissionToApplicationId.keySet()),
+      Map.copyOf(permissionToApplicationId));
+  }
+
+  /**
+   * Creates capability event of the module, defining the given number of permissions and permission sets.
+   *
+   * @param permissions - number of plain permissions with endpoints
+   * @param permissionSets - number of permission sets, each including 10 random plain permissions
+   * @return {@link CapabilityEvent} with generated module resources
+   */
+  public CapabilityEvent capabilityEvent(int permissions, int permissionSets) {
+    var resources = new ArrayList<FolioResource>();
+    var permissionNames = this.permissions.subList(0, Math.min(permissions, this.permissions.size()));
+    for (var permissionName : permissionNames) {
+      resources.add(new FolioResource()
+        .permission(new Permission().permissionName(permissionName).visible(true))
+        .endpoints(List.of(endpoint(permissionName, GET), endpoint(permissionName, POST))));
+    }
+
+    for (int i = 0; i < permissionSets; i++) {
+      resources.add(new FolioResource().permission(new Permission()
+        .permissionName("mod-bench.set-" + i + ".all")
+        .subPermissions(randomItems(permissionNames, 10))
+        .visible(true)));
+    }
+
+    return new CapabilityEvent()
+      .moduleId("mod-bench-1.0.0")
+      .moduleType(ModuleType.MODULE)
+      .applicationId(applicationId(0))
+      .resources(resources);
+  }
+
+  /**
+   * Returns application identifier with the given index.
+   *
+   * @param index - application index
+   * @return application identifier
+   */
+  public static String applicationId(int index) {
+    return APPLICATION_PREFIX + index + "-1.0.0";
+  }
+
+  private Capability capability(int index) {
+    var permission = permissions.get(index);
+    return new Capability()
+      .id(uuid(0, index))
+      .name(permission.replace('-', '_'))
+      .resource("Bench Item " + index)
+      .action(CapabilityAction.VIEW)
+      .type(CapabilityType.DATA)
+      .permission(permission)
+      .applicationId(applicationId(index % applications))
+      .endpoints(List.of(itemEndpoint(index, GET), itemEndpoint(index, POST)));
+  }
+
+  private <T> List<T> randomItems(List<T> items, int count) {
+    if (items.isEmpty()) {
+      return List.of();
+    }
+
+    return random.ints(0, items.size()).distinct().limit(Math.min(count, items.size())).mapToObj(items::get).toList();
+  }
+
+  private static String permissionName(int index) {
+    var prefix = PERMISSION_PREFIXES[index % PERMISSION_PREFIXES.length];
+    return prefix + ".item-" + index + "." + ACTIONS[index % ACTIONS.length];
+  }
+
+  private static Endpoint itemEndpoint(int index, HttpMethod method) {
+    return new Endpoint().path("/bench/items/" + index).method(method);
+  }
+
+  private static Endpoint endpoint(String permissionName, HttpMethod method) {
+    return new Endpoint().path("/bench/" + permissionName).method(method);
+  }
+
+  private static UUID uuid(long kind, long index) {
+    return new UUID(kind, index);
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.roles.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.folio.roles.integration.mte.MteEntitlementService;
+import org.folio.roles.service.capability.CapabilityService;
+import org.folio.roles.service.capability.UserPermissionCacheService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CapabilityService#getUserPermissions} filtering on the user permissions cache hit.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+public class UserPermissionsBenchmark {
+
+  private static final UUID USER_ID = UUID.randomUUID();
+  private static final List<String> DESIRED_PERMISSIONS =
+    List.of("ui-bench.item-1*", "mod-bench.item-2*", "plugin-bench.item-40.get", "module.bench.item-7.delete");
+
+  @Param({"5000", "50000"})
+  private int capabilities;
+
+  @Param({"10", "100"})
+  private int rolesPerUser;
+
+  private CapabilityService capabilityService;
+
+  @Setup
+  public void setUp() {
+    var tenant = new SyntheticTenant(capabilities, capabilities / 10, 50, 1000, 10, 20);
+    var userPermissionCacheService = mock(UserPermissionCacheService.class);
+    var mteEntitlementService = mock(MteEntitlementService.class);
+    var entitledApplications = IntStream.range(0, 10).mapToObj(SyntheticTenant::applicationId)
+      .collect(Collectors.toUnmodifiableSet());
+    when(userPermissionCacheService.getUserPermissionMappings(USER_ID))
+      .thenReturn(tenant.userPermissionMappings(rolesPerUser));
+    when(mteEntitlementService.getEntitledApplicationIdsForCurrentTenant()).thenReturn(entitledApplications);
+
+    capabilityService = new CapabilityService(null, null, null, null, null, userPermissionCacheService,
+      mteEntitlementService, null, null, null, null, null);
+  }
+
+  @Benchmark
+  public List<String> allPermissions() {
+    return capabilityService.getUserPermissions(USER_ID, false, List.of(), false);
+  }
+
+  @Benchmark
+  public List<String> visiblePermissions() {
+    return capabilityService.getUserPermissions(USER_ID, true, List.of(), false);
+  }
+
+  @Benchmark
+  public List<String> desiredPermissions() {
+    return capabilityService.getUserPermissions(USER_ID, false, DESIRED_PERMISSIONS, false);
+  }
+
+  @Benchmark
+  public List<String> entitledPermissions() {
+    return capabilityService.getUserPermissions(USER_ID, false, List.of(), true);
+  }
+
+  @Benchmark
+  public List<String> entitledVisiblePermissions() {
+    return capabilityService.getUserPermissions(USER_ID, true, List.of(), true);
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.roles.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.roles.service.capability.UserPermissionsCacheEvictor;
+import org.folio.roles.service.capability.model.UserPermissionMappings;
+import org.folio.spring.FolioExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * Measures {@link UserPermissionsCacheEvictor} tenant eviction with the shared {@code user-permissions} cache of
+ * different sizes.
+ *
+ * <p>Tenant eviction increments the tenant generation and does not depend on the number of cached entries.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+public class UserPermissionsCacheEvictorBenchmark {
+
+  private static final String USER_PERMISSIONS_CACHE = "user-permissions";
+  private static final String EVICTED_TENANT = "tenant0";
+  private static final UserPermissionMappings MAPPINGS = new UserPermissionMappings(
+    List.of("ui-bench.item-1.view"), Map.of("ui-bench.item-1.view", "app-bench-1.0.0"));
+
+  @Param({"10", "100"})
+  private int tenants;
+
+  @Param({"1000"})
+  private int usersPerTenant;
+
+  private Cache<Object, Object> nativeCache;
+  private UserPermissionsCacheEvictor cacheEvictor;
+
+  @Setup
+  public void setUp() {
+    nativeCache = Caffeine.newBuilder().build();
+    var cacheManager = new CaffeineCacheManager();
+    cacheManager.registerCustomCache(USER_PERMISSIONS_CACHE, nativeCache);
+
+    var folioExecutionContext = mock(FolioExecutionContext.class);
+    when(folioExecutionContext.getTenantId()).thenReturn(EVICTED_TENANT);
+    cacheEvictor = new UserPermissionsCacheEvictor(cacheManager, folioExecutionContext, Duration.ofMinutes(1));
+
+    for (int i = 0; i < tenants; i++) {
+      populateTenant("tenant" + i);
+    }
+  }
+
+  @Benchmark
+  public void evictTenant() {
+    cacheEvictor.evictUserPermissionsForCurrentTenant();
+  }
+
+  private void populateTenant(String tenantId) {
+    for (int i = 0; i < usersPerTenant; i++) {
+      nativeCache.put(tenantId + ":0:" + new UUID(0L, i) + ":mappings", MAPPINGS);
+    }
+  }
+}
@@ -1,15 +1,20 @@
 package org.folio.roles.configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
 import java.time.Duration;
 import java.util.Arrays;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.service.capability.model.CachedUserPermissionMappings;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
+@Log4j2
 @Configuration
 public class CacheConfig {
 
@@ -52,8 +57,11 @@ public class CacheConfig {
   @Value("${cache.user-permissions.ttl}")
   private Duration userPermissionsTtl;
 
-  @Value("${cache.user-permissions.max-size}")
-  private int userPermissionsMaxSize;
+  @Value("${cache.user-permissions.max-weight}")
+  private DataSize userPermissionsMaxWeight;
+
+  @Value("${cache.user-permissions.max-size:}")
+  private Integer userPermissionsMaxSize;
 
   @Value("${cache.tenant-entitled-applications.ttl}")
   private Duration tenantEntitledApplicationsTtl;
@@ -61,6 +69,12 @@ public class CacheConfig {
   @Value("${cache.tenant-entitled-applications.max-size}")
   private int tenantEntitledApplicationsMaxSize;
 
+  @Value("${cache.record-counts.ttl}")
+  private Duration recordCountsTtl;
+
+  @Value("${cache.record-counts.max-size}")
+  private int recordCountsMaxSize;
+
   @Bean
   public CacheManager cacheManager() {
     var cacheManager = new SimpleCacheManager();
@@ -72,20 +86,46 @@ public class CacheConfig {
       buildCache("keycloak-user-id", keycloakUserIdMaxSize, keycloakUserIdTtl),
       buildCache("keycloak-login-client", keycloakLoginClientMaxSize, keycloakLoginClientTtl),
       buildCache("authorization-client-cache", authorizationClientMaxSize, authorizationClientTtl),
-      buildCache("user-permissions", userPermissionsMaxSize, userPermissionsTtl),
-      buildCache("tenant-entitled-applications", tenantEntitledApplicationsMaxSize, tenantEntitledApplicationsTtl)
+      buildUserPermissionsCache(),
+      buildCache("tenant-entitled-applications", tenantEntitledApplicationsMaxSize, tenantEntitledApplicationsTtl),
+      buildCache("record-counts", recordCountsMaxSize, recordCountsTtl)
     );
 
     cacheManager.setCaches(caches);
     return cacheManager;
   }
 
+  private CaffeineCache buildUserPermissionsCache() {
+    if (userPermissionsMaxSize != null) {
+      log.warn("USER_PERMISSIONS_CACHE_MAX_SIZE is deprecated, user permissions cache is limited by the number of "
+        + "entries instead of USER_PERMISSIONS_CACHE_MAX_WEIGHT: maxSize = {}", userPermissionsMaxSize);
+      return buildCache("user-permissions", userPermissionsMaxSize, userPermissionsTtl);
+    }
+
+    return buildWeightedCache("user-permissions", userPermissionsMaxWeight, userPermissionsTtl,
+      CachedUserPermissionMappings::weigh);
+  }
+
   private CaffeineCache buildCache(String name, int maxSize, Duration ttl) {
     return new CaffeineCache(
       name,
       Caffeine.newBuilder()
         .maximumSize(maxSize)
         .expireAfterWrite(ttl)
+        .recordStats()
+        .build()
+    );
+  }
+
+  private CaffeineCache buildWeightedCache(String name, DataSize maxWeight, Duration ttl,
+    Weigher<Object, Object> weigher) {
+    return new CaffeineCache(
+      name,
+      Caffeine.newBuilder()
+        .maximumWeight(maxWeight.toBytes())
+        .weigher(weigher)
+        .expireAfterWrite(ttl)
+        .recordStats()
         .build()
     );
   }
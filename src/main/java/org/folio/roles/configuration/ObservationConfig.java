@@ -0,0 +1,51 @@
+package org.folio.roles.configuration;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import org.folio.roles.configuration.property.TracingProperties;
+import org.folio.roles.service.observation.ObservedMethodInterceptor;
+import org.folio.roles.service.observation.SlowRequestObservationHandler;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration
+public class ObservationConfig {
+
+  /**
+   * Creates advisor, observing invocations of the beans and methods annotated with {@link Observed}.
+   *
+   * <p>Observation registry is resolved lazily, because advisors are created before the regular beans. Plain Spring
+   * AOP is used, so AspectJ is not required.
+   *
+   * @param observationRegistry - observation registry provider
+   * @return {@link Advisor} for {@link Observed} beans
+   */
+  @Bean
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  public static Advisor observedMethodAdvisor(ObjectProvider<ObservationRegistry> observationRegistry) {
+    var pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Observed.class, true))
+      .union(new AnnotationMatchingPointcut(null, Observed.class, true));
+    var interceptor = new ObservedMethodInterceptor(
+      SingletonSupplier.of(() -> observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP)));
+    var advisor = new DefaultPointcutAdvisor(pointcut, interceptor);
+    // observations must wrap transactions and retries, so commit and retry time are included into spans
+    advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return advisor;
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "application.tracing.slow-request-log-enabled", matchIfMissing = true)
+  public SlowRequestObservationHandler slowRequestObservationHandler(TracingProperties tracingProperties) {
+    return new SlowRequestObservationHandler(tracingProperties);
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.roles.configuration.property;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.capability-catalog")
+public class CapabilityCatalogProperties {
+
+  /**
+   * Defines if capability lookups are served from the in-memory capability catalog snapshots.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Maximum number of capabilities in the tenant snapshot, larger catalogs are always read from the database.
+   */
+  @Positive
+  private int maxCapabilities = 50_000;
+}
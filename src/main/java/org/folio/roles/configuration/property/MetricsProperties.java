@@ -0,0 +1,20 @@
+package org.folio.roles.configuration.property;
+
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.metrics")
+public class MetricsProperties {
+
+  /**
+   * Maximum number of distinct tenant tag values, metrics of other tenants are tagged with {@code tenant=other}.
+   */
+  @PositiveOrZero
+  private int maxTenantTags = 100;
+}
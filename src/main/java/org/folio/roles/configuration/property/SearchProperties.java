@@ -0,0 +1,20 @@
+package org.folio.roles.configuration.property;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.search")
+public class SearchProperties {
+
+  /**
+   * Number of rows fetched from the database cursor per round trip, when list endpoints stream the results.
+   */
+  @Positive
+  private int streamFetchSize = 500;
+}
@@ -0,0 +1,30 @@
+package org.folio.roles.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.tenant-bootstrap")
+public class TenantBootstrapProperties {
+
+  /**
+   * Maximum number of tenants, initialized concurrently, other tenant init requests wait in the queue.
+   */
+  @Positive
+  private int maxConcurrent = 4;
+
+  /**
+   * Maximum time the tenant init request waits in the queue before it is rejected.
+   *
+   * <p>Tenant init is a synchronous request, so the timeout must be lower than the request timeout of the caller.
+   */
+  @NotNull
+  private Duration queueTimeout = Duration.ofMinutes(5);
+}
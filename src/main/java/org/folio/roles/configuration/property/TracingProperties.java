@@ -0,0 +1,33 @@
+package org.folio.roles.configuration.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.tracing")
+public class TracingProperties {
+
+  /**
+   * Defines if span trees of slow requests and events are logged.
+   */
+  private boolean slowRequestLogEnabled = true;
+
+  /**
+   * Minimal duration of the request or event, which span tree is logged.
+   */
+  @NotNull
+  private Duration slowRequestThreshold = Duration.ofSeconds(10);
+
+  /**
+   * Maximum number of spans, collected per request or event, other spans are only counted.
+   */
+  @Positive
+  private int maxSpans = 1000;
+}
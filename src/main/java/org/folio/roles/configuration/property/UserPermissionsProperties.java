@@ -0,0 +1,19 @@
+package org.folio.roles.configuration.property;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@Component
+@ConfigurationProperties(prefix = "application.user-permissions")
+public class UserPermissionsProperties {
+
+  /**
+   * Defines if gzip-compressed user permissions responses are cached along with the serialized JSON and returned to
+   * the clients, accepting gzip encoding.
+   */
+  private boolean gzipEnabled = false;
+}
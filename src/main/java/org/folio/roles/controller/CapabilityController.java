@@ -1,21 +1,32 @@
 package org.folio.roles.controller;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.roles.controller.StreamingResponseWriter.STREAM_PARAM;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.folio.roles.domain.dto.Capabilities;
 import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.rest.resource.CapabilityApi;
 import org.folio.roles.service.capability.CapabilityService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 public class CapabilityController implements CapabilityApi {
 
   private final CapabilityService capabilityService;
+  private final StreamingResponseWriter streamingResponseWriter;
 
   @Override
   public ResponseEntity<Capability> getCapabilityById(UUID id) {
@@ -24,11 +35,36 @@ public class CapabilityController implements CapabilityApi {
   }
 
   @Override
-  public ResponseEntity<Capabilities> findCapabilities(String query, Integer limit, Integer offset) {
-    var pageResult = capabilityService.find(query, limit, offset);
+  public ResponseEntity<Capabilities> findCapabilities(String query, Integer limit, Integer offset, String after,
+    String totalRecords, Boolean stream) {
+    if (after != null) {
+      var keysetPageResult = capabilityService.findAfter(query, after, limit);
+      return ResponseEntity.ok(new Capabilities()
+        .capabilities(keysetPageResult.getRecords())
+        .next(keysetPageResult.getNext()));
+    }
+
+    var totalRecordsMode = TotalRecords.from(totalRecords);
+    var pageResult = capabilityService.find(query, limit, offset, totalRecordsMode);
     return ResponseEntity.ok(new Capabilities()
       .capabilities(pageResult.getRecords())
-      .totalRecords(pageResult.getTotalRecords()));
+      .totalRecords(totalRecordsMode.toResponseValue(pageResult)));
+  }
+
+  /**
+   * Streams capability records by CQL query, without building the whole response in memory.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param response - http servlet response to write records to
+   */
+  @GetMapping(path = "/capabilities", params = STREAM_PARAM, produces = APPLICATION_JSON_VALUE)
+  public void streamCapabilities(@RequestParam(required = false) String query,
+    @Min(0) @RequestParam(defaultValue = "10") int limit, @Min(0) @RequestParam(defaultValue = "0") int offset,
+    HttpServletResponse response) {
+    streamingResponseWriter.write(response, "capabilities", limit, offset,
+      (Consumer<Capability> consumer) -> capabilityService.stream(query, limit, offset, consumer));
   }
 
   @Override
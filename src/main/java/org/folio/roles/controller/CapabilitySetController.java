@@ -1,19 +1,31 @@
 package org.folio.roles.controller;
 
+import static org.folio.roles.controller.StreamingResponseWriter.STREAM_PARAM;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.folio.roles.domain.dto.CapabilitySet;
 import org.folio.roles.domain.dto.CapabilitySets;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.rest.resource.CapabilitySetApi;
 import org.folio.roles.service.capability.CapabilitySetService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 public class CapabilitySetController implements CapabilitySetApi {
 
   private final CapabilitySetService capabilitySetService;
+  private final StreamingResponseWriter streamingResponseWriter;
 
   @Override
   public ResponseEntity<CapabilitySet> getCapabilitySetById(UUID id) {
@@ -22,10 +34,35 @@ public class CapabilitySetController implements CapabilitySetApi {
   }
 
   @Override
-  public ResponseEntity<CapabilitySets> findCapabilitySets(String query, Integer limit, Integer offset) {
-    var pageResult = capabilitySetService.find(query, limit, offset);
+  public ResponseEntity<CapabilitySets> findCapabilitySets(String query, Integer limit, Integer offset,
+    String after, String totalRecords, Boolean stream) {
+    if (after != null) {
+      var keysetPageResult = capabilitySetService.findAfter(query, after, limit);
+      return ResponseEntity.ok(new CapabilitySets()
+        .capabilitySets(keysetPageResult.getRecords())
+        .next(keysetPageResult.getNext()));
+    }
+
+    var totalRecordsMode = TotalRecords.from(totalRecords);
+    var pageResult = capabilitySetService.find(query, limit, offset, totalRecordsMode);
     return ResponseEntity.ok(new CapabilitySets()
       .capabilitySets(pageResult.getRecords())
-      .totalRecords(pageResult.getTotalRecords()));
+      .totalRecords(totalRecordsMode.toResponseValue(pageResult)));
+  }
+
+  /**
+   * Streams capability set records by CQL query, without building the whole response in memory.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param response - http servlet response to write records to
+   */
+  @GetMapping(path = "/capability-sets", params = STREAM_PARAM, produces = APPLICATION_JSON_VALUE)
+  public void streamCapabilitySets(@RequestParam(required = false) String query,
+    @Min(0) @RequestParam(defaultValue = "10") int limit, @Min(0) @RequestParam(defaultValue = "0") int offset,
+    HttpServletResponse response) {
+    streamingResponseWriter.write(response, "capabilitySets", limit, offset,
+      (Consumer<CapabilitySet> consumer) -> capabilitySetService.stream(query, limit, offset, consumer));
   }
 }
@@ -39,6 +39,12 @@ public class MigrationController implements MigrationApi {
     return ResponseEntity.status(CREATED).body(migration);
   }
 
+  @Override
+  public ResponseEntity<PermissionMigrationJob> resumeMigration(UUID id) {
+    var migration = migrationService.resumeMigration(id);
+    return ResponseEntity.ok(migration);
+  }
+
   @Override
   public ResponseEntity<String> deleteMigration(UUID id) {
     migrationService.deleteMigrationById(id);
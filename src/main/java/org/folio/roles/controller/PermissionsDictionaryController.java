@@ -0,0 +1,32 @@
+package org.folio.roles.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.roles.domain.dto.PermissionsDictionary;
+import org.folio.roles.rest.resource.PermissionsDictionaryApi;
+import org.folio.roles.service.capability.PermissionDictionaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class PermissionsDictionaryController implements PermissionsDictionaryApi {
+
+  private final PermissionDictionaryService permissionDictionaryService;
+
+  /**
+   * Retrieves permissions dictionary of the tenant.
+   *
+   * <p>Response is returned with {@code ETag} header, containing the dictionary version, so {@code If-None-Match}
+   * requests with the same version are answered with {@code 304 Not Modified} without the response body.
+   */
+  @Override
+  public ResponseEntity<PermissionsDictionary> getPermissionsDictionary() {
+    var dictionary = permissionDictionaryService.getDictionary();
+    return ResponseEntity.ok()
+      .eTag(dictionary.getVersion())
+      .body(new PermissionsDictionary()
+        .version(dictionary.getVersion())
+        .permissions(dictionary.getPermissions())
+        .totalRecords(dictionary.size()));
+  }
+}
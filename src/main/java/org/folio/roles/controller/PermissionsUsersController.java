@@ -1,13 +1,21 @@
 package org.folio.roles.controller;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.roles.controller.SerializedJsonHttpMessageConverter.GZIP;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.roles.domain.dto.PermissionsUser;
+import org.folio.roles.domain.dto.PermissionsUserBitmap;
+import org.folio.roles.domain.model.SerializedPermissionsUser;
 import org.folio.roles.rest.resource.PermissionsUsersApi;
 import org.folio.roles.service.capability.CapabilityService;
+import org.folio.roles.service.capability.PermissionDictionaryService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,16 +23,96 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PermissionsUsersController implements PermissionsUsersApi {
 
+  private static final String ANY_ENCODING = "*";
+  private static final String QUALITY_PARAMETER = "q=";
+
   private final CapabilityService capabilityService;
+  private final PermissionDictionaryService permissionDictionaryService;
+  private final HttpServletRequest httpServletRequest;
 
+  /**
+   * Retrieves user permissions.
+   *
+   * <p>Responses, serialized in advance, are returned with {@code ETag} header, so {@code If-None-Match} requests
+   * with the same tag are answered with {@code 304 Not Modified} without the response body.
+   */
   @Override
   public ResponseEntity<PermissionsUser> getPermissionsUser(UUID userId, Boolean onlyVisible,
     List<String> desiredPermissions, Boolean entitledOnly) {
-    var userPermissions = capabilityService.getUserPermissions(
+    var permissionsUser = capabilityService.getPermissionsUser(
       userId,
       TRUE.equals(onlyVisible),
       desiredPermissions,
       TRUE.equals(entitledOnly));
-    return ResponseEntity.ok(new PermissionsUser().userId(userId).permissions(userPermissions));
+
+    if (!(permissionsUser instanceof SerializedPermissionsUser serializedPermissionsUser)) {
+      return ResponseEntity.ok(permissionsUser);
+    }
+
+    var serializedPermissions = serializedPermissionsUser.getSerializedPermissions();
+    var response = ResponseEntity.ok().eTag(serializedPermissions.etag());
+    if (serializedPermissions.hasGzippedJson()) {
+      response.varyBy(ACCEPT_ENCODING);
+      if (isGzipAccepted()) {
+        response.header(CONTENT_ENCODING, GZIP);
+      }
+    }
+
+    return response.body(permissionsUser);
+  }
+
+  @Override
+  public ResponseEntity<PermissionsUserBitmap> getPermissionsUserBitmap(UUID userId, Boolean onlyVisible,
+    Boolean entitledOnly) {
+    var permissionsUserBitmap = permissionDictionaryService.getPermissionsUserBitmap(
+      userId,
+      TRUE.equals(onlyVisible),
+      TRUE.equals(entitledOnly));
+    return ResponseEntity.ok(permissionsUserBitmap);
+  }
+
+  /**
+   * Checks if gzip content coding is acceptable for the client.
+   *
+   * <p>Content codings are matched by the exact name with their quality values, so {@code gzip;q=0} is rejected,
+   * and the wildcard {@code *} is used only if {@code gzip} is not listed explicitly.
+   */
+  private boolean isGzipAccepted() {
+    var acceptEncodingHeaders = httpServletRequest.getHeaders(ACCEPT_ENCODING);
+    if (acceptEncodingHeaders == null) {
+      return false;
+    }
+
+    Double gzipQuality = null;
+    Double wildcardQuality = null;
+    for (var acceptEncoding : Collections.list(acceptEncodingHeaders)) {
+      for (var encoding : acceptEncoding.split(",")) {
+        var parameters = encoding.split(";");
+        var coding = parameters[0].trim();
+        if (GZIP.equalsIgnoreCase(coding)) {
+          gzipQuality = getQuality(parameters);
+        } else if (ANY_ENCODING.equals(coding)) {
+          wildcardQuality = getQuality(parameters);
+        }
+      }
+    }
+
+    var quality = gzipQuality != null ? gzipQuality : wildcardQuality;
+    return quality != null && quality > 0;
+  }
+
+  private static double getQuality(String[] parameters) {
+    for (int i = 1; i < parameters.length; i++) {
+      var parameter = parameters[i].trim();
+      if (parameter.regionMatches(true, 0, QUALITY_PARAMETER, 0, QUALITY_PARAMETER.length())) {
+        try {
+          return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+
+    return 1;
   }
 }
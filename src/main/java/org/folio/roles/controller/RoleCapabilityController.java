@@ -10,6 +10,8 @@ import org.folio.roles.domain.dto.Capabilities;
 import org.folio.roles.domain.dto.CapabilitiesUpdateRequest;
 import org.folio.roles.domain.dto.RoleCapabilities;
 import org.folio.roles.domain.dto.RoleCapabilitiesRequest;
+import org.folio.roles.domain.model.TotalRecords;
+import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.rest.resource.RoleCapabilityApi;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.roles.service.capability.RoleCapabilityService;
@@ -37,13 +39,26 @@ public class RoleCapabilityController implements RoleCapabilityApi {
 
   @Override
   public ResponseEntity<Capabilities> findCapabilitiesByRoleId(UUID id, Boolean expand, Boolean dedup,
-    Boolean includeDummy, Integer limit, Integer offset) {
+    Boolean includeDummy, Integer limit, Integer offset, String after, String totalRecords) {
     roleEntityService.getById(id);
+    if (after != null) {
+      if (!isNotFalse(dedup)) {
+        throw new RequestValidationException("Keyset pagination requires deduplicated capabilities", "dedup", dedup);
+      }
+
+      var keysetPageResult =
+        capabilityService.findByRoleIdAfter(id, isTrue(expand), isTrue(includeDummy), after, limit);
+      return ResponseEntity.ok(new Capabilities()
+        .capabilities(keysetPageResult.getRecords())
+        .next(keysetPageResult.getNext()));
+    }
+
+    var totalRecordsMode = TotalRecords.from(totalRecords);
     var pageResult = capabilityService.findByRoleId(
-      id, isTrue(expand), isTrue(includeDummy), isNotFalse(dedup), limit, offset);
+      id, isTrue(expand), isTrue(includeDummy), isNotFalse(dedup), limit, offset, totalRecordsMode);
     return ResponseEntity.ok(new Capabilities()
       .capabilities(pageResult.getRecords())
-      .totalRecords(pageResult.getTotalRecords()));
+      .totalRecords(totalRecordsMode.toResponseValue(pageResult)));
   }
 
   @Override
@@ -0,0 +1,55 @@
+package org.folio.roles.controller;
+
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+import java.io.IOException;
+import org.folio.roles.domain.model.SerializedPermissionsUser;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes responses with the JSON body, serialized in advance, as is, bypassing the Jackson message converter.
+ *
+ * <p>Gzip-compressed body is written if {@code Content-Encoding: gzip} header is set for the response. Registered as a
+ * bean, so it is placed before the default message converters.
+ */
+@Component
+public class SerializedJsonHttpMessageConverter extends AbstractHttpMessageConverter<SerializedPermissionsUser> {
+
+  public static final String GZIP = "gzip";
+
+  public SerializedJsonHttpMessageConverter() {
+    super(APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return SerializedPermissionsUser.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected SerializedPermissionsUser readInternal(Class<? extends SerializedPermissionsUser> clazz,
+    HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Serialized JSON responses cannot be read", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(SerializedPermissionsUser value, HttpOutputMessage outputMessage)
+    throws IOException {
+    var serializedPermissions = value.getSerializedPermissions();
+    var gzip = GZIP.equals(outputMessage.getHeaders().getFirst(CONTENT_ENCODING));
+    var body = gzip ? serializedPermissions.gzippedJson() : serializedPermissions.json();
+    outputMessage.getHeaders().setContentLength(body.length);
+    outputMessage.getBody().write(body);
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.roles.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes collection responses incrementally, record by record, instead of building the whole response body in memory.
+ *
+ * <p>Streamed responses have the same structure as the regular collection responses. The COUNT query is never executed
+ * for them, so {@code totalRecords} is written only if it can be derived from the streamed records: when the last page
+ * is reached (less than {@code limit} records streamed).
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StreamingResponseWriter {
+
+  /**
+   * Request parameter condition for the streaming variants of the list endpoints, the parameter is declared in the
+   * OpenAPI specification and requests without it are handled by the generated API methods.
+   */
+  public static final String STREAM_PARAM = "stream=true";
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Writes collection of records, provided by {@code recordsProducer}, to the response.
+   *
+   * @param response - http servlet response
+   * @param collectionName - name of the collection property in the response
+   * @param limit - requested limit
+   * @param offset - requested offset
+   * @param recordsProducer - producer, passing found records one by one to the given consumer
+   * @param <T> - record type
+   */
+  public <T> void write(HttpServletResponse response, String collectionName, int limit, int offset,
+    Consumer<Consumer<T>> recordsProducer) {
+    var collectionWriter = new CollectionWriter<T>(response, collectionName);
+    recordsProducer.accept(collectionWriter);
+    collectionWriter.finish(limit, offset);
+  }
+
+  @RequiredArgsConstructor
+  private final class CollectionWriter<T> implements Consumer<T> {
+
+    private final HttpServletResponse response;
+    private final String collectionName;
+    private JsonGenerator generator;
+    private long writtenRecords;
+
+    @Override
+    public void accept(T value) {
+      if (generator == null) {
+        start();
+      }
+
+      generator.writePOJO(value);
+      writtenRecords++;
+    }
+
+    void finish(int limit, int offset) {
+      if (generator == null) {
+        start();
+      }
+
+      generator.writeEndArray();
+      if (writtenRecords < limit && (writtenRecords > 0 || offset == 0)) {
+        generator.writeNumberProperty("totalRecords", offset + writtenRecords);
+      }
+
+      generator.writeEndObject();
+      generator.close();
+      log.debug("Collection has been streamed: name = {}, records = {}", collectionName, writtenRecords);
+    }
+
+    /**
+     * Starts response body lazily, so failures occurred before the first record still produce a regular error response.
+     */
+    private void start() {
+      response.setContentType(APPLICATION_JSON_VALUE);
+      try {
+        generator = objectMapper.createGenerator(response.getOutputStream());
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to open response stream", e);
+      }
+
+      generator.writeStartObject();
+      generator.writeName(collectionName);
+      generator.writeStartArray();
+    }
+  }
+}
@@ -1,21 +1,32 @@
 package org.folio.roles.controller;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.roles.controller.StreamingResponseWriter.STREAM_PARAM;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.folio.roles.domain.dto.Capabilities;
 import org.folio.roles.domain.dto.CapabilitiesUpdateRequest;
 import org.folio.roles.domain.dto.UserCapabilities;
 import org.folio.roles.domain.dto.UserCapabilitiesRequest;
+import org.folio.roles.domain.dto.UserCapability;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.integration.keyclock.KeycloakUserService;
 import org.folio.roles.rest.resource.UserCapabilityApi;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.roles.service.capability.UserCapabilityService;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 public class UserCapabilityController implements UserCapabilityApi {
@@ -23,6 +34,7 @@ public class UserCapabilityController implements UserCapabilityApi {
   private final CapabilityService capabilityService;
   private final KeycloakUserService keycloakUserService;
   private final UserCapabilityService userCapabilityService;
+  private final StreamingResponseWriter streamingResponseWriter;
 
   @Override
   public ResponseEntity<UserCapabilities> createUserCapabilities(UserCapabilitiesRequest request) {
@@ -34,21 +46,55 @@ public class UserCapabilityController implements UserCapabilityApi {
 
   @Override
   public ResponseEntity<Capabilities> findCapabilitiesByUserId(UUID id, Boolean expand,
-    Boolean includeDummy, Integer limit, Integer offset) {
+    Boolean includeDummy, Integer limit, Integer offset, String after, String totalRecords) {
     keycloakUserService.getKeycloakUserByUserId(id);
+    if (after != null) {
+      var keysetPageResult = capabilityService.findByUserIdAfter(id, TRUE.equals(expand),
+        TRUE.equals(includeDummy), after, limit);
+      return ResponseEntity.ok(new Capabilities()
+        .capabilities(keysetPageResult.getRecords())
+        .next(keysetPageResult.getNext()));
+    }
+
+    var totalRecordsMode = TotalRecords.from(totalRecords);
     var capabilities = capabilityService.findByUserId(id, TRUE.equals(expand),
-      TRUE.equals(includeDummy), limit, offset);
+      TRUE.equals(includeDummy), limit, offset, totalRecordsMode);
     return ResponseEntity.ok(new Capabilities()
       .capabilities(capabilities.getRecords())
-      .totalRecords(capabilities.getTotalRecords()));
+      .totalRecords(totalRecordsMode.toResponseValue(capabilities)));
   }
 
   @Override
-  public ResponseEntity<UserCapabilities> getUserCapabilities(String query, Integer limit, Integer offset) {
-    var pageResult = userCapabilityService.find(query, limit, offset);
+  public ResponseEntity<UserCapabilities> getUserCapabilities(String query, Integer limit, Integer offset,
+    String after, String totalRecords, Boolean stream) {
+    if (after != null) {
+      var keysetPageResult = userCapabilityService.findAfter(query, after, limit);
+      return ResponseEntity.ok(new UserCapabilities()
+        .userCapabilities(keysetPageResult.getRecords())
+        .next(keysetPageResult.getNext()));
+    }
+
+    var totalRecordsMode = TotalRecords.from(totalRecords);
+    var pageResult = userCapabilityService.find(query, limit, offset, totalRecordsMode);
     return ResponseEntity.ok(new UserCapabilities()
       .userCapabilities(pageResult.getRecords())
-      .totalRecords(pageResult.getTotalRecords()));
+      .totalRecords(totalRecordsMode.toResponseValue(pageResult)));
+  }
+
+  /**
+   * Streams user-capability records by CQL query, without building the whole response in memory.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param response - http servlet response to write records to
+   */
+  @GetMapping(path = "/users/capabilities", params = STREAM_PARAM, produces = APPLICATION_JSON_VALUE)
+  public void streamUserCapabilities(@RequestParam(required = false) String query,
+    @Min(0) @RequestParam(defaultValue = "10") int limit, @Min(0) @RequestParam(defaultValue = "0") int offset,
+    HttpServletResponse response) {
+    streamingResponseWriter.write(response, "userCapabilities", limit, offset,
+      (Consumer<UserCapability> consumer) -> userCapabilityService.stream(query, limit, offset, consumer));
   }
 
   @Override
@@ -1,23 +1,35 @@
 package org.folio.roles.controller;
 
+import static org.folio.roles.controller.StreamingResponseWriter.STREAM_PARAM;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.folio.roles.domain.dto.UserRole;
 import org.folio.roles.domain.dto.UserRoles;
 import org.folio.roles.domain.dto.UserRolesRequest;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.rest.resource.RolesUsersApi;
 import org.folio.roles.service.role.UserRoleService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Validated
 @RestController
 @RequiredArgsConstructor
 public class UserRoleController implements RolesUsersApi {
 
   private final UserRoleService userRoleService;
+  private final StreamingResponseWriter streamingResponseWriter;
 
   @Override
   public ResponseEntity<UserRoles> assignRolesToUser(UserRolesRequest userRolesRequest) {
@@ -33,11 +45,32 @@ public class UserRoleController implements RolesUsersApi {
   }
 
   @Override
-  public ResponseEntity<UserRoles> findUserRoles(String query, Integer limit, Integer offset) {
-    var rolesUsers = userRoleService.findByQuery(query, offset, limit);
+  public ResponseEntity<UserRoles> findUserRoles(String query, Integer limit, Integer offset, String after,
+    String totalRecords, Boolean stream) {
+    if (after != null) {
+      return ResponseEntity.ok(userRoleService.findByQueryAfter(query, after, limit));
+    }
+
+    var rolesUsers = userRoleService.findByQuery(query, offset, limit, TotalRecords.from(totalRecords));
     return ResponseEntity.ok(rolesUsers);
   }
 
+  /**
+   * Streams user-role records by CQL query, without building the whole response in memory.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param response - http servlet response to write records to
+   */
+  @GetMapping(path = "/roles/users", params = STREAM_PARAM, produces = APPLICATION_JSON_VALUE)
+  public void streamUserRoles(@RequestParam(required = false) String query,
+    @Min(0) @RequestParam(defaultValue = "10") int limit, @Min(0) @RequestParam(defaultValue = "0") int offset,
+    HttpServletResponse response) {
+    streamingResponseWriter.write(response, "userRoles", limit, offset,
+      (Consumer<UserRole> consumer) -> userRoleService.streamByQuery(query, offset, limit, consumer));
+  }
+
   @Override
   public ResponseEntity<UserRoles> getUserRoles(UUID userId) {
     var rolesUser = userRoleService.findById(userId);
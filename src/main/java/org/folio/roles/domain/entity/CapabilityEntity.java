@@ -17,6 +17,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.folio.roles.domain.entity.type.EntityCapabilityAction;
 import org.folio.roles.domain.entity.type.EntityCapabilityType;
+import org.folio.roles.domain.model.KeysetSort;
 import org.folio.roles.repository.generators.FolioUuidGenerator;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -32,6 +33,8 @@ import org.springframework.data.domain.Sort.Direction;
 public class CapabilityEntity extends Auditable {
 
   public static final Sort DEFAULT_CAPABILITY_SORT = Sort.by(Direction.ASC, "name");
+  public static final KeysetSort<CapabilityEntity> CAPABILITY_KEYSET_SORT =
+    new KeysetSort<>("name", CapabilityEntity::getName, "id", CapabilityEntity::getId);
 
   @Id
   @FolioUuidGenerator
@@ -17,6 +17,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.folio.roles.domain.entity.type.EntityCapabilityAction;
 import org.folio.roles.domain.entity.type.EntityCapabilityType;
+import org.folio.roles.domain.model.KeysetSort;
 import org.folio.roles.repository.generators.FolioUuidGenerator;
 import org.hibernate.annotations.Fetch;
 import org.hibernate.annotations.FetchMode;
@@ -32,6 +33,8 @@ import org.springframework.data.domain.Sort.Direction;
 public class CapabilitySetEntity extends Auditable {
 
   public static final Sort DEFAULT_CAPABILITY_SET_SORT = Sort.by(Direction.ASC, "name");
+  public static final KeysetSort<CapabilitySetEntity> CAPABILITY_SET_KEYSET_SORT =
+    new KeysetSort<>("name", CapabilitySetEntity::getName, "id", CapabilitySetEntity::getId);
 
   @Id
   @FolioUuidGenerator
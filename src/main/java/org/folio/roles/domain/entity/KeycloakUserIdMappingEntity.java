@@ -0,0 +1,37 @@
+package org.folio.roles.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * Entity class for mapping between folio user identifier and Keycloak user identifier.
+ */
+@Data
+@Entity
+@Table(name = "keycloak_user_id_mapping")
+public class KeycloakUserIdMappingEntity {
+
+  /**
+   * Folio user identifier.
+   */
+  @Id
+  @Column(name = "user_id")
+  private UUID userId;
+
+  /**
+   * Keycloak user identifier.
+   */
+  @Column(name = "keycloak_user_id", nullable = false)
+  private String keycloakUserId;
+
+  /**
+   * Mapping last update timestamp.
+   */
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+}
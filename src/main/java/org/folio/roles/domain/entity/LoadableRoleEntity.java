@@ -36,6 +36,11 @@ public class LoadableRoleEntity extends RoleEntity {
   @Schema(name = "loaded_from_file")
   private boolean loadedFromFile = false;
 
+  /**
+   * Hash of the role definition in the reference data file, used to skip unchanged roles on the next load.
+   */
+  private String contentHash;
+
   public void setPermissions(Collection<LoadablePermissionEntity> newPermissions) {
     removeExistingPermissions();
 
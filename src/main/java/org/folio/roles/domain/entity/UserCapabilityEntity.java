@@ -15,6 +15,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import org.folio.roles.domain.entity.key.UserCapabilityKey;
+import org.folio.roles.domain.model.KeysetSort;
 import org.springframework.data.domain.Sort;
 
 @Data
@@ -27,6 +28,8 @@ import org.springframework.data.domain.Sort;
 public class UserCapabilityEntity extends Auditable implements Serializable {
 
   public static final Sort DEFAULT_USER_CAPABILITY_SORT = Sort.by(ASC, "userId", "capabilityId");
+  public static final KeysetSort<UserCapabilityEntity> USER_CAPABILITY_KEYSET_SORT =
+    new KeysetSort<>("userId", UserCapabilityEntity::getUserId, "capabilityId", UserCapabilityEntity::getCapabilityId);
 
   @Serial private static final long serialVersionUID = 5042102138220312886L;
 
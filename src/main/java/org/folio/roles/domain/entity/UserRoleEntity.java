@@ -1,5 +1,7 @@
 package org.folio.roles.domain.entity;
 
+import static org.springframework.data.domain.Sort.Direction.ASC;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -9,6 +11,8 @@ import java.util.UUID;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.folio.roles.domain.entity.key.UserRoleKey;
+import org.folio.roles.domain.model.KeysetSort;
+import org.springframework.data.domain.Sort;
 
 @Data
 @Entity
@@ -17,6 +21,10 @@ import org.folio.roles.domain.entity.key.UserRoleKey;
 @IdClass(UserRoleKey.class)
 public class UserRoleEntity extends Auditable {
 
+  public static final Sort DEFAULT_USER_ROLE_SORT = Sort.by(ASC, "userId", "roleId");
+  public static final KeysetSort<UserRoleEntity> USER_ROLE_KEYSET_SORT =
+    new KeysetSort<>("userId", UserRoleEntity::getUserId, "roleId", UserRoleEntity::getRoleId);
+
   @Id
   @Column(name = "user_id")
   private UUID userId;
@@ -0,0 +1,27 @@
+package org.folio.roles.domain.entity.key;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.folio.roles.domain.entity.type.EntityPermissionMigrationStage;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class PermissionMigrationJobProgressKey implements Serializable {
+
+  @Serial private static final long serialVersionUID = -3530467851327245618L;
+
+  /**
+   * Permission migration job identifier.
+   */
+  private UUID migrationJobId;
+
+  /**
+   * Permission migration stage.
+   */
+  private EntityPermissionMigrationStage stage;
+}
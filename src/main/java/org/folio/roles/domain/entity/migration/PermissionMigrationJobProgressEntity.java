@@ -0,0 +1,81 @@
+package org.folio.roles.domain.entity.migration;
+
+import io.hypersistence.utils.hibernate.type.array.ListArrayType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+import org.folio.roles.domain.entity.key.PermissionMigrationJobProgressKey;
+import org.folio.roles.domain.entity.type.EntityPermissionMigrationStage;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.Type;
+import org.hibernate.type.SqlTypes;
+
+@Data
+@Entity
+@Table(name = "permission_migration_job_progress")
+@IdClass(PermissionMigrationJobProgressKey.class)
+public class PermissionMigrationJobProgressEntity {
+
+  /**
+   * Permission migration job identifier.
+   */
+  @Id
+  @Column(name = "migration_job_id")
+  private UUID migrationJobId;
+
+  /**
+   * Permission migration stage.
+   */
+  @Id
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "stage", columnDefinition = "permission_migration_stage_type")
+  private EntityPermissionMigrationStage stage;
+
+  /**
+   * Number of records successfully processed (and committed) by the stage.
+   */
+  @Column(name = "processed_records")
+  private int processedRecords;
+
+  /**
+   * Key of the last committed record, records are processed in the key order, so it is used as a checkpoint on job
+   * resume.
+   */
+  @Column(name = "last_processed_key")
+  private String lastProcessedKey;
+
+  /**
+   * Keys of the committed records, failed to be processed, they are processed again on job resume.
+   */
+  @Type(ListArrayType.class)
+  @Column(name = "failed_keys", columnDefinition = "text[]")
+  private List<String> failedKeys = new ArrayList<>();
+
+  /**
+   * Total number of records to be processed by the stage.
+   */
+  @Column(name = "total_records")
+  private int totalRecords;
+
+  /**
+   * A stage startup timestamp.
+   */
+  @Column(name = "started_at", nullable = false)
+  private OffsetDateTime startedAt;
+
+  /**
+   * A stage finishing timestamp, null if stage is not finished yet.
+   */
+  @Column(name = "finished_at")
+  private OffsetDateTime finishedAt;
+}
@@ -0,0 +1,10 @@
+package org.folio.roles.domain.entity.type;
+
+public enum EntityPermissionMigrationStage {
+
+  LOAD_USERS,
+  LOAD_PERMISSIONS,
+  CREATE_ROLES,
+  ASSIGN_USERS,
+  ASSIGN_CAPABILITIES
+}
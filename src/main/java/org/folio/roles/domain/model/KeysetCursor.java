@@ -0,0 +1,58 @@
+package org.folio.roles.domain.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.Base64;
+import java.util.UUID;
+import org.folio.roles.exception.RequestValidationException;
+
+/**
+ * Position of the last returned record for keyset (seek) pagination.
+ *
+ * <p>Cursor is passed to the clients as an opaque URL-safe token, built from the sort key value and the record
+ * identifier, that is used as a tiebreaker for non-unique sort keys.
+ *
+ * @param sortValue - sort key value of the last returned record
+ * @param id - identifier of the last returned record
+ */
+public record KeysetCursor(String sortValue, UUID id) {
+
+  public static final String AFTER_PARAM = "after";
+  private static final char SEPARATOR = ':';
+
+  /**
+   * Encodes cursor to the opaque token.
+   *
+   * @return cursor token as {@link String}
+   */
+  public String encode() {
+    var value = sortValue + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+  }
+
+  /**
+   * Decodes cursor from the token, provided in the {@code after} request parameter.
+   *
+   * @param token - cursor token, empty value means the first page
+   * @return decoded {@link KeysetCursor}, null for the first page
+   * @throws RequestValidationException if token is not a valid cursor
+   */
+  public static KeysetCursor decode(String token) {
+    if (isEmpty(token)) {
+      return null;
+    }
+
+    try {
+      var value = new String(Base64.getUrlDecoder().decode(token), UTF_8);
+      var separatorIndex = value.lastIndexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Cursor separator is not found");
+      }
+
+      return new KeysetCursor(value.substring(0, separatorIndex), UUID.fromString(value.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException e) {
+      throw new RequestValidationException("Invalid cursor value", AFTER_PARAM, token);
+    }
+  }
+}
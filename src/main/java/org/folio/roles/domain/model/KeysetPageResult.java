@@ -0,0 +1,66 @@
+package org.folio.roles.domain.model;
+
+import static java.util.Collections.emptyList;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class KeysetPageResult<T> {
+
+  /**
+   * Records container.
+   */
+  private List<T> records;
+
+  /**
+   * Cursor token for the next page, null if the last page is reached.
+   */
+  private String next;
+
+  /**
+   * Creates empty {@link KeysetPageResult} object.
+   *
+   * @param <R> - generic type for result elements
+   * @return empty {@link KeysetPageResult} object
+   */
+  public static <R> KeysetPageResult<R> empty() {
+    return new KeysetPageResult<>(emptyList(), null);
+  }
+
+  /**
+   * Creates a {@link KeysetPageResult} object from the found records.
+   *
+   * <p>Next page cursor is provided only for a full page, because a partial one can only be the last page.
+   *
+   * @param records - found records
+   * @param limit - requested page size
+   * @param cursorExtractor - function, resolving cursor of the record
+   * @param <R> - generic type for result elements
+   * @return {@link KeysetPageResult} object
+   */
+  public static <R> KeysetPageResult<R> of(List<R> records, int limit, Function<R, KeysetCursor> cursorExtractor) {
+    if (records.isEmpty() || records.size() < limit) {
+      return new KeysetPageResult<>(records, null);
+    }
+
+    var lastRecord = records.get(records.size() - 1);
+    return new KeysetPageResult<>(records, cursorExtractor.apply(lastRecord).encode());
+  }
+
+  /**
+   * Converts records with the given mapper, keeping the next page cursor.
+   *
+   * @param mapper - record mapper
+   * @param <R> - generic type for result elements
+   * @return converted {@link KeysetPageResult} object
+   */
+  public <R> KeysetPageResult<R> map(Function<T, R> mapper) {
+    return new KeysetPageResult<>(records.stream().map(mapper).toList(), next);
+  }
+}
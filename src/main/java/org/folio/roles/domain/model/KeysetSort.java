@@ -0,0 +1,27 @@
+package org.folio.roles.domain.model;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Sort definition for keyset (seek) pagination: records are ordered by the sort key and then by identifier.
+ *
+ * @param sortAttribute - entity attribute name of the sort key
+ * @param sortValue - function, resolving sort key value of the entity
+ * @param idAttribute - entity attribute name of the identifier, used as a tiebreaker
+ * @param idValue - function, resolving identifier of the entity
+ * @param <E> - entity type
+ */
+public record KeysetSort<E>(String sortAttribute, Function<E, Object> sortValue,
+  String idAttribute, Function<E, UUID> idValue) {
+
+  /**
+   * Creates cursor, pointing to the given entity.
+   *
+   * @param entity - entity to create cursor for
+   * @return {@link KeysetCursor} object
+   */
+  public KeysetCursor cursorOf(E entity) {
+    return new KeysetCursor(String.valueOf(sortValue.apply(entity)), idValue.apply(entity));
+  }
+}
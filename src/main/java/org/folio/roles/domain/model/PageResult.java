@@ -4,6 +4,7 @@ import static java.util.Collections.emptyList;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -69,6 +70,17 @@ public class PageResult<T> {
     return new PageResult<>(page.getTotalElements(), page.getContent());
   }
 
+  /**
+   * Converts records with the given mapper, keeping total records value.
+   *
+   * @param mapper - record mapper
+   * @param <R> - generic type for result elements
+   * @return converted {@link PageResult} object
+   */
+  public <R> PageResult<R> map(Function<T, R> mapper) {
+    return new PageResult<>(totalRecords, records.stream().map(mapper).toList());
+  }
+
   /**
    * Checks if search result is empty or not.
    *
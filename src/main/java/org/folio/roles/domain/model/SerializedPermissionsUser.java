@@ -0,0 +1,40 @@
+package org.folio.roles.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+import java.util.UUID;
+import org.folio.roles.domain.dto.PermissionsUser;
+import org.folio.roles.service.capability.model.SerializedPermissions;
+
+/**
+ * {@link PermissionsUser} response with the JSON body, serialized in advance.
+ *
+ * <p>Body is written to the response as is by {@link org.folio.roles.controller.SerializedJsonHttpMessageConverter}.
+ */
+public class SerializedPermissionsUser extends PermissionsUser {
+
+  private final SerializedPermissions serializedPermissions;
+
+  /**
+   * Creates permissions user response with the serialized JSON body.
+   *
+   * @param userId - user identifier
+   * @param permissions - user permission names
+   * @param serializedPermissions - serialized {@link PermissionsUser} with the same user identifier and permissions
+   */
+  public SerializedPermissionsUser(UUID userId, List<String> permissions, SerializedPermissions serializedPermissions) {
+    this.serializedPermissions = serializedPermissions;
+    setUserId(userId);
+    setPermissions(permissions);
+  }
+
+  /**
+   * Returns serialized response body.
+   *
+   * @return {@link SerializedPermissions} object
+   */
+  @JsonIgnore
+  public SerializedPermissions getSerializedPermissions() {
+    return serializedPermissions;
+  }
+}
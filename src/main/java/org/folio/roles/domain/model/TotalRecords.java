@@ -0,0 +1,58 @@
+package org.folio.roles.domain.model;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.Locale;
+import org.folio.roles.exception.RequestValidationException;
+
+/**
+ * Defines how {@code totalRecords} value is calculated for the list endpoints.
+ */
+public enum TotalRecords {
+
+  /**
+   * Total records are counted by the COUNT query on each request.
+   */
+  EXACT,
+
+  /**
+   * Total records are taken from the Postgres planner statistics or from the recently cached exact count.
+   */
+  ESTIMATED,
+
+  /**
+   * Total records are not calculated and not returned.
+   */
+  NONE;
+
+  public static final String TOTAL_RECORDS_PARAM = "totalRecords";
+
+  /**
+   * Resolves {@link TotalRecords} value from the request parameter.
+   *
+   * @param value - request parameter value, {@link #EXACT} is used if it's empty
+   * @return resolved {@link TotalRecords} value
+   * @throws RequestValidationException if value is not supported
+   */
+  public static TotalRecords from(String value) {
+    if (isEmpty(value)) {
+      return EXACT;
+    }
+
+    try {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new RequestValidationException("Invalid totalRecords value", TOTAL_RECORDS_PARAM, value);
+    }
+  }
+
+  /**
+   * Returns {@code totalRecords} value for the response.
+   *
+   * @param pageResult - found page result
+   * @return total records value, null if it's not requested
+   */
+  public Long toResponseValue(PageResult<?> pageResult) {
+    return this == NONE ? null : pageResult.getTotalRecords();
+  }
+}
@@ -0,0 +1,15 @@
+package org.folio.roles.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown if the tenant event is received while consumption of the tenant events is paused, e.g. during tenant init.
+ */
+public class TenantListenersPausedException extends RuntimeException {
+
+  @Serial private static final long serialVersionUID = 4217846370926315825L;
+
+  public TenantListenersPausedException(String message) {
+    super(message);
+  }
+}
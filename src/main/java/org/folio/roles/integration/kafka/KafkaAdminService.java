@@ -1,36 +1,106 @@
 package org.folio.roles.integration.kafka;
 
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.context.Lifecycle;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.roles.exception.TenantListenersPausedException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+/**
+ * Manages Kafka listener containers of the module.
+ *
+ * <p>Consumption of the tenant capability events can be paused while the tenant is initialized: partitions of the
+ * tenant topics are paused, so events of other tenants are processed without delays. Pause requests are counted per
+ * tenant, partitions are resumed by the last {@link #resumeTenantListeners(String)} call.
+ */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class KafkaAdminService {
 
+  private static final String CAPABILITY_TOPIC = "mgr-tenant-entitlements.capability";
+
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final String environment;
+  private final Map<String, Integer> pauseRequestsByTenant = new ConcurrentHashMap<>();
+
+  public KafkaAdminService(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+    @Value("${application.environment}") String environment) {
+    this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    this.environment = environment;
+  }
+
+  /**
+   * Pauses consumption of the tenant events.
+   *
+   * @param tenantId - tenant identifier
+   */
+  public synchronized void pauseTenantListeners(String tenantId) {
+    var pauseRequests = pauseRequestsByTenant.merge(tenantId, 1, Integer::sum);
+    if (pauseRequests == 1) {
+      log.info("Pausing kafka listeners for tenant: {}", tenantId);
+      pauseTenantPartitions(tenantId);
+    }
+  }
 
   /**
-   * Restarts kafka event listeners in mod-roles-keycloak application.
+   * Resumes consumption of the tenant events, if there are no other pause requests for the tenant.
+   *
+   * @param tenantId - tenant identifier
    */
-  public void restartEventListeners() {
-    kafkaListenerEndpointRegistry.getAllListenerContainers().forEach(container -> {
-        log.info("Restarting kafka consumer to start listening created topics [ids: {}]", container.getListenerId());
+  public synchronized void resumeTenantListeners(String tenantId) {
+    var pauseRequests = pauseRequestsByTenant.computeIfPresent(tenantId, (id, count) -> count > 1 ? count - 1 : null);
+    if (pauseRequests != null) {
+      log.debug("Kafka listeners remain paused for tenant: {}, pending resume requests = {}", tenantId, pauseRequests);
+      return;
+    }
 
-        container.stop();
-        container.start();
+    log.info("Resuming kafka listeners for tenant: {}", tenantId);
+    forEachTenantPartition(tenantId, MessageListenerContainer::resumePartition);
+  }
+
+  /**
+   * Checks that consumption of the tenant events is not paused.
+   *
+   * <p>Partitions, assigned after the pause, and events, fetched before it, are not covered by the partition pause,
+   * so partitions of the paused tenant are paused again before the exception is thrown. The check is called for each
+   * event, so the lock is taken only if the tenant is paused.
+   *
+   * @param tenantId - tenant identifier
+   * @throws TenantListenersPausedException if consumption of the tenant events is paused
+   */
+  public void checkTenantListenersNotPaused(String tenantId) {
+    if (!pauseRequestsByTenant.containsKey(tenantId)) {
+      return;
+    }
+
+    synchronized (this) {
+      if (pauseRequestsByTenant.containsKey(tenantId)) {
+        pauseTenantPartitions(tenantId);
+        throw new TenantListenersPausedException("Kafka listeners are paused for tenant: " + tenantId);
       }
-    );
+    }
   }
 
-  public void startKafkaListeners() {
-    kafkaListenerEndpointRegistry.getAllListenerContainers().forEach(Lifecycle::start);
+  private void pauseTenantPartitions(String tenantId) {
+    forEachTenantPartition(tenantId, MessageListenerContainer::pausePartition);
   }
 
-  public void stopKafkaListeners() {
-    kafkaListenerEndpointRegistry.getAllListenerContainers().forEach(Lifecycle::stop);
+  private void forEachTenantPartition(String tenantId, BiConsumer<MessageListenerContainer, TopicPartition> action) {
+    var tenantTopic = String.join(".", environment, tenantId, CAPABILITY_TOPIC);
+    for (var container : kafkaListenerEndpointRegistry.getAllListenerContainers()) {
+      var assignedPartitions = container.getAssignedPartitions();
+      if (assignedPartitions == null) {
+        continue;
+      }
+
+      assignedPartitions.stream()
+        .filter(partition -> partition.topic().equals(tenantTopic))
+        .forEach(partition -> action.accept(container, partition));
+    }
   }
 }
@@ -1,11 +1,15 @@
 package org.folio.roles.integration.kafka;
 
 import jakarta.validation.Valid;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.roles.integration.kafka.model.CapabilityEvent;
+import org.folio.roles.integration.mte.MteEntitlementService;
 import org.folio.roles.service.capability.CapabilityReplacementsService;
 import org.folio.roles.service.capability.UserPermissionsCacheEvictor;
+import org.folio.roles.service.metrics.MetricsService;
 import org.folio.spring.context.ExecutionContextBuilder;
 import org.folio.spring.exception.LiquibaseMigrationException;
 import org.folio.spring.liquibase.LiquibaseMigrationLockService;
@@ -26,6 +30,9 @@ public class KafkaMessageListener {
   private final SystemUserScopedExecutionService systemUserScopedExecutionService;
   private final UserPermissionsCacheEvictor userPermissionsCacheEvictor;
   private final LiquibaseMigrationLockService liquibaseMigrationLockService;
+  private final MetricsService metricsService;
+  private final KafkaAdminService kafkaAdminService;
+  private final MteEntitlementService mteEntitlementService;
 
   /**
    * Handles capability event.
@@ -34,6 +41,8 @@ public class KafkaMessageListener {
    * {@code tenantAwareMessageFilter} bean are both registered by {@code @EnableKafkaConsumer}
    * on {@link org.folio.roles.integration.kafka.configuration.KafkaConfiguration}.
    *
+   * <p>Events of the tenant, which listeners are paused during tenant init, are deferred without side effects.
+   *
    * @param resourceEvent - capability {@link ResourceEvent} object
    */
   @KafkaListener(
@@ -43,6 +52,10 @@ public class KafkaMessageListener {
     topicPattern = "#{kafkaConsumerProperties.listener['capability'].topicPattern}",
     filter = "tenantAwareMessageFilter")
   public void handleCapabilityEvent(@Payload @Valid ResourceEvent<?> resourceEvent) {
+    kafkaAdminService.checkTenantListenersNotPaused(resourceEvent.getTenant());
+
+    var sample = metricsService.startTimer();
+    var outcome = "failure";
     try (
       var ignored = new FolioExecutionContextSetter(executionContextBuilder.buildContext(resourceEvent.getTenant()))) {
       try {
@@ -53,8 +66,11 @@ public class KafkaMessageListener {
           capabilityReplacements.ifPresent(capabilityReplacementsService::processReplacements);
           return null;
         });
+        outcome = "success";
       } finally {
         userPermissionsCacheEvictor.evictUserPermissionsForCurrentTenant();
+        mteEntitlementService.markOutdatedForCurrentTenant();
+        metricsService.recordCapabilityEvent(sample, resourceEvent.getTenant(), getModuleId(resourceEvent), outcome);
       }
     }
   }
@@ -66,4 +82,13 @@ public class KafkaMessageListener {
         "Liquibase migration is still running for tenant: " + resourceEvent.getTenant());
     }
   }
+
+  private static String getModuleId(ResourceEvent<?> resourceEvent) {
+    var value = resourceEvent.getNewValue() != null ? resourceEvent.getNewValue() : resourceEvent.getOldValue();
+    if (value instanceof CapabilityEvent capabilityEvent) {
+      return capabilityEvent.getModuleId();
+    }
+
+    return value instanceof Map<?, ?> map && map.get("moduleId") instanceof String moduleId ? moduleId : null;
+  }
 }
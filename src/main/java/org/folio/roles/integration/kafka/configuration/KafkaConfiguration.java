@@ -16,6 +16,7 @@ import org.folio.integration.kafka.consumer.EnableKafkaConsumer;
 import org.folio.integration.kafka.consumer.filter.TenantIsDisabledException;
 import org.folio.integration.kafka.consumer.filter.TenantsAreDisabledException;
 import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.roles.exception.TenantListenersPausedException;
 import org.folio.spring.exception.LiquibaseMigrationException;
 import org.hibernate.exception.SQLGrammarException;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
@@ -52,6 +53,7 @@ public class KafkaConfiguration implements KafkaListenerConfigurer {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, ResourceEvent<?>>();
     factory.setConsumerFactory(consumerFactory);
     factory.setCommonErrorHandler(capabilityEventErrorHandler());
+    factory.getContainerProperties().setObservationEnabled(true);
     return factory;
   }
 
@@ -85,6 +87,11 @@ public class KafkaConfiguration implements KafkaListenerConfigurer {
       return getFixedBackOff();
     }
 
+    if (hasCause(exception, TenantListenersPausedException.class)) {
+      log.debug("Kafka listeners are paused for the tenant, event is deferred until they are resumed", exception);
+      return new FixedBackOff(retryConfiguration.getRetryDelay().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS);
+    }
+
     if (exception instanceof TenantsAreDisabledException
       || exception instanceof TenantIsDisabledException) {
       log.warn("Tenant(s) is disabled, retrying Kafka event", exception);
@@ -111,6 +118,16 @@ public class KafkaConfiguration implements KafkaListenerConfigurer {
     return new FixedBackOff(retryConfiguration.getRetryDelay().toMillis(), retryConfiguration.getRetryAttempts());
   }
 
+  private static boolean hasCause(Exception exception, Class<? extends Exception> causeType) {
+    for (Throwable current = exception; current != null && current.getCause() != current;
+         current = current.getCause()) {
+      if (causeType.isInstance(current)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Detects unique-constraint violations (SQLState 23505) anywhere in the cause chain. They occur when a capability
    * event races with a concurrent entitlement flow inserting the same role-capability assignment; event processing
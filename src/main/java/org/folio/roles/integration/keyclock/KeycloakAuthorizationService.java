@@ -6,6 +6,7 @@ import static java.lang.Integer.MAX_VALUE;
 import static java.lang.String.format;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.ws.rs.core.Response;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
+@Observed
 @Retryable(
   predicate = KeycloakMethodRetryPredicate.class,
   maxRetriesString = "#{@keycloakConfigurationProperties.retry.maxAttempts}",
@@ -1,5 +1,6 @@
 package org.folio.roles.integration.keyclock;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Service;
  */
 @Log4j2
 @Service
+@Observed
 @AllArgsConstructor
 public class KeycloakClientService {
 
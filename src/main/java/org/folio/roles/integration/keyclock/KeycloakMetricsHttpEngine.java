@@ -0,0 +1,100 @@
+package org.folio.roles.integration.keyclock;
+
+import jakarta.ws.rs.client.Invocation;
+import jakarta.ws.rs.core.Response;
+import java.util.List;
+import java.util.Map;
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.roles.service.metrics.MetricsService;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+
+/**
+ * Records duration of Keycloak Admin API requests by HTTP method, requested resource type, status and realm.
+ *
+ * <p>Requests are timed around the delegate HTTP engine invocation, so connection failures and timeouts are recorded
+ * as well, with {@code status=CLIENT_ERROR} and the exception class name. Resource type is resolved from the request
+ * path, so identifiers and names are never used as tag values.
+ */
+@RequiredArgsConstructor
+public class KeycloakMetricsHttpEngine implements ClientHttpEngine {
+
+  public static final String CLIENT_ERROR_STATUS = "CLIENT_ERROR";
+  public static final String NO_EXCEPTION = "none";
+
+  private static final String REALMS_PATH = "/realms/";
+  private static final List<Map.Entry<String, String>> RESOURCE_TYPES = List.of(
+    Map.entry("/authz/resource-server/policy", "policy"),
+    Map.entry("/authz/resource-server/permission", "permission"),
+    Map.entry("/authz/resource-server/resource", "resource"),
+    Map.entry("/authz/resource-server/scope", "scope"),
+    Map.entry("/role-mappings", "role-mapping"),
+    Map.entry("/users", "user"),
+    Map.entry("/roles", "role"),
+    Map.entry("/clients", "client"),
+    Map.entry("/protocol/openid-connect/token", "token"));
+
+  private final ClientHttpEngine delegate;
+  private final MetricsService metricsService;
+
+  @Override
+  public Response invoke(Invocation request) {
+    var invocation = (ClientInvocation) request;
+    var startTime = System.nanoTime();
+    try {
+      var response = delegate.invoke(request);
+      record(invocation, String.valueOf(response.getStatus()), NO_EXCEPTION, startTime);
+      return response;
+    } catch (RuntimeException e) {
+      record(invocation, CLIENT_ERROR_STATUS, e.getClass().getSimpleName(), startTime);
+      throw e;
+    }
+  }
+
+  @Override
+  public SSLContext getSslContext() {
+    return delegate.getSslContext();
+  }
+
+  @Override
+  public HostnameVerifier getHostnameVerifier() {
+    return delegate.getHostnameVerifier();
+  }
+
+  @Override
+  public boolean isFollowRedirects() {
+    return delegate.isFollowRedirects();
+  }
+
+  @Override
+  public void setFollowRedirects(boolean followRedirects) {
+    delegate.setFollowRedirects(followRedirects);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private void record(ClientInvocation invocation, String status, String exception, long startTime) {
+    var path = invocation.getUri().getPath();
+    metricsService.recordKeycloakRequest(invocation.getMethod(), getResourceType(path), status, exception,
+      getRealm(path), System.nanoTime() - startTime);
+  }
+
+  static String getResourceType(String path) {
+    return RESOURCE_TYPES.stream()
+      .filter(resourceType -> StringUtils.contains(path, resourceType.getKey()))
+      .map(Map.Entry::getValue)
+      .findFirst()
+      .orElse("other");
+  }
+
+  static String getRealm(String path) {
+    var realm = StringUtils.substringBefore(StringUtils.substringAfter(path, REALMS_PATH), "/");
+    return StringUtils.isEmpty(realm) ? null : realm;
+  }
+}
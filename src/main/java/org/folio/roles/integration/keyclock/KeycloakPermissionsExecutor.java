@@ -1,12 +1,16 @@
 package org.folio.roles.integration.keyclock;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.Endpoint;
@@ -21,8 +25,11 @@ import org.springframework.stereotype.Service;
 @Service
 public class KeycloakPermissionsExecutor {
 
+  private static final String OPERATION_OBSERVATION_NAME = "keycloak.permissions.operation";
+
   private final KeycloakConfigurationProperties keycloakConfigurationProperties;
   private final FolioExecutionContext folioExecutionContext;
+  private final ObservationRegistry observationRegistry;
 
   /**
    * Shared thread pool for parallel permission operations.
@@ -33,36 +40,57 @@ public class KeycloakPermissionsExecutor {
   public KeycloakPermissionsExecutor(
     KeycloakConfigurationProperties keycloakConfigurationProperties,
     FolioExecutionContext folioExecutionContext,
+    ObservationRegistry observationRegistry,
     @Qualifier("keycloakPermissionsExecutorService") @Autowired(required = false) ExecutorService executorService) {
     this.keycloakConfigurationProperties = keycloakConfigurationProperties;
     this.folioExecutionContext = folioExecutionContext;
+    this.observationRegistry = observationRegistry;
     this.executorService = executorService;
   }
 
   public void execute(List<Endpoint> endpoints, Consumer<Endpoint> action) {
-    if (endpoints == null || endpoints.isEmpty()) {
+    executeAll(endpoints, action);
+  }
+
+  /**
+   * Executes Keycloak operation for each item using the shared thread pool with bounded parallelism.
+   *
+   * <p>Items are submitted in batches of {@code application.keycloak.permissions.batch-size}, the first failure
+   * cancels the remaining operations of the batch and is rethrown to the caller. Not started operations are skipped,
+   * and the running ones are interrupted and awaited before the failure is rethrown, so the caller can compensate all
+   * completed operations.
+   *
+   * @param items - items to process
+   * @param action - Keycloak operation to execute per item
+   */
+  public <T> void executeAll(List<T> items, Consumer<T> action) {
+    if (items == null || items.isEmpty()) {
       return;
     }
 
-    // Sequential execution: either no thread pool (parallelism <= 1) or only a single endpoint.
-    // When there is a single endpoint, we skip thread dispatch to avoid unnecessary context-wrapping overhead.
-    if (executorService == null || endpoints.size() == 1) {
-      endpoints.forEach(action);
+    // Sequential execution: either no thread pool (parallelism <= 1) or only a single item.
+    // When there is a single item, we skip thread dispatch to avoid unnecessary context-wrapping overhead.
+    if (executorService == null || items.size() == 1) {
+      items.forEach(item -> observe(item, action));
       return;
     }
     var batchSize = keycloakConfigurationProperties.getPermissions().getBatchSize();
-    for (var batch : partition(endpoints, batchSize)) {
+    for (var batch : partition(items, batchSize)) {
       executeBatch(batch, action, executorService);
     }
   }
 
-  private void executeBatch(List<Endpoint> batch, Consumer<Endpoint> action, ExecutorService executor) {
+  private <T> void executeBatch(List<T> batch, Consumer<T> action, ExecutorService executor) {
     // executorService is guaranteed non-null here — this method is only called after the null-check in execute()
     var completionService = new ExecutorCompletionService<Void>(executor);
     var futures = new ArrayList<Future<Void>>(batch.size());
+    var startedFlags = new ArrayList<AtomicBoolean>(batch.size());
+    var finished = new CountDownLatch(batch.size());
 
-    for (var endpoint : batch) {
-      futures.add(completionService.submit(wrapCallable(endpoint, action)));
+    for (var item : batch) {
+      var started = new AtomicBoolean();
+      startedFlags.add(started);
+      futures.add(completionService.submit(wrapCallable(item, action, started, finished)));
     }
 
     for (int i = 0; i < batch.size(); i++) {
@@ -70,29 +98,70 @@ public class KeycloakPermissionsExecutor {
         completionService.take().get();
       } catch (InterruptedException e) {
         Thread.currentThread().interrupt();
-        cancelAll(futures);
+        cancelAllAndAwait(futures, startedFlags, finished);
         throw new IllegalStateException("Keycloak permissions execution interrupted", e);
       } catch (ExecutionException e) {
-        cancelAll(futures);
+        cancelAllAndAwait(futures, startedFlags, finished);
         throw rethrow(e.getCause());
       }
     }
   }
 
-  private Callable<Void> wrapCallable(Endpoint endpoint, Consumer<Endpoint> action) {
+  private <T> Callable<Void> wrapCallable(T item, Consumer<T> action, AtomicBoolean started,
+    CountDownLatch finished) {
     // Capture the context eagerly on the calling thread, as FolioExecutionContext is ThreadLocal-based.
     // Calling getInstance() inside the worker thread would return a different (or null) context.
     var ctx = (FolioExecutionContext) folioExecutionContext.getInstance();
+    // The same applies to the current observation, so Keycloak calls are reported as children of the caller span.
+    var parentObservation = observationRegistry.getCurrentObservation();
     return () -> {
-      try (var ignored = new FolioExecutionContextSetter(ctx)) {
-        action.accept(endpoint);
+      // The operation is skipped if it has already been cancelled by the caller
+      if (!started.compareAndSet(false, true)) {
+        return null;
+      }
+
+      try (var ignored = new FolioExecutionContextSetter(ctx);
+        var ignoredScope = parentObservation != null ? parentObservation.openScope() : null) {
+        observe(item, action);
+      } finally {
+        finished.countDown();
       }
       return null;
     };
   }
 
-  private static void cancelAll(List<Future<Void>> futures) {
+  private <T> void observe(T item, Consumer<T> action) {
+    Observation.createNotStarted(OPERATION_OBSERVATION_NAME, observationRegistry)
+      .contextualName("keycloak permission operation")
+      .observe(() -> action.accept(item));
+  }
+
+  /**
+   * Cancels not started operations, interrupts the running ones and waits until they are finished.
+   */
+  private static void cancelAllAndAwait(List<Future<Void>> futures, List<AtomicBoolean> startedFlags,
+    CountDownLatch finished) {
+    for (var started : startedFlags) {
+      if (started.compareAndSet(false, true)) {
+        finished.countDown();
+      }
+    }
+
     futures.forEach(future -> future.cancel(true));
+
+    var interrupted = Thread.interrupted();
+    while (true) {
+      try {
+        finished.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
   }
 
   private static RuntimeException rethrow(Throwable error) {
@@ -7,6 +7,7 @@ import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
@@ -32,6 +33,7 @@ import org.springframework.stereotype.Service;
  */
 @Log4j2
 @Service
+@Observed
 @Retryable(
   predicate = KeycloakMethodRetryPredicate.class,
   maxRetriesString = "#{@keycloakConfigurationProperties.retry.maxAttempts}",
@@ -2,8 +2,13 @@ package org.folio.roles.integration.keyclock;
 
 import static java.lang.String.format;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +24,7 @@ import org.springframework.util.Assert;
 
 @Log4j2
 @Service
+@Observed
 @Retryable(
   predicate = KeycloakMethodRetryPredicate.class,
   maxRetriesString = "#{@keycloakConfigurationProperties.retry.maxAttempts}",
@@ -27,6 +33,8 @@ import org.springframework.util.Assert;
 @RequiredArgsConstructor
 public class KeycloakRoleService {
 
+  private static final int ROLES_PAGE_SIZE = 1000;
+
   private final Keycloak keycloak;
   private final KeycloakRoleMapper keycloakRoleMapper;
   private final FolioExecutionContext context;
@@ -47,6 +55,45 @@ public class KeycloakRoleService {
     }
   }
 
+  /**
+   * Finds realm roles by names with a single paginated sweep over realm roles, instead of a request per role name.
+   *
+   * @param names - role names to find
+   * @return {@link List} with found {@link Role} objects, not found role names are ignored
+   * @throws KeycloakApiException if failed to retrieve realm roles
+   */
+  public List<Role> findByNames(Collection<String> names) {
+    if (names == null || names.isEmpty()) {
+      return List.of();
+    }
+
+    var realmResource = keycloak.realm(context.getTenantId());
+    var remainingNames = new HashSet<>(names);
+    var foundRoles = new ArrayList<Role>();
+    try {
+      var rolesResource = realmResource.roles();
+      for (int first = 0; !remainingNames.isEmpty(); first += ROLES_PAGE_SIZE) {
+        var page = rolesResource.list(first, ROLES_PAGE_SIZE, true);
+        for (var keycloakRole : page) {
+          if (remainingNames.remove(keycloakRole.getName())) {
+            foundRoles.add(keycloakRoleMapper.toRole(keycloakRole));
+          }
+        }
+
+        if (page.size() < ROLES_PAGE_SIZE) {
+          break;
+        }
+      }
+    } catch (WebApplicationException exception) {
+      var errorMessage = "Failed to find roles by names";
+      log.debug(errorMessage);
+      throw new KeycloakApiException(errorMessage, exception);
+    }
+
+    log.debug("Roles have been found by names: requested = {}, found = {}", names.size(), foundRoles.size());
+    return foundRoles;
+  }
+
   /**
    * Creates a role in Keycloak.
    *
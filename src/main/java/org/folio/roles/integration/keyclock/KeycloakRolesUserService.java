@@ -2,9 +2,17 @@ package org.folio.roles.integration.keyclock;
 
 import static org.folio.common.utils.CollectionUtils.mapItems;
 
+import io.micrometer.observation.annotation.Observed;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.Role;
@@ -12,10 +20,12 @@ import org.folio.roles.integration.keyclock.exception.KeycloakApiException;
 import org.folio.roles.mapper.KeycloakRoleMapper;
 import org.folio.spring.FolioExecutionContext;
 import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UserResource;
 import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
+@Observed
 @RequiredArgsConstructor
 public class KeycloakRolesUserService {
 
@@ -23,32 +33,96 @@ public class KeycloakRolesUserService {
   private final FolioExecutionContext context;
   private final KeycloakUserService userService;
   private final KeycloakRoleMapper keycloakRoleMapper;
+  private final KeycloakPermissionsExecutor keycloakPermissionsExecutor;
 
   public void assignRolesToUser(UUID userId, List<Role> roles) {
     var keycloakRoles = mapItems(roles, keycloakRoleMapper::toKeycloakRole);
     var keycloakUserId = userService.findKeycloakIdByUserId(userId);
-    var realmResource = keycloak.realm(context.getTenantId());
 
     try {
-      realmResource.users().get(keycloakUserId).roles().realmLevel().add(keycloakRoles);
-      log.debug("Roles user have been assigned: userId = {}, keycloakUserId = {}", userId, keycloakUserId);
+      var actualKeycloakUserId = executeForUser(userId, keycloakUserId,
+        user -> user.roles().realmLevel().add(keycloakRoles));
+      log.debug("Roles user have been assigned: userId = {}, keycloakUserId = {}", userId, actualKeycloakUserId);
     } catch (WebApplicationException exception) {
       var status = exception.getResponse().getStatus();
       throw new KeycloakApiException("Failed to assign roles to user: userId = " + userId, exception, status);
     }
   }
 
+  /**
+   * Assigns realm roles to users in bulk.
+   *
+   * <p>Keycloak user identifiers are resolved from the local mapping with a single query (Keycloak is searched only for
+   * unmapped users), then all roles of a user are added with a single request. Users are processed in parallel using
+   * the shared Keycloak executor.
+   *
+   * @param rolesByUserId - roles to assign by folio user identifier
+   * @return {@link Set} with folio user identifiers, for which roles were not assigned
+   */
+  public Set<UUID> assignRolesToUsers(Map<UUID, List<Role>> rolesByUserId) {
+    if (rolesByUserId.isEmpty()) {
+      return Set.of();
+    }
+
+    var keycloakUserIds = userService.findKeycloakIdsByUserIds(rolesByUserId.keySet());
+    var failedUserIds = ConcurrentHashMap.<UUID>newKeySet();
+    keycloakPermissionsExecutor.executeAll(new ArrayList<>(rolesByUserId.keySet()), userId -> {
+      var keycloakUserId = keycloakUserIds.get(userId);
+      if (keycloakUserId == null) {
+        log.warn("Keycloak user is not found: userId = {}", userId);
+        failedUserIds.add(userId);
+        return;
+      }
+
+      try {
+        var keycloakRoles = mapItems(rolesByUserId.get(userId), keycloakRoleMapper::toKeycloakRole);
+        executeForUser(userId, keycloakUserId, user -> user.roles().realmLevel().add(keycloakRoles));
+        log.debug("Roles user have been assigned: userId = {}, keycloakUserId = {}", userId, keycloakUserId);
+      } catch (Exception exception) {
+        log.warn("Failed to assign roles to user: userId = {}, keycloakUserId = {}", userId, keycloakUserId, exception);
+        failedUserIds.add(userId);
+      }
+    });
+
+    return failedUserIds;
+  }
+
   public void unlinkRolesFromUser(UUID userId, List<Role> roles) {
     var keycloakRoles = mapItems(roles, keycloakRoleMapper::toKeycloakRole);
     var keycloakUserId = userService.findKeycloakIdByUserId(userId);
-    var realmResource = keycloak.realm(context.getTenantId());
 
     try {
-      realmResource.users().get(keycloakUserId).roles().realmLevel().remove(keycloakRoles);
-      log.debug("Roles user have been unlinked: userId = {}, keycloakUserId = {}", userId, keycloakUserId);
+      var actualKeycloakUserId = executeForUser(userId, keycloakUserId,
+        user -> user.roles().realmLevel().remove(keycloakRoles));
+      log.debug("Roles user have been unlinked: userId = {}, keycloakUserId = {}", userId, actualKeycloakUserId);
     } catch (WebApplicationException exception) {
       var status = exception.getResponse().getStatus();
       throw new KeycloakApiException("Failed to unlink roles from user: userId = " + userId, exception, status);
     }
   }
+
+  /**
+   * Executes request for Keycloak user, re-resolving Keycloak user identifier once if the stored one is outdated.
+   *
+   * @param userId - folio user identifier
+   * @param keycloakUserId - resolved Keycloak user identifier
+   * @param request - request to execute
+   * @return Keycloak user identifier, used for the successful request
+   */
+  private String executeForUser(UUID userId, String keycloakUserId, Consumer<UserResource> request) {
+    var usersResource = keycloak.realm(context.getTenantId()).users();
+    try {
+      request.accept(usersResource.get(keycloakUserId));
+      return keycloakUserId;
+    } catch (NotFoundException exception) {
+      var actualKeycloakUserId = userService.refreshKeycloakIdByUserId(userId);
+      if (Objects.equals(actualKeycloakUserId, keycloakUserId)) {
+        throw exception;
+      }
+
+      log.info("Keycloak user id has been re-resolved: userId = {}, keycloakUserId = {}", userId, actualKeycloakUserId);
+      request.accept(usersResource.get(actualKeycloakUserId));
+      return actualKeycloakUserId;
+    }
+  }
 }
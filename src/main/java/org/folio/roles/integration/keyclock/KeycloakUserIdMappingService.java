@@ -0,0 +1,98 @@
+package org.folio.roles.integration.keyclock;
+
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+import io.micrometer.observation.annotation.Observed;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.entity.KeycloakUserIdMappingEntity;
+import org.folio.roles.repository.KeycloakUserIdMappingRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Local index of Keycloak user identifiers by folio user identifier.
+ *
+ * <p>Keycloak user identifier never changes for an existing user, so the mapping is stored permanently and verified by
+ * the callers only when Keycloak responds with 404 for the stored identifier. Modifications are executed in a separate
+ * transaction, because the index can be updated from read-only flows.
+ */
+@Log4j2
+@Service
+@Observed
+@RequiredArgsConstructor
+public class KeycloakUserIdMappingService {
+
+  private final KeycloakUserIdMappingRepository repository;
+
+  /**
+   * Finds Keycloak user identifier by folio user identifier.
+   *
+   * @param userId - folio user identifier
+   * @return {@link Optional} with Keycloak user identifier, empty if mapping is not stored
+   */
+  @Transactional(readOnly = true)
+  @Cacheable(cacheNames = "keycloak-user-id", key = "#userId + ':' + @folioExecutionContext.tenantId",
+    unless = "#result == null")
+  public Optional<String> findKeycloakUserId(UUID userId) {
+    return repository.findById(userId).map(KeycloakUserIdMappingEntity::getKeycloakUserId);
+  }
+
+  /**
+   * Finds Keycloak user identifiers by folio user identifiers.
+   *
+   * @param userIds - folio user identifiers
+   * @return {@link Map} with Keycloak user identifiers by folio user identifier, not stored mappings are skipped
+   */
+  @Transactional(readOnly = true)
+  public Map<UUID, String> findKeycloakUserIds(Collection<UUID> userIds) {
+    return repository.findAllByUserIdIn(userIds).stream()
+      .collect(toMap(KeycloakUserIdMappingEntity::getUserId, KeycloakUserIdMappingEntity::getKeycloakUserId));
+  }
+
+  /**
+   * Stores Keycloak user identifier for folio user identifier.
+   *
+   * @param userId - folio user identifier
+   * @param keycloakUserId - Keycloak user identifier
+   * @return stored Keycloak user identifier
+   */
+  @Transactional(propagation = REQUIRES_NEW)
+  @CachePut(cacheNames = "keycloak-user-id", key = "#userId + ':' + @folioExecutionContext.tenantId")
+  public String save(UUID userId, String keycloakUserId) {
+    repository.upsert(userId, keycloakUserId);
+    log.debug("Keycloak user id mapping has been saved: userId = {}, keycloakUserId = {}", userId, keycloakUserId);
+    return keycloakUserId;
+  }
+
+  /**
+   * Stores Keycloak user identifiers for folio user identifiers.
+   *
+   * @param keycloakUserIds - Keycloak user identifiers by folio user identifier
+   */
+  @Transactional(propagation = REQUIRES_NEW)
+  public void saveAll(Map<UUID, String> keycloakUserIds) {
+    keycloakUserIds.forEach(repository::upsert);
+    log.debug("Keycloak user id mappings have been saved: count = {}", keycloakUserIds.size());
+  }
+
+  /**
+   * Removes outdated Keycloak user identifier mapping.
+   *
+   * @param userId - folio user identifier
+   */
+  @Transactional(propagation = REQUIRES_NEW)
+  @CacheEvict(cacheNames = "keycloak-user-id", key = "#userId + ':' + @folioExecutionContext.tenantId")
+  public void delete(UUID userId) {
+    repository.deleteById(userId);
+    log.debug("Keycloak user id mapping has been removed: userId = {}", userId);
+  }
+}
@@ -2,7 +2,12 @@ package org.folio.roles.integration.keyclock;
 
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.ws.rs.NotFoundException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 @Log4j2
 @Service
+@Observed
 @RequiredArgsConstructor
 public class KeycloakUserService {
 
@@ -22,27 +28,80 @@ public class KeycloakUserService {
 
   private final Keycloak keycloak;
   private final FolioExecutionContext context;
+  private final KeycloakUserIdMappingService userIdMappingService;
 
-  @Cacheable(cacheNames = "keycloak-user-id", key = "#userId + ':' + @folioExecutionContext.tenantId")
+  /**
+   * Finds Keycloak user identifier by folio user identifier.
+   *
+   * <p>Identifier is taken from the local mapping, Keycloak is searched by 'user_id' attribute only if the mapping is
+   * not stored yet.
+   *
+   * @param userId - folio user identifier
+   * @return Keycloak user identifier
+   * @throws EntityNotFoundException if Keycloak user is not found by 'user_id' attribute
+   */
   public String findKeycloakIdByUserId(UUID userId) {
-    return getKeycloakUserByUserId(userId).getId();
+    return userIdMappingService.findKeycloakUserId(userId)
+      .orElseGet(() -> searchAndSaveKeycloakUser(userId).getId());
+  }
+
+  /**
+   * Re-resolves Keycloak user identifier, if the stored one is outdated (e.g. Keycloak responded with 404 for it).
+   *
+   * @param userId - folio user identifier
+   * @return actual Keycloak user identifier
+   * @throws EntityNotFoundException if Keycloak user is not found by 'user_id' attribute
+   */
+  public String refreshKeycloakIdByUserId(UUID userId) {
+    userIdMappingService.delete(userId);
+    return searchAndSaveKeycloakUser(userId).getId();
   }
 
   @Cacheable(cacheNames = "keycloak-users", key = "#userId + ':' + @folioExecutionContext.tenantId")
   public UserRepresentation getKeycloakUserByUserId(UUID userId) {
-    var query = USER_ID_ATTR + ":" + userId;
-    var realmResource = keycloak.realm(context.getTenantId());
-    var users = realmResource.users().searchByAttributes(null, null, null, false, query);
+    var keycloakUserId = userIdMappingService.findKeycloakUserId(userId);
+    if (keycloakUserId.isPresent()) {
+      try {
+        return keycloak.realm(context.getTenantId()).users().get(keycloakUserId.get()).toRepresentation();
+      } catch (NotFoundException exception) {
+        log.info("Keycloak user id mapping is outdated: userId = {}, keycloakUserId = {}", userId, keycloakUserId.get());
+        userIdMappingService.delete(userId);
+      }
+    }
 
-    if (isEmpty(users)) {
-      throw new EntityNotFoundException("Keycloak user doesn't exist with the given 'user_id' attribute: " + userId);
+    return searchAndSaveKeycloakUser(userId);
+  }
+
+  /**
+   * Finds Keycloak user identifiers by folio user identifiers.
+   *
+   * <p>Identifiers are taken from the local mapping with a single query, Keycloak is searched by 'user_id' attribute
+   * only for the users without a stored mapping.
+   *
+   * @param userIds - folio user identifiers
+   * @return {@link Map} with Keycloak user identifiers by folio user identifier, users without Keycloak account are
+   *   not included
+   */
+  public Map<UUID, String> findKeycloakIdsByUserIds(Collection<UUID> userIds) {
+    if (isEmpty(userIds)) {
+      return Map.of();
     }
 
-    if (users.size() != 1) {
-      throw new IllegalStateException("Too many keycloak users with 'user_id' attribute: " + userId);
+    var keycloakUserIds = new HashMap<>(userIdMappingService.findKeycloakUserIds(userIds));
+    for (var userId : userIds) {
+      if (keycloakUserIds.containsKey(userId)) {
+        continue;
+      }
+
+      try {
+        keycloakUserIds.put(userId, searchAndSaveKeycloakUser(userId).getId());
+      } catch (EntityNotFoundException | IllegalStateException exception) {
+        log.warn("Keycloak user is not resolved: userId = {}, reason = {}", userId, exception.getMessage());
+      }
     }
 
-    return users.get(0);
+    log.debug("Keycloak users have been found: requested = {}, found = {}", userIds.size(), keycloakUserIds.size());
+    return keycloakUserIds;
   }
 
   /**
@@ -66,4 +125,22 @@ public class KeycloakUserService {
 
     return UUID.fromString(values.get(0));
   }
+
+  private UserRepresentation searchAndSaveKeycloakUser(UUID userId) {
+    var query = USER_ID_ATTR + ":" + userId;
+    var realmResource = keycloak.realm(context.getTenantId());
+    var users = realmResource.users().searchByAttributes(null, null, null, false, query);
+
+    if (isEmpty(users)) {
+      throw new EntityNotFoundException("Keycloak user doesn't exist with the given 'user_id' attribute: " + userId);
+    }
+
+    if (users.size() != 1) {
+      throw new IllegalStateException("Too many keycloak users with 'user_id' attribute: " + userId);
+    }
+
+    var keycloakUser = users.get(0);
+    userIdMappingService.save(userId, keycloakUser.getId());
+    return keycloakUser;
+  }
 }
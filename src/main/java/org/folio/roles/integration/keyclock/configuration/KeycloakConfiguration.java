@@ -5,6 +5,9 @@ import static org.apache.commons.lang3.StringUtils.stripToNull;
 import static org.folio.common.utils.tls.Utils.IS_HOSTNAME_VERIFICATION_DISABLED;
 import static org.folio.common.utils.tls.Utils.buildSslContext;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -13,9 +16,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
-import org.folio.common.configuration.properties.TlsProperties;
+import org.folio.roles.integration.keyclock.KeycloakMetricsHttpEngine;
 import org.folio.roles.integration.keyclock.RealmConfigurationProvider;
+import org.folio.roles.service.metrics.MetricsService;
 import org.jboss.resteasy.client.jaxrs.ResteasyClient;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.jboss.resteasy.client.jaxrs.engines.ClientHttpEngineBuilder43;
 import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
@@ -32,6 +38,7 @@ public class KeycloakConfiguration {
 
   private final KeycloakConfigurationProperties configuration;
   private final RealmConfigurationProvider realmConfigurationProvider;
+  private final MetricsService metricsService;
 
   /**
    * Shared fixed thread pool used by {@link org.folio.roles.integration.keyclock.KeycloakPermissionsExecutor}
@@ -39,15 +46,18 @@ public class KeycloakConfiguration {
    *
    * <p>The bean is not registered when {@code parallelism <= 1}, so the executor falls back
    * to a simple sequential loop without allocating any threads.</p>
+   *
+   * <p>Pool size and queue depth are exported as {@code executor.*} metrics with {@code name=keycloak-permissions}.</p>
    */
   @Bean(destroyMethod = "shutdown")
   @ConditionalOnExpression("${application.keycloak.permissions.parallelism:4} > 1")
-  public ExecutorService keycloakPermissionsExecutorService() {
+  public ExecutorService keycloakPermissionsExecutorService(MeterRegistry meterRegistry) {
     int parallelism = configuration.getPermissions().getParallelism();
     log.info("Creating Keycloak permissions executor service with parallelism={}", parallelism);
     var executor = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
       new LinkedBlockingQueue<>());
     executor.allowCoreThreadTimeOut(true);
+    new ExecutorServiceMetrics(executor, "keycloak-permissions", List.of()).bindTo(meterRegistry);
     return executor;
   }
 
@@ -57,25 +67,36 @@ public class KeycloakConfiguration {
     return buildKeycloakAdminClient(realmConfiguration.getClientSecret(), configuration);
   }
 
-  private static Keycloak buildKeycloakAdminClient(String clientSecret, KeycloakConfigurationProperties properties) {
-    var builder = KeycloakBuilder.builder()
+  private Keycloak buildKeycloakAdminClient(String clientSecret, KeycloakConfigurationProperties properties) {
+    return KeycloakBuilder.builder()
       .realm("master")
       .serverUrl(properties.getBaseUrl())
       .clientId(properties.getClientId())
       .clientSecret(stripToNull(clientSecret))
-      .grantType(properties.getGrantType());
+      .grantType(properties.getGrantType())
+      .resteasyClient(buildResteasyClient(properties))
+      .build();
+  }
+
+  /**
+   * Builds Keycloak HTTP client with the configured connection pool size, its HTTP engine is wrapped with
+   * {@link KeycloakMetricsHttpEngine} to record request metrics.
+   */
+  private ResteasyClient buildResteasyClient(KeycloakConfigurationProperties properties) {
+    var builder = (ResteasyClientBuilder) newBuilder();
+    builder.connectionPoolSize(properties.getConnectionPoolSize());
+    builder.maxPooledPerRoute(properties.getConnectionPoolSize());
+    builder.register(JacksonProvider.class);
 
-    if (properties.getTls() != null && properties.getTls().isEnabled()) {
-      builder.resteasyClient(buildResteasyClient(properties.getTls()));
+    var tls = properties.getTls();
+    if (tls != null && tls.isEnabled()) {
+      builder.sslContext(buildSslContext(tls));
+      builder.hostnameVerifier(
+        IS_HOSTNAME_VERIFICATION_DISABLED ? NoopHostnameVerifier.INSTANCE : DEFAULT_HOSTNAME_VERIFIER);
     }
-    return builder.build();
-  }
 
-  private static ResteasyClient buildResteasyClient(TlsProperties properties) {
-    return (ResteasyClient) newBuilder()
-      .sslContext(buildSslContext(properties))
-      .hostnameVerifier(IS_HOSTNAME_VERIFICATION_DISABLED ? NoopHostnameVerifier.INSTANCE : DEFAULT_HOSTNAME_VERIFIER)
-      .register(JacksonProvider.class)
-      .build();
+    var httpEngine = new ClientHttpEngineBuilder43().resteasyClientBuilder(builder).build();
+    builder.httpEngine(new KeycloakMetricsHttpEngine(httpEngine, metricsService));
+    return builder.build();
   }
 }
@@ -46,9 +46,17 @@ public class KeycloakConfigurationProperties {
    */
   private TlsProperties tls;
 
+  /**
+   * Maximum number of pooled HTTP connections to Keycloak, shared by all tenants and parallel permission operations.
+   */
+  @Min(1)
+  @Max(1000)
+  private int connectionPoolSize = 10;
+
   /**
    * Keycloak configuration for permission migration.
    */
+  @Valid
   private MigrationProperties migration;
 
   /**
@@ -77,6 +85,12 @@ public class KeycloakConfigurationProperties {
      * Users batch size for users migration.
      */
     private int usersBatchSize = 100;
+
+    /**
+     * Number of records processed and committed in a single transaction by a resumable migration stage.
+     */
+    @Min(1)
+    private int chunkSize = 500;
   }
 
   @Data
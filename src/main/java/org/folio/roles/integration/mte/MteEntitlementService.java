@@ -1,55 +1,155 @@
 package org.folio.roles.integration.mte;
 
-import static org.folio.common.utils.CollectionUtils.toStream;
+import static java.util.Objects.requireNonNull;
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.integration.mte.model.MteApplicationDescriptor;
 import org.folio.spring.FolioExecutionContext;
-import org.springframework.cache.annotation.Cacheable;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 /**
  * Service for resolving the set of entitled application IDs for the current tenant.
  *
- * <p>Results are cached per tenant with a short TTL (configurable via
- * {@code TENANT_ENTITLED_APPLICATIONS_CACHE_TTL}). MTE client failures are propagated
- * — callers are responsible for fallback behavior.
+ * <p>Results are cached per tenant in the {@code tenant-entitled-applications} cache with a short TTL (configurable
+ * via {@code TENANT_ENTITLED_APPLICATIONS_CACHE_TTL}). Entries older than the refresh interval or marked as outdated
+ * are still returned, while the fresh set is loaded in background with the system user token, so only the first
+ * request of the tenant waits for MTE. MTE client failures of the initial load are propagated — callers are
+ * responsible for fallback behavior.
  */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class MteEntitlementService {
 
+  static final String CACHE_NAME = "tenant-entitled-applications";
   private static final int PAGE_SIZE = 500;
 
+  private final Set<String> tenantsInRefresh = ConcurrentHashMap.newKeySet();
+  private final ExecutorService executorService =
+    Executors.newSingleThreadExecutor(Thread.ofPlatform().name("entitled-applications").daemon(true).factory());
+
   private final TenantEntitlementsClient client;
   private final FolioExecutionContext folioExecutionContext;
+  private final SystemUserScopedExecutionService systemUserScopedExecutionService;
+  private final Cache cache;
+  private final Duration refreshAfter;
+
+  public MteEntitlementService(TenantEntitlementsClient client, FolioExecutionContext folioExecutionContext,
+    SystemUserScopedExecutionService systemUserScopedExecutionService, CacheManager cacheManager,
+    @Value("${cache.tenant-entitled-applications.refresh-after}") Duration refreshAfter) {
+    this.client = client;
+    this.folioExecutionContext = folioExecutionContext;
+    this.systemUserScopedExecutionService = systemUserScopedExecutionService;
+    this.cache = requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache not found: " + CACHE_NAME);
+    this.refreshAfter = refreshAfter;
+  }
 
   /**
    * Returns the set of application IDs entitled for the current tenant.
    *
-   * <p>Results are cached per tenant. Fetches up to {@value PAGE_SIZE} applications in a single request.
-   * A WARN is logged if MTE reports more results than the page size, as only the first page is returned.
+   * <p>Applications are fetched page by page of {@value PAGE_SIZE} records until all of them are loaded.
    *
    * @return set of versioned application IDs (e.g., {@code my-app-1.0.0})
-   * @throws RuntimeException if the MTE client call fails
+   * @throws RuntimeException if the MTE client call fails and there is no cached value for the tenant
    */
-  @Cacheable(cacheNames = "tenant-entitled-applications", key = "@folioExecutionContext.tenantId")
   public Set<String> getEntitledApplicationIdsForCurrentTenant() {
-    var tenant = folioExecutionContext.getTenantId();
-    var token = folioExecutionContext.getToken();
-    var response = client.findEntitledApplicationsByTenantName(tenant, token, tenant, PAGE_SIZE, 0);
-    if (response.getTotalRecords() != null && response.getTotalRecords() > PAGE_SIZE) {
-      log.warn("MTE returned totalRecords={} for tenant '{}', but only {} were fetched; "
-        + "entitled-only filtering may be incomplete", response.getTotalRecords(), tenant, PAGE_SIZE);
+    var tenantId = folioExecutionContext.getTenantId();
+    var entitledApplications = cache.get(tenantId, EntitledApplications.class);
+    if (entitledApplications == null) {
+      entitledApplications = load(tenantId, folioExecutionContext.getToken());
+      cache.put(tenantId, entitledApplications);
+    } else if (isOutdated(entitledApplications)) {
+      refresh(tenantId);
+    }
+
+    return entitledApplications.applicationIds();
+  }
+
+  /**
+   * Marks cached entitled applications of the current tenant as outdated, so they are refreshed in background on
+   * the next read.
+   *
+   * <p>Called on capability events, which are published by mgr-tenant-entitlements when the tenant entitlement is
+   * changed. The cached entry is flagged in place, so its expiration time is not extended.
+   */
+  public void markOutdatedForCurrentTenant() {
+    var entitledApplications = cache.get(folioExecutionContext.getTenantId(), EntitledApplications.class);
+    if (entitledApplications != null) {
+      entitledApplications.outdated().set(true);
     }
-    return toStream(response.getApplicationDescriptors())
-      .map(MteApplicationDescriptor::getId)
-      .filter(Objects::nonNull)
-      .collect(Collectors.toSet());
   }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  private boolean isOutdated(EntitledApplications entitledApplications) {
+    return entitledApplications.outdated().get()
+      || entitledApplications.loadedAt().plus(refreshAfter).isBefore(Instant.now());
+  }
+
+  private void refresh(String tenantId) {
+    if (!tenantsInRefresh.add(tenantId)) {
+      return;
+    }
+
+    try {
+      executorService.execute(() -> reload(tenantId));
+    } catch (RejectedExecutionException e) {
+      tenantsInRefresh.remove(tenantId);
+      log.warn("Entitled applications refresh is rejected: tenant = {}", tenantId, e);
+    }
+  }
+
+  private void reload(String tenantId) {
+    try {
+      var entitledApplications = systemUserScopedExecutionService.executeSystemUserScoped(tenantId,
+        () -> load(tenantId, folioExecutionContext.getToken()));
+      cache.put(tenantId, entitledApplications);
+    } catch (RuntimeException e) {
+      log.warn("Failed to refresh entitled applications, cached value is kept: tenant = {}", tenantId, e);
+    } finally {
+      tenantsInRefresh.remove(tenantId);
+    }
+  }
+
+  private EntitledApplications load(String tenantId, String token) {
+    var applicationIds = new HashSet<String>();
+    var offset = 0;
+    Integer totalRecords;
+    int pageSize;
+    do {
+      var page = client.findEntitledApplicationsByTenantName(tenantId, token, tenantId, PAGE_SIZE, offset);
+      var descriptors = emptyIfNull(page.getApplicationDescriptors());
+      descriptors.stream()
+        .map(MteApplicationDescriptor::getId)
+        .filter(Objects::nonNull)
+        .forEach(applicationIds::add);
+
+      totalRecords = page.getTotalRecords();
+      pageSize = descriptors.size();
+      offset += pageSize;
+    } while (pageSize == PAGE_SIZE && (totalRecords == null || offset < totalRecords));
+
+    log.debug("Entitled applications are loaded: tenant = {}, applications = {}", tenantId, applicationIds.size());
+    return new EntitledApplications(Set.copyOf(applicationIds), Instant.now(), new AtomicBoolean());
+  }
+
+  private record EntitledApplications(Set<String> applicationIds, Instant loadedAt, AtomicBoolean outdated) {}
 }
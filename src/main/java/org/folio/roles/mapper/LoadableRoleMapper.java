@@ -20,6 +20,7 @@ public interface LoadableRoleMapper {
 
   @AuditableEntityMapping
   @Mapping(target = "description", source = "role.description", defaultValue = "")
+  @Mapping(target = "contentHash", ignore = true)
   LoadableRoleEntity toRoleEntity(LoadableRole role);
 
   List<LoadableRoleEntity> toRoleEntity(List<LoadableRole> role);
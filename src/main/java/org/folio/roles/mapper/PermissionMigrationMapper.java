@@ -5,17 +5,25 @@ import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import java.util.List;
 import org.folio.roles.domain.dto.PermissionMigrationJob;
 import org.folio.roles.domain.dto.PermissionMigrationJobs;
+import org.folio.roles.domain.dto.PermissionMigrationStageProgress;
 import org.folio.roles.domain.entity.migration.PermissionMigrationJobEntity;
+import org.folio.roles.domain.entity.migration.PermissionMigrationJobProgressEntity;
 import org.folio.roles.mapper.entity.DateConvertHelper;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
 
 @Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = DateConvertHelper.class)
 public interface PermissionMigrationMapper {
 
+  @Mapping(target = "stages", ignore = true)
   PermissionMigrationJob toDto(PermissionMigrationJobEntity entity);
 
+  PermissionMigrationStageProgress toStageDto(PermissionMigrationJobProgressEntity entity);
+
+  List<PermissionMigrationStageProgress> toStageDtos(Iterable<PermissionMigrationJobProgressEntity> entities);
+
   List<PermissionMigrationJob> toDtos(Iterable<PermissionMigrationJobEntity> entities);
 
   default PermissionMigrationJobs toDtoCollection(Page<PermissionMigrationJobEntity> pageable) {
@@ -0,0 +1,78 @@
+package org.folio.roles.repository;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Provides data for the capability catalog snapshots: catalog version and capability set membership.
+ *
+ * <p>Statement-level triggers on {@code capability}, {@code capability_endpoint}, {@code capability_set} and
+ * {@code capability_set_capability} tables record a row per writing transaction in the
+ * {@code capability_catalog_change} table. Catalog version is the compacted version from the
+ * {@code capability_catalog_version} table plus the number of recorded changes, so it changes when a catalog change is
+ * committed, while concurrent writers never update a shared row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CapabilityCatalogRepository {
+
+  private static final String VERSION_QUERY = """
+    SELECT CASE
+      WHEN EXISTS (SELECT 1 FROM capability_catalog_change WHERE txid = txid_current_if_assigned()) THEN -1
+      ELSE (SELECT version FROM capability_catalog_version) + (SELECT count(*) FROM capability_catalog_change)
+    END""";
+  private static final String COMPACT_CHANGES_QUERY = """
+    WITH deleted AS (DELETE FROM capability_catalog_change RETURNING txid)
+    UPDATE capability_catalog_version SET version = version + (SELECT count(*) FROM deleted)""";
+  private static final List<String> CATALOG_TABLES =
+    List.of("capability", "capability_endpoint", "capability_set", "capability_set_capability");
+  private static final String CAPABILITY_SET_CAPABILITIES_QUERY =
+    "SELECT capability_set_id, capability_id FROM capability_set_capability";
+
+  private final EntityManager entityManager;
+
+  /**
+   * Returns current capability catalog version of the tenant.
+   *
+   * <p>Pending changes of the catalog tables are flushed before the query. If the current transaction has changed the
+   * catalog, {@code -1} is returned, so the snapshots, built from the committed data, are not used by it.
+   *
+   * @return capability catalog version
+   */
+  public long getVersion() {
+    var query = entityManager.createNativeQuery(VERSION_QUERY, Long.class).unwrap(NativeQuery.class);
+    CATALOG_TABLES.forEach(query::addSynchronizedQuerySpace);
+    var version = (Number) query.getSingleResult();
+    return version.longValue();
+  }
+
+  /**
+   * Moves the number of recorded catalog changes to the compacted version and deletes them, catalog version stays the
+   * same. Changes of the transactions in progress are not visible, so they are kept and compacted later.
+   */
+  public void compactChanges() {
+    entityManager.createNativeQuery(COMPACT_CHANGES_QUERY).executeUpdate();
+  }
+
+  /**
+   * Finds capability identifiers of all capability sets.
+   *
+   * @return capability identifiers by capability set identifier
+   */
+  public Map<UUID, List<UUID>> findCapabilityIdsBySetId() {
+    @SuppressWarnings("unchecked")
+    List<Tuple> rows = entityManager.createNativeQuery(CAPABILITY_SET_CAPABILITIES_QUERY, Tuple.class).getResultList();
+    return rows.stream().collect(groupingBy(row -> row.get(0, UUID.class),
+      mapping(row -> row.get(1, UUID.class), toList())));
+  }
+}
@@ -10,6 +10,7 @@ import org.folio.roles.repository.projection.CapabilityDirectProjection;
 import org.folio.roles.repository.projection.UserPermissionApplicationProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -243,6 +244,148 @@ public interface CapabilityRepository extends BaseCqlJpaRepository<CapabilityEnt
       ) capability WHERE capability.dummy_capability = false""")
   Page<CapabilityDirectProjection> findAllByRoleIdNoDedup(@Param("roleId") UUID roleId, Pageable pageable);
 
+  @Query(nativeQuery = true,
+    value = """
+      SELECT c.* FROM capability c
+      INNER JOIN user_capability uc ON c.id = uc.capability_id AND uc.user_id = :userId
+      WHERE (:includeDummy OR c.dummy_capability = false)""")
+  Slice<CapabilityEntity> findSliceByUserId(@Param("userId") UUID userId,
+    @Param("includeDummy") boolean includeDummy, Pageable pageable);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT capability.* FROM (
+        SELECT c.* FROM capability c
+        INNER JOIN user_capability uc ON c.id = uc.capability_id AND uc.user_id = :userId
+
+        UNION
+
+        SELECT c.* FROM capability_set cs
+        INNER JOIN user_capability_set ucs ON cs.id = ucs.capability_set_id AND ucs.user_id = :userId
+        INNER JOIN capability_set_capability csc ON cs.id = csc.capability_set_id
+        INNER JOIN capability c ON csc.capability_id = c.id
+      ) capability WHERE (:includeDummy OR capability.dummy_capability = false)""")
+  Slice<CapabilityEntity> findAllSliceByUserId(@Param("userId") UUID userId,
+    @Param("includeDummy") boolean includeDummy, Pageable pageable);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT c.* FROM capability c
+      INNER JOIN role_capability rc ON c.id = rc.capability_id AND rc.role_id = :roleId
+      WHERE (:includeDummy OR c.dummy_capability = false)""")
+  Slice<CapabilityEntity> findSliceByRoleId(@Param("roleId") UUID roleId,
+    @Param("includeDummy") boolean includeDummy, Pageable pageable);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT capability.* FROM (
+        SELECT c.* FROM capability c
+          INNER JOIN role_capability rc ON c.id = rc.capability_id AND rc.role_id = :roleId
+
+        UNION
+
+        SELECT c.* FROM capability_set cs
+          INNER JOIN role_capability_set rcs ON cs.id = rcs.capability_set_id AND rcs.role_id = :roleId
+          INNER JOIN capability_set_capability csc ON cs.id = csc.capability_set_id
+          INNER JOIN capability c ON csc.capability_id = c.id
+      ) capability WHERE (:includeDummy OR capability.dummy_capability = false)""")
+  Slice<CapabilityEntity> findAllSliceByRoleId(@Param("roleId") UUID roleId,
+    @Param("includeDummy") boolean includeDummy, Pageable pageable);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT capability.id AS id, capability.name AS name, capability.is_direct AS direct FROM (
+        SELECT c.id, c.name, c.dummy_capability, true AS is_direct FROM capability c
+          INNER JOIN role_capability rc ON c.id = rc.capability_id AND rc.role_id = :roleId
+
+        UNION ALL
+
+        SELECT c.id, c.name, c.dummy_capability, false AS is_direct FROM capability_set cs
+          INNER JOIN role_capability_set rcs ON cs.id = rcs.capability_set_id AND rcs.role_id = :roleId
+          INNER JOIN capability_set_capability csc ON cs.id = csc.capability_set_id
+          INNER JOIN capability c ON csc.capability_id = c.id
+      ) capability WHERE (:includeDummy OR capability.dummy_capability = false)""")
+  Slice<CapabilityDirectProjection> findAllSliceByRoleIdNoDedup(@Param("roleId") UUID roleId,
+    @Param("includeDummy") boolean includeDummy, Pageable pageable);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT c.* FROM capability c
+      INNER JOIN user_capability uc ON c.id = uc.capability_id AND uc.user_id = :userId
+      WHERE (:includeDummy OR c.dummy_capability = false)
+        AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+      ORDER BY c.name, c.id
+      LIMIT :limit""")
+  List<CapabilityEntity> findByUserIdAfter(@Param("userId") UUID userId,
+    @Param("includeDummy") boolean includeDummy, @Param("afterName") String afterName,
+    @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT capability.* FROM (
+        (SELECT c.* FROM capability c
+          INNER JOIN user_capability uc ON c.id = uc.capability_id AND uc.user_id = :userId
+        WHERE (:includeDummy OR c.dummy_capability = false)
+          AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+        ORDER BY c.name, c.id
+        LIMIT :limit)
+
+        UNION
+
+        (SELECT c.* FROM capability_set cs
+          INNER JOIN user_capability_set ucs ON cs.id = ucs.capability_set_id AND ucs.user_id = :userId
+          INNER JOIN capability_set_capability csc ON cs.id = csc.capability_set_id
+          INNER JOIN capability c ON csc.capability_id = c.id
+        WHERE (:includeDummy OR c.dummy_capability = false)
+          AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+        ORDER BY c.name, c.id
+        LIMIT :limit)
+      ) capability
+      ORDER BY capability.name, capability.id
+      LIMIT :limit""")
+  List<CapabilityEntity> findAllByUserIdAfter(@Param("userId") UUID userId,
+    @Param("includeDummy") boolean includeDummy, @Param("afterName") String afterName,
+    @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT c.* FROM capability c
+      INNER JOIN role_capability rc ON c.id = rc.capability_id AND rc.role_id = :roleId
+      WHERE (:includeDummy OR c.dummy_capability = false)
+        AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+      ORDER BY c.name, c.id
+      LIMIT :limit""")
+  List<CapabilityEntity> findByRoleIdAfter(@Param("roleId") UUID roleId,
+    @Param("includeDummy") boolean includeDummy, @Param("afterName") String afterName,
+    @Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  @Query(nativeQuery = true,
+    value = """
+      SELECT capability.* FROM (
+        (SELECT c.* FROM capability c
+          INNER JOIN role_capability rc ON c.id = rc.capability_id AND rc.role_id = :roleId
+        WHERE (:includeDummy OR c.dummy_capability = false)
+          AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+        ORDER BY c.name, c.id
+        LIMIT :limit)
+
+        UNION
+
+        (SELECT c.* FROM capability_set cs
+          INNER JOIN role_capability_set rcs ON cs.id = rcs.capability_set_id AND rcs.role_id = :roleId
+          INNER JOIN capability_set_capability csc ON cs.id = csc.capability_set_id
+          INNER JOIN capability c ON csc.capability_id = c.id
+        WHERE (:includeDummy OR c.dummy_capability = false)
+          AND c.name >= :afterName AND (c.name > :afterName OR c.id > :afterId)
+        ORDER BY c.name, c.id
+        LIMIT :limit)
+      ) capability
+      ORDER BY capability.name, capability.id
+      LIMIT :limit""")
+  List<CapabilityEntity> findAllByRoleIdAfter(@Param("roleId") UUID roleId,
+    @Param("includeDummy") boolean includeDummy, @Param("afterName") String afterName,
+    @Param("afterId") UUID afterId, @Param("limit") int limit);
+
   @Query("""
     select entity from CapabilityEntity entity where entity.name in :names
     and entity.dummyCapability = false order by entity.name""")
@@ -370,6 +513,20 @@ public interface CapabilityRepository extends BaseCqlJpaRepository<CapabilityEnt
     """)
   List<UserPermissionApplicationProjection> findAllUserPermissionMappings(@Param("user_id") UUID userId);
 
+  @Query(nativeQuery = true, value = """
+    WITH capability_permissions AS (
+      SELECT DISTINCT c.folio_permission
+      FROM capability c
+      WHERE c.dummy_capability = false
+    )
+    SELECT folio_permission FROM capability_permissions
+    UNION
+    SELECT UNNEST(p.replaces)
+    FROM capability_permissions cp
+    INNER JOIN permission p ON p.name = cp.folio_permission
+    """)
+  List<String> findAllFolioPermissionNames();
+
   @Modifying
   @Query("update CapabilityEntity ce set ce.applicationId = :applicationId "
     + "where ce.moduleId = :moduleId and ce.applicationId = :oldApplicationId")
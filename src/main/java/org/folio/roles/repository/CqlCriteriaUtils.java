@@ -0,0 +1,31 @@
+package org.folio.roles.repository;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import lombok.experimental.UtilityClass;
+import org.folio.spring.cql.Cql2JpaCriteria;
+
+@UtilityClass
+class CqlCriteriaUtils {
+
+  /**
+   * Creates criteria query for the given CQL query.
+   *
+   * @param entityManager - entity manager
+   * @param entityClass - entity class
+   * @param query - CQL query as {@link String}, all records are selected if it's blank
+   * @param <E> - entity type
+   * @return created {@link CriteriaQuery} object
+   */
+  static <E> CriteriaQuery<E> toCriteria(EntityManager entityManager, Class<E> entityClass, String query) {
+    if (isBlank(query)) {
+      var criteriaQuery = entityManager.getCriteriaBuilder().createQuery(entityClass);
+      criteriaQuery.select(criteriaQuery.from(entityClass));
+      return criteriaQuery;
+    }
+
+    return new Cql2JpaCriteria<>(entityClass, entityManager).toCollectionCriteria(query);
+  }
+}
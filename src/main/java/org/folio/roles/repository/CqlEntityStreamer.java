@@ -0,0 +1,126 @@
+package org.folio.roles.repository;
+
+import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.roles.repository.CqlCriteriaUtils.toCriteria;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaQuery;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.folio.roles.configuration.property.SearchProperties;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds entities by CQL query without counting total records.
+ *
+ * <p>Unlike {@link BaseCqlJpaRepository#findByQuery}, the result is neither collected into a page nor counted. Streamed
+ * rows are fetched in chunks of {@link SearchProperties#getStreamFetchSize()} and detached from the persistence context
+ * right after conversion. Returned stream must be consumed and closed within the read-only transaction.
+ *
+ * <p>Entities with collections are read page by page instead of a database cursor: a cursor initializes the eager
+ * {@code SUBSELECT} collections with a query per row, while a page initializes them with a single query.
+ */
+@Component
+@RequiredArgsConstructor
+public class CqlEntityStreamer {
+
+  private final EntityManager entityManager;
+  private final SearchProperties searchProperties;
+
+  /**
+   * Streams entities by CQL query, converting each of them with the given mapper.
+   *
+   * @param entityClass - entity class
+   * @param query - CQL query as {@link String}, all records are streamed if it's blank
+   * @param defaultSort - sort applied if CQL query does not define one
+   * @param offset - offset in pagination from first record
+   * @param limit - maximum number of streamed records
+   * @param mapper - entity mapper, applied before entity is detached
+   * @param <E> - entity type
+   * @param <R> - result type
+   * @return {@link Stream} with converted entities, must be closed by the caller
+   */
+  public <E, R> Stream<R> stream(Class<E> entityClass, String query, Sort defaultSort, int offset, int limit,
+    Function<E, R> mapper) {
+    var criteriaQuery = toCriteria(entityManager, entityClass, query);
+    applyDefaultSort(criteriaQuery, defaultSort);
+
+    if (hasCollections(entityClass)) {
+      return streamByPages(criteriaQuery, offset, limit, mapper);
+    }
+
+    return entityManager.createQuery(criteriaQuery)
+      .setFirstResult(offset)
+      .setMaxResults(limit)
+      .setHint(HINT_FETCH_SIZE, searchProperties.getStreamFetchSize())
+      .setHint(HINT_READ_ONLY, true)
+      .getResultStream()
+      .map(entity -> convertAndDetach(entity, mapper));
+  }
+
+  /**
+   * Finds a slice of entities by CQL query, one extra row is fetched to determine if the next slice exists.
+   *
+   * @param entityClass - entity class
+   * @param query - CQL query as {@link String}, all records are selected if it's blank
+   * @param pageable - pagination parameters, its sort is applied if CQL query does not define one
+   * @param <E> - entity type
+   * @return {@link Slice} with found entities
+   */
+  public <E> Slice<E> findSlice(Class<E> entityClass, String query, Pageable pageable) {
+    var criteriaQuery = toCriteria(entityManager, entityClass, query);
+    applyDefaultSort(criteriaQuery, pageable.getSort());
+
+    var entities = entityManager.createQuery(criteriaQuery)
+      .setFirstResult((int) pageable.getOffset())
+      .setMaxResults(pageable.getPageSize() + 1)
+      .getResultList();
+
+    var hasNext = entities.size() > pageable.getPageSize();
+    var content = hasNext ? entities.subList(0, pageable.getPageSize()) : entities;
+    return new SliceImpl<>(content, pageable, hasNext);
+  }
+
+  private <E, R> Stream<R> streamByPages(CriteriaQuery<E> criteriaQuery, int offset, int limit, Function<E, R> mapper) {
+    var pageSize = searchProperties.getStreamFetchSize();
+    var lastPageLoaded = new AtomicBoolean();
+    return Stream.iterate(0, loaded -> loaded < limit && !lastPageLoaded.get(), loaded -> loaded + pageSize)
+      .flatMap(loaded -> {
+        var size = Math.min(pageSize, limit - loaded);
+        var entities = entityManager.createQuery(criteriaQuery)
+          .setFirstResult(offset + loaded)
+          .setMaxResults(size)
+          .setHint(HINT_READ_ONLY, true)
+          .getResultList();
+
+        lastPageLoaded.set(entities.size() < size);
+        return mapItems(entities, entity -> convertAndDetach(entity, mapper)).stream();
+      });
+  }
+
+  private <E, R> R convertAndDetach(E entity, Function<E, R> mapper) {
+    var result = mapper.apply(entity);
+    entityManager.detach(entity);
+    return result;
+  }
+
+  private boolean hasCollections(Class<?> entityClass) {
+    return !entityManager.getMetamodel().entity(entityClass).getPluralAttributes().isEmpty();
+  }
+
+  private void applyDefaultSort(CriteriaQuery<?> criteriaQuery, Sort defaultSort) {
+    if (criteriaQuery.getOrderList().isEmpty() && defaultSort.isSorted()) {
+      var root = criteriaQuery.getRoots().iterator().next();
+      criteriaQuery.orderBy(toOrders(defaultSort, root, entityManager.getCriteriaBuilder()));
+    }
+  }
+}
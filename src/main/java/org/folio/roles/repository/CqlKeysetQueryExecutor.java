@@ -0,0 +1,94 @@
+package org.folio.roles.repository;
+
+import static org.folio.roles.domain.model.KeysetCursor.AFTER_PARAM;
+import static org.folio.roles.repository.CqlCriteriaUtils.toCriteria;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.KeysetPageResult;
+import org.folio.roles.domain.model.KeysetSort;
+import org.folio.roles.exception.RequestValidationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes CQL queries with keyset (seek) pagination.
+ *
+ * <p>Instead of skipping {@code offset} rows, the page starts right after the record, referenced by the cursor:
+ * {@code sortKey >= :sortValue AND (sortKey > :sortValue OR id > :id)}, so the leading condition is resolved by the
+ * index range scan on the sort key and every page costs the same. COUNT query is never executed.
+ */
+@Component
+@RequiredArgsConstructor
+public class CqlKeysetQueryExecutor {
+
+  private final EntityManager entityManager;
+
+  /**
+   * Finds a page of entities by CQL query, starting after the given cursor.
+   *
+   * @param entityClass - entity class
+   * @param query - CQL query as {@link String}, must not define sorting
+   * @param keysetSort - keyset sort definition
+   * @param cursor - cursor of the last record from the previous page, null for the first page
+   * @param limit - maximum number of records in the page
+   * @param mapper - entity mapper
+   * @param <E> - entity type
+   * @param <R> - result type
+   * @return {@link KeysetPageResult} with converted entities and the next page cursor
+   * @throws RequestValidationException if CQL query defines sorting or cursor does not match the sort key type
+   */
+  public <E, R> KeysetPageResult<R> findAfter(Class<E> entityClass, String query, KeysetSort<E> keysetSort,
+    KeysetCursor cursor, int limit, Function<E, R> mapper) {
+    var criteriaQuery = toCriteria(entityManager, entityClass, query);
+    if (!criteriaQuery.getOrderList().isEmpty()) {
+      throw new RequestValidationException("Sorting is not supported for keyset pagination", "query", query);
+    }
+
+    var cb = entityManager.getCriteriaBuilder();
+    var root = criteriaQuery.getRoots().iterator().next();
+    Path<Comparable<Object>> sortPath = root.get(keysetSort.sortAttribute());
+    Path<UUID> idPath = root.get(keysetSort.idAttribute());
+
+    if (cursor != null) {
+      var seekPredicate = seekPredicate(cb, sortPath, idPath, cursor);
+      var restriction = criteriaQuery.getRestriction();
+      criteriaQuery.where(restriction == null ? seekPredicate : cb.and(restriction, seekPredicate));
+    }
+
+    criteriaQuery.orderBy(cb.asc(sortPath), cb.asc(idPath));
+    var entities = entityManager.createQuery(criteriaQuery)
+      .setMaxResults(limit)
+      .setHint(HINT_READ_ONLY, true)
+      .getResultList();
+
+    return KeysetPageResult.of(entities, limit, keysetSort::cursorOf).map(mapper);
+  }
+
+  private static Predicate seekPredicate(CriteriaBuilder cb, Path<Comparable<Object>> sortPath, Path<UUID> idPath,
+    KeysetCursor cursor) {
+    var sortValue = toSortValue(sortPath.getJavaType(), cursor);
+    return cb.and(
+      cb.greaterThanOrEqualTo(sortPath, sortValue),
+      cb.or(cb.greaterThan(sortPath, sortValue), cb.greaterThan(idPath, cursor.id())));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparable<Object> toSortValue(Class<?> sortValueType, KeysetCursor cursor) {
+    if (sortValueType != UUID.class) {
+      return (Comparable<Object>) (Comparable<?>) cursor.sortValue();
+    }
+
+    try {
+      return (Comparable<Object>) (Comparable<?>) UUID.fromString(cursor.sortValue());
+    } catch (IllegalArgumentException e) {
+      throw new RequestValidationException("Invalid cursor value", AFTER_PARAM, cursor.encode());
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.roles.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository fragment, inserting new entities with assigned identifiers.
+ *
+ * <p>{@link org.springframework.data.repository.CrudRepository#saveAll(Iterable)} merges entities with assigned
+ * identifiers, selecting each of them before the insert. Entities are persisted instead, and the JDBC batching is
+ * enabled for the current session during the insert, so the inserts are sent in batches without the preceding
+ * selects.
+ *
+ * @param <E> - entity type
+ */
+public interface InsertRepository<E> {
+
+  /**
+   * Inserts new entities and flushes them to the database.
+   *
+   * @param entities - new entities with assigned identifiers
+   * @return {@link List} with inserted entities
+   */
+  List<E> insertAll(Collection<E> entities);
+}
@@ -0,0 +1,31 @@
+package org.folio.roles.repository;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+@RequiredArgsConstructor
+public class InsertRepositoryImpl<E> implements InsertRepository<E> {
+
+  private static final int JDBC_BATCH_SIZE = 100;
+
+  private final EntityManager entityManager;
+
+  @Override
+  public List<E> insertAll(Collection<E> entities) {
+    var session = entityManager.unwrap(Session.class);
+    var jdbcBatchSize = session.getJdbcBatchSize();
+    session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+    try {
+      entities.forEach(entityManager::persist);
+      entityManager.flush();
+    } finally {
+      session.setJdbcBatchSize(jdbcBatchSize);
+    }
+
+    return new ArrayList<>(entities);
+  }
+}
@@ -0,0 +1,25 @@
+package org.folio.roles.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.folio.roles.domain.entity.KeycloakUserIdMappingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeycloakUserIdMappingRepository extends JpaRepository<KeycloakUserIdMappingEntity, UUID> {
+
+  List<KeycloakUserIdMappingEntity> findAllByUserIdIn(Collection<UUID> userIds);
+
+  @Modifying
+  @Query(nativeQuery = true,
+    value = """
+      INSERT INTO keycloak_user_id_mapping (user_id, keycloak_user_id, updated_at)
+      VALUES (:userId, :keycloakUserId, now())
+      ON CONFLICT (user_id) DO UPDATE SET keycloak_user_id = EXCLUDED.keycloak_user_id, updated_at = now()""")
+  void upsert(@Param("userId") UUID userId, @Param("keycloakUserId") String keycloakUserId);
+}
@@ -0,0 +1,15 @@
+package org.folio.roles.repository;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.roles.domain.entity.key.PermissionMigrationJobProgressKey;
+import org.folio.roles.domain.entity.migration.PermissionMigrationJobProgressEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PermissionMigrationJobProgressRepository
+  extends JpaRepository<PermissionMigrationJobProgressEntity, PermissionMigrationJobProgressKey> {
+
+  List<PermissionMigrationJobProgressEntity> findAllByMigrationJobIdOrderByStage(UUID migrationJobId);
+}
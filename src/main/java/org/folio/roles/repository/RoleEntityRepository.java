@@ -1,5 +1,6 @@
 package org.folio.roles.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,9 +9,11 @@ import org.folio.spring.cql.JpaCqlRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface RoleEntityRepository extends JpaCqlRepository<RoleEntity, UUID> {
+public interface RoleEntityRepository extends JpaCqlRepository<RoleEntity, UUID>, InsertRepository<RoleEntity> {
 
   List<RoleEntity> findByIdIn(List<UUID> ids);
 
   Optional<RoleEntity> findByName(String name);
+
+  List<RoleEntity> findByNameIn(Collection<String> names);
 }
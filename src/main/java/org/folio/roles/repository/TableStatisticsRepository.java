@@ -0,0 +1,38 @@
+package org.folio.roles.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Provides row count estimates from the Postgres planner statistics, maintained by {@code ANALYZE} and autovacuum.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+  private static final String ESTIMATED_ROW_COUNT_QUERY =
+    "SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass(:table)";
+
+  private final EntityManager entityManager;
+
+  /**
+   * Finds estimated number of rows in the entity table of the current tenant schema.
+   *
+   * @param entityClass - entity class, annotated with {@link Table}
+   * @return {@link Optional} with estimated number of rows, empty if the table has never been analyzed
+   */
+  public Optional<Long> findEstimatedRowCount(Class<?> entityClass) {
+    var tableName = entityClass.getAnnotation(Table.class).name();
+    var result = entityManager.createNativeQuery(ESTIMATED_ROW_COUNT_QUERY, Long.class)
+      .setParameter("table", tableName)
+      .getResultList();
+
+    return result.stream()
+      .map(Long.class::cast)
+      .filter(rowCount -> rowCount >= 0)
+      .findFirst();
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.roles.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.folio.roles.domain.entity.UserRoleEntity;
@@ -8,12 +9,15 @@ import org.folio.spring.cql.JpaCqlRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRoleRepository extends JpaCqlRepository<UserRoleEntity, UserRoleKey> {
+public interface UserRoleRepository extends JpaCqlRepository<UserRoleEntity, UserRoleKey>,
+  InsertRepository<UserRoleEntity> {
 
   List<UserRoleEntity> findByUserId(UUID userId);
 
   List<UserRoleEntity> findByRoleId(UUID roleId);
 
+  List<UserRoleEntity> findByUserIdIn(Collection<UUID> userIds);
+
   List<UserRoleEntity> findByUserIdAndRoleIdIn(UUID userId, List<UUID> roleIds);
 
   void deleteByUserId(UUID userId);
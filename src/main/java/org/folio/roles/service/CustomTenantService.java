@@ -10,6 +10,8 @@ import org.folio.roles.integration.keyclock.KeycloakClientService;
 import org.folio.roles.service.loadablerole.LoadableRoleService;
 import org.folio.roles.service.migration.CapabilitiesMergeService;
 import org.folio.roles.service.reference.ReferenceDataLoader;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Stage;
+import org.folio.roles.service.tenant.TenantBootstrapScheduler;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.spring.service.TenantService;
@@ -31,6 +33,7 @@ public class CustomTenantService extends TenantService {
   private final CapabilitiesMergeService capabilitiesMergeService;
   private final KeycloakClientService keycloakClientService;
   private final KeycloakAuthorizationClientProvider authorizationClientProvider;
+  private final TenantBootstrapScheduler bootstrapScheduler;
   private final FolioExecutionContext folioExecutionContext;
 
   public CustomTenantService(JdbcTemplate jdbcTemplate, FolioExecutionContext context,
@@ -38,7 +41,7 @@ public class CustomTenantService extends TenantService {
     List<ReferenceDataLoader> referenceDataLoaders,
     LoadableRoleService loadableRoleService, Keycloak keycloak, CapabilitiesMergeService capabilitiesMergeService,
     KeycloakClientService keycloakClientService,
-    KeycloakAuthorizationClientProvider authorizationClientProvider) {
+    KeycloakAuthorizationClientProvider authorizationClientProvider, TenantBootstrapScheduler bootstrapScheduler) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.kafkaAdminService = kafkaAdminService;
     this.referenceDataLoaders = referenceDataLoaders;
@@ -47,12 +50,25 @@ public class CustomTenantService extends TenantService {
     this.capabilitiesMergeService = capabilitiesMergeService;
     this.keycloakClientService = keycloakClientService;
     this.authorizationClientProvider = authorizationClientProvider;
+    this.bootstrapScheduler = bootstrapScheduler;
     this.folioExecutionContext = context;
   }
 
+  /**
+   * Initializes the tenant, waiting in the queue if the maximum number of tenants is being initialized concurrently.
+   *
+   * @param tenantAttributes - tenant attributes
+   */
+  @Override
+  public void createOrUpdateTenant(TenantAttributes tenantAttributes) {
+    bootstrapScheduler.execute(folioExecutionContext.getTenantId(), () -> super.createOrUpdateTenant(tenantAttributes));
+  }
+
   @Override
   public void loadReferenceData() {
-    kafkaAdminService.stopKafkaListeners();
+    var tenantId = folioExecutionContext.getTenantId();
+    bootstrapScheduler.updateStage(tenantId, Stage.REFERENCE_DATA_LOAD);
+    kafkaAdminService.pauseTenantListeners(tenantId);
     try {
       log.info("Loading reference data");
       toStream(referenceDataLoaders).forEach(ReferenceDataLoader::loadReferenceData);
@@ -60,17 +76,25 @@ public class CustomTenantService extends TenantService {
       log.warn("Unable to load reference data", e);
       throw new IllegalStateException("Unable to load reference data", e);
     } finally {
-      kafkaAdminService.startKafkaListeners();
+      kafkaAdminService.resumeTenantListeners(tenantId);
     }
     log.info("Finished loading reference data");
   }
 
+  /**
+   * Merges duplicate capabilities of the initialized tenant.
+   *
+   * <p>Kafka listeners are not restarted: the capability topic of the new tenant is subscribed by the topic pattern on
+   * the next consumer metadata refresh, so consumption of other tenants is not interrupted by the tenant init.
+   *
+   * @param tenantAttributes - tenant attributes
+   */
   @Override
   protected void afterTenantUpdate(TenantAttributes tenantAttributes) {
-    log.debug("Restarting event listeners after tenant update");
-    kafkaAdminService.restartEventListeners();
+    var tenantId = folioExecutionContext.getTenantId();
     log.debug("Issuing fresh Keycloak token after tenant update");
     keycloak.tokenManager().grantToken();
+    bootstrapScheduler.updateStage(tenantId, Stage.CAPABILITIES_MERGE);
     log.debug("Merging duplicate capabilities after tenant update");
     capabilitiesMergeService.mergeDuplicateCapabilities();
   }
@@ -88,6 +112,7 @@ public class CustomTenantService extends TenantService {
         var tenantId = folioExecutionContext.getTenantId();
         keycloakClientService.evictLoginClient(tenantId);
         authorizationClientProvider.evictAuthorizationClient(tenantId);
+        bootstrapScheduler.remove(tenantId);
         super.deleteTenant(tenantAttributes);
       }
     }
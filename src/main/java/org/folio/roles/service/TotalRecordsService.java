@@ -0,0 +1,112 @@
+package org.folio.roles.service;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.domain.model.TotalRecords;
+import org.folio.roles.repository.TableStatisticsRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+/**
+ * Executes list queries, calculating total records according to the requested {@link TotalRecords} value.
+ *
+ * <p>Exact counts are cached per tenant in the {@code record-counts} cache for a short time, so the subsequent pages
+ * requested with {@link TotalRecords#ESTIMATED} are loaded as slices, without executing the COUNT query.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class TotalRecordsService {
+
+  private static final String RECORD_COUNTS_CACHE = "record-counts";
+
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext folioExecutionContext;
+  private final TableStatisticsRepository tableStatisticsRepository;
+
+  /**
+   * Finds a page of records, estimated total records are taken from the cached count.
+   *
+   * @param totalRecords - requested {@link TotalRecords} value
+   * @param countKey - key of the count in the cache, must identify the query and its parameters
+   * @param pageable - pagination parameters
+   * @param pageQuery - query, returning page with exact total records
+   * @param sliceQuery - query, returning slice without total records
+   * @param <T> - generic type for result elements
+   * @return {@link PageResult} object with found records
+   */
+  public <T> PageResult<T> find(TotalRecords totalRecords, String countKey, Pageable pageable,
+    Function<Pageable, Page<T>> pageQuery, Function<Pageable, Slice<T>> sliceQuery) {
+    return switch (totalRecords) {
+      case EXACT -> findPage(countKey, pageable, pageQuery);
+      case NONE -> PageResult.of(0, sliceQuery.apply(pageable).getContent());
+      case ESTIMATED -> {
+        var cachedCount = getCachedCount(countKey);
+        yield cachedCount == null
+          ? findPage(countKey, pageable, pageQuery)
+          : PageResult.of(cachedCount, sliceQuery.apply(pageable).getContent());
+      }
+    };
+  }
+
+  /**
+   * Finds a page of entity records by CQL query.
+   *
+   * <p>Estimated total records are taken from the Postgres planner statistics if the query is blank, and from the
+   * cached count otherwise.
+   *
+   * @param totalRecords - requested {@link TotalRecords} value
+   * @param entityClass - entity class, used to resolve the table name and the count key
+   * @param query - CQL query as {@link String}
+   * @param pageable - pagination parameters
+   * @param pageQuery - query, returning page with exact total records
+   * @param sliceQuery - query, returning slice without total records
+   * @param <T> - generic type for result elements
+   * @return {@link PageResult} object with found records
+   */
+  public <T> PageResult<T> findByQuery(TotalRecords totalRecords, Class<?> entityClass, String query,
+    Pageable pageable, Function<Pageable, Page<T>> pageQuery, Function<Pageable, Slice<T>> sliceQuery) {
+    var countKey = entityClass.getSimpleName() + ":" + trimToEmpty(query);
+    if (totalRecords != TotalRecords.ESTIMATED || isNotBlank(query)) {
+      return find(totalRecords, countKey, pageable, pageQuery, sliceQuery);
+    }
+
+    return tableStatisticsRepository.findEstimatedRowCount(entityClass)
+      .map(rowCount -> PageResult.of(rowCount, sliceQuery.apply(pageable).getContent()))
+      .orElseGet(() -> find(totalRecords, countKey, pageable, pageQuery, sliceQuery));
+  }
+
+  private <T> PageResult<T> findPage(String countKey, Pageable pageable, Function<Pageable, Page<T>> pageQuery) {
+    var page = pageQuery.apply(pageable);
+    putCachedCount(countKey, page.getTotalElements());
+    return PageResult.fromPage(page);
+  }
+
+  private Long getCachedCount(String countKey) {
+    var cache = cacheManager.getCache(RECORD_COUNTS_CACHE);
+    return cache != null ? cache.get(getCacheKey(countKey), Long.class) : null;
+  }
+
+  private void putCachedCount(String countKey, long count) {
+    var cache = cacheManager.getCache(RECORD_COUNTS_CACHE);
+    if (cache == null) {
+      log.debug("Cache '{}' is not found, count is not cached: key = {}", RECORD_COUNTS_CACHE, countKey);
+      return;
+    }
+
+    cache.put(getCacheKey(countKey), count);
+  }
+
+  private String getCacheKey(String countKey) {
+    return folioExecutionContext.getTenantId() + ":" + countKey;
+  }
+}
@@ -0,0 +1,224 @@
+package org.folio.roles.service.capability;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.configuration.property.CapabilityCatalogProperties;
+import org.folio.roles.mapper.entity.CapabilityEntityMapper;
+import org.folio.roles.repository.CapabilityCatalogRepository;
+import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.service.capability.model.CapabilityCatalog;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps immutable per-tenant {@link CapabilityCatalog} snapshots for capability lookups.
+ *
+ * <p>Snapshot is used only within a transaction and only while its version matches the catalog version, read in the
+ * same transaction, so changes made by other module instances or by the current transaction are never hidden.
+ * Outdated snapshots are rebuilt in background and swapped atomically, lookups are served from the database until the
+ * new snapshot is ready. Snapshot of a transaction, that has changed the catalog, is rebuilt after its commit. Recorded
+ * catalog changes are compacted by the rebuild, as the last statement of its transaction.
+ *
+ * <p>Number of cached tenant snapshots and their total size are exported as {@code capability.catalog.*} gauges.
+ */
+@Log4j2
+@Service
+public class CapabilityCatalogService implements MeterBinder {
+
+  /**
+   * Catalog version, returned by {@link CapabilityCatalogRepository#getVersion()} to the transaction, that has changed
+   * the catalog.
+   */
+  private static final long CHANGED_IN_TRANSACTION = -1L;
+
+  private final Map<String, CapabilityCatalog> catalogs = new ConcurrentHashMap<>();
+  private final Set<String> tenantsInRebuild = ConcurrentHashMap.newKeySet();
+  private final ExecutorService executorService =
+    Executors.newSingleThreadExecutor(Thread.ofPlatform().name("capability-catalog").daemon(true).factory());
+
+  private final CapabilityCatalogProperties properties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final CapabilityRepository capabilityRepository;
+  private final CapabilityCatalogRepository capabilityCatalogRepository;
+  private final CapabilityEntityMapper capabilityEntityMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  public CapabilityCatalogService(CapabilityCatalogProperties properties,
+    FolioExecutionContext folioExecutionContext, CapabilityRepository capabilityRepository,
+    CapabilityCatalogRepository capabilityCatalogRepository, CapabilityEntityMapper capabilityEntityMapper,
+    PlatformTransactionManager transactionManager) {
+    this.properties = properties;
+    this.folioExecutionContext = folioExecutionContext;
+    this.capabilityRepository = capabilityRepository;
+    this.capabilityCatalogRepository = capabilityCatalogRepository;
+    this.capabilityEntityMapper = capabilityEntityMapper;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * Finds up-to-date capability catalog snapshot of the current tenant.
+   *
+   * <p>Pending catalog changes of the current transaction are flushed before the catalog version is read, so the
+   * version, incremented by them, does not match the snapshot. If snapshot is outdated, its rebuild is scheduled, after
+   * the commit if the catalog is changed by the current transaction.
+   *
+   * @return {@link Optional} with capability catalog snapshot, empty if lookup must be done in the database
+   */
+  public Optional<CapabilityCatalog> findCurrent() {
+    if (!properties.isEnabled() || !isActualTransactionActive()) {
+      return Optional.empty();
+    }
+
+    var catalog = catalogs.get(folioExecutionContext.getTenantId());
+    var version = capabilityCatalogRepository.getVersion();
+    if (catalog != null && catalog.getVersion() == version) {
+      return catalog.isAvailable() ? Optional.of(catalog) : Optional.empty();
+    }
+
+    if (version == CHANGED_IN_TRANSACTION && isSynchronizationActive()) {
+      refreshAfterCommit();
+    } else {
+      refresh();
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Returns capability catalog version of the current tenant snapshot, without querying the database.
+   *
+   * <p>Version is checked against the database by {@link #findCurrent()} lookups, so it can lag behind the committed
+   * catalog until the outdated snapshot is rebuilt. If tenant has no snapshot, its build is scheduled.
+   *
+   * @return {@link OptionalLong} with snapshot version, empty if version must be read from the database
+   */
+  public OptionalLong findVersion() {
+    if (!properties.isEnabled()) {
+      return OptionalLong.empty();
+    }
+
+    var catalog = catalogs.get(folioExecutionContext.getTenantId());
+    if (catalog == null) {
+      refresh();
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(catalog.getVersion());
+  }
+
+  /**
+   * Schedules rebuild of the capability catalog snapshot for the current tenant.
+   */
+  public void refresh() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    var tenantId = folioExecutionContext.getTenantId();
+    if (!tenantsInRebuild.add(tenantId)) {
+      return;
+    }
+
+    // Capture the context eagerly on the calling thread, as FolioExecutionContext is ThreadLocal-based.
+    var context = (FolioExecutionContext) folioExecutionContext.getInstance();
+    try {
+      executorService.execute(() -> rebuild(tenantId, context));
+    } catch (RejectedExecutionException e) {
+      tenantsInRebuild.remove(tenantId);
+      log.warn("Capability catalog rebuild is rejected: tenant = {}", tenantId, e);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("capability.catalog.tenants", catalogs, values -> countAvailable(values.values()))
+      .description("Number of tenants with capability catalog snapshot")
+      .register(registry);
+    Gauge.builder("capability.catalog.capabilities", catalogs, values -> countCapabilities(values.values()))
+      .description("Total number of capabilities in capability catalog snapshots")
+      .register(registry);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  private void refreshAfterCommit() {
+    // rebuild, started before the commit, would read the previous catalog version, once per transaction is enough
+    if (TransactionSynchronizationManager.hasResource(this)) {
+      return;
+    }
+
+    TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(CapabilityCatalogService.this);
+        if (status == STATUS_COMMITTED) {
+          refresh();
+        }
+      }
+    });
+  }
+
+  private void rebuild(String tenantId, FolioExecutionContext context) {
+    try (var ignored = new FolioExecutionContextSetter(context)) {
+      var catalog = transactionTemplate.execute(status -> loadCatalog());
+      catalogs.put(tenantId, catalog);
+      log.info("Capability catalog snapshot has been built: tenant = {}, version = {}, capabilities = {}",
+        tenantId, catalog.getVersion(), catalog.size());
+    } catch (RuntimeException e) {
+      log.warn("Failed to build capability catalog snapshot: tenant = {}", tenantId, e);
+    } finally {
+      tenantsInRebuild.remove(tenantId);
+    }
+  }
+
+  private CapabilityCatalog loadCatalog() {
+    // version is read first: if the catalog is changed concurrently, snapshot is outdated and rebuilt on next lookup
+    var version = capabilityCatalogRepository.getVersion();
+    var capabilitiesCount = capabilityRepository.count();
+    if (capabilitiesCount > properties.getMaxCapabilities()) {
+      log.warn("Capability catalog exceeds the size limit, lookups are served from the database: "
+        + "capabilities = {}, limit = {}", capabilitiesCount, properties.getMaxCapabilities());
+      capabilityCatalogRepository.compactChanges();
+      return CapabilityCatalog.unavailable(version);
+    }
+
+    // capabilities are mapped within the loading transaction, so the snapshot never references JPA entities
+    var capabilities = capabilityEntityMapper.convert(capabilityRepository.findAll());
+    var catalog = CapabilityCatalog.of(version, capabilities, capabilityCatalogRepository.findCapabilityIdsBySetId());
+    capabilityCatalogRepository.compactChanges();
+    return catalog;
+  }
+
+  private static long countAvailable(Collection<CapabilityCatalog> catalogs) {
+    return catalogs.stream().filter(CapabilityCatalog::isAvailable).count();
+  }
+
+  private static long countCapabilities(Collection<CapabilityCatalog> catalogs) {
+    return catalogs.stream().mapToLong(CapabilityCatalog::size).sum();
+  }
+}
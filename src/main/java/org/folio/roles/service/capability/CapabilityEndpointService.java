@@ -1,10 +1,12 @@
 package org.folio.roles.service.capability;
 
+import static java.util.Collections.emptyList;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.folio.common.utils.CollectionUtils.toStream;
-import static org.folio.roles.utils.CapabilityUtils.getCapabilityEndpoints;
 
+import io.micrometer.observation.annotation.Observed;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -12,19 +14,20 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.ListUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.folio.roles.domain.dto.Endpoint;
 import org.folio.roles.domain.entity.CapabilityEndpointEntity;
 import org.folio.roles.repository.CapabilityEndpointRepository;
+import org.folio.roles.service.capability.model.CapabilityCatalog;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
+@Observed
 @RequiredArgsConstructor
 public class CapabilityEndpointService {
 
-  private final CapabilityService capabilityService;
   private final CapabilityEndpointRepository capabilityEndpointRepository;
+  private final CapabilityCatalogService capabilityCatalogService;
 
   /**
    * Provides a list of changed endpoints using changed and assigned capability identifiers.
@@ -35,9 +38,19 @@ public class CapabilityEndpointService {
    */
   @Transactional(readOnly = true)
   public List<Endpoint> getByCapabilityIds(Collection<UUID> changedIds, Collection<UUID> assignedIds) {
+    var catalog = capabilityCatalogService.findCurrent();
+    if (catalog.isPresent()) {
+      return getChangedEndpoints(catalog.get(), catalog.get().resolveCapabilities(changedIds),
+        catalog.get().resolveCapabilities(assignedIds), emptyList());
+    }
+
     var changedIdentifiers = CollectionUtils.subtract(changedIds, assignedIds);
-    var changedCapabilityEndpoints = getCapabilityEndpoints(capabilityService.findByIds(changedIdentifiers));
-    var assignedCapabilityEndpoints = getCapabilityEndpoints(capabilityService.findByIds(assignedIds));
+    var changedCapabilityEndpoints = findByCapabilityIds(changedIdentifiers);
+    if (changedCapabilityEndpoints.isEmpty()) {
+      return emptyList();
+    }
+
+    var assignedCapabilityEndpoints = findByCapabilityIds(assignedIds);
     return ListUtils.subtract(changedCapabilityEndpoints, assignedCapabilityEndpoints);
   }
 
@@ -52,10 +65,18 @@ public class CapabilityEndpointService {
   @Transactional(readOnly = true)
   public List<Endpoint> getByCapabilitySetIds(Collection<UUID> changedSetIds,
     Collection<UUID> assignedSetIds, Collection<Endpoint> excludeList) {
-    var changedCapabilities = capabilityService.findByCapabilitySetIds(changedSetIds);
-    var assignedCapabilities = capabilityService.findByCapabilitySetIds(assignedSetIds);
-    var changedCapabilitySetEndpoints = getCapabilityEndpoints(changedCapabilities);
-    var assignedCapabilitySetEndpoints = getCapabilityEndpoints(assignedCapabilities);
+    var catalog = capabilityCatalogService.findCurrent();
+    if (catalog.isPresent()) {
+      return getChangedEndpoints(catalog.get(), catalog.get().resolveCapabilitySets(changedSetIds),
+        catalog.get().resolveCapabilitySets(assignedSetIds), excludeList);
+    }
+
+    var changedCapabilitySetEndpoints = findByCapabilitySetIds(changedSetIds);
+    if (changedCapabilitySetEndpoints.isEmpty()) {
+      return emptyList();
+    }
+
+    var assignedCapabilitySetEndpoints = findByCapabilitySetIds(assignedSetIds);
 
     var resultEndpoints = new LinkedHashSet<>(changedCapabilitySetEndpoints);
     assignedCapabilitySetEndpoints.forEach(resultEndpoints::remove);
@@ -74,11 +95,8 @@ public class CapabilityEndpointService {
    */
   @Transactional(readOnly = true)
   public List<Endpoint> getRoleAssignedEndpoints(UUID roleId, List<UUID> exclCapabilityIds, List<UUID> exclSetIds) {
-    var capabilityIdsString = StringUtils.join(nullIfEmpty(exclCapabilityIds), ",");
-    var setIdsString = StringUtils.join(nullIfEmpty(exclSetIds), ",");
-    var capabilityEndpoints = capabilityEndpointRepository.getByRoleId(roleId, capabilityIdsString);
-    var capabilitySetEndpoints = capabilityEndpointRepository.getByRoleId(roleId, capabilityIdsString, setIdsString);
-    return getEndpoints(ListUtils.union(capabilityEndpoints, capabilitySetEndpoints));
+    var endpoints = capabilityEndpointRepository.getByRoleId(roleId, toArray(exclCapabilityIds), toArray(exclSetIds));
+    return getEndpoints(endpoints);
   }
 
   /**
@@ -91,11 +109,33 @@ public class CapabilityEndpointService {
    */
   @Transactional(readOnly = true)
   public List<Endpoint> getUserAssignedEndpoints(UUID userId, List<UUID> exclCapabilityIds, List<UUID> exclSetIds) {
-    var capabilityIdsString = StringUtils.join(nullIfEmpty(exclCapabilityIds), ",");
-    var setIdsString = StringUtils.join(nullIfEmpty(exclSetIds), ",");
-    var capabilityEndpoints = capabilityEndpointRepository.getByUserId(userId, capabilityIdsString);
-    var capabilitySetEndpoints = capabilityEndpointRepository.getByUserId(userId, capabilityIdsString, setIdsString);
-    return getEndpoints(ListUtils.union(capabilityEndpoints, capabilitySetEndpoints));
+    var endpoints = capabilityEndpointRepository.getByUserId(userId, toArray(exclCapabilityIds), toArray(exclSetIds));
+    return getEndpoints(endpoints);
+  }
+
+  private static List<Endpoint> getChangedEndpoints(CapabilityCatalog catalog, BitSet changedCapabilities,
+    BitSet assignedCapabilities, Collection<Endpoint> excludeList) {
+    changedCapabilities.andNot(assignedCapabilities);
+    if (changedCapabilities.isEmpty()) {
+      return emptyList();
+    }
+
+    var resultEndpoints = catalog.getEndpoints(changedCapabilities);
+    resultEndpoints.removeAll(catalog.getEndpoints(assignedCapabilities));
+    excludeList.forEach(resultEndpoints::remove);
+    return new ArrayList<>(resultEndpoints);
+  }
+
+  private List<Endpoint> findByCapabilityIds(Collection<UUID> capabilityIds) {
+    return isEmpty(capabilityIds)
+      ? emptyList()
+      : getEndpoints(capabilityEndpointRepository.findByCapabilityIds(capabilityIds));
+  }
+
+  private List<Endpoint> findByCapabilitySetIds(Collection<UUID> capabilitySetIds) {
+    return isEmpty(capabilitySetIds)
+      ? emptyList()
+      : getEndpoints(capabilityEndpointRepository.findByCapabilitySetIds(capabilitySetIds));
   }
 
   private static List<Endpoint> getEndpoints(List<CapabilityEndpointEntity> endpointEntities) {
@@ -105,7 +145,7 @@ public class CapabilityEndpointService {
       .toList();
   }
 
-  private static <T> List<T> nullIfEmpty(List<T> list) {
-    return isEmpty(list) ? null : list;
+  private static UUID[] toArray(List<UUID> ids) {
+    return toStream(ids).toArray(UUID[]::new);
   }
 }
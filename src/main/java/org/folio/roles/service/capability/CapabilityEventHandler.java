@@ -5,6 +5,7 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.folio.roles.domain.model.event.DomainEventType.UPDATE;
 import static org.folio.roles.utils.CollectionUtils.difference;
 
+import io.micrometer.observation.annotation.Observed;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -28,6 +29,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 @Log4j2
 @Service
+@Observed
 @RequiredArgsConstructor
 public class CapabilityEventHandler extends AbstractCapabilityEventHandler {
 
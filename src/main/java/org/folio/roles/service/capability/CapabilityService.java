@@ -1,7 +1,9 @@
 package org.folio.roles.service.capability;
 
+import static java.lang.String.valueOf;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Objects.requireNonNullElse;
 import static java.util.function.Function.identity;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.groupingBy;
@@ -11,6 +13,7 @@ import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.common.utils.Collectors.toLinkedHashMap;
 import static org.folio.integration.kafka.model.ResourceEventType.CREATE;
+import static org.folio.roles.domain.entity.CapabilityEntity.CAPABILITY_KEYSET_SORT;
 import static org.folio.roles.domain.entity.CapabilityEntity.DEFAULT_CAPABILITY_SORT;
 import static org.folio.roles.utils.CollectionUtils.toSet;
 
@@ -25,25 +28,36 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.PermissionsUser;
 import org.folio.roles.domain.entity.CapabilityEntity;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.KeysetPageResult;
 import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.domain.model.SerializedPermissionsUser;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.domain.model.event.CapabilityEvent;
 import org.folio.roles.integration.mte.MteEntitlementService;
 import org.folio.roles.mapper.entity.CapabilityEntityMapper;
 import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.repository.CqlEntityStreamer;
+import org.folio.roles.repository.CqlKeysetQueryExecutor;
 import org.folio.roles.repository.RoleCapabilityRepository;
 import org.folio.roles.repository.projection.CapabilityDirectProjection;
+import org.folio.roles.service.TotalRecordsService;
+import org.folio.roles.service.capability.model.UserPermissionMappings;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.stereotype.Service;
@@ -54,7 +68,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CapabilityService {
 
-  public static final List<String> VISIBLE_PERMISSION_PREFIXES = List.of("ui-", "module", "plugin");
+  private static final Sort NO_DEDUP_CAPABILITY_SORT = Sort.by(Order.asc("name"), Order.desc("direct"));
+  private static final KeysetCursor FIRST_PAGE_CURSOR = new KeysetCursor("", new UUID(0L, 0L));
 
   private final CapabilityRepository capabilityRepository;
   private final RoleCapabilityRepository roleCapabilityRepository;
@@ -63,6 +78,10 @@ public class CapabilityService {
   private final ApplicationEventPublisher applicationEventPublisher;
   private final UserPermissionCacheService userPermissionCacheService;
   private final MteEntitlementService mteEntitlementService;
+  private final CqlEntityStreamer cqlEntityStreamer;
+  private final CqlKeysetQueryExecutor cqlKeysetQueryExecutor;
+  private final TotalRecordsService totalRecordsService;
+  private final CapabilityCatalogService capabilityCatalogService;
 
   @Lazy private final CapabilitySetService capabilitySetService;
 
@@ -130,6 +149,59 @@ public class CapabilityService {
     return PageResult.fromPage(capabilitiesPage);
   }
 
+  /**
+   * Retrieves capabilities by CQL query and pagination parameters, calculating total records as requested.
+   *
+   * @param query - CQL query as {@link String}
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param totalRecords - defines how total records are calculated
+   * @return {@link PageResult} object with found {@link Capability} records
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public PageResult<Capability> find(String query, int limit, int offset, TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return find(query, limit, offset);
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SORT);
+    return totalRecordsService.findByQuery(totalRecords, CapabilityEntity.class, query, offsetRequest,
+        pageable -> capabilityRepository.findByQuery(query, pageable),
+        pageable -> cqlEntityStreamer.findSlice(CapabilityEntity.class, query, pageable))
+      .map(capabilityEntityMapper::convert);
+  }
+
+  /**
+   * Streams capabilities by CQL query and pagination parameters, without counting total records.
+   *
+   * @param query - CQL query as {@link String}
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param consumer - consumer for found {@link Capability} records
+   */
+  @Transactional(readOnly = true)
+  public void stream(String query, int limit, int offset, Consumer<Capability> consumer) {
+    try (var capabilities = cqlEntityStreamer.stream(CapabilityEntity.class, query, DEFAULT_CAPABILITY_SORT,
+      offset, limit, capabilityEntityMapper::convert)) {
+      capabilities.forEach(consumer);
+    }
+  }
+
+  /**
+   * Retrieves capabilities by CQL query using keyset pagination, without counting total records.
+   *
+   * @param query - CQL query as {@link String}
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - a number of results in response
+   * @return {@link KeysetPageResult} object with found {@link Capability} records
+   */
+  @Transactional(readOnly = true)
+  public KeysetPageResult<Capability> findAfter(String query, String after, int limit) {
+    return cqlKeysetQueryExecutor.findAfter(CapabilityEntity.class, query, CAPABILITY_KEYSET_SORT,
+      KeysetCursor.decode(after), limit, capabilityEntityMapper::convert);
+  }
+
   /**
    * Retrieves capabilities by user id.
    *
@@ -151,6 +223,58 @@ public class CapabilityService {
     return PageResult.fromPage(capabilitiesPage);
   }
 
+  /**
+   * Retrieves capabilities by user id, calculating total records as requested.
+   *
+   * @param userId - user identifier as {@link UUID} object
+   * @param expand - defines if capability sets must be expanded
+   * @param includeDummy - defines if capability set should include dummy capabilities
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param totalRecords - defines how total records are calculated
+   * @return {@link PageResult} object with found {@link Capability} records
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public PageResult<Capability> findByUserId(UUID userId, boolean expand, boolean includeDummy, int limit, int offset,
+    TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return findByUserId(userId, expand, includeDummy, limit, offset);
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SORT);
+    var countKey = String.join(":", "user-capabilities", userId.toString(), valueOf(expand), valueOf(includeDummy));
+    return totalRecordsService.find(totalRecords, countKey, offsetRequest,
+        pageable -> expand
+          ? findAllCapabilityEntitiesByUserId(includeDummy, userId, pageable)
+          : findCapabilityEntitiesByUserId(includeDummy, userId, pageable),
+        pageable -> expand
+          ? capabilityRepository.findAllSliceByUserId(userId, includeDummy, pageable)
+          : capabilityRepository.findSliceByUserId(userId, includeDummy, pageable))
+      .map(capabilityEntityMapper::convert);
+  }
+
+  /**
+   * Retrieves capabilities by user id using keyset pagination, without counting total records.
+   *
+   * @param userId - user identifier as {@link UUID} object
+   * @param expand - defines if capability sets must be expanded
+   * @param includeDummy - defines if capability set should include dummy capabilities
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - a number of results in response
+   * @return {@link KeysetPageResult} object with found {@link Capability} records
+   */
+  @Transactional(readOnly = true)
+  public KeysetPageResult<Capability> findByUserIdAfter(UUID userId, boolean expand, boolean includeDummy,
+    String after, int limit) {
+    var cursor = requireNonNullElse(KeysetCursor.decode(after), FIRST_PAGE_CURSOR);
+    var capabilityEntities = expand
+      ? capabilityRepository.findAllByUserIdAfter(userId, includeDummy, cursor.sortValue(), cursor.id(), limit)
+      : capabilityRepository.findByUserIdAfter(userId, includeDummy, cursor.sortValue(), cursor.id(), limit);
+    return KeysetPageResult.of(capabilityEntities, limit, CAPABILITY_KEYSET_SORT::cursorOf)
+      .map(capabilityEntityMapper::convert);
+  }
+
   /**
    * Retrieves capabilities by role id (deduplicated).
    *
@@ -199,6 +323,92 @@ public class CapabilityService {
       : findExpandedCapabilitiesByRoleIdNoDedup(roleId, includeDummy, limit, offset);
   }
 
+  /**
+   * Retrieves capabilities by role id, calculating total records as requested.
+   *
+   * @param roleId - role identifier as {@link UUID} object
+   * @param expand - defines if capability sets must be expanded
+   * @param includeDummy - defines if capability set should include dummy capabilities
+   * @param dedup - defines if duplicate capabilities (direct + via capability set) must be deduplicated
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record
+   * @param totalRecords - defines how total records are calculated
+   * @return {@link PageResult} object with found {@link Capability} relation descriptors
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public PageResult<Capability> findByRoleId(UUID roleId, boolean expand, boolean includeDummy, boolean dedup,
+    int limit, int offset, TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return findByRoleId(roleId, expand, includeDummy, dedup, limit, offset);
+    }
+
+    var countKey = String.join(":", "role-capabilities", roleId.toString(),
+      valueOf(expand), valueOf(includeDummy), valueOf(dedup));
+    if (!expand) {
+      var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SORT);
+      return totalRecordsService.find(totalRecords, countKey, offsetRequest,
+          pageable -> findCapabilityEntitiesByRoleId(includeDummy, roleId, pageable),
+          pageable -> capabilityRepository.findSliceByRoleId(roleId, includeDummy, pageable))
+        .map(capabilityEntity -> capabilityEntityMapper.convert(capabilityEntity).direct(true));
+    }
+
+    if (dedup) {
+      var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SORT);
+      var pageResult = totalRecordsService.find(totalRecords, countKey, offsetRequest,
+        pageable -> findAllCapabilityEntitiesByRoleId(includeDummy, roleId, pageable),
+        pageable -> capabilityRepository.findAllSliceByRoleId(roleId, includeDummy, pageable));
+      if (pageResult.isEmpty()) {
+        return PageResult.of(pageResult.getTotalRecords(), emptyList());
+      }
+
+      var directCapabilityIds = roleCapabilityRepository.findCapabilityIdsByRoleId(roleId);
+      return pageResult.map(capabilityEntity -> capabilityEntityMapper.convert(capabilityEntity)
+        .direct(directCapabilityIds.contains(capabilityEntity.getId())));
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, NO_DEDUP_CAPABILITY_SORT);
+    var rows = totalRecordsService.find(totalRecords, countKey, offsetRequest,
+      pageable -> includeDummy
+        ? capabilityRepository.findAllByRoleIdNoDedupIncludeDummy(roleId, pageable)
+        : capabilityRepository.findAllByRoleIdNoDedup(roleId, pageable),
+      pageable -> capabilityRepository.findAllSliceByRoleIdNoDedup(roleId, includeDummy, pageable));
+    return PageResult.of(rows.getTotalRecords(), toDirectCapabilities(rows.getRecords()));
+  }
+
+  /**
+   * Retrieves deduplicated capabilities by role id using keyset pagination, without counting total records.
+   *
+   * @param roleId - role identifier as {@link UUID} object
+   * @param expand - defines if capability sets must be expanded
+   * @param includeDummy - defines if capability set should include dummy capabilities
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - a number of results in response
+   * @return {@link KeysetPageResult} object with found {@link Capability} relation descriptors
+   */
+  @Transactional(readOnly = true)
+  public KeysetPageResult<Capability> findByRoleIdAfter(UUID roleId, boolean expand, boolean includeDummy,
+    String after, int limit) {
+    var cursor = requireNonNullElse(KeysetCursor.decode(after), FIRST_PAGE_CURSOR);
+    if (!expand) {
+      var capabilityEntities =
+        capabilityRepository.findByRoleIdAfter(roleId, includeDummy, cursor.sortValue(), cursor.id(), limit);
+      return KeysetPageResult.of(capabilityEntities, limit, CAPABILITY_KEYSET_SORT::cursorOf)
+        .map(capabilityEntity -> capabilityEntityMapper.convert(capabilityEntity).direct(true));
+    }
+
+    var capabilityEntities =
+      capabilityRepository.findAllByRoleIdAfter(roleId, includeDummy, cursor.sortValue(), cursor.id(), limit);
+    if (capabilityEntities.isEmpty()) {
+      return KeysetPageResult.empty();
+    }
+
+    var directCapabilityIds = roleCapabilityRepository.findCapabilityIdsByRoleId(roleId);
+    return KeysetPageResult.of(capabilityEntities, limit, CAPABILITY_KEYSET_SORT::cursorOf)
+      .map(capabilityEntity -> capabilityEntityMapper.convert(capabilityEntity)
+        .direct(directCapabilityIds.contains(capabilityEntity.getId())));
+  }
+
   private PageResult<Capability> findExpandedCapabilitiesByRoleId(UUID roleId, boolean includeDummy,
     int limit, int offset) {
     var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SORT);
@@ -216,22 +426,24 @@ public class CapabilityService {
 
   private PageResult<Capability> findExpandedCapabilitiesByRoleIdNoDedup(UUID roleId, boolean includeDummy,
     int limit, int offset) {
-    var sort = Sort.by(Order.asc("name"), Order.desc("direct"));
-    var offsetRequest = OffsetRequest.of(offset, limit, sort);
+    var offsetRequest = OffsetRequest.of(offset, limit, NO_DEDUP_CAPABILITY_SORT);
     var rows = includeDummy
       ? capabilityRepository.findAllByRoleIdNoDedupIncludeDummy(roleId, offsetRequest)
       : capabilityRepository.findAllByRoleIdNoDedup(roleId, offsetRequest);
 
-    var capabIds = toStream(rows.getContent()).map(CapabilityDirectProjection::getId).distinct().toList();
+    return PageResult.of(rows.getTotalElements(), toDirectCapabilities(rows.getContent()));
+  }
+
+  private List<Capability> toDirectCapabilities(List<CapabilityDirectProjection> rows) {
+    var capabIds = toStream(rows).map(CapabilityDirectProjection::getId).distinct().toList();
     var entitiesById = capabilityRepository.findAllById(capabIds)
       .stream()
       .collect(Collectors.toMap(CapabilityEntity::getId, identity()));
 
-    var capabilities = toStream(rows.getContent())
+    return toStream(rows)
       .filter(row -> entitiesById.containsKey(row.getId()))
       .map(row -> capabilityEntityMapper.convert(entitiesById.get(row.getId())).direct(row.getDirect()))
       .toList();
-    return PageResult.of(rows.getTotalElements(), capabilities);
   }
 
   /**
@@ -242,8 +454,9 @@ public class CapabilityService {
    */
   @Transactional(readOnly = true)
   public List<Capability> findByNames(Collection<String> capabilityNames) {
-    var capabilityEntities = capabilityRepository.findAllByNames(capabilityNames);
-    return capabilityEntityMapper.convert(capabilityEntities);
+    return capabilityCatalogService.findCurrent()
+      .map(catalog -> catalog.findByNames(capabilityNames, false))
+      .orElseGet(() -> capabilityEntityMapper.convert(capabilityRepository.findAllByNames(capabilityNames)));
   }
 
   /**
@@ -293,8 +506,9 @@ public class CapabilityService {
     if (isEmpty(permissionNames)) {
       return emptyList();
     }
-    var capabilityEntities = capabilityRepository.findAllByPermissionNames(permissionNames);
-    return capabilityEntityMapper.convert(capabilityEntities);
+    return capabilityCatalogService.findCurrent()
+      .map(catalog -> catalog.findByPermissionNames(permissionNames, false))
+      .orElseGet(() -> capabilityEntityMapper.convert(capabilityRepository.findAllByPermissionNames(permissionNames)));
   }
 
   /**
@@ -341,8 +555,9 @@ public class CapabilityService {
    */
   @Transactional(readOnly = true)
   public List<Capability> findByCapabilitySetIds(Collection<UUID> capabilitySetIds) {
-    var capabilityEntities = capabilityRepository.findByCapabilitySetIds(capabilitySetIds);
-    return capabilityEntityMapper.convert(capabilityEntities);
+    return capabilityCatalogService.findCurrent()
+      .map(catalog -> catalog.findByCapabilitySetIds(capabilitySetIds))
+      .orElseGet(() -> capabilityEntityMapper.convert(capabilityRepository.findByCapabilitySetIds(capabilitySetIds)));
   }
 
   /**
@@ -370,7 +585,9 @@ public class CapabilityService {
     }
 
     var capabilityIdsToCheck = new LinkedHashSet<>(capabilityIds);
-    var foundCapabilityIds = capabilityRepository.findCapabilityIdsByIdIncludeDummy(capabilityIdsToCheck);
+    var foundCapabilityIds = capabilityCatalogService.findCurrent()
+      .map(catalog -> catalog.findExistingIds(capabilityIdsToCheck))
+      .orElseGet(() -> capabilityRepository.findCapabilityIdsByIdIncludeDummy(capabilityIdsToCheck));
     if (foundCapabilityIds.size() != capabilityIdsToCheck.size()) {
       var notFoundCapabilityIds = CollectionUtils.subtract(capabilityIdsToCheck, foundCapabilityIds);
       throw new EntityNotFoundException("Capabilities not found by ids: " + notFoundCapabilityIds);
@@ -385,9 +602,9 @@ public class CapabilityService {
    */
   @Transactional(readOnly = true)
   public List<Capability> findByIds(Collection<UUID> capabilityIds) {
-    return capabilityRepository.findAllById(capabilityIds).stream()
-      .map(capabilityEntityMapper::convert)
-      .toList();
+    return capabilityCatalogService.findCurrent()
+      .map(catalog -> catalog.findByIds(capabilityIds))
+      .orElseGet(() -> capabilityEntityMapper.convert(capabilityRepository.findAllById(capabilityIds)));
   }
 
   /**
@@ -399,41 +616,63 @@ public class CapabilityService {
    * @param entitledOnly - when true, filter to only permissions from entitled applications
    * @return a {@link List} with folio permission names
    */
-  @Transactional(readOnly = true)
   public List<String> getUserPermissions(UUID userId, boolean onlyVisible, List<String> desiredPermissions,
     boolean entitledOnly) {
     var mappings = userPermissionCacheService.getUserPermissionMappings(userId);
-    var allPermissions = mappings.permissions();
+    return resolveUserPermissions(mappings, onlyVisible, desiredPermissions, entitledOnly);
+  }
+
+  /**
+   * Retrieves user permissions response by userId and onlyVisible flag.
+   *
+   * <p>All and visible permissions without entitled-only filtering are returned with the response body, serialized
+   * once, when user permissions are cached.
+   *
+   * @param userId - user identifier as {@link UUID} value
+   * @param onlyVisible - defines if UI or all permissions must be returned
+   * @param desiredPermissions - list of desired permissions to find (supports wildcards)
+   * @param entitledOnly - when true, filter to only permissions from entitled applications
+   * @return {@link PermissionsUser} response
+   */
+  public PermissionsUser getPermissionsUser(UUID userId, boolean onlyVisible, List<String> desiredPermissions,
+    boolean entitledOnly) {
+    var mappings = userPermissionCacheService.getUserPermissionMappings(userId);
+    var permissions = resolveUserPermissions(mappings, onlyVisible, desiredPermissions, entitledOnly);
+    if (entitledOnly || !onlyVisible && isNotEmpty(desiredPermissions)) {
+      return new PermissionsUser().userId(userId).permissions(permissions);
+    }
+
+    return mappings.findSerializedPermissions(onlyVisible)
+      .<PermissionsUser>map(serialized -> new SerializedPermissionsUser(userId, permissions, serialized))
+      .orElseGet(() -> new PermissionsUser().userId(userId).permissions(permissions));
+  }
+
+  private List<String> resolveUserPermissions(UserPermissionMappings mappings, boolean onlyVisible,
+    List<String> desiredPermissions, boolean entitledOnly) {
+    if (entitledOnly) {
+      var permissions = filterByEntitledApplications(mappings, onlyVisible);
+      return onlyVisible || isEmpty(desiredPermissions)
+        ? permissions
+        : filterByDesiredPermissions(permissions, desiredPermissions);
+    }
 
-    List<String> resolved;
     if (onlyVisible) {
-      resolved = filterByVisiblePrefixes(allPermissions);
-    } else if (isNotEmpty(desiredPermissions)) {
-      resolved = filterByDesiredPermissions(allPermissions, desiredPermissions);
-    } else {
-      resolved = allPermissions;
+      return mappings.visiblePermissions();
     }
 
-    return entitledOnly ? filterByEntitledApplications(resolved, mappings.permissionToApplicationId()) : resolved;
+    return isNotEmpty(desiredPermissions)
+      ? filterByDesiredPermissions(mappings.permissions(), desiredPermissions)
+      : mappings.permissions();
   }
 
-  private List<String> filterByEntitledApplications(List<String> permissions, Map<String, String> permToApp) {
+  private List<String> filterByEntitledApplications(UserPermissionMappings mappings, boolean onlyVisible) {
     try {
       var entitledApps = mteEntitlementService.getEntitledApplicationIdsForCurrentTenant();
-      return permissions.stream()
-        .filter(permission -> {
-          var appId = permToApp.get(permission);
-          if (appId == null) {
-            log.debug("Dropping permission without app mapping in entitled-only mode: {}", permission);
-            return false;
-          }
-          return entitledApps.contains(appId);
-        })
-        .toList();
+      return mappings.findPermissions(mappings.findApplications(entitledApps), onlyVisible);
     } catch (Exception e) {
       var tenantId = folioExecutionContext.getTenantId();
       log.warn("Failed to fetch entitled applications [tenant: {}]; returning unfiltered permissions", tenantId, e);
-      return permissions;
+      return onlyVisible ? mappings.visiblePermissions() : mappings.permissions();
     }
   }
 
@@ -483,31 +722,31 @@ public class CapabilityService {
   }
 
   private Page<CapabilityEntity> findAllCapabilityEntitiesByUserId(boolean includeDummy, UUID userId,
-    OffsetRequest offsetRequest) {
+    Pageable pageable) {
     return includeDummy
-      ? capabilityRepository.findAllByUserIdIncludeDummy(userId, offsetRequest)
-      : capabilityRepository.findAllByUserId(userId, offsetRequest);
+      ? capabilityRepository.findAllByUserIdIncludeDummy(userId, pageable)
+      : capabilityRepository.findAllByUserId(userId, pageable);
   }
 
   private Page<CapabilityEntity> findCapabilityEntitiesByUserId(boolean includeDummy, UUID userId,
-    OffsetRequest offsetRequest) {
+    Pageable pageable) {
     return includeDummy
-      ? capabilityRepository.findByUserIdIncludeDummy(userId, offsetRequest)
-      : capabilityRepository.findByUserId(userId, offsetRequest);
+      ? capabilityRepository.findByUserIdIncludeDummy(userId, pageable)
+      : capabilityRepository.findByUserId(userId, pageable);
   }
 
   private Page<CapabilityEntity> findAllCapabilityEntitiesByRoleId(boolean includeDummy, UUID roleId,
-    OffsetRequest offsetRequest) {
+    Pageable pageable) {
     return includeDummy
-      ? capabilityRepository.findAllByRoleIdIncludeDummy(roleId, offsetRequest)
-      : capabilityRepository.findAllByRoleId(roleId, offsetRequest);
+      ? capabilityRepository.findAllByRoleIdIncludeDummy(roleId, pageable)
+      : capabilityRepository.findAllByRoleId(roleId, pageable);
   }
 
   private Page<CapabilityEntity> findCapabilityEntitiesByRoleId(boolean includeDummy, UUID roleId,
-    OffsetRequest offsetRequest) {
+    Pageable pageable) {
     return includeDummy
-      ? capabilityRepository.findByRoleIdIncludeDummy(roleId, offsetRequest)
-      : capabilityRepository.findByRoleId(roleId, offsetRequest);
+      ? capabilityRepository.findByRoleIdIncludeDummy(roleId, pageable)
+      : capabilityRepository.findByRoleId(roleId, pageable);
   }
 
   private static String trimWildcard(String param) {
@@ -603,12 +842,6 @@ public class CapabilityService {
     }
   }
 
-  private static List<String> filterByVisiblePrefixes(List<String> permissions) {
-    return permissions.stream()
-      .filter(perm -> VISIBLE_PERMISSION_PREFIXES.stream().anyMatch(perm::startsWith))
-      .toList();
-  }
-
   private static List<String> filterByDesiredPermissions(List<String> permissions, List<String> desiredPermissions) {
     var exactPermissions = toStream(desiredPermissions)
       .filter(s -> !s.contains("*"))
@@ -6,6 +6,7 @@ import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.roles.domain.model.event.DomainEventType.UPDATE;
 import static org.folio.roles.utils.CollectionUtils.difference;
 
+import io.micrometer.observation.annotation.Observed;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 
 @Log4j2
 @Service
+@Observed
 @RequiredArgsConstructor
 public class CapabilitySetEventHandler extends AbstractCapabilityEventHandler {
 
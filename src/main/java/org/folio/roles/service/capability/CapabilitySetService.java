@@ -8,6 +8,7 @@ import static org.apache.commons.collections4.SetUtils.difference;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.common.utils.CollectionUtils.toStream;
+import static org.folio.roles.domain.entity.CapabilitySetEntity.CAPABILITY_SET_KEYSET_SORT;
 import static org.folio.roles.domain.entity.CapabilitySetEntity.DEFAULT_CAPABILITY_SET_SORT;
 import static org.folio.roles.domain.model.event.TenantPermissionsChangedEvent.tenantPermissionsChanged;
 import static org.folio.roles.utils.CapabilityUtils.getCapabilityName;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
@@ -27,10 +29,16 @@ import org.folio.roles.domain.dto.Capability;
 import org.folio.roles.domain.dto.CapabilitySet;
 import org.folio.roles.domain.dto.CapabilitySets;
 import org.folio.roles.domain.entity.CapabilitySetEntity;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.KeysetPageResult;
 import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.mapper.entity.CapabilitySetEntityMapper;
 import org.folio.roles.repository.CapabilitySetRepository;
+import org.folio.roles.repository.CqlEntityStreamer;
+import org.folio.roles.repository.CqlKeysetQueryExecutor;
+import org.folio.roles.service.TotalRecordsService;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -45,6 +53,9 @@ public class CapabilitySetService {
   private final CapabilitySetRepository repository;
   private final CapabilitySetEntityMapper capabilitySetEntityMapper;
   private final ApplicationEventPublisher eventPublisher;
+  private final CqlEntityStreamer cqlEntityStreamer;
+  private final CqlKeysetQueryExecutor cqlKeysetQueryExecutor;
+  private final TotalRecordsService totalRecordsService;
 
   /**
    * Creates a capability set.
@@ -109,6 +120,59 @@ public class CapabilitySetService {
     return PageResult.fromPage(capabilitySetPage);
   }
 
+  /**
+   * Retrieves capabilitySets items by CQL query, calculating total records as requested.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record.
+   * @param totalRecords - defines how total records are calculated
+   * @return {@link PageResult} object with found {@link CapabilitySet} records
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public PageResult<CapabilitySet> find(String query, Integer limit, Integer offset, TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return find(query, limit, offset);
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_CAPABILITY_SET_SORT);
+    return totalRecordsService.findByQuery(totalRecords, CapabilitySetEntity.class, query, offsetRequest,
+        pageable -> repository.findByQuery(query, pageable),
+        pageable -> cqlEntityStreamer.findSlice(CapabilitySetEntity.class, query, pageable))
+      .map(capabilitySetEntityMapper::convert);
+  }
+
+  /**
+   * Streams capabilitySets items by CQL query, without counting total records.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record.
+   * @param consumer - consumer for found {@link CapabilitySet} records
+   */
+  @Transactional(readOnly = true)
+  public void stream(String query, int limit, int offset, Consumer<CapabilitySet> consumer) {
+    try (var capabilitySets = cqlEntityStreamer.stream(CapabilitySetEntity.class, query, DEFAULT_CAPABILITY_SET_SORT,
+      offset, limit, capabilitySetEntityMapper::convert)) {
+      capabilitySets.forEach(consumer);
+    }
+  }
+
+  /**
+   * Retrieves capabilitySets items by CQL query using keyset pagination, without counting total records.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - a number of results in response
+   * @return {@link KeysetPageResult} object with found {@link CapabilitySet} records
+   */
+  @Transactional(readOnly = true)
+  public KeysetPageResult<CapabilitySet> findAfter(String query, String after, int limit) {
+    return cqlKeysetQueryExecutor.findAfter(CapabilitySetEntity.class, query, CAPABILITY_SET_KEYSET_SORT,
+      KeysetCursor.decode(after), limit, capabilitySetEntityMapper::convert);
+  }
+
   @Transactional(readOnly = true)
   public List<CapabilitySet> find(List<UUID> capabilityIds) {
     if (isEmpty(capabilityIds)) {
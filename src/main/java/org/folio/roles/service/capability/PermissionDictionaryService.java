@@ -0,0 +1,100 @@
+package org.folio.roles.service.capability;
+
+import static java.util.Collections.emptyList;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.dto.PermissionsUserBitmap;
+import org.folio.roles.repository.CapabilityCatalogRepository;
+import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.service.capability.model.PermissionDictionary;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps per-tenant {@link PermissionDictionary} instances and encodes user permissions as bitmaps of the dictionary
+ * indexes.
+ *
+ * <p>Dictionary is rebuilt when the capability catalog version is changed. The version is taken from the capability
+ * catalog snapshot, tracked by {@link CapabilityCatalogService}, so the catalog version is not queried per request and
+ * no transaction is opened for cached dictionaries. It is read from the database only if the tenant has no snapshot.
+ *
+ * <p>Replaced permissions are not tracked by the catalog version and the snapshot may lag behind the committed catalog,
+ * so the dictionary is also rebuilt and the snapshot refresh is scheduled if the dictionary does not contain some of
+ * the user permissions, but only once per catalog version. Permissions, that are still unknown after that, are left
+ * unmapped in the user bitmap.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class PermissionDictionaryService {
+
+  private final Map<String, PermissionDictionary> dictionaries = new ConcurrentHashMap<>();
+  private final Map<String, Long> refreshedCatalogVersions = new ConcurrentHashMap<>();
+
+  private final CapabilityService capabilityService;
+  private final FolioExecutionContext folioExecutionContext;
+  private final CapabilityRepository capabilityRepository;
+  private final CapabilityCatalogService capabilityCatalogService;
+  private final CapabilityCatalogRepository capabilityCatalogRepository;
+
+  /**
+   * Retrieves up-to-date permission dictionary of the current tenant.
+   *
+   * @return {@link PermissionDictionary} object
+   */
+  public PermissionDictionary getDictionary() {
+    var catalogVersion = capabilityCatalogService.findVersion().orElseGet(capabilityCatalogRepository::getVersion);
+    var dictionary = dictionaries.get(folioExecutionContext.getTenantId());
+    if (dictionary != null && dictionary.getCatalogVersion() == catalogVersion) {
+      return dictionary;
+    }
+
+    return loadDictionary(catalogVersion);
+  }
+
+  /**
+   * Retrieves user permissions as a bitmap of the permission dictionary indexes.
+   *
+   * @param userId - user identifier as {@link UUID} value
+   * @param onlyVisible - defines if UI or all permissions must be encoded
+   * @param entitledOnly - when true, filter to only permissions from entitled applications
+   * @return {@link PermissionsUserBitmap} response
+   */
+  public PermissionsUserBitmap getPermissionsUserBitmap(UUID userId, boolean onlyVisible, boolean entitledOnly) {
+    var permissions = capabilityService.getUserPermissions(userId, onlyVisible, emptyList(), entitledOnly);
+    var dictionary = getDictionary();
+    if (!dictionary.containsAll(permissions) && markRefreshed(dictionary.getCatalogVersion())) {
+      capabilityCatalogService.refresh();
+      dictionary = loadDictionary(dictionary.getCatalogVersion());
+    }
+
+    var bitmap = dictionary.resolvePermissions(permissions);
+    if (bitmap.cardinality() != permissions.size()) {
+      log.warn("User permissions are missing in the permission dictionary: userId = {}, version = {}",
+        userId, dictionary.getVersion());
+    }
+
+    return new PermissionsUserBitmap()
+      .userId(userId)
+      .dictionaryVersion(dictionary.getVersion())
+      .bitmap(bitmap.toByteArray());
+  }
+
+  private boolean markRefreshed(long catalogVersion) {
+    var previousVersion = refreshedCatalogVersions.put(folioExecutionContext.getTenantId(), catalogVersion);
+    return previousVersion == null || previousVersion != catalogVersion;
+  }
+
+  private PermissionDictionary loadDictionary(long catalogVersion) {
+    var tenantId = folioExecutionContext.getTenantId();
+    var dictionary = PermissionDictionary.of(catalogVersion, capabilityRepository.findAllFolioPermissionNames());
+    dictionaries.put(tenantId, dictionary);
+    log.info("Permission dictionary has been built: tenant = {}, version = {}, permissions = {}",
+      tenantId, dictionary.getVersion(), dictionary.size());
+    return dictionary;
+  }
+}
@@ -11,6 +11,7 @@ import static org.folio.roles.domain.entity.RoleCapabilityEntity.DEFAULT_ROLE_CA
 import static org.folio.roles.domain.model.event.TenantPermissionsChangedEvent.tenantPermissionsChanged;
 import static org.folio.roles.utils.CollectionUtils.difference;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Collection;
@@ -42,6 +43,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Log4j2
 @Primary
 @Service
+@Observed
 @Transactional
 @RequiredArgsConstructor
 public class RoleCapabilityServiceImpl implements RoleCapabilityService {
@@ -12,16 +12,23 @@ import jakarta.persistence.EntityNotFoundException;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.UserCapabilities;
 import org.folio.roles.domain.dto.UserCapability;
 import org.folio.roles.domain.entity.UserCapabilityEntity;
 import org.folio.roles.domain.entity.key.UserCapabilityKey;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.KeysetPageResult;
 import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.integration.keyclock.KeycloakUserService;
 import org.folio.roles.mapper.entity.UserCapabilityEntityMapper;
+import org.folio.roles.repository.CqlEntityStreamer;
+import org.folio.roles.repository.CqlKeysetQueryExecutor;
 import org.folio.roles.repository.UserCapabilityRepository;
+import org.folio.roles.service.TotalRecordsService;
 import org.folio.roles.service.permission.UserPermissionService;
 import org.folio.roles.utils.CapabilityUtils;
 import org.folio.roles.utils.CollectionUtils;
@@ -45,6 +52,9 @@ public class UserCapabilityService {
   private final CapabilityEndpointService capabilityEndpointService;
   private final UserCapabilityEntityMapper userCapabilityEntityMapper;
   private final ApplicationEventPublisher eventPublisher;
+  private final CqlEntityStreamer cqlEntityStreamer;
+  private final CqlKeysetQueryExecutor cqlKeysetQueryExecutor;
+  private final TotalRecordsService totalRecordsService;
 
   /**
    * Creates a record(s) associating one or more capabilities with the user.
@@ -88,6 +98,60 @@ public class UserCapabilityService {
     return PageResult.fromPage(userCapabilities);
   }
 
+  /**
+   * Retrieves user-capability items by CQL query, calculating total records as requested.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record.
+   * @param totalRecords - defines how total records are calculated
+   * @return {@link PageResult} object with found {@link UserCapability} relation descriptors.
+   */
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public PageResult<UserCapability> find(String query, Integer limit, Integer offset, TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return find(query, limit, offset);
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, UserCapabilityEntity.DEFAULT_USER_CAPABILITY_SORT);
+    return totalRecordsService.findByQuery(totalRecords, UserCapabilityEntity.class, query, offsetRequest,
+        pageable -> userCapabilityRepository.findByQuery(query, pageable),
+        pageable -> cqlEntityStreamer.findSlice(UserCapabilityEntity.class, query, pageable))
+      .map(userCapabilityEntityMapper::convert);
+  }
+
+  /**
+   * Streams user-capability items by CQL query, without counting total records.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param limit - a number of results in response
+   * @param offset - offset in pagination from first record.
+   * @param consumer - consumer for found {@link UserCapability} relation descriptors.
+   */
+  @Transactional(readOnly = true)
+  public void stream(String query, int limit, int offset, Consumer<UserCapability> consumer) {
+    try (var userCapabilities = cqlEntityStreamer.stream(UserCapabilityEntity.class, query,
+      UserCapabilityEntity.DEFAULT_USER_CAPABILITY_SORT, offset, limit, userCapabilityEntityMapper::convert)) {
+      userCapabilities.forEach(consumer);
+    }
+  }
+
+  /**
+   * Retrieves user-capability items by CQL query using keyset pagination, without counting total records.
+   *
+   * @param query - CQL query as {@link String} object
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - a number of results in response
+   * @return {@link KeysetPageResult} object with found {@link UserCapability} relation descriptors.
+   */
+  @Transactional(readOnly = true)
+  public KeysetPageResult<UserCapability> findAfter(String query, String after, int limit) {
+    return cqlKeysetQueryExecutor.findAfter(UserCapabilityEntity.class, query,
+      UserCapabilityEntity.USER_CAPABILITY_KEYSET_SORT, KeysetCursor.decode(after), limit,
+      userCapabilityEntityMapper::convert);
+  }
+
   /**
    * Updates user-capability relations.
    *
@@ -2,6 +2,7 @@ package org.folio.roles.service.capability;
 
 import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import org.folio.roles.domain.model.event.TenantPermissionsChangedEvent;
 import org.folio.roles.domain.model.event.UserPermissionsChangedEvent;
@@ -21,6 +22,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * event publisher.
  */
 @Service
+@Observed
 @RequiredArgsConstructor
 public class UserPermissionCacheEventHandler {
 
@@ -1,44 +1,103 @@
 package org.folio.roles.service.capability;
 
+import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.ArrayUtils.nullToEmpty;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.log4j.Log4j2;
+import org.folio.roles.configuration.property.UserPermissionsProperties;
+import org.folio.roles.domain.dto.PermissionsUser;
 import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.service.capability.model.CachedUserPermissionMappings;
+import org.folio.roles.service.capability.model.SerializedPermissions;
 import org.folio.roles.service.capability.model.UserPermissionMappings;
-import org.springframework.cache.annotation.Cacheable;
+import org.folio.roles.service.capability.model.UserPermissionsGeneration;
+import org.folio.roles.service.metrics.MetricsService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
 
 /**
  * Service for caching user permissions.
  *
- * <p>Separated from CapabilityService to ensure Spring AOP proxy intercepts @Cacheable calls.
+ * <p>Cached user permissions are stamped with the {@link UserPermissionsGeneration}, read before they are loaded from
+ * the database. Loaded permissions are not cached if the generation is changed during the load, and cached
+ * permissions with an outdated generation are loaded again, so permissions, read before a concurrent change is
+ * committed, are never served after its cache eviction.
  */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class UserPermissionCacheService {
 
+  static final String CACHE_NAME = "user-permissions";
+
+  private final MetricsService metricsService;
   private final CapabilityRepository capabilityRepository;
+  private final ObjectMapper objectMapper;
+  private final UserPermissionsProperties userPermissionsProperties;
+  private final UserPermissionsCacheEvictor userPermissionsCacheEvictor;
+  private final Cache cache;
+  private final TransactionTemplate transactionTemplate;
+
+  public UserPermissionCacheService(MetricsService metricsService, CapabilityRepository capabilityRepository,
+    ObjectMapper objectMapper, UserPermissionsProperties userPermissionsProperties,
+    UserPermissionsCacheEvictor userPermissionsCacheEvictor, CacheManager cacheManager,
+    PlatformTransactionManager transactionManager) {
+    this.metricsService = metricsService;
+    this.capabilityRepository = capabilityRepository;
+    this.objectMapper = objectMapper;
+    this.userPermissionsProperties = userPermissionsProperties;
+    this.userPermissionsCacheEvictor = userPermissionsCacheEvictor;
+    this.cache = requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache not found: " + CACHE_NAME);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
 
   /**
    * Retrieves user permission-to-application mappings from database (cached).
    *
    * <p>The returned {@link UserPermissionMappings} contains all permission names (including replaced ones)
-   * and a map from each permission name to the application ID that owns it.
+   * and a map from each permission name to the application ID that owns it. Responses with all and visible
+   * permissions are serialized in advance, optionally gzip-compressed, and tagged with ETag, derived from their
+   * content, so cache hits are served without serialization. Read-only transaction is started only to load
+   * permissions on a cache miss, so cache hits do not acquire a database connection.
    *
    * @param userId - user identifier
    * @return {@link UserPermissionMappings} with permission list and application ID mapping
    */
-  @Cacheable(cacheNames = "user-permissions", key = "@folioExecutionContext.tenantId + ':' + #userId + ':mappings'")
-  @Transactional(readOnly = true)
   public UserPermissionMappings getUserPermissionMappings(UUID userId) {
+    var generation = userPermissionsCacheEvictor.getGeneration(userId);
+    var cacheKey = userPermissionsCacheEvictor.getCacheKey(userId);
+    var cachedMappings = cache.get(cacheKey, CachedUserPermissionMappings.class);
+    if (cachedMappings != null && cachedMappings.generation().equals(generation)) {
+      return cachedMappings.mappings();
+    }
+
+    var mappings = requireNonNull(transactionTemplate.execute(status -> loadUserPermissionMappings(userId)));
+    if (generation.equals(userPermissionsCacheEvictor.getGeneration(userId))) {
+      cache.put(cacheKey, new CachedUserPermissionMappings(generation, mappings));
+      userPermissionsCacheEvictor.registerCacheKey(cacheKey);
+    } else {
+      log.debug("User permissions are changed during the load, skipping cache update: userId = {}", userId);
+    }
+
+    return mappings;
+  }
+
+  private UserPermissionMappings loadUserPermissionMappings(UUID userId) {
     log.debug("Cache miss: loading permission mappings for user: {}", userId);
+    var sample = metricsService.startTimer();
     var rows = capabilityRepository.findAllUserPermissionMappings(userId);
     var permissionToApplicationId = new LinkedHashMap<String, String>();
     for (var row : rows) {
@@ -47,7 +106,26 @@ public class UserPermissionCacheService {
         permissionToApplicationId.putIfAbsent(replaced, row.getApplicationId());
       }
     }
-    return new UserPermissionMappings(new ArrayList<>(permissionToApplicationId.keySet()),
-      Map.copyOf(permissionToApplicationId));
+    var result = new UserPermissionMappings(new ArrayList<>(permissionToApplicationId.keySet()),
+      permissionToApplicationId, permissions -> serialize(userId, permissions));
+    metricsService.recordUserPermissionsLoad(sample);
+    return result;
+  }
+
+  private SerializedPermissions serialize(UUID userId, List<String> permissions) {
+    var json = objectMapper.writeValueAsBytes(new PermissionsUser().userId(userId).permissions(permissions));
+    var gzippedJson = userPermissionsProperties.isGzipEnabled() ? gzip(json) : null;
+    return new SerializedPermissions(json, gzippedJson, "W/\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+  }
+
+  private static byte[] gzip(byte[] value) {
+    var outputStream = new ByteArrayOutputStream(value.length / 4);
+    try (var gzipOutputStream = new GZIPOutputStream(outputStream)) {
+      gzipOutputStream.write(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to compress user permissions", e);
+    }
+
+    return outputStream.toByteArray();
   }
 }
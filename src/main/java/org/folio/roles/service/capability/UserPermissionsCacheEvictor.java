@@ -1,12 +1,22 @@
 package org.folio.roles.service.capability;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.log4j.Log4j2;
+import org.folio.roles.service.capability.model.UserPermissionsGeneration;
 import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.stereotype.Service;
 
 /**
@@ -14,17 +24,75 @@ import org.springframework.stereotype.Service;
  *
  * <p>Evicts user permission cache entries for specific users or entire tenant without affecting other tenants.
  * All eviction operations are best-effort and never throw exceptions.
+ *
+ * <p>Cache keys contain the tenant generation, so the tenant is evicted in constant time by incrementing its
+ * generation, entries with the previous generation are never served after that. Keys of the cached entries are
+ * indexed per tenant, and entries with the previous generation are removed from the cache by the index in background,
+ * off the calling Kafka listener or request thread, so they do not occupy the cache until expiration. If the removal
+ * is rejected or fails, the entries are left to the cache expiration and weight eviction. Keys, cached concurrently
+ * with the eviction, are indexed for the next tenant eviction. Index contains at most one key per tenant user, keys
+ * are removed from it on user and tenant eviction.
+ *
+ * <p>User eviction increments the user generation before the cache entry is removed. Generations of the changed users
+ * are kept for twice the cache TTL, so cached entries, loaded before the change and stamped with the previous
+ * generation, are expired before the generation is forgotten.
  */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class UserPermissionsCacheEvictor {
 
   private static final String USER_PERMISSIONS_CACHE = "user-permissions";
 
+  private final Map<String, AtomicLong> tenantGenerations = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> tenantCacheKeys = new ConcurrentHashMap<>();
+  private final AtomicLong userGenerationSequence = new AtomicLong();
+  private final ExecutorService executorService =
+    Executors.newSingleThreadExecutor(Thread.ofPlatform().name("user-permissions-cleanup").daemon(true).factory());
+  private final Cache<String, Long> userGenerations;
   private final CacheManager cacheManager;
   private final FolioExecutionContext folioExecutionContext;
 
+  public UserPermissionsCacheEvictor(CacheManager cacheManager, FolioExecutionContext folioExecutionContext,
+    @Value("${cache.user-permissions.ttl}") Duration userPermissionsTtl) {
+    this.cacheManager = cacheManager;
+    this.folioExecutionContext = folioExecutionContext;
+    this.userGenerations = Caffeine.newBuilder().expireAfterWrite(userPermissionsTtl.multipliedBy(2)).build();
+  }
+
+  /**
+   * Creates user-permissions cache key for a specific user in the current tenant.
+   *
+   * @param userId - user identifier
+   * @return cache key in format {@code {tenantId}:{tenantGeneration}:{userId}:mappings}
+   */
+  public String getCacheKey(UUID userId) {
+    return getCacheKey(folioExecutionContext.getTenantId(), userId);
+  }
+
+  /**
+   * Returns current generation of the user permissions in the current tenant.
+   *
+   * @param userId - user identifier
+   * @return {@link UserPermissionsGeneration} object
+   */
+  public UserPermissionsGeneration getGeneration(UUID userId) {
+    var tenantId = folioExecutionContext.getTenantId();
+    var userGeneration = userGenerations.getIfPresent(tenantId + ":" + userId);
+    return new UserPermissionsGeneration(getTenantGeneration(tenantId), userGeneration != null ? userGeneration : 0L);
+  }
+
+  /**
+   * Registers cache key of the stored user permissions in the current tenant, so it is evicted with the tenant.
+   *
+   * @param cacheKey - cache key, created by {@link #getCacheKey(UUID)}
+   */
+  public void registerCacheKey(String cacheKey) {
+    var tenantId = folioExecutionContext.getTenantId();
+    if (tenantId != null && !tenantId.isBlank()) {
+      tenantCacheKeys.computeIfAbsent(tenantId, id -> ConcurrentHashMap.newKeySet()).add(cacheKey);
+    }
+  }
+
   /**
    * Evicts cache entry for a specific user in the current tenant.
    *
@@ -38,6 +106,7 @@ public class UserPermissionsCacheEvictor {
       return;
     }
 
+    userGenerations.put(tenantId + ":" + userId, userGenerationSequence.incrementAndGet());
     try {
       var cache = cacheManager.getCache(USER_PERMISSIONS_CACHE);
       if (cache == null) {
@@ -46,8 +115,12 @@ public class UserPermissionsCacheEvictor {
         return;
       }
 
-      var cacheKey = tenantId + ":" + userId + ":mappings";
+      var cacheKey = getCacheKey(tenantId, userId);
       cache.evict(cacheKey);
+      var cacheKeys = tenantCacheKeys.get(tenantId);
+      if (cacheKeys != null) {
+        cacheKeys.remove(cacheKey);
+      }
       log.debug("Evicted cache for user {} in tenant {}", userId, tenantId);
     } catch (Exception e) {
       log.error("Failed to evict cache for user {} in tenant {}. Cache may contain stale data until TTL expires.",
@@ -66,35 +139,53 @@ public class UserPermissionsCacheEvictor {
       return;
     }
 
+    var generation = tenantGenerations.computeIfAbsent(tenantId, id -> new AtomicLong()).incrementAndGet();
+    log.debug("Evicted '{}' cache entries for tenant {}: generation = {}", USER_PERMISSIONS_CACHE, tenantId,
+      generation);
+
+    var cacheKeys = tenantCacheKeys.remove(tenantId);
+    if (cacheKeys != null && !cacheKeys.isEmpty()) {
+      scheduleCacheKeysEviction(tenantId, cacheKeys);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+
+  private void scheduleCacheKeysEviction(String tenantId, Set<String> cacheKeys) {
+    try {
+      executorService.execute(() -> evictCacheKeys(tenantId, cacheKeys));
+    } catch (RejectedExecutionException e) {
+      log.debug("Removal of outdated '{}' cache entries is rejected for tenant {}, they are kept until TTL expires",
+        USER_PERMISSIONS_CACHE, tenantId, e);
+    }
+  }
+
+  private void evictCacheKeys(String tenantId, Set<String> cacheKeys) {
     try {
       var cache = cacheManager.getCache(USER_PERMISSIONS_CACHE);
       if (cache == null) {
-        log.warn("Cache '{}' not found, cannot evict tenant {}", USER_PERMISSIONS_CACHE, tenantId);
-        return;
-      }
-
-      if (!(cache instanceof CaffeineCache caffeineCache)) {
-        log.warn("Cache '{}' is not Caffeine (type: {}), cannot evict tenant {}", USER_PERMISSIONS_CACHE,
-          cache.getClass().getName(), tenantId);
+        log.warn("Cache '{}' not found, cannot evict entries of tenant {}", USER_PERMISSIONS_CACHE, tenantId);
         return;
       }
 
-      evictFromNativeCache(caffeineCache.getNativeCache(), tenantId);
-      log.debug("Evicted '{}' cache entries for tenant {}", USER_PERMISSIONS_CACHE, tenantId);
+      cacheKeys.forEach(cache::evict);
+      log.debug("Removed outdated '{}' cache entries for tenant {}: count = {}", USER_PERMISSIONS_CACHE, tenantId,
+        cacheKeys.size());
     } catch (Exception e) {
-      log.error("Failed to evict '{}' cache for tenant {}. Cache may contain stale data until TTL expires.",
+      log.error("Failed to remove outdated '{}' cache entries for tenant {}. They are kept until TTL expires.",
         USER_PERMISSIONS_CACHE, tenantId, e);
     }
   }
 
-  private static void evictFromNativeCache(Cache<Object, Object> nativeCache, String tenantId) {
-    var prefix = tenantId + ":";
-    nativeCache.asMap().keySet().stream()
-      .filter(key -> isCacheKeyForTenant(key, prefix))
-      .forEach(nativeCache::invalidate);
+  private String getCacheKey(String tenantId, UUID userId) {
+    return tenantId + ":" + getTenantGeneration(tenantId) + ":" + userId + ":mappings";
   }
 
-  private static boolean isCacheKeyForTenant(Object key, String tenantPrefix) {
-    return key != null && key.toString().startsWith(tenantPrefix);
+  private long getTenantGeneration(String tenantId) {
+    var generation = tenantId != null ? tenantGenerations.get(tenantId) : null;
+    return generation != null ? generation.get() : 0L;
   }
 }
@@ -0,0 +1,23 @@
+package org.folio.roles.service.capability.model;
+
+/**
+ * Value of the {@code user-permissions} cache: user permission mappings, stamped with the generation, read before
+ * they are loaded.
+ *
+ * @param generation generation of the user permissions, the mappings are loaded for
+ * @param mappings user permission mappings
+ */
+public record CachedUserPermissionMappings(UserPermissionsGeneration generation, UserPermissionMappings mappings) {
+
+  /**
+   * Weighs the {@code user-permissions} cache entry by the estimated heap size of the cached mappings.
+   *
+   * @param key - cache key
+   * @param value - cached value
+   * @return estimated size of the cache entry in bytes
+   */
+  public static int weigh(Object key, Object value) {
+    var mappingsWeight = value instanceof CachedUserPermissionMappings cached ? cached.mappings().weight() : 0;
+    return key.toString().length() + mappingsWeight;
+  }
+}
@@ -0,0 +1,275 @@
+package org.folio.roles.service.capability.model;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static lombok.AccessLevel.NONE;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.Endpoint;
+import org.folio.roles.domain.dto.Metadata;
+
+/**
+ * Immutable snapshot of the tenant capabilities, indexed by capability id, name, permission and capability set id.
+ *
+ * <p>Snapshot is tagged with the capability catalog version, that is incremented in the database on each change of
+ * capabilities, capability sets or capability endpoints. Lookup methods return the same capabilities in the same
+ * order as the corresponding {@link org.folio.roles.repository.CapabilityRepository} queries. Snapshot is built from
+ * {@link Capability} objects, mapped once from the loaded entities, so it does not reference JPA entities or their
+ * collections. Stored capabilities are shared between requests, so lookup methods return their copies.
+ *
+ * <p>Each capability gets a dense index within the snapshot (in the order of capability names) and each capability set
+ * is stored as a {@link BitSet} of its member capability indexes, so capability set resolution and endpoint diffing are
+ * done with bitmap operations instead of joins over {@code capability_set_capability}.
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public final class CapabilityCatalog {
+
+  private static final Comparator<Capability> BY_NAME = comparing(Capability::getName);
+
+  /**
+   * Capability catalog version, the snapshot is built for.
+   */
+  private final long version;
+
+  /**
+   * Defines if snapshot contains capabilities, {@code false} if the catalog exceeds the configured size limit.
+   */
+  private final boolean available;
+
+  @Getter(NONE) private final Capability[] capabilities;
+  @Getter(NONE) private final Map<UUID, Integer> indexesById;
+  @Getter(NONE) private final Map<String, Capability> capabilitiesByName;
+  @Getter(NONE) private final Map<String, List<Capability>> capabilitiesByPermission;
+  @Getter(NONE) private final Map<UUID, BitSet> capabilitiesBySetId;
+  @Getter(NONE) private final BitSet dummyCapabilities;
+
+  /**
+   * Creates capability catalog snapshot.
+   *
+   * @param version - capability catalog version
+   * @param capabilities - all tenant capabilities, including dummy, the snapshot takes ownership of them
+   * @param capabilityIdsBySetId - capability identifiers by capability set identifier
+   * @return created {@link CapabilityCatalog} snapshot
+   */
+  public static CapabilityCatalog of(long version, List<Capability> capabilities,
+    Map<UUID, List<UUID>> capabilityIdsBySetId) {
+    var indexedCapabilities = capabilities.stream().sorted(BY_NAME).toArray(Capability[]::new);
+    var indexesById = new HashMap<UUID, Integer>(indexedCapabilities.length * 2);
+    var dummyCapabilities = new BitSet(indexedCapabilities.length);
+    for (int i = 0; i < indexedCapabilities.length; i++) {
+      indexesById.put(indexedCapabilities[i].getId(), i);
+      dummyCapabilities.set(i, isTrue(indexedCapabilities[i].getDummyCapability()));
+    }
+
+    var capabilitiesBySetId = new HashMap<UUID, BitSet>(capabilityIdsBySetId.size() * 2);
+    capabilityIdsBySetId.forEach((setId, capabilityIds) ->
+      capabilitiesBySetId.put(setId, toBitSet(indexesById, capabilityIds)));
+
+    return new CapabilityCatalog(version, true, indexedCapabilities, Map.copyOf(indexesById),
+      Map.copyOf(capabilities.stream().collect(toMap(Capability::getName, identity(), (first, second) -> first))),
+      Map.copyOf(capabilities.stream().filter(capability -> capability.getPermission() != null)
+        .collect(groupingBy(Capability::getPermission))),
+      Map.copyOf(capabilitiesBySetId), dummyCapabilities);
+  }
+
+  /**
+   * Creates capability catalog snapshot without capabilities, used when the catalog exceeds the size limit.
+   *
+   * @param version - capability catalog version
+   * @return {@link CapabilityCatalog} snapshot without capabilities
+   */
+  public static CapabilityCatalog unavailable(long version) {
+    return new CapabilityCatalog(version, false, new Capability[0], Map.of(), Map.of(), Map.of(), Map.of(),
+      new BitSet());
+  }
+
+  /**
+   * Returns number of capabilities in the snapshot.
+   *
+   * @return number of capabilities
+   */
+  public int size() {
+    return capabilities.length;
+  }
+
+  /**
+   * Finds capabilities by names, ordered by name.
+   *
+   * @param names - capability names
+   * @param includeDummy - defines if dummy capabilities must be included
+   * @return list with copies of the found {@link Capability} objects
+   */
+  public List<Capability> findByNames(Collection<String> names, boolean includeDummy) {
+    return sortedByName(new LinkedHashSet<>(names).stream().map(capabilitiesByName::get), includeDummy);
+  }
+
+  /**
+   * Finds capabilities by permission names, ordered by name.
+   *
+   * @param permissionNames - permission names
+   * @param includeDummy - defines if dummy capabilities must be included
+   * @return list with copies of the found {@link Capability} objects
+   */
+  public List<Capability> findByPermissionNames(Collection<String> permissionNames, boolean includeDummy) {
+    var capabilities = new LinkedHashSet<>(permissionNames).stream()
+      .flatMap(permission -> capabilitiesByPermission.getOrDefault(permission, emptyList()).stream());
+    return sortedByName(capabilities, includeDummy);
+  }
+
+  /**
+   * Finds capabilities by identifiers, including dummy capabilities.
+   *
+   * @param ids - capability identifiers
+   * @return list with copies of the found {@link Capability} objects in the order of the given identifiers
+   */
+  public List<Capability> findByIds(Collection<UUID> ids) {
+    return new LinkedHashSet<>(ids).stream()
+      .map(indexesById::get)
+      .filter(Objects::nonNull)
+      .map(index -> copyOf(capabilities[index]))
+      .toList();
+  }
+
+  /**
+   * Finds existing capability identifiers.
+   *
+   * @param ids - capability identifiers to check
+   * @return set with existing capability identifiers
+   */
+  public Set<UUID> findExistingIds(Collection<UUID> ids) {
+    return ids.stream()
+      .filter(indexesById::containsKey)
+      .collect(toUnmodifiableSet());
+  }
+
+  /**
+   * Finds non-dummy capabilities by capability set identifiers, ordered by name.
+   *
+   * @param capabilitySetIds - capability set identifiers
+   * @return list with copies of the distinct {@link Capability} objects
+   */
+  public List<Capability> findByCapabilitySetIds(Collection<UUID> capabilitySetIds) {
+    return toCapabilities(resolveCapabilitySets(capabilitySetIds));
+  }
+
+  /**
+   * Resolves indexes of capabilities with the given identifiers, including dummy capabilities.
+   *
+   * @param ids - capability identifiers
+   * @return new {@link BitSet} with capability indexes, unknown identifiers are ignored
+   */
+  public BitSet resolveCapabilities(Collection<UUID> ids) {
+    return toBitSet(indexesById, ids);
+  }
+
+  /**
+   * Resolves indexes of non-dummy capabilities, included in the given capability sets.
+   *
+   * @param capabilitySetIds - capability set identifiers
+   * @return new {@link BitSet} with capability indexes, a union of the capability set bitmaps
+   */
+  public BitSet resolveCapabilitySets(Collection<UUID> capabilitySetIds) {
+    var result = new BitSet(capabilities.length);
+    for (var capabilitySetId : capabilitySetIds) {
+      var capabilitySetCapabilities = capabilitiesBySetId.get(capabilitySetId);
+      if (capabilitySetCapabilities != null) {
+        result.or(capabilitySetCapabilities);
+      }
+    }
+
+    result.andNot(dummyCapabilities);
+    return result;
+  }
+
+  /**
+   * Collects distinct endpoints of the capabilities with the given indexes.
+   *
+   * @param capabilityIndexes - capability indexes, resolved by this snapshot
+   * @return set with {@link Endpoint} objects in the order of capability names
+   */
+  public Set<Endpoint> getEndpoints(BitSet capabilityIndexes) {
+    var endpoints = new LinkedHashSet<Endpoint>();
+    capabilityIndexes.stream()
+      .mapToObj(index -> capabilities[index].getEndpoints())
+      .filter(Objects::nonNull)
+      .flatMap(Collection::stream)
+      .forEach(endpoint -> endpoints.add(new Endpoint().path(endpoint.getPath()).method(endpoint.getMethod())));
+    return endpoints;
+  }
+
+  private List<Capability> toCapabilities(BitSet capabilityIndexes) {
+    return capabilityIndexes.stream()
+      .mapToObj(index -> copyOf(capabilities[index]))
+      .toList();
+  }
+
+  private static BitSet toBitSet(Map<UUID, Integer> indexesById, Collection<UUID> ids) {
+    var result = new BitSet(indexesById.size());
+    for (var id : ids) {
+      var index = indexesById.get(id);
+      if (index != null) {
+        result.set(index);
+      }
+    }
+
+    return result;
+  }
+
+  private static List<Capability> sortedByName(Stream<Capability> capabilities, boolean includeDummy) {
+    return capabilities
+      .filter(capability -> capability != null && (includeDummy || !isTrue(capability.getDummyCapability())))
+      .sorted(BY_NAME)
+      .map(CapabilityCatalog::copyOf)
+      .toList();
+  }
+
+  private static Capability copyOf(Capability capability) {
+    return new Capability()
+      .id(capability.getId())
+      .name(capability.getName())
+      .description(capability.getDescription())
+      .resource(capability.getResource())
+      .action(capability.getAction())
+      .applicationId(capability.getApplicationId())
+      .moduleId(capability.getModuleId())
+      .permission(capability.getPermission())
+      .endpoints(capability.getEndpoints() == null ? null : capability.getEndpoints().stream()
+        .map(endpoint -> new Endpoint().path(endpoint.getPath()).method(endpoint.getMethod()))
+        .collect(toCollection(ArrayList::new)))
+      .dummyCapability(capability.getDummyCapability())
+      .type(capability.getType())
+      .metadata(capability.getMetadata() == null ? null : copyOf(capability.getMetadata()))
+      .visible(capability.getVisible())
+      .direct(capability.getDirect());
+  }
+
+  private static Metadata copyOf(Metadata metadata) {
+    return new Metadata()
+      .createdDate(metadata.getCreatedDate())
+      .createdByUserId(metadata.getCreatedByUserId())
+      .updatedDate(metadata.getUpdatedDate())
+      .updatedByUserId(metadata.getUpdatedByUserId());
+  }
+}
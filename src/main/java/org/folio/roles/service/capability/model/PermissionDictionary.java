@@ -0,0 +1,98 @@
+package org.folio.roles.service.capability.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static lombok.AccessLevel.NONE;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Immutable dictionary of the tenant permission names, assigning a dense index to each permission.
+ *
+ * <p>Permissions are sorted by name, so dictionaries with the same permissions have the same indexes and the same
+ * {@link #getVersion() version} on every module instance. User permissions are encoded as a {@link BitSet} of the
+ * dictionary indexes, so clients, holding the dictionary of the same version, check permissions with a bitmap lookup.
+ */
+@Getter
+@RequiredArgsConstructor(access = PRIVATE)
+public final class PermissionDictionary {
+
+  /**
+   * Capability catalog version, the dictionary is built for.
+   */
+  private final long catalogVersion;
+
+  /**
+   * Dictionary version, derived from the permission names.
+   */
+  private final String version;
+
+  /**
+   * Permission names, ordered by name, the position in the list is the permission index.
+   */
+  private final List<String> permissions;
+
+  @Getter(NONE) private final Map<String, Integer> indexesByPermission;
+
+  /**
+   * Creates permission dictionary.
+   *
+   * @param catalogVersion - capability catalog version
+   * @param permissionNames - all tenant permission names, including replaced ones
+   * @return created {@link PermissionDictionary}
+   */
+  public static PermissionDictionary of(long catalogVersion, Collection<String> permissionNames) {
+    var permissions = permissionNames.stream().distinct().sorted().toList();
+    var indexesByPermission = new HashMap<String, Integer>(permissions.size() * 2);
+    for (int i = 0; i < permissions.size(); i++) {
+      indexesByPermission.put(permissions.get(i), i);
+    }
+
+    var version = DigestUtils.md5DigestAsHex(String.join("\n", permissions).getBytes(UTF_8));
+    return new PermissionDictionary(catalogVersion, version, permissions, Map.copyOf(indexesByPermission));
+  }
+
+  /**
+   * Returns number of permissions in the dictionary.
+   *
+   * @return number of permissions
+   */
+  public int size() {
+    return permissions.size();
+  }
+
+  /**
+   * Checks if the dictionary contains all given permissions.
+   *
+   * @param permissionNames - permission names to check
+   * @return true if all permissions have an index in the dictionary, false otherwise
+   */
+  public boolean containsAll(Collection<String> permissionNames) {
+    return indexesByPermission.keySet().containsAll(permissionNames);
+  }
+
+  /**
+   * Resolves dictionary indexes of the given permissions.
+   *
+   * @param permissionNames - permission names
+   * @return new {@link BitSet} with permission indexes, unknown permissions are ignored
+   */
+  public BitSet resolvePermissions(Collection<String> permissionNames) {
+    var result = new BitSet(permissions.size());
+    for (var permissionName : permissionNames) {
+      var index = indexesByPermission.get(permissionName);
+      if (index != null) {
+        result.set(index);
+      }
+    }
+
+    return result;
+  }
+}
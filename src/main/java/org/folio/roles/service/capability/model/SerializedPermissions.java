@@ -0,0 +1,29 @@
+package org.folio.roles.service.capability.model;
+
+/**
+ * User permissions response, serialized in advance.
+ *
+ * @param json serialized JSON response body
+ * @param gzippedJson gzip-compressed {@code json}, {@code null} if compression is disabled
+ * @param etag weak entity tag of the response, derived from the {@code json} content
+ */
+public record SerializedPermissions(byte[] json, byte[] gzippedJson, String etag) {
+
+  /**
+   * Checks if the gzip-compressed response body is available.
+   *
+   * @return true if {@code gzippedJson} is present, false otherwise
+   */
+  public boolean hasGzippedJson() {
+    return gzippedJson != null;
+  }
+
+  /**
+   * Returns the number of bytes, retained by the serialized response bodies.
+   *
+   * @return size of {@code json} and {@code gzippedJson} in bytes
+   */
+  public int size() {
+    return json.length + (gzippedJson != null ? gzippedJson.length : 0);
+  }
+}
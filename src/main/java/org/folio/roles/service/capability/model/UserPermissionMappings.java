@@ -1,12 +1,215 @@
 package org.folio.roles.service.capability.model;
 
+import static java.util.Collections.unmodifiableList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Immutable holder for user permission data including permission-to-application mappings.
  *
- * @param permissions              flat list of all permission names (including replaced ones)
- * @param permissionToApplicationId map from permission name to the application ID that owns it
+ * <p>Distinct application IDs of the user are stored once and every permission refers to its application by the
+ * index in {@link #applicationIds()}, so permissions of the selected applications are resolved with a {@link BitSet}
+ * lookup per permission instead of a hash lookup.
+ *
+ * <p>Visible permissions (see {@link #VISIBLE_PERMISSION_PREFIXES}) and, optionally, serialized responses with all
+ * and visible permissions are computed once, when mappings are loaded, so the most common requests are served
+ * without filtering and serialization. Their estimated heap size is available with {@link #weight()}, so cached
+ * mappings are limited by the retained memory instead of the number of users.
  */
-public record UserPermissionMappings(List<String> permissions, Map<String, String> permissionToApplicationId) {}
+public final class UserPermissionMappings {
+
+  public static final List<String> VISIBLE_PERMISSION_PREFIXES = List.of("ui-", "module", "plugin");
+  private static final int NO_APPLICATION = -1;
+  private static final int REFERENCE_SIZE = 4;
+  private static final int STRING_OVERHEAD = 40;
+
+  private final List<String> permissions;
+  private final List<String> visiblePermissions;
+  private final List<String> applicationIds;
+  private final int[] applicationIndexes;
+  private final int[] visiblePositions;
+  private final boolean allPermissionsMapped;
+  private final SerializedPermissions serializedPermissions;
+  private final SerializedPermissions serializedVisiblePermissions;
+  private final int weight;
+
+  /**
+   * Creates user permission mappings without serialized responses.
+   *
+   * @param permissions flat list of all permission names (including replaced ones)
+   * @param permissionToApplicationId map from permission name to the application ID that owns it
+   */
+  public UserPermissionMappings(List<String> permissions, Map<String, String> permissionToApplicationId) {
+    this(permissions, permissionToApplicationId, null);
+  }
+
+  /**
+   * Creates user permission mappings.
+   *
+   * @param permissions flat list of all permission names (including replaced ones)
+   * @param permissionToApplicationId map from permission name to the application ID that owns it
+   * @param serializer function, serializing response with the given permissions, nullable
+   */
+  public UserPermissionMappings(List<String> permissions, Map<String, String> permissionToApplicationId,
+    Function<List<String>, SerializedPermissions> serializer) {
+    var applicationIndexById = new HashMap<String, Integer>();
+    var applicationIdList = new ArrayList<String>();
+    var visiblePermissionList = new ArrayList<String>();
+    var visiblePositionList = new ArrayList<Integer>();
+    var indexes = new int[permissions.size()];
+    var mapped = true;
+    for (int i = 0; i < indexes.length; i++) {
+      var permission = permissions.get(i);
+      if (isVisible(permission)) {
+        visiblePermissionList.add(permission);
+        visiblePositionList.add(i);
+      }
+
+      var applicationId = permissionToApplicationId.get(permission);
+      if (applicationId == null) {
+        indexes[i] = NO_APPLICATION;
+        mapped = false;
+        continue;
+      }
+
+      indexes[i] = applicationIndexById.computeIfAbsent(applicationId, id -> {
+        applicationIdList.add(id);
+        return applicationIdList.size() - 1;
+      });
+    }
+
+    this.permissions = List.copyOf(permissions);
+    this.visiblePermissions = List.copyOf(visiblePermissionList);
+    this.applicationIds = List.copyOf(applicationIdList);
+    this.applicationIndexes = indexes;
+    this.visiblePositions = visiblePositionList.stream().mapToInt(Integer::intValue).toArray();
+    this.allPermissionsMapped = mapped;
+    this.serializedPermissions = serializer != null ? serializer.apply(this.permissions) : null;
+    this.serializedVisiblePermissions = serializer != null ? serializer.apply(this.visiblePermissions) : null;
+    this.weight = estimateWeight();
+  }
+
+  /**
+   * Returns all permission names of the user.
+   *
+   * @return {@link List} with permission names
+   */
+  public List<String> permissions() {
+    return permissions;
+  }
+
+  /**
+   * Returns permission names of the user, starting with one of {@link #VISIBLE_PERMISSION_PREFIXES}.
+   *
+   * @return {@link List} with visible permission names
+   */
+  public List<String> visiblePermissions() {
+    return visiblePermissions;
+  }
+
+  /**
+   * Returns distinct application IDs, owning permissions of the user.
+   *
+   * @return {@link List} with application IDs, the position in the list is the application index
+   */
+  public List<String> applicationIds() {
+    return applicationIds;
+  }
+
+  /**
+   * Returns serialized response with all or visible permissions of the user.
+   *
+   * @param onlyVisible - defines if serialized response with visible permissions must be returned
+   * @return {@link Optional} with serialized response, empty if mappings are created without serializer
+   */
+  public Optional<SerializedPermissions> findSerializedPermissions(boolean onlyVisible) {
+    return Optional.ofNullable(onlyVisible ? serializedVisiblePermissions : serializedPermissions);
+  }
+
+  /**
+   * Returns estimated heap size of the mappings, including permission names and serialized responses.
+   *
+   * @return estimated size in bytes
+   */
+  public int weight() {
+    return weight;
+  }
+
+  /**
+   * Creates a set of application indexes, which application IDs are contained in the given collection.
+   *
+   * @param selectedApplicationIds - collection with application IDs to select
+   * @return {@link BitSet} with indexes of the selected applications
+   */
+  public BitSet findApplications(Collection<String> selectedApplicationIds) {
+    var result = new BitSet(applicationIds.size());
+    for (int i = 0; i < applicationIds.size(); i++) {
+      if (selectedApplicationIds.contains(applicationIds.get(i))) {
+        result.set(i);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Finds all or visible permissions, owned by the given applications, in the original order.
+   *
+   * <p>Permissions without application mapping are never included.
+   *
+   * @param applications - {@link BitSet} with application indexes, created by {@link #findApplications(Collection)}
+   * @param onlyVisible - defines if only visible permissions must be returned
+   * @return {@link List} with permission names
+   */
+  public List<String> findPermissions(BitSet applications, boolean onlyVisible) {
+    if (allPermissionsMapped && applications.cardinality() == applicationIds.size()) {
+      return onlyVisible ? visiblePermissions : permissions;
+    }
+
+    var result = new ArrayList<String>();
+    var count = onlyVisible ? visiblePositions.length : permissions.size();
+    for (int i = 0; i < count; i++) {
+      var position = onlyVisible ? visiblePositions[i] : i;
+      var applicationIndex = applicationIndexes[position];
+      if (applicationIndex != NO_APPLICATION && applications.get(applicationIndex)) {
+        result.add(permissions.get(position));
+      }
+    }
+
+    return unmodifiableList(result);
+  }
+
+  private int estimateWeight() {
+    long result = 0;
+    for (var permission : permissions) {
+      result += STRING_OVERHEAD + permission.length();
+    }
+
+    for (var applicationId : applicationIds) {
+      result += STRING_OVERHEAD + applicationId.length();
+    }
+
+    result += (long) REFERENCE_SIZE * (permissions.size() + visiblePermissions.size() + applicationIds.size());
+    result += (long) Integer.BYTES * (applicationIndexes.length + visiblePositions.length);
+    result += serializedPermissions != null ? serializedPermissions.size() : 0;
+    result += serializedVisiblePermissions != null ? serializedVisiblePermissions.size() : 0;
+    return (int) Math.min(result, Integer.MAX_VALUE);
+  }
+
+  private static boolean isVisible(String permission) {
+    for (var prefix : VISIBLE_PERMISSION_PREFIXES) {
+      if (permission.startsWith(prefix)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.roles.service.capability.model;
+
+/**
+ * Generations of the user permissions, incremented after each committed change of them.
+ *
+ * <p>Cached user permissions are stamped with the generation, read before they are loaded, and are valid only while
+ * it is equal to the current generation.
+ *
+ * @param tenantGeneration generation of the tenant, incremented on tenant-wide permission changes
+ * @param userGeneration generation of the user, incremented on permission changes of the user
+ */
+public record UserPermissionsGeneration(long tenantGeneration, long userGeneration) {}
@@ -1,31 +1,31 @@
 package org.folio.roles.service.loadablerole;
 
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.folio.common.utils.CollectionUtils.mapItems;
-import static org.folio.roles.utils.CollectionUtils.findOne;
 
+import io.micrometer.observation.annotation.Observed;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.function.Supplier;
-import javax.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.folio.roles.domain.dto.Capability;
 import org.folio.roles.domain.dto.CapabilitySet;
 import org.folio.roles.domain.dto.LoadablePermission;
-import org.folio.roles.domain.model.event.CapabilityEvent;
 import org.folio.roles.domain.model.event.CapabilitySetEvent;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.roles.service.capability.RoleCapabilityService;
 import org.folio.roles.service.capability.RoleCapabilitySetService;
-import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -37,6 +37,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 @Log4j2
 @Service
+@Observed
 @Transactional(propagation = Propagation.REQUIRES_NEW)
 @RequiredArgsConstructor
 public class LoadableRoleCapabilityAssignmentProcessor {
@@ -47,28 +48,31 @@ public class LoadableRoleCapabilityAssignmentProcessor {
   private final RoleCapabilitySetService roleCapabilitySetService;
   private final PlatformTransactionManager transactionManager;
 
-  @TransactionalEventListener(condition = "#event.type == T(org.folio.roles.domain.model.event.DomainEventType).CREATE")
-  public void handleCapabilitiesCreatedEvent(CapabilityEvent event) {
-    log.debug("\"Capabilities Created\" event received: {}", event);
-    handleCapabilityEvent(event, "created");
-  }
-
-  @TransactionalEventListener(condition = "#event.type == T(org.folio.roles.domain.model.event.DomainEventType).UPDATE")
-  public void handleCapabilitiesUpdateEvent(CapabilityEvent event) {
-    log.debug("\"Capabilities Updated\" event received: {}", event);
-    handleCapabilityEvent(event, "updated");
-  }
-
-  @TransactionalEventListener(condition = "#event.type == T(org.folio.roles.domain.model.event.DomainEventType).CREATE")
-  public void handleCapabilitySetCreatedEvent(CapabilitySetEvent event) {
-    log.debug("\"Capability Set Created\" event received: {}", event);
-
-    var capabilitySet = event.getNewObject();
-    log.info("Handling created capability set: {}", () -> shortDescription(capabilitySet));
+  /**
+   * Assigns capabilities and capability sets, created or updated in one transaction, to the loadable roles.
+   *
+   * <p>Affected roles are resolved with a single query. Capabilities and capability sets are assigned to each role in
+   * separate transactions, and a role permission matching several loadable permissions only skips its capability set.
+   *
+   * @param event - batch of created and updated capabilities and created capability sets
+   */
+  @TransactionalEventListener
+  public void handleCapabilityBatchEvent(LoadableRoleCapabilityBatchEvent event) {
+    log.debug("\"Loadable Role Capability Batch\" event received: {}", event);
+
+    try (var ignored = new FolioExecutionContextSetter(event.getContext())) {
+      var capabilityByPerm = groupCapabilitiesByPermission(event.getCapabilities());
+      var capabilitySetByPerm = findCapabilitySetsByPermission(event.getCapabilitySets());
+      var permissions = new LinkedHashSet<>(capabilityByPerm.keySet());
+      permissions.addAll(capabilitySetByPerm.keySet());
+      if (permissions.isEmpty()) {
+        return;
+      }
 
-    applyActionToRoles(findRolesWithPermissionsByCapabilitySet(capabilitySet),
-      assignCapabilitySetToRole(capabilitySet),
-      event.getContext());
+      log.info("Handling created/updated capabilities and capability sets: capabilities = {}, capabilitySets = {}",
+        capabilityByPerm.size(), capabilitySetByPerm.size());
+      assignToRoles(findRoleWithPermissionsByPermissionNames(permissions), capabilityByPerm, capabilitySetByPerm);
+    }
   }
 
   @TransactionalEventListener(condition = "#event.type == T(org.folio.roles.domain.model.event.DomainEventType).UPDATE")
@@ -89,35 +93,31 @@ public class LoadableRoleCapabilityAssignmentProcessor {
     // by Role Capability Set service
   }
 
-  private void handleCapabilityEvent(CapabilityEvent event, String eventType) {
-    var capability = event.getNewObject();
-
-    log.info("Handling {} capability: capabilityName = {}, permission = {}", eventType, capability.getName(),
-      capability.getPermission());
-
-    var permission = capability.getPermission();
-
-    applyActionToRoles(() -> findRoleWithPermissionsByPermissionNames(List.of(permission)),
-      assignCapabilitiesToRole(Map.of(permission, capability)), event.getContext());
+  private static Map<String, Capability> groupCapabilitiesByPermission(Collection<Capability> capabilities) {
+    return capabilities.stream()
+      .filter(capability -> capability.getPermission() != null)
+      .collect(toMap(Capability::getPermission, identity(), (first, second) -> second, LinkedHashMap::new));
   }
 
-  private Supplier<Map<UUID, List<LoadablePermission>>> findRolesWithPermissionsByCapabilitySet(
-    CapabilitySet capabilitySet) {
-    return () -> {
-      var relatedCapability = getCapabilityByCapabilitySetName(capabilitySet.getName());
-
-      if (relatedCapability == null) {
-        log.warn("Capability related to capability set is not found by capability set name: {}. "
-          + "Capability set will be skipped", capabilitySet.getName());
-        return Collections.emptyMap();
-      }
+  private Map<String, CapabilitySet> findCapabilitySetsByPermission(Collection<CapabilitySet> capabilitySets) {
+    if (capabilitySets.isEmpty()) {
+      return Collections.emptyMap();
+    }
 
+    var capabilitySetsByName = capabilitySets.stream()
+      .collect(toMap(CapabilitySet::getName, identity(), (first, second) -> second, LinkedHashMap::new));
+    var result = new LinkedHashMap<String, CapabilitySet>();
+    for (var relatedCapability : capabilityService.findByNames(List.copyOf(capabilitySetsByName.keySet()))) {
       log.debug("Capability found by capability set name: {}", relatedCapability);
+      result.put(relatedCapability.getPermission(), capabilitySetsByName.remove(relatedCapability.getName()));
+    }
 
-      var capabilityPerm = relatedCapability.getPermission();
+    if (!capabilitySetsByName.isEmpty()) {
+      log.warn("Capabilities related to capability sets are not found by capability set names: {}. "
+        + "Capability sets will be skipped", capabilitySetsByName.keySet());
+    }
 
-      return findRoleWithPermissionsByPermissionNames(List.of(capabilityPerm));
-    };
+    return result;
   }
 
   private Map<UUID, List<LoadablePermission>> findRoleWithPermissionsByPermissionNames(
@@ -127,78 +127,88 @@ public class LoadableRoleCapabilityAssignmentProcessor {
       .collect(groupingBy(LoadablePermission::getRoleId));
   }
 
-  private BiConsumer<UUID, List<LoadablePermission>> assignCapabilitiesToRole(
-    Map<String, Capability> capabilityByPerm) {
-    return (roleId, rolePermissions) -> {
-      log.info("Assigning capabilities to loadable role: roleId = {}, affectedPermissions = {}", () -> roleId,
-        () -> toPermissionNames(rolePermissions));
-
-      var capabilityIds = selectCapabilityIdsByRolePermissions(capabilityByPerm, rolePermissions);
-
-      roleCapabilityService.create(roleId, capabilityIds, true);
+  private void assignToRoles(Map<UUID, List<LoadablePermission>> roleIdWithPermissions,
+    Map<String, Capability> capabilityByPerm, Map<String, CapabilitySet> capabilitySetByPerm) {
+    log.debug("Capabilities and capability sets will be assigned to the following roles/permissions: {}",
+      roleIdWithPermissions);
+
+    // capabilities and capability sets are assigned to each role in separate transactions, so that a failure
+    // for one role or one kind of assignment (e.g. a concurrent entitlement flow assigning the same capability)
+    // does not roll back sibling assignments
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    var failures = new ArrayList<RuntimeException>();
+    roleIdWithPermissions.forEach((roleId, rolePermissions) -> {
+      log.info("Assigning capabilities and capability sets to loadable role: roleId = {}, affectedPermissions = {}",
+        () -> roleId, () -> toPermissionNames(rolePermissions));
+
+      var capabilityPermissions = filterByPermissions(rolePermissions, capabilityByPerm);
+      if (!capabilityPermissions.isEmpty()) {
+        executeForRole(transactionTemplate, roleId, failures,
+          () -> assignCapabilities(roleId, capabilityPermissions, capabilityByPerm));
+      }
 
-      rolePermissions.forEach(assignCapabilityId(capabilityByPerm));
+      var capabilitySetPermissions = selectSingleLoadablePermissions(roleId,
+        filterByPermissions(rolePermissions, capabilitySetByPerm), failures);
+      if (!capabilitySetPermissions.isEmpty()) {
+        executeForRole(transactionTemplate, roleId, failures,
+          () -> assignCapabilitySets(roleId, capabilitySetPermissions, capabilitySetByPerm));
+      }
+    });
 
-      service.saveAll(rolePermissions);
-      log.debug("Loadable permissions saved with assigned capabilities");
-    };
+    if (!failures.isEmpty()) {
+      throw failures.getFirst();
+    }
   }
 
-  private BiConsumer<UUID, List<LoadablePermission>> assignCapabilitySetToRole(CapabilitySet capabilitySet) {
-    return (roleId, rolePermissions) -> {
-      var rolePermission = getSingleLoadablePermission(roleId, rolePermissions);
+  private void assignCapabilities(UUID roleId, List<LoadablePermission> capabilityPermissions,
+    Map<String, Capability> capabilityByPerm) {
+    var capabilityIds = selectCapabilityIdsByRolePermissions(capabilityByPerm, capabilityPermissions);
+    roleCapabilityService.create(roleId, capabilityIds, true);
+    capabilityPermissions.forEach(assignCapabilityId(capabilityByPerm));
 
-      roleCapabilitySetService.create(roleId, List.of(capabilitySet.getId()), true);
+    service.saveAll(capabilityPermissions);
+    log.debug("Loadable permissions saved with assigned capabilities");
+  }
 
-      rolePermission.setCapabilitySetId(capabilitySet.getId());
-      service.save(rolePermission);
+  private void assignCapabilitySets(UUID roleId, List<LoadablePermission> capabilitySetPermissions,
+    Map<String, CapabilitySet> capabilitySetByPerm) {
+    var capabilitySetIds = mapItems(capabilitySetPermissions,
+      permission -> assignCapabilitySetId(permission, capabilitySetByPerm));
+    roleCapabilitySetService.create(roleId, capabilitySetIds, true);
 
-      log.info("Capability set assigned to loadable role: roleId = {}, permission = {}, capabilitySet = {}",
-        () -> roleId, () -> rolePermission, () -> shortDescription(capabilitySet));
-    };
+    service.saveAll(capabilitySetPermissions);
+    log.debug("Loadable permissions saved with assigned capability sets");
   }
 
-  @Nullable
-  private Capability getCapabilityByCapabilitySetName(String capabilitySetName) {
-    return findOne(capabilityService.findByNames(List.of(capabilitySetName))).orElse(null);
+  private static void executeForRole(TransactionTemplate transactionTemplate, UUID roleId,
+    List<RuntimeException> failures, Runnable action) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> action.run());
+    } catch (RuntimeException exception) {
+      log.warn("Failed to apply action to loadable role: roleId = {}", roleId, exception);
+      failures.add(exception);
+    }
   }
 
-  private void applyActionToRoles(Supplier<Map<UUID, List<LoadablePermission>>> rolesWithPermissionsSupplier,
-    BiConsumer<UUID, List<LoadablePermission>> action, FolioExecutionContext context) {
-    try (var ignored = new FolioExecutionContextSetter(context)) {
-      var roleIdWithPermissions = rolesWithPermissionsSupplier.get();
-
-      log.debug("Action will be applied to the following roles/permissions: {}", roleIdWithPermissions);
-
-      // each role is processed in its own transaction, so that a failure for one role (e.g. a concurrent
-      // entitlement flow assigning the same capability) does not roll back sibling roles' assignments
-      var transactionTemplate = new TransactionTemplate(transactionManager);
-      transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-
-      var failures = new ArrayList<RuntimeException>();
-      roleIdWithPermissions.forEach((roleId, rolePermissions) -> {
-        try {
-          transactionTemplate.executeWithoutResult(status -> action.accept(roleId, rolePermissions));
-        } catch (RuntimeException exception) {
-          log.warn("Failed to apply action to loadable role: roleId = {}", roleId, exception);
-          failures.add(exception);
-        }
-      });
-
-      if (!failures.isEmpty()) {
-        throw failures.getFirst();
+  private static List<LoadablePermission> selectSingleLoadablePermissions(UUID roleId,
+    List<LoadablePermission> rolePermissions, List<RuntimeException> failures) {
+    var result = new ArrayList<LoadablePermission>();
+    var permissionsByName = rolePermissions.stream()
+      .collect(groupingBy(LoadablePermission::getPermissionName, LinkedHashMap::new, toList()));
+    permissionsByName.values().forEach(permissions -> {
+      if (permissions.size() == 1) {
+        result.add(permissions.getFirst());
+        return;
       }
-    }
-  }
 
-  private static LoadablePermission getSingleLoadablePermission(UUID roleId, List<LoadablePermission> rolePermissions) {
-    if (rolePermissions.size() != 1) {
       log.warn("Expected one loadable permission in the role but several found: "
-        + "roleId = {}, rolePermissions = {}", roleId, rolePermissions);
-      throw new IllegalStateException("Expected one loadable permission in the role but several found: "
-        + "roleId = " + roleId + ", rolePermissions = " + rolePermissions);
-    }
-    return rolePermissions.getFirst();
+        + "roleId = {}, rolePermissions = {}", roleId, permissions);
+      failures.add(new IllegalStateException("Expected one loadable permission in the role but several found: "
+        + "roleId = " + roleId + ", rolePermissions = " + permissions));
+    });
+    return result;
   }
 
   private static Collection<String> toPermissionNames(Collection<LoadablePermission> rolePermissions) {
@@ -214,6 +224,23 @@ public class LoadableRoleCapabilityAssignmentProcessor {
       .toList();
   }
 
+  private static List<LoadablePermission> filterByPermissions(List<LoadablePermission> rolePermissions,
+    Map<String, ?> valuesByPermission) {
+    return rolePermissions.stream()
+      .filter(permission -> valuesByPermission.containsKey(permission.getPermissionName()))
+      .toList();
+  }
+
+  private static UUID assignCapabilitySetId(LoadablePermission permission,
+    Map<String, CapabilitySet> capabilitySetByPerm) {
+    var capabilitySet = capabilitySetByPerm.get(permission.getPermissionName());
+    permission.setCapabilitySetId(capabilitySet.getId());
+
+    log.debug("Capability set assigned to loadable permission: roleId = {}, permission = {}, capabilitySet = {}",
+      () -> permission.getRoleId(), () -> permission.getPermissionName(), () -> shortDescription(capabilitySet));
+    return capabilitySet.getId();
+  }
+
   private static Consumer<LoadablePermission> assignCapabilityId(Map<String, Capability> capabilityByPerm) {
     return perm -> {
       String permissionName = perm.getPermissionName();
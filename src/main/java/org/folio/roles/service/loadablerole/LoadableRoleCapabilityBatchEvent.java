@@ -0,0 +1,58 @@
+package org.folio.roles.service.loadablerole;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.CapabilitySet;
+import org.folio.spring.FolioExecutionContext;
+
+/**
+ * Collects capabilities and capability sets, created or updated in one transaction, for the assignment to the
+ * loadable roles.
+ *
+ * <p>Published by {@link LoadableRoleCapabilityEventCollector} on the first collected change and filled until the
+ * transaction commits, so {@link LoadableRoleCapabilityAssignmentProcessor} receives all changes of the transaction
+ * at once.
+ */
+@ToString
+@RequiredArgsConstructor
+public class LoadableRoleCapabilityBatchEvent {
+
+  @Getter
+  @ToString.Exclude
+  private final FolioExecutionContext context;
+  private final Map<UUID, Capability> capabilities = new LinkedHashMap<>();
+  private final Map<UUID, CapabilitySet> capabilitySets = new LinkedHashMap<>();
+
+  /**
+   * Adds created or updated capability to the batch.
+   *
+   * @param capability - capability to add
+   */
+  public void addCapability(Capability capability) {
+    capabilities.put(capability.getId(), capability);
+  }
+
+  /**
+   * Adds created capability set to the batch.
+   *
+   * @param capabilitySet - capability set to add
+   */
+  public void addCapabilitySet(CapabilitySet capabilitySet) {
+    capabilitySets.put(capabilitySet.getId(), capabilitySet);
+  }
+
+  public Collection<Capability> getCapabilities() {
+    return Collections.unmodifiableCollection(capabilities.values());
+  }
+
+  public Collection<CapabilitySet> getCapabilitySets() {
+    return Collections.unmodifiableCollection(capabilitySets.values());
+  }
+}
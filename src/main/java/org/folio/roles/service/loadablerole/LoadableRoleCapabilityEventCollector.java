@@ -0,0 +1,88 @@
+package org.folio.roles.service.loadablerole;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.bindResource;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.getResource;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.unbindResourceIfPossible;
+
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.model.event.CapabilityEvent;
+import org.folio.roles.domain.model.event.CapabilitySetEvent;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+/**
+ * Collects created and updated capabilities and created capability sets of the current transaction into a single
+ * {@link LoadableRoleCapabilityBatchEvent}.
+ *
+ * <p>The batch is bound to the transaction and published once, on the first collected change, so it is handled after
+ * commit as a regular transactional event. Changes, published outside a transaction, are ignored, as they are by
+ * transactional event listeners.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class LoadableRoleCapabilityEventCollector {
+
+  private static final Object BATCH_RESOURCE_KEY = LoadableRoleCapabilityBatchEvent.class;
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @EventListener(condition = "#event.type != T(org.folio.roles.domain.model.event.DomainEventType).DELETE")
+  public void collectCapabilityEvent(CapabilityEvent event) {
+    collect(event.getContext(), batch -> batch.addCapability(event.getNewObject()));
+  }
+
+  @EventListener(condition = "#event.type == T(org.folio.roles.domain.model.event.DomainEventType).CREATE")
+  public void collectCapabilitySetEvent(CapabilitySetEvent event) {
+    collect(event.getContext(), batch -> batch.addCapabilitySet(event.getNewObject()));
+  }
+
+  private void collect(FolioExecutionContext context, Consumer<LoadableRoleCapabilityBatchEvent> action) {
+    if (!isSynchronizationActive()) {
+      log.debug("Transaction is not active, loadable role capability assignment is skipped");
+      return;
+    }
+
+    var batch = (LoadableRoleCapabilityBatchEvent) getResource(BATCH_RESOURCE_KEY);
+    if (batch == null) {
+      batch = new LoadableRoleCapabilityBatchEvent(context);
+      bindResource(BATCH_RESOURCE_KEY, batch);
+      registerSynchronization(new BatchSynchronization(batch));
+      applicationEventPublisher.publishEvent(batch);
+    }
+
+    action.accept(batch);
+  }
+
+  /**
+   * Keeps the batch bound to its own transaction only: unbinds it while the transaction is suspended by a nested
+   * {@code REQUIRES_NEW} transaction and after the transaction completion.
+   */
+  @RequiredArgsConstructor
+  private static final class BatchSynchronization implements TransactionSynchronization {
+
+    private final LoadableRoleCapabilityBatchEvent batch;
+
+    @Override
+    public void suspend() {
+      unbindResourceIfPossible(BATCH_RESOURCE_KEY);
+    }
+
+    @Override
+    public void resume() {
+      bindResource(BATCH_RESOURCE_KEY, batch);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      unbindResourceIfPossible(BATCH_RESOURCE_KEY);
+    }
+  }
+}
@@ -3,6 +3,8 @@ package org.folio.roles.service.loadablerole;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
@@ -21,6 +23,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +35,7 @@ import org.folio.roles.domain.dto.RoleType;
 import org.folio.roles.domain.entity.LoadablePermissionEntity;
 import org.folio.roles.domain.entity.LoadableRoleEntity;
 import org.folio.roles.domain.entity.type.EntityRoleType;
+import org.folio.roles.domain.model.PlainLoadableRole;
 import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.exception.ServiceException;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
@@ -105,6 +110,59 @@ public class LoadableRoleService {
       .forEach(this::saveAllByType);
   }
 
+  /**
+   * Finds content hashes of the default roles, loaded from the reference data files.
+   *
+   * @return map with content hash by role name, roles without content hash are not included
+   */
+  @Transactional(readOnly = true)
+  public Map<String, String> findDefaultRoleContentHashes() {
+    return findAllDefaultRolesLoadedFromFiles().stream()
+      .filter(role -> role.getContentHash() != null)
+      .collect(toMap(LoadableRoleEntity::getName, LoadableRoleEntity::getContentHash));
+  }
+
+  /**
+   * Creates or updates the default role, loaded from the reference data file.
+   *
+   * @param role - default role to save
+   * @param contentHash - hash of the role definition in the reference data file
+   */
+  @Transactional
+  public void saveDefaultRole(LoadableRole role, String contentHash) {
+    validateRoleName(role);
+
+    var incoming = mapper.toRoleEntity(role);
+    incoming.setLoadedFromFile(true);
+    incoming.setContentHash(contentHash);
+    var existing = Optional.ofNullable(incoming.getId())
+      .flatMap(repository::findById)
+      .filter(entity -> entity.getType() == EntityRoleType.DEFAULT && entity.isLoadedFromFile())
+      .stream()
+      .toList();
+
+    mergeInBatch(List.of(incoming), existing, comparatorById(), this::createAll, this::updateAll, nothing());
+  }
+
+  /**
+   * Deletes default roles, loaded from the reference data files, which are not defined in these files anymore.
+   *
+   * <p>Stored roles are matched to the definitions by id, or by name for definitions without id, in the same way as
+   * the definitions are resolved by {@link #findByIdOrName(UUID, String)} on save.
+   *
+   * @param roles - default roles, defined in the reference data files
+   */
+  @Transactional
+  public void deleteDefaultRolesNotIn(Collection<PlainLoadableRole> roles) {
+    var definedRoleIds = toStream(roles).map(PlainLoadableRole::getId).filter(Objects::nonNull).collect(toSet());
+    var definedRoleNames = toStream(roles).map(PlainLoadableRole::getName).collect(toSet());
+    var obsolete = findAllDefaultRolesLoadedFromFiles().stream()
+      .filter(role -> !definedRoleIds.contains(role.getId()) && !definedRoleNames.contains(role.getName()))
+      .toList();
+
+    deleteAll(obsolete);
+  }
+
   @Transactional
   public LoadableRole upsertDefaultLoadableRole(LoadableRole loadableRole) {
     validateRoleName(loadableRole);
@@ -268,9 +326,10 @@ public class LoadableRoleService {
       var existing = pair.oldItem();
 
       var nameDescriptionUpdated = updateNameAndDescription(incoming, existing);
+      var contentHashUpdated = updateContentHash(incoming, existing);
       var permissionsUpdate = updatePermissions(incoming, existing);
       allCreatedPermissions.addAll(permissionsUpdate.createdPermissions());
-      if (nameDescriptionUpdated || permissionsUpdate.hasChanges()) {
+      if (nameDescriptionUpdated || contentHashUpdated || permissionsUpdate.hasChanges()) {
         changedRoles.add(existing);
       }
     }
@@ -297,6 +356,15 @@ public class LoadableRoleService {
     return modified;
   }
 
+  private static boolean updateContentHash(LoadableRoleEntity source, LoadableRoleEntity target) {
+    if (source.getContentHash() == null || Objects.equals(source.getContentHash(), target.getContentHash())) {
+      return false;
+    }
+
+    target.setContentHash(source.getContentHash());
+    return true;
+  }
+
   private UpdatePermissionsResult updatePermissions(LoadableRoleEntity source, LoadableRoleEntity target) {
     var existingPerms = target.getPermissions();
     var incomingPerms = source.getPermissions();
@@ -1,5 +1,6 @@
 package org.folio.roles.service.loadablerole;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -8,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
+@Observed
 @Log4j2
 @RequiredArgsConstructor
 public class UnresolvedLoadablePermissionsCreatedEventHandler {
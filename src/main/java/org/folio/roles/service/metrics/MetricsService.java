@@ -0,0 +1,148 @@
+package org.folio.roles.service.metrics;
+
+import static org.folio.roles.utils.CapabilityUtils.getNameFromAppOrModuleId;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.roles.configuration.property.MetricsProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records module-specific Micrometer metrics.
+ *
+ * <p>Tenant tag values are bounded by {@code application.metrics.max-tenant-tags}: the first tenants get their own tag
+ * value, metrics of all other tenants are tagged with {@code tenant=other}.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsService {
+
+  public static final String TENANT_TAG = "tenant";
+  public static final String OTHER_TENANT = "other";
+  public static final String UNKNOWN = "unknown";
+  public static final String MASTER_REALM = "master";
+
+  private final Set<String> taggedTenants = ConcurrentHashMap.newKeySet();
+
+  private final MeterRegistry meterRegistry;
+  private final MetricsProperties metricsProperties;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Starts timer sample for the operation, recorded by one of the {@code record*} methods.
+   *
+   * @return started {@link Timer.Sample}
+   */
+  public Timer.Sample startTimer() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * Records loading of the user permission mappings on {@code user-permissions} cache miss.
+   *
+   * @param sample - timer sample, started before the loading
+   */
+  public void recordUserPermissionsLoad(Timer.Sample sample) {
+    sample.stop(Timer.builder("user.permissions.load")
+      .description("Time of loading user permissions from the database on cache miss")
+      .tag(TENANT_TAG, getTenantTag(folioExecutionContext.getTenantId()))
+      .register(meterRegistry));
+  }
+
+  /**
+   * Records handling of the capability event.
+   *
+   * @param sample - timer sample, started before the event handling
+   * @param tenantId - event tenant identifier
+   * @param moduleId - module identifier, only module name is used as tag value
+   * @param outcome - event handling outcome: {@code success} or {@code failure}
+   */
+  public void recordCapabilityEvent(Timer.Sample sample, String tenantId, String moduleId, String outcome) {
+    var moduleName = StringUtils.contains(moduleId, '-') ? getNameFromAppOrModuleId(moduleId) : UNKNOWN;
+    sample.stop(Timer.builder("capability.events")
+      .description("Time of capability event handling")
+      .tag(TENANT_TAG, getTenantTag(tenantId))
+      .tag("module", moduleName)
+      .tag("outcome", outcome)
+      .register(meterRegistry));
+  }
+
+  /**
+   * Records Keycloak Admin API request.
+   *
+   * <p>The {@code master} realm is tagged as is, without taking one of the tenant tag values.
+   *
+   * @param method - HTTP method
+   * @param resource - type of requested Keycloak resource, e.g. {@code policy} or {@code user}
+   * @param status - HTTP response status or {@code CLIENT_ERROR} if the request failed without response
+   * @param exception - simple class name of the request failure or {@code none}
+   * @param realm - Keycloak realm name
+   * @param durationNanos - request duration in nanoseconds
+   */
+  public void recordKeycloakRequest(String method, String resource, String status, String exception, String realm,
+    long durationNanos) {
+    Timer.builder("keycloak.requests")
+      .description("Keycloak Admin API requests")
+      .tag("method", method)
+      .tag("resource", resource)
+      .tag("status", status)
+      .tag("exception", exception)
+      .tag(TENANT_TAG, MASTER_REALM.equals(realm) ? MASTER_REALM : getTenantTag(realm))
+      .register(meterRegistry)
+      .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Records processed records and duration of the permission migration stage.
+   *
+   * @param stage - migration stage name
+   * @param records - number of records, processed by the stage
+   * @param duration - stage duration
+   */
+  public void recordMigrationStage(String stage, int records, Duration duration) {
+    Counter.builder("permission.migration.records")
+      .description("Number of records, processed by permission migration stages")
+      .tag("stage", stage)
+      .register(meterRegistry)
+      .increment(records);
+
+    Timer.builder("permission.migration.stage")
+      .description("Duration of permission migration stages")
+      .tag("stage", stage)
+      .register(meterRegistry)
+      .record(duration);
+  }
+
+  /**
+   * Resolves tenant tag value with bounded cardinality.
+   *
+   * @param tenantId - tenant identifier
+   * @return tenant identifier, {@code other} if the tag limit is reached or {@code unknown} if tenant is not defined
+   */
+  public String getTenantTag(String tenantId) {
+    if (StringUtils.isBlank(tenantId)) {
+      return UNKNOWN;
+    }
+
+    if (taggedTenants.contains(tenantId)) {
+      return tenantId;
+    }
+
+    synchronized (taggedTenants) {
+      if (taggedTenants.size() < metricsProperties.getMaxTenantTags()) {
+        taggedTenants.add(tenantId);
+        return tenantId;
+      }
+    }
+
+    return OTHER_TENANT;
+  }
+}
@@ -0,0 +1,221 @@
+package org.folio.roles.service.migration;
+
+import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
+import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+import static org.apache.commons.collections4.CollectionUtils.size;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.dto.PermissionMigrationStageProgress;
+import org.folio.roles.domain.entity.key.PermissionMigrationJobProgressKey;
+import org.folio.roles.domain.entity.migration.PermissionMigrationJobProgressEntity;
+import org.folio.roles.domain.entity.type.EntityPermissionMigrationStage;
+import org.folio.roles.mapper.PermissionMigrationMapper;
+import org.folio.roles.repository.PermissionMigrationJobProgressRepository;
+import org.folio.roles.service.metrics.MetricsService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class MigrationProgressService {
+
+  private final PermissionMigrationMapper migrationMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final PermissionMigrationJobProgressRepository progressRepository;
+  private final MetricsService metricsService;
+
+  /**
+   * Retrieves progress of all started stages for permission migration job.
+   *
+   * @param jobId - migration job identifier
+   * @return {@link List} with {@link PermissionMigrationStageProgress} objects, ordered by stage
+   */
+  @Transactional(readOnly = true)
+  public List<PermissionMigrationStageProgress> getProgress(UUID jobId) {
+    return migrationMapper.toStageDtos(progressRepository.findAllByMigrationJobIdOrderByStage(jobId));
+  }
+
+  /**
+   * Runs a loading stage and records its progress.
+   *
+   * <p>Loading stages are read-only, so they are not checkpointed and re-executed every time the job is (re)started.
+   *
+   * @param jobId - migration job identifier
+   * @param stage - migration stage
+   * @param loader - stage action, loading records
+   * @return loaded records
+   */
+  public <T> List<T> runStage(UUID jobId, EntityPermissionMigrationStage stage, Supplier<List<T>> loader) {
+    var startTime = System.nanoTime();
+    var progress = getOrCreateProgress(jobId, stage);
+    progress.setProcessedRecords(0);
+    progress.setTotalRecords(0);
+    progress.setStartedAt(OffsetDateTime.now());
+    progress.setFinishedAt(null);
+    progressRepository.save(progress);
+
+    var result = loader.get();
+
+    progress.setProcessedRecords(result.size());
+    progress.setTotalRecords(result.size());
+    progress.setFinishedAt(OffsetDateTime.now());
+    progressRepository.save(progress);
+
+    metricsService.recordMigrationStage(stage.name(), result.size(), Duration.ofNanos(System.nanoTime() - startTime));
+    log.info("Migration stage finished: jobId = {}, stage = {}, totalRecords = {}", jobId, stage, result.size());
+    return result;
+  }
+
+  /**
+   * Processes records of a resumable stage by chunks.
+   *
+   * <p>Chunk processor must fail the chunk with an exception if any of its records is failed, so the chunk is rolled
+   * back and processed again on job resume.
+   *
+   * @param jobId - migration job identifier
+   * @param stage - migration stage
+   * @param records - records to process
+   * @param keyExtractor - function, providing a unique and stable key of the record
+   * @param chunkSize - number of records to process in a single transaction
+   * @param chunkProcessor - chunk processing action
+   * @see #processInChunksSkippingFailures(UUID, EntityPermissionMigrationStage, List, Function, int, Function)
+   */
+  public <T> void processInChunks(UUID jobId, EntityPermissionMigrationStage stage, List<T> records,
+    Function<T, String> keyExtractor, int chunkSize, Consumer<List<T>> chunkProcessor) {
+    processInChunksSkippingFailures(jobId, stage, records, keyExtractor, chunkSize, chunk -> {
+      chunkProcessor.accept(chunk);
+      return emptyList();
+    });
+  }
+
+  /**
+   * Processes records of a resumable stage by chunks, skipping the failed records.
+   *
+   * <p>Records are processed in the order of their keys. Each chunk is processed in a separate transaction together
+   * with the stage checkpoint update, so the chunk changes and the checkpoint are committed atomically. The checkpoint
+   * is the key of the last committed record and the keys of the failed records, returned by the chunk processor. If
+   * the stage was previously started, the processing is continued after the last committed key, and the failed
+   * records are processed again.
+   *
+   * @param jobId - migration job identifier
+   * @param stage - migration stage
+   * @param records - records to process
+   * @param keyExtractor - function, providing a unique and stable key of the record
+   * @param chunkSize - number of records to process in a single transaction
+   * @param chunkProcessor - chunk processing action, returning failed records of the chunk
+   */
+  public <T> void processInChunksSkippingFailures(UUID jobId, EntityPermissionMigrationStage stage, List<T> records,
+    Function<T, String> keyExtractor, int chunkSize, Function<List<T>, List<T>> chunkProcessor) {
+    var startTime = System.nanoTime();
+    var progress = getOrCreateProgress(jobId, stage);
+    var lastProcessedKey = progress.getLastProcessedKey();
+    var failedKeys = new HashSet<>(emptyIfNull(progress.getFailedKeys()));
+    var isResumed = lastProcessedKey != null;
+    if (isResumed) {
+      logCheckpoint(progress, records.size(), failedKeys.size());
+    } else {
+      progress.setProcessedRecords(0);
+      progress.setStartedAt(OffsetDateTime.now());
+    }
+
+    var pendingRecords = records.stream()
+      .sorted(comparing(keyExtractor))
+      .filter(item -> isPending(keyExtractor.apply(item), lastProcessedKey, failedKeys))
+      .toList();
+
+    progress.setTotalRecords(records.size());
+    progress.setFinishedAt(null);
+    progressRepository.save(progress);
+
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+    for (var chunk : partition(pendingRecords, chunkSize)) {
+      transactionTemplate.executeWithoutResult(status -> {
+        var failedRecords = chunkProcessor.apply(chunk);
+        updateCheckpoint(progress, mapItems(chunk, keyExtractor), mapItems(failedRecords, keyExtractor));
+        progressRepository.save(progress);
+      });
+
+      log.debug("Migration stage chunk committed: jobId = {}, stage = {}, processedRecords = {}/{}",
+        () -> jobId, () -> stage, progress::getProcessedRecords, progress::getTotalRecords);
+    }
+
+    if (isEmpty(progress.getFailedKeys())) {
+      progress.setFinishedAt(OffsetDateTime.now());
+    }
+
+    progressRepository.save(progress);
+    metricsService.recordMigrationStage(stage.name(), pendingRecords.size(),
+      Duration.ofNanos(System.nanoTime() - startTime));
+    log.info("Migration stage finished: jobId = {}, stage = {}, totalRecords = {}, failedRecords = {}",
+      jobId, stage, records.size(), size(progress.getFailedKeys()));
+  }
+
+  private PermissionMigrationJobProgressEntity getOrCreateProgress(UUID jobId, EntityPermissionMigrationStage stage) {
+    return progressRepository.findById(PermissionMigrationJobProgressKey.of(jobId, stage))
+      .orElseGet(() -> createProgress(jobId, stage));
+  }
+
+  private static boolean isPending(String key, String lastProcessedKey, Set<String> failedKeys) {
+    return lastProcessedKey == null || key.compareTo(lastProcessedKey) > 0 || failedKeys.contains(key);
+  }
+
+  private static void updateCheckpoint(PermissionMigrationJobProgressEntity progress, List<String> chunkKeys,
+    List<String> failedChunkKeys) {
+    var failedKeys = new TreeSet<>(emptyIfNull(progress.getFailedKeys()));
+    chunkKeys.forEach(failedKeys::remove);
+    failedKeys.addAll(failedChunkKeys);
+
+    var lastChunkKey = chunkKeys.getLast();
+    var lastProcessedKey = progress.getLastProcessedKey();
+    if (lastProcessedKey == null || lastChunkKey.compareTo(lastProcessedKey) > 0) {
+      progress.setLastProcessedKey(lastChunkKey);
+    }
+
+    progress.setFailedKeys(new ArrayList<>(failedKeys));
+    progress.setProcessedRecords(progress.getProcessedRecords() + chunkKeys.size() - failedChunkKeys.size());
+  }
+
+  private static void logCheckpoint(PermissionMigrationJobProgressEntity progress, int totalRecords,
+    int failedRecords) {
+    if (progress.getTotalRecords() != totalRecords) {
+      log.warn("Number of migration stage records has been changed, records added before the checkpoint are skipped: "
+          + "jobId = {}, stage = {}, lastProcessedKey = {}, totalRecords = {}, previousTotalRecords = {}",
+        progress.getMigrationJobId(), progress.getStage(), progress.getLastProcessedKey(), totalRecords,
+        progress.getTotalRecords());
+    }
+
+    log.info("Resuming migration stage from checkpoint: jobId = {}, stage = {}, lastProcessedKey = {}, "
+        + "failedRecords = {}", progress.getMigrationJobId(), progress.getStage(), progress.getLastProcessedKey(),
+      failedRecords);
+  }
+
+  private static PermissionMigrationJobProgressEntity createProgress(UUID jobId,
+    EntityPermissionMigrationStage stage) {
+    var entity = new PermissionMigrationJobProgressEntity();
+    entity.setMigrationJobId(jobId);
+    entity.setStage(stage);
+    return entity;
+  }
+}
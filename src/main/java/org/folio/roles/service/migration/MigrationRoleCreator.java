@@ -1,19 +1,15 @@
 package org.folio.roles.service.migration;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.common.utils.CollectionUtils.toStream;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.Role;
@@ -33,6 +29,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MigrationRoleCreator {
 
+  private static final int ROLE_NAMES_BATCH_SIZE = 1000;
+
   private final RoleService roleService;
   private final RoleMigrationService roleMigrationService;
   private final UserRoleService userRoleService;
@@ -68,6 +66,22 @@ public class MigrationRoleCreator {
     return handlePartialFailures(roleNames, createdRoles);
   }
 
+  /**
+   * Finds existing roles by names in batches.
+   *
+   * @param roleNames - role names
+   * @return {@link List} with found {@link Role} objects
+   */
+  @Transactional(readOnly = true)
+  public List<Role> findRoles(List<String> roleNames) {
+    var foundRoles = new ArrayList<Role>();
+    for (var roleNamesBatch : partition(roleNames, ROLE_NAMES_BATCH_SIZE)) {
+      foundRoles.addAll(roleService.findByNames(roleNamesBatch));
+    }
+
+    return foundRoles;
+  }
+
   private List<String> extractUniqueRoleNames(List<UserPermissions> userPermissions) {
     return toStream(userPermissions)
       .map(UserPermissions::getRoleName)
@@ -104,16 +118,16 @@ public class MigrationRoleCreator {
   }
 
   private List<String> findMissingRoleNames(List<String> expectedNames, List<Role> createdRoles) {
-    var createdRoleNames = toStream(createdRoles).map(Role::getName).toList();
+    var createdRoleNames = toStream(createdRoles).map(Role::getName).collect(toSet());
     return expectedNames.stream()
-      .filter(name -> createdRoleNames.stream().noneMatch(name::equals))
+      .filter(name -> !createdRoleNames.contains(name))
       .toList();
   }
 
   private List<Role> searchAndCombineRoles(List<Role> createdRoles, List<String> missingRoleNames) {
     log.info("Searching for {} missing role(s)...", missingRoleNames.size());
     var foundRoles = searchForMissingRoles(missingRoleNames);
-    
+
     if (isEmpty(foundRoles)) {
       return createdRoles;
     }
@@ -123,25 +137,12 @@ public class MigrationRoleCreator {
   }
 
   private List<Role> searchForMissingRoles(List<String> roleNames) {
-    var foundRoles = new ArrayList<Role>();
-    
-    for (String roleName : roleNames) {
-      searchSingleRole(roleName).ifPresent(foundRoles::add);
-    }
-    
-    return foundRoles;
-  }
-
-  private Optional<Role> searchSingleRole(String roleName) {
     try {
-      var rolesFound = roleService.search("name==" + roleName, 0, 1);
-      if (rolesFound.getRoles() != null && !rolesFound.getRoles().isEmpty()) {
-        return Optional.of(rolesFound.getRoles().get(0));
-      }
+      return findRoles(roleNames);
     } catch (Exception e) {
-      log.warn("Failed to search for role: name = {}", roleName, e);
+      log.warn("Failed to search for missing roles: count = {}", roleNames.size(), e);
+      return List.of();
     }
-    return Optional.empty();
   }
 
   private List<Role> combineRoles(List<Role> createdRoles, List<Role> foundRoles) {
@@ -164,37 +165,23 @@ public class MigrationRoleCreator {
   /**
    * Assigns users to a role from the given list of {@link UserPermissions} objects.
    *
+   * <p>User-role relations are created in bulk: all roles of a user are assigned in Keycloak with a single request.
+   *
    * @param userPermissions - user permissions list
    */
   @Transactional
   public void assignUsers(List<UserPermissions> userPermissions) {
-    var userByRole = groupUsersByRole(userPermissions);
-    var counter = new AtomicInteger(0);
-    var errorPairs = new ArrayList<UserRole>();
-    for (var userByRoleEntry : userByRole.entrySet()) {
-      var roleId = userByRoleEntry.getKey();
-      for (var userId : userByRoleEntry.getValue()) {
-        var userRole = new UserRole().userId(userId).roleId(roleId);
-        try {
-          userRoleService.createSafe(userRole);
-          counter.getAndIncrement();
-        } catch (Exception exception) {
-          log.warn("Failed to assign user {} to role {}", userId, roleId, exception);
-          errorPairs.add(userRole);
-        }
-      }
-    }
+    var userRoles = toStream(userPermissions)
+      .map(up -> new UserRole().userId(up.getUserId()).roleId(up.getRole().getId()))
+      .distinct()
+      .toList();
 
+    var errorPairs = userRoleService.createSafe(userRoles);
     if (isNotEmpty(errorPairs)) {
       throw new MigrationException("Failed to assign users to roles: " + errorPairs);
     }
 
-    log.info("User-role relations creation process finished: totalRecords = {}", counter.get());
-  }
-
-  private static Map<UUID, List<UUID>> groupUsersByRole(List<UserPermissions> userPermissions) {
-    return toStream(userPermissions)
-      .collect(groupingBy(up -> up.getRole().getId(), mapping(UserPermissions::getUserId, toList())));
+    log.info("User-role relations creation process finished: totalRecords = {}", userRoles.size());
   }
 
   private static Role createRole(String roleName) {
@@ -1,6 +1,7 @@
 package org.folio.roles.service.migration;
 
 import static java.util.concurrent.CompletableFuture.runAsync;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationJobStatus.FAILED;
 import static org.folio.roles.domain.entity.type.EntityPermissionMigrationJobStatus.IN_PROGRESS;
 import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
 
@@ -38,6 +39,7 @@ public class MigrationService {
   private final FolioExecutionContext folioExecutionContext;
   private final PermissionMigrationMapper migrationJobMapper;
   private final PermissionMigrationService permissionMigrationService;
+  private final MigrationProgressService migrationProgressService;
   private final PermissionMigrationJobRepository migrationJobRepository;
 
   private final ExecutorService executor = getMigrationJobExecutor();
@@ -46,13 +48,13 @@ public class MigrationService {
    * Retrieves permission migration by id.
    *
    * @param id - permission migration identifier
-   * @return permission migration job by id
+   * @return permission migration job by id with progress of its stages
    * @throws EntityNotFoundException when migration job is not found by id
    */
   @Transactional(readOnly = true)
   public PermissionMigrationJob getMigrationById(UUID id) {
     var entity = migrationJobRepository.getReferenceById(id);
-    return migrationJobMapper.toDto(entity);
+    return migrationJobMapper.toDto(entity).stages(migrationProgressService.getProgress(id));
   }
 
   /**
@@ -103,6 +105,35 @@ public class MigrationService {
     return migrationJobMapper.toDto(savedEntity);
   }
 
+  /**
+   * Resumes failed permission migration job from the last committed checkpoint.
+   *
+   * @param id - permission migration identifier
+   * @return {@link PermissionMigrationJob} object
+   * @throws EntityNotFoundException when migration job is not found by id
+   * @throws RequestValidationException if migration job is not failed or another migration is already in progress
+   */
+  @Transactional
+  public PermissionMigrationJob resumeMigration(UUID id) {
+    var migrationEntity = migrationJobRepository.getReferenceById(id);
+    if (migrationEntity.getStatus() != FAILED) {
+      throw new RequestValidationException("Only failed migration job can be resumed", "status",
+        migrationJobMapper.toDto(migrationEntity).getStatus());
+    }
+
+    validateNoActiveMigration();
+
+    migrationEntity.setStatus(IN_PROGRESS);
+    migrationEntity.setFinishedAt(null);
+    var savedEntity = migrationJobRepository.save(migrationEntity);
+    migrationJobRepository.flush();
+
+    log.info("Resuming permission migration: jobId = {}", id);
+    startMigration(savedEntity);
+
+    return migrationJobMapper.toDto(savedEntity).stages(migrationProgressService.getProgress(id));
+  }
+
   private void validateNoActiveMigration() {
     if (migrationJobRepository.existsByStatus(IN_PROGRESS)) {
       throw new RequestValidationException(
@@ -2,13 +2,22 @@ package org.folio.roles.service.migration;
 
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.common.utils.CollectionUtils.toStream;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.ASSIGN_CAPABILITIES;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.ASSIGN_USERS;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.CREATE_ROLES;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.LOAD_PERMISSIONS;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.LOAD_USERS;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +25,8 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.Role;
 import org.folio.roles.domain.model.UserPermissions;
 import org.folio.roles.exception.MigrationException;
+import org.folio.roles.integration.keyclock.configuration.KeycloakConfigurationProperties;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Log4j2
 @Service
@@ -28,6 +37,8 @@ public class PermissionMigrationService {
   private final UserPermissionsLoader userPermissionsLoader;
   private final RolePermissionAssignor rolePermissionAssignor;
   private final ManagePermissionsResolver managePermissionsResolver;
+  private final MigrationProgressService migrationProgressService;
+  private final KeycloakConfigurationProperties keycloakConfigurationProperties;
 
   /**
    * Runs permission migration.
@@ -36,32 +47,64 @@ public class PermissionMigrationService {
    *   <li>Loads users from keycloak and extracts folio user identifiers</li>
    *   <li>Loads user permissions from mod-permissions</li>
    *   <li>Created roles based on hash (sha1) of ordered list of loaded permissions</li>
+   *   <li>Assigns users to the created roles</li>
    *   <li>Assigns capabilities/capability sets to a role based on folio permission name</li>
    * </ul>
    *
+   * <p>The migration is not atomic: each stage progress is persisted, and write stages are committed by chunks in
+   * separate transactions, so the migration of failed job is continued from the last committed checkpoint. Roles,
+   * failed to be created, are recorded in the checkpoint and created again on resume.
+   *
    * @param jobId - migration job identifier
    * @return total number of records migrated
    */
-  @Transactional
   public int migratePermissions(UUID jobId) {
     log.info("Starting permission migration: jobId = {}", jobId);
 
-    var userPermissions = userPermissionsLoader.loadUserPermissions();
+    var userIds = migrationProgressService.runStage(jobId, LOAD_USERS, userPermissionsLoader::loadUserIds);
+    var userPermissions = migrationProgressService.runStage(jobId, LOAD_PERMISSIONS,
+      () -> userPermissionsLoader.loadUserPermissions(userIds));
     var totalRecords = userPermissions.size();
-    
+
     log.info("Loaded {} user permissions for migration: jobId = {}", totalRecords, jobId);
-    
-    var createdRoles = migrationRoleCreator.createRoles(userPermissions, jobId);
+
+    var chunkSize = keycloakConfigurationProperties.getMigration().getChunkSize();
+    var rolePermissions = getUniqueRolePermissions(userPermissions);
+    migrationProgressService.processInChunksSkippingFailures(jobId, CREATE_ROLES, rolePermissions,
+      UserPermissions::getRoleName, chunkSize, chunk -> createRoles(chunk, jobId));
+
+    var createdRoles = migrationRoleCreator.findRoles(mapItems(rolePermissions, UserPermissions::getRoleName));
     userPermissions = validateAndGetUserPermissionsWithRoles(userPermissions, createdRoles);
+    migrationProgressService.processInChunks(jobId, ASSIGN_USERS, userPermissions,
+      userPermission -> userPermission.getUserId().toString(), chunkSize, migrationRoleCreator::assignUsers);
 
-    migrationRoleCreator.assignUsers(userPermissions);
     managePermissionsResolver.addManageCapabilities(userPermissions);
-    rolePermissionAssignor.assignPermissions(userPermissions);
+    migrationProgressService.processInChunks(jobId, ASSIGN_CAPABILITIES, getUniqueRolePermissions(userPermissions),
+      UserPermissions::getRoleName, chunkSize, rolePermissionAssignor::assignPermissions);
 
     log.info("Migration of permissions is finished: jobId = {}, totalRecords = {}", jobId, totalRecords);
     return totalRecords;
   }
 
+  private List<UserPermissions> createRoles(List<UserPermissions> rolePermissions, UUID jobId) {
+    var createdRoleNames = toStream(migrationRoleCreator.createRoles(rolePermissions, jobId))
+      .map(Role::getName)
+      .collect(toSet());
+
+    return rolePermissions.stream()
+      .filter(rolePermission -> !createdRoleNames.contains(rolePermission.getRoleName()))
+      .toList();
+  }
+
+  private static List<UserPermissions> getUniqueRolePermissions(List<UserPermissions> userPermissions) {
+    var rolePermissionsByName = new TreeMap<String, UserPermissions>();
+    for (var userPermission : userPermissions) {
+      rolePermissionsByName.putIfAbsent(userPermission.getRoleName(), userPermission);
+    }
+
+    return new ArrayList<>(rolePermissionsByName.values());
+  }
+
   private static List<UserPermissions> validateAndGetUserPermissionsWithRoles(
     List<UserPermissions> userPermissions, List<Role> createdRoles) {
     var createdRolesByName = toHashMap(createdRoles, Role::getName);
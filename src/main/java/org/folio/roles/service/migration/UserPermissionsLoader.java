@@ -5,13 +5,16 @@ import static org.apache.commons.codec.digest.DigestUtils.sha1Hex;
 import static org.folio.common.utils.CollectionUtils.toStream;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.roles.domain.model.UserPermissions;
+import org.folio.roles.integration.keyclock.KeycloakUserIdMappingService;
 import org.folio.roles.integration.keyclock.configuration.KeycloakConfigurationProperties;
 import org.folio.roles.integration.permissions.Permissions;
 import org.folio.roles.integration.permissions.PermissionsClient;
@@ -29,6 +32,7 @@ public class UserPermissionsLoader {
   private final PermissionsClient permissionsClient;
   private final FolioExecutionContext folioExecutionContext;
   private final KeycloakConfigurationProperties configurationProperties;
+  private final KeycloakUserIdMappingService userIdMappingService;
 
   /**
    * Loads user permissions from 'mod-permissions'.
@@ -36,6 +40,18 @@ public class UserPermissionsLoader {
    * @return {@link List} with {@link UserPermissions} relations
    */
   public List<UserPermissions> loadUserPermissions() {
+    return loadUserPermissions(loadUserIds());
+  }
+
+  /**
+   * Loads folio user identifiers from Keycloak users.
+   *
+   * <p>Keycloak user identifiers of loaded users are stored to the local index, so user-role assignment does not search
+   * Keycloak users by 'user_id' attribute.
+   *
+   * @return {@link List} with sorted folio user identifiers
+   */
+  public List<UUID> loadUserIds() {
     var tenantId = folioExecutionContext.getTenantId();
     var realm = keycloak.realm(tenantId);
     var usersClient = realm.users();
@@ -43,20 +59,31 @@ public class UserPermissionsLoader {
     var batchSize = configurationProperties.getMigration().getUsersBatchSize();
     var keycloakUsers = loadPaginatedData(batchSize, usersClient::list);
     log.info("Keycloak users are loaded: size = {}", keycloakUsers.size());
-    var userIds = getMigratedUserIds(keycloakUsers);
-    log.info("Folio user ids found: size = {}", userIds.size());
+    var keycloakUserIds = getKeycloakUserIds(keycloakUsers);
+    if (!keycloakUserIds.isEmpty()) {
+      userIdMappingService.saveAll(keycloakUserIds);
+    }
 
-    var userPermissions = loadUsersPermissions(userIds);
-    log.info("User permissions are loaded for users: totalRecords = {}", userPermissions.size());
+    var userIds = keycloakUserIds.keySet().stream().sorted().toList();
+    log.info("Folio user ids found: size = {}", userIds.size());
 
-    return userPermissions;
+    return userIds;
   }
 
-  private List<UserPermissions> loadUsersPermissions(List<UUID> userIds) {
-    return toStream(userIds)
+  /**
+   * Loads user permissions from 'mod-permissions' for the given folio user identifiers.
+   *
+   * @param userIds - folio user identifiers
+   * @return {@link List} with {@link UserPermissions} relations
+   */
+  public List<UserPermissions> loadUserPermissions(List<UUID> userIds) {
+    var userPermissions = toStream(userIds)
       .map(this::loadUsersPermissions)
       .flatMap(Optional::stream)
       .toList();
+
+    log.info("User permissions are loaded for users: totalRecords = {}", userPermissions.size());
+    return userPermissions;
   }
 
   private Optional<UserPermissions> loadUsersPermissions(UUID userId) {
@@ -79,12 +106,14 @@ public class UserPermissionsLoader {
     return sha1Hex(String.join("|", permissions)); //NOSONAR not used in secure contexts
   }
 
-  private static List<UUID> getMigratedUserIds(List<UserRepresentation> keycloakUsers) {
-    return keycloakUsers.stream()
-      .map(UserPermissionsLoader::getUserId)
-      .flatMap(Optional::stream)
-      .map(UUID::fromString)
-      .toList();
+  private static Map<UUID, String> getKeycloakUserIds(List<UserRepresentation> keycloakUsers) {
+    var keycloakUserIds = new LinkedHashMap<UUID, String>();
+    for (var keycloakUser : keycloakUsers) {
+      getUserId(keycloakUser).map(UUID::fromString)
+        .ifPresent(userId -> keycloakUserIds.putIfAbsent(userId, keycloakUser.getId()));
+    }
+
+    return keycloakUserIds;
   }
 
   private static Optional<String> getUserId(UserRepresentation keycloakUser) {
@@ -0,0 +1,68 @@
+package org.folio.roles.service.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Wraps invocations of the methods and classes, annotated with {@link Observed}, into {@link Observation}.
+ *
+ * <p>Works with the plain Spring AOP proxies, so AspectJ is not required. Observation is named by
+ * {@link Observed#name()} or {@code method.observed} by default, and tagged with the class and method names.
+ */
+@RequiredArgsConstructor
+public class ObservedMethodInterceptor implements MethodInterceptor {
+
+  public static final String DEFAULT_OBSERVATION_NAME = "method.observed";
+
+  private final Supplier<ObservationRegistry> observationRegistry;
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    var method = invocation.getMethod();
+    var registry = observationRegistry.get();
+    if (registry.isNoop() || ReflectionUtils.isObjectMethod(method)) {
+      return invocation.proceed();
+    }
+
+    var targetClass = ClassUtils.getUserClass(invocation.getThis() != null
+      ? AopUtils.getTargetClass(invocation.getThis())
+      : method.getDeclaringClass());
+    var observed = findObserved(method, targetClass);
+    var className = targetClass.getSimpleName();
+
+    return Observation.createNotStarted(getName(observed), registry)
+      .contextualName(getContextualName(observed, className, method))
+      .lowCardinalityKeyValue("class", className)
+      .lowCardinalityKeyValue("method", method.getName())
+      .lowCardinalityKeyValues(observed != null ? KeyValues.of(observed.lowCardinalityKeyValues()) : KeyValues.empty())
+      .observeChecked(invocation::proceed);
+  }
+
+  private static Observed findObserved(Method method, Class<?> targetClass) {
+    var specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+    var observed = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Observed.class);
+    return observed != null ? observed : AnnotatedElementUtils.findMergedAnnotation(targetClass, Observed.class);
+  }
+
+  private static String getName(Observed observed) {
+    return observed == null || StringUtils.isBlank(observed.name()) ? DEFAULT_OBSERVATION_NAME : observed.name();
+  }
+
+  private static String getContextualName(Observed observed, String className, Method method) {
+    return observed == null || StringUtils.isBlank(observed.contextualName())
+      ? className + "#" + method.getName()
+      : observed.contextualName();
+  }
+}
@@ -0,0 +1,170 @@
+package org.folio.roles.service.observation;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.configuration.property.TracingProperties;
+
+/**
+ * Collects the span tree of each root observation (incoming HTTP request, Kafka event, etc.) and logs it, if the root
+ * observation takes longer than {@code application.tracing.slow-request-threshold}.
+ *
+ * <p>Sibling spans with the same name, e.g. Keycloak calls made per endpoint, are aggregated into a single line with
+ * their count, total and maximum duration. Number of collected spans per tree is limited by
+ * {@code application.tracing.max-spans}.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class SlowRequestObservationHandler implements ObservationHandler<Observation.Context> {
+
+  private final TracingProperties tracingProperties;
+
+  @Override
+  public boolean supportsContext(Observation.Context context) {
+    return true;
+  }
+
+  @Override
+  public void onStart(Observation.Context context) {
+    var parentObservation = context.getParentObservation();
+    var parent = parentObservation != null ? parentObservation.getContextView().get(SpanNode.class) : null;
+    var node = parent != null
+      ? parent.startChild(getName(context), tracingProperties.getMaxSpans())
+      : SpanNode.root(getName(context));
+    context.put(SpanNode.class, node);
+  }
+
+  @Override
+  public void onError(Observation.Context context) {
+    var node = context.get(SpanNode.class);
+    if (node != null && context.getError() != null) {
+      node.error = context.getError().getClass().getSimpleName();
+    }
+  }
+
+  @Override
+  public void onStop(Observation.Context context) {
+    var node = context.get(SpanNode.class);
+    if (node == null) {
+      return;
+    }
+
+    node.stop();
+    if (node.isRoot() && node.durationNanos >= tracingProperties.getSlowRequestThreshold().toNanos()) {
+      log.warn("Slow operation detected: {} took {} ms{}", node.name, NANOSECONDS.toMillis(node.durationNanos),
+        node.format());
+    }
+  }
+
+  private static String getName(Observation.Context context) {
+    var contextualName = context.getContextualName();
+    return contextualName != null ? contextualName : context.getName();
+  }
+
+  static final class SpanNode {
+
+    private final String name;
+    private final long startNanos;
+    private final SpanNode root;
+    private final List<SpanNode> children = new ArrayList<>();
+    private final AtomicInteger spans;
+    private final AtomicInteger droppedSpans;
+    private volatile long durationNanos = -1;
+    private volatile String error;
+
+    private SpanNode(String name, SpanNode root) {
+      this.name = name;
+      this.startNanos = System.nanoTime();
+      this.root = root;
+      this.spans = root == null ? new AtomicInteger(1) : null;
+      this.droppedSpans = root == null ? new AtomicInteger() : null;
+    }
+
+    static SpanNode root(String name) {
+      return new SpanNode(name, null);
+    }
+
+    SpanNode startChild(String name, int maxSpans) {
+      var treeRoot = isRoot() ? this : root;
+      var child = new SpanNode(name, treeRoot);
+      if (treeRoot.spans.incrementAndGet() > maxSpans) {
+        // dropped spans are still tracked, so their children are not reported as separate root spans
+        treeRoot.droppedSpans.incrementAndGet();
+        return child;
+      }
+
+      synchronized (children) {
+        children.add(child);
+      }
+      return child;
+    }
+
+    boolean isRoot() {
+      return root == null;
+    }
+
+    void stop() {
+      durationNanos = System.nanoTime() - startNanos;
+    }
+
+    String format() {
+      var result = new StringBuilder();
+      append(result, this, 1);
+      if (droppedSpans.get() > 0) {
+        result.append(System.lineSeparator()).append("  ... ").append(droppedSpans.get()).append(" spans dropped");
+      }
+      return result.toString();
+    }
+
+    private static void append(StringBuilder result, SpanNode node, int depth) {
+      result.append(System.lineSeparator()).append("  ".repeat(depth)).append(node.name).append(' ')
+        .append(formatDuration(node.durationNanos));
+      if (node.error != null) {
+        result.append(" error=").append(node.error);
+      }
+
+      for (var group : groupByName(node.getChildren())) {
+        if (group.size() == 1) {
+          append(result, group.getFirst(), depth + 1);
+          continue;
+        }
+
+        var total = group.stream().mapToLong(child -> Math.max(child.durationNanos, 0)).sum();
+        var max = group.stream().mapToLong(child -> child.durationNanos).max().orElse(0);
+        var errors = group.stream().filter(child -> child.error != null).count();
+        result.append(System.lineSeparator()).append("  ".repeat(depth + 1)).append(group.getFirst().name)
+          .append(" x").append(group.size())
+          .append(" total=").append(formatDuration(total))
+          .append(" max=").append(formatDuration(max));
+        if (errors > 0) {
+          result.append(" errors=").append(errors);
+        }
+      }
+    }
+
+    private List<SpanNode> getChildren() {
+      synchronized (children) {
+        return List.copyOf(children);
+      }
+    }
+
+    private static List<List<SpanNode>> groupByName(List<SpanNode> nodes) {
+      var groups = new LinkedHashMap<String, List<SpanNode>>();
+      for (var node : nodes) {
+        groups.computeIfAbsent(node.name, name -> new ArrayList<>()).add(node);
+      }
+      return List.copyOf(groups.values());
+    }
+
+    private static String formatDuration(long durationNanos) {
+      return durationNanos < 0 ? "(not finished)" : NANOSECONDS.toMillis(durationNanos) + "ms";
+    }
+  }
+}
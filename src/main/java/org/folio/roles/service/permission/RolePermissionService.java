@@ -6,6 +6,7 @@ import static org.folio.roles.service.permission.PermissionService.convertToStri
 import static org.folio.roles.service.role.RolePolicyNameProvider.getPermissionNameGenerator;
 import static org.folio.roles.service.role.RolePolicyNameProvider.getPolicyName;
 
+import io.micrometer.observation.annotation.Observed;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Log4j2
 @Service
+@Observed
 @RequiredArgsConstructor
 public class RolePermissionService implements PermissionService {
 
@@ -1,6 +1,7 @@
 package org.folio.roles.service.reference;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.collections4.CollectionUtils.emptyIfNull;
 import static org.apache.commons.lang3.ObjectUtils.getIfNull;
@@ -9,8 +10,13 @@ import static org.folio.roles.domain.dto.RoleType.DEFAULT;
 import static org.folio.roles.utils.RoleNameUtils.FORBIDDEN_NAME_CHARACTER;
 import static org.folio.roles.utils.RoleNameUtils.hasForbiddenCharacters;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -25,6 +31,7 @@ import org.folio.roles.utils.ResourceHelper;
 import org.folio.roles.utils.ResourceHelper.SourcedResource;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Log4j2
 @Component
@@ -33,11 +40,25 @@ public class RolesDataLoader implements ReferenceDataLoader {
 
   private static final String ROLES_DATA_DIR = BASE_DIR + "roles";
 
+  /**
+   * Version of the content hash format, must be changed if the way of loading roles is changed, so that all default
+   * roles are processed again on the next load.
+   */
+  private static final String CONTENT_HASH_VERSION = "1";
+
   private final LoadableRoleService service;
   private final ResourceHelper resourceHelper;
   private final FolioExecutionContext folioExecutionContext;
 
+  /**
+   * Loads roles from the reference data files.
+   *
+   * <p>Default roles, which content hash matches the one stored on the previous load, are skipped. Changed default
+   * roles are saved, then default roles, removed from the files, are deleted. All roles are loaded in one
+   * transaction, so a failed load leaves the stored roles and their content hashes unchanged.
+   */
   @Override
+  @Transactional
   public void loadReferenceData() {
     var sourcedRoles =
       resourceHelper.readSourcedObjectsFromDirectory(ROLES_DATA_DIR, PlainLoadableRoles.class).toList();
@@ -47,10 +68,32 @@ public class RolesDataLoader implements ReferenceDataLoader {
     var incoming = sourcedRoles.stream()
       .flatMap(sourced -> toStream(sourced.value().getRoles()))
       .map(role -> role.type(getIfNull(role.getType(), DEFAULT)))
+      .toList();
+
+    var otherRoles = incoming.stream()
+      .filter(role -> role.getType() != DEFAULT)
       .map(this::convertToLoadableRole)
       .toList();
+    if (!otherRoles.isEmpty()) {
+      service.saveAll(otherRoles);
+    }
 
-    service.saveAll(incoming);
+    var defaultRoles = incoming.stream().filter(role -> role.getType() == DEFAULT).toList();
+    saveDefaultRoles(defaultRoles);
+    service.deleteDefaultRolesNotIn(defaultRoles);
+  }
+
+  private void saveDefaultRoles(List<PlainLoadableRole> roles) {
+    var storedContentHashes = service.findDefaultRoleContentHashes();
+    var changedRoles = roles.stream()
+      .map(role -> new HashedRole(role, contentHash(role)))
+      .filter(hashed -> !Objects.equals(storedContentHashes.get(hashed.role().getName()), hashed.contentHash()))
+      .toList();
+
+    log.info("Loading default roles: total = {}, changed = {}, tenant = {}",
+      roles.size(), changedRoles.size(), folioExecutionContext.getTenantId());
+
+    changedRoles.forEach(hashed -> service.saveDefaultRole(convertToLoadableRole(hashed.role()), hashed.contentHash()));
   }
 
   private void validateRoleNames(SourcedResource<PlainLoadableRoles> sourced) {
@@ -100,9 +143,28 @@ public class RolesDataLoader implements ReferenceDataLoader {
       .metadata(source.getMetadata());
   }
 
+  private static String contentHash(PlainLoadableRole role) {
+    var content = new StringJoiner("\n")
+      .add(CONTENT_HASH_VERSION)
+      .add(String.valueOf(role.getId()))
+      .add(role.getName())
+      .add(String.valueOf(role.getDescription()))
+      .add(String.valueOf(role.getType()));
+    toStream(role.getPermissions()).sorted().forEach(content::add);
+
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm is not available", e);
+    }
+  }
+
   private static List<LoadablePermission> toLoadablePerms(UUID roleId, Set<String> permissions) {
     return toStream(permissions)
       .map(permName -> new LoadablePermission().roleId(roleId).permissionName(permName))
       .toList();
   }
+
+  private record HashedRole(PlainLoadableRole role, String contentHash) {}
 }
@@ -2,7 +2,9 @@ package org.folio.roles.service.role;
 
 import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.folio.common.utils.CollectionUtils.mapItems;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,6 +37,22 @@ public class RoleEntityService {
     return mapper.toRole(savedRoleEntity);
   }
 
+  /**
+   * Inserts new roles in JDBC batches.
+   *
+   * @param roles - roles to save, must have identifiers assigned by Keycloak
+   * @return {@link List} with saved {@link Role} objects
+   */
+  public List<Role> create(List<Role> roles) {
+    if (roles.isEmpty()) {
+      return List.of();
+    }
+
+    var savedRoleEntities = repository.insertAll(mapItems(roles, mapper::toRoleEntity));
+    log.debug("Roles have been saved: count = {}", savedRoleEntities.size());
+    return mapper.toRole(savedRoleEntities);
+  }
+
   @Transactional(readOnly = true)
   public boolean existById(UUID id) {
     return repository.existsById(id);
@@ -82,6 +100,11 @@ public class RoleEntityService {
     return repository.findByName(roleName).map(mapper::toRole);
   }
 
+  @Transactional(readOnly = true)
+  public List<Role> findByNames(Collection<String> roleNames) {
+    return mapper.toRole(repository.findByNameIn(roleNames));
+  }
+
   private void checkIfRoleExists(UUID id) {
     repository.getReferenceById(id);
   }
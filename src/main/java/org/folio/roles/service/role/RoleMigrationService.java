@@ -1,15 +1,27 @@
 package org.folio.roles.service.role;
 
-import static java.util.Optional.empty;
+import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.extern.log4j.Log4j2;
 import org.folio.roles.domain.dto.Role;
+import org.folio.roles.integration.keyclock.KeycloakPermissionsExecutor;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service for role operations during migration process.
@@ -17,102 +29,159 @@ import org.springframework.transaction.annotation.Transactional;
  */
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class RoleMigrationService {
 
   private final KeycloakRoleService keycloakRoleService;
   private final RoleEntityService roleEntityService;
+  private final KeycloakPermissionsExecutor keycloakPermissionsExecutor;
+  private final TransactionTemplate transactionTemplate;
+
+  public RoleMigrationService(KeycloakRoleService keycloakRoleService, RoleEntityService roleEntityService,
+    KeycloakPermissionsExecutor keycloakPermissionsExecutor, PlatformTransactionManager transactionManager) {
+    this.keycloakRoleService = keycloakRoleService;
+    this.roleEntityService = roleEntityService;
+    this.keycloakPermissionsExecutor = keycloakPermissionsExecutor;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
 
   /**
    * Creates multiple roles with safe error handling for migration purposes.
    * Skips roles that fail to create without throwing exceptions.
    *
+   * <p>Roles are created in batch:
+   * <ul>
+   *   <li>roles existing in DB are resolved with a single lookup by names</li>
+   *   <li>roles existing only in Keycloak are resolved with a single paginated lookup and saved to DB</li>
+   *   <li>remaining roles are created in Keycloak in parallel, using the shared Keycloak executor</li>
+   *   <li>DB rows are inserted with a single batch in a new transaction, if the batch fails, roles are inserted one by
+   *   one, each in a new transaction, and Keycloak roles, created by this call, are rolled back only for the failed
+   *   rows</li>
+   * </ul>
+   *
+   * <p>Failed inserts are rolled back with their own transactions, so the caller transaction is not marked as
+   * rollback-only and is committed with the recorded failures.
+   *
    * @param roles - list of roles to create
    * @return {@link RoleCreationResult} with successful roles and failure details
    */
   @Transactional
   public RoleCreationResult createRolesSafely(List<Role> roles) {
     var result = new RoleCreationResult();
-    
-    for (Role role : roles) {
-      createRoleSafely(role, result);
+    var rolesByName = roles.stream().collect(toMap(Role::getName, identity(), (o1, o2) -> o1, LinkedHashMap::new));
+    if (rolesByName.isEmpty()) {
+      return result;
+    }
+
+    for (var existingRole : roleEntityService.findByNames(rolesByName.keySet())) {
+      rolesByName.remove(existingRole.getName());
+      result.addSuccess(existingRole);
+    }
+
+    var rolesToSave = new ArrayList<Role>();
+    for (var keycloakRole : findInKeycloak(rolesByName.keySet())) {
+      keycloakRole.setType(rolesByName.remove(keycloakRole.getName()).getType());
+      rolesToSave.add(keycloakRole);
     }
-    
+
+    var createdRoles = createInKeycloak(rolesByName.values(), result);
+    rolesToSave.addAll(createdRoles);
+
+    var createdRoleIds = new HashSet<UUID>();
+    createdRoles.forEach(role -> createdRoleIds.add(role.getId()));
+    createInDatabase(rolesToSave, createdRoleIds, result);
     return result;
   }
 
   /**
-   * Creates a single role with safe error handling.
-   * Adds result to the provided RoleCreationResult object.
+   * Finds existing Keycloak roles by names, capturing exceptions.
    *
-   * @param role - role to create
-   * @param result - result object to populate
+   * @param roleNames - role names to find
+   * @return {@link List} with found roles or empty list if lookup failed
    */
-  private void createRoleSafely(Role role, RoleCreationResult result) {
-    var keycloakRoleOpt = createInKeycloak(role, result);
-    if (keycloakRoleOpt.isEmpty()) {
-      handleKeycloakCreationFailure(role, result);
-      return;
+  private List<Role> findInKeycloak(Collection<String> roleNames) {
+    if (roleNames.isEmpty()) {
+      return List.of();
     }
 
-    var keycloakRole = keycloakRoleOpt.get();
-    keycloakRole.setType(role.getType());
-    createInDatabase(keycloakRole, result);
+    try {
+      return keycloakRoleService.findByNames(roleNames);
+    } catch (Exception e) {
+      log.warn("Failed to find existing roles in Keycloak, roles will be created: count = {}", roleNames.size(), e);
+      return List.of();
+    }
   }
 
   /**
-   * Creates role in Keycloak, capturing exceptions.
+   * Creates roles in Keycloak in parallel, capturing exceptions.
    *
-   * @param role - role to create
+   * @param roles - roles to create
    * @param result - result object to record failures
-   * @return {@link Optional} with created role or empty if failed
+   * @return {@link List} with roles created in Keycloak
    */
-  private Optional<Role> createInKeycloak(Role role, RoleCreationResult result) {
-    try {
-      return Optional.of(keycloakRoleService.create(role));
-    } catch (Exception e) {
-      log.debug("Failed to create role in Keycloak: name = {}", role.getName(), e);
-      result.addFailure(role.getName(), "Failed to create role in Keycloak", e);
-      return empty();
+  private List<Role> createInKeycloak(Collection<Role> roles, RoleCreationResult result) {
+    if (roles.isEmpty()) {
+      return List.of();
     }
+
+    var createdRoles = new ConcurrentLinkedQueue<Role>();
+    var failures = new ConcurrentHashMap<String, Exception>();
+    keycloakPermissionsExecutor.executeAll(new ArrayList<>(roles), role -> {
+      try {
+        var createdRole = keycloakRoleService.create(role);
+        createdRole.setType(role.getType());
+        createdRoles.add(createdRole);
+      } catch (Exception e) {
+        log.debug("Failed to create role in Keycloak: name = {}", role.getName(), e);
+        failures.put(role.getName(), e);
+      }
+    });
+
+    failures.forEach((roleName, error) -> result.addFailure(roleName, "Failed to create role in Keycloak", error));
+    return new ArrayList<>(createdRoles);
   }
 
   /**
-   * Handles the case when Keycloak role creation fails.
-   * Checks if role already exists and creates DB entity if needed.
+   * Creates role entities in database with rollback of created Keycloak roles on failure.
    *
-   * @param role - role that failed to create
+   * @param roles - roles to create (must have ID from Keycloak)
+   * @param createdRoleIds - identifiers of roles created in Keycloak by the current operation
    * @param result - result object to record success/failures
    */
-  private void handleKeycloakCreationFailure(Role role, RoleCreationResult result) {
-    if (roleEntityService.findByName(role.getName()).isEmpty()) {
-      keycloakRoleService.findByName(role.getName()).ifPresent(existingRole -> {
-        existingRole.setType(role.getType());
-        createInDatabase(existingRole, result);
-      });
+  private void createInDatabase(List<Role> roles, Set<UUID> createdRoleIds, RoleCreationResult result) {
+    if (roles.isEmpty()) {
+      return;
+    }
+
+    try {
+      var createdRoles = transactionTemplate.execute(status -> roleEntityService.create(roles));
+      requireNonNull(createdRoles).forEach(result::addSuccess);
+      return;
+    } catch (Exception e) {
+      log.warn("Database roles batch creation failed: count = {}, creating roles one by one", roles.size(), e);
+    }
+
+    for (var role : roles) {
+      createInDatabase(role, createdRoleIds, result);
     }
   }
 
   /**
-   * Creates role entity in database with rollback on failure.
+   * Creates a single role entity in database with rollback of the created Keycloak role on failure.
    *
    * @param role - role to create (must have ID from Keycloak)
-   * @param result - result object to record success/failures
+   * @param createdRoleIds - identifiers of roles created in Keycloak by the current operation
+   * @param result - result object to record success/failure
    */
-  private void createInDatabase(Role role, RoleCreationResult result) {
+  private void createInDatabase(Role role, Set<UUID> createdRoleIds, RoleCreationResult result) {
     try {
-      var existingRole = roleEntityService.findByName(role.getName());
-      if (existingRole.isPresent()) {
-        result.addSuccess(existingRole.get());
-        return;
-      }
-
-      var createdRole = roleEntityService.create(role);
-      result.addSuccess(createdRole);
+      result.addSuccess(requireNonNull(transactionTemplate.execute(status -> roleEntityService.create(role))));
     } catch (Exception e) {
-      log.warn("Database role creation failed: name = {}, rolling back Keycloak role", role.getName(), e);
+      log.warn("Database role creation failed: name = {}", role.getName(), e);
       result.addFailure(role.getName(), "Failed to create role in database", e);
-      rollbackKeycloakRole(role);
+      if (createdRoleIds.contains(role.getId())) {
+        rollbackKeycloakRole(role);
+      }
     }
   }
 
@@ -130,7 +199,7 @@ public class RoleMigrationService {
       keycloakRoleService.deleteById(role.getId());
       log.info("Keycloak role rolled back successfully: id = {}, name = {}", role.getId(), role.getName());
     } catch (Exception rollbackException) {
-      log.error("Keycloak role rollback failed: id = {}, name = {}", 
+      log.error("Keycloak role rollback failed: id = {}, name = {}",
         role.getId(), role.getName(), rollbackException);
     }
   }
@@ -8,8 +8,10 @@ import static org.folio.roles.service.role.RolePolicyNameProvider.getPolicyName;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.ListUtils;
@@ -23,6 +25,7 @@ import org.folio.roles.domain.model.PageResult;
 import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.exception.ServiceException;
 import org.folio.roles.integration.keyclock.KeycloakAuthorizationService;
+import org.folio.roles.integration.keyclock.KeycloakPermissionsExecutor;
 import org.folio.roles.integration.keyclock.KeycloakPolicyService;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
 import org.folio.roles.integration.keyclock.KeycloakRolesUserService;
@@ -47,6 +50,7 @@ public class RoleService {
   private final PolicyEntityService policyEntityService;
   private final PolicyService policyService;
   private final CapabilityEndpointService capabilityEndpointService;
+  private final KeycloakPermissionsExecutor keycloakPermissionsExecutor;
 
   /**
    * Find one role by ID.
@@ -76,6 +80,17 @@ public class RoleService {
     return roles;
   }
 
+  /**
+   * Find roles by names. Not found role names are ignored.
+   *
+   * @param names - role names
+   * @return {@link List} with found {@link Role} objects
+   */
+  @Transactional(readOnly = true)
+  public List<Role> findByNames(Collection<String> names) {
+    return entityService.findByNames(names);
+  }
+
   /**
    * Search roles by query or/and offset or/and limit. Searching without parameters returns all roles.
    *
@@ -115,15 +130,47 @@ public class RoleService {
   /**
    * Create one or more roles.
    *
+   * <p>Keycloak roles are created in parallel using the shared Keycloak executor, then all roles are saved to DB in a
+   * single batch. If any step fails, all Keycloak roles created by this call are deleted.
+   *
    * @param roles - roles for creating
    * @return {@link Roles} which contains array of {@link Role} and number of elements in the roles array
    */
   @Transactional
   public Roles create(List<Role> roles) {
-    var createdRoles = roles.stream()
-      .map(this::create)
-      .toList();
-    return buildRoles(createdRoles);
+    roles.forEach(RoleService::checkIfRoleHasDefaultType);
+    var createdRoles = createInKeycloak(roles);
+    try {
+      var savedRoles = entityService.create(createdRoles);
+      log.debug("Roles have been created: count = {}", savedRoles.size());
+      return buildRoles(savedRoles);
+    } catch (Exception exception) {
+      deleteFromKeycloak(createdRoles);
+      throw new ServiceException("Failed to create roles", exception);
+    }
+  }
+
+  private List<Role> createInKeycloak(List<Role> roles) {
+    var createdRoles = new ConcurrentHashMap<String, Role>();
+    try {
+      keycloakPermissionsExecutor.executeAll(roles, role -> {
+        var createdRole = keycloakService.create(role);
+        createdRole.setType(role.getType());
+        createdRoles.put(role.getName(), createdRole);
+      });
+    } catch (RuntimeException exception) {
+      deleteFromKeycloak(createdRoles.values());
+      throw exception;
+    }
+
+    return mapItems(roles, role -> createdRoles.get(role.getName()));
+  }
+
+  private void deleteFromKeycloak(Collection<Role> createdRoles) {
+    for (var createdRole : createdRoles) {
+      log.debug("Rollback role creation in Keycloak: id = {}, name = {}", createdRole.getId(), createdRole.getName());
+      keycloakService.deleteById(createdRole.getId());
+    }
   }
 
   /**
@@ -4,12 +4,16 @@ import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.folio.common.utils.CollectionUtils.mapItems;
+import static org.folio.roles.domain.entity.UserRoleEntity.DEFAULT_USER_ROLE_SORT;
+import static org.folio.roles.domain.entity.UserRoleEntity.USER_ROLE_KEYSET_SORT;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -18,8 +22,13 @@ import org.folio.roles.domain.dto.UserRole;
 import org.folio.roles.domain.dto.UserRoles;
 import org.folio.roles.domain.entity.UserRoleEntity;
 import org.folio.roles.domain.entity.key.UserRoleKey;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.mapper.entity.UserRoleMapper;
+import org.folio.roles.repository.CqlEntityStreamer;
+import org.folio.roles.repository.CqlKeysetQueryExecutor;
 import org.folio.roles.repository.UserRoleRepository;
+import org.folio.roles.service.TotalRecordsService;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +41,9 @@ public class UserRoleEntityService {
 
   private final UserRoleMapper mapper;
   private final UserRoleRepository repository;
+  private final CqlEntityStreamer cqlEntityStreamer;
+  private final CqlKeysetQueryExecutor cqlKeysetQueryExecutor;
+  private final TotalRecordsService totalRecordsService;
 
   /**
    * Creates a new {@link UserRole} record in the database.
@@ -64,6 +76,23 @@ public class UserRoleEntityService {
     return mapper.toDto(savedEntity);
   }
 
+  /**
+   * Inserts new {@link UserRole} records in JDBC batches, flushed immediately, so constraint violations are reported to
+   * the caller.
+   *
+   * @param userRoles - {@link List} of {@link UserRole} objects to be created
+   * @return saved {@link UserRole} objects.
+   */
+  public List<UserRole> createSafe(List<UserRole> userRoles) {
+    if (userRoles.isEmpty()) {
+      return List.of();
+    }
+
+    var savedEntities = repository.insertAll(mapper.toEntity(userRoles));
+    log.debug("User roles have been saved: count = {}", savedEntities.size());
+    return mapper.toDto(savedEntities);
+  }
+
   public void delete(UUID userId, List<UUID> roleIds) {
     repository.deleteByUserIdAndRoleIdIn(userId, roleIds);
     log.debug("User roles have been deleted: userId = {}, roleIds = {}", userId, roleIds);
@@ -89,6 +118,12 @@ public class UserRoleEntityService {
     return mapper.toDto(rolesUserEntity);
   }
 
+  @Transactional(readOnly = true)
+  public List<UserRole> findByUserIds(Collection<UUID> userIds) {
+    var rolesUserEntities = repository.findByUserIdIn(userIds);
+    return mapper.toDto(rolesUserEntities);
+  }
+
   @Transactional(readOnly = true)
   public List<UserRole> findByRoleId(UUID roleId) {
     var rolesUserEntity = repository.findByRoleId(roleId);
@@ -110,7 +145,43 @@ public class UserRoleEntityService {
 
     return new UserRoles()
       .userRoles(mapper.toDto(pagedResult.getContent()))
-      .totalRecords(pagedResult.getTotalPages());
+      .totalRecords((int) pagedResult.getTotalElements());
+  }
+
+  @Transactional(readOnly = true)
+  @SuppressWarnings("java:S6809") // both overloads are @Transactional(readOnly=true, REQUIRED); self-call is safe
+  public UserRoles findByQuery(String query, Integer offset, Integer limit, TotalRecords totalRecords) {
+    if (totalRecords == TotalRecords.EXACT) {
+      return findByQuery(query, offset, limit);
+    }
+
+    var offsetRequest = OffsetRequest.of(offset, limit, DEFAULT_USER_ROLE_SORT);
+    var pageResult = totalRecordsService.findByQuery(totalRecords, UserRoleEntity.class, query, offsetRequest,
+      pageable -> isNotBlank(query) ? repository.findByCql(query, pageable) : repository.findAll(pageable),
+      pageable -> cqlEntityStreamer.findSlice(UserRoleEntity.class, query, pageable));
+
+    var totalRecordsValue = totalRecords.toResponseValue(pageResult);
+    return new UserRoles()
+      .userRoles(mapper.toDto(pageResult.getRecords()))
+      .totalRecords(totalRecordsValue != null ? totalRecordsValue.intValue() : null);
+  }
+
+  @Transactional(readOnly = true)
+  public void streamByQuery(String query, Integer offset, Integer limit, Consumer<UserRole> consumer) {
+    try (var userRoles = cqlEntityStreamer.stream(UserRoleEntity.class, query, DEFAULT_USER_ROLE_SORT,
+      offset, limit, mapper::toDto)) {
+      userRoles.forEach(consumer);
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public UserRoles findByQueryAfter(String query, String after, Integer limit) {
+    var pageResult = cqlKeysetQueryExecutor.findAfter(UserRoleEntity.class, query, USER_ROLE_KEYSET_SORT,
+      KeysetCursor.decode(after), limit, mapper::toDto);
+
+    return new UserRoles()
+      .userRoles(pageResult.getRecords())
+      .next(pageResult.getNext());
   }
 
   private List<UUID> findExistingUserRoles(UUID userId, List<UUID> roleIds) {
@@ -1,15 +1,30 @@
 package org.folio.roles.service.role;
 
 import static java.util.Collections.singletonList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 
+import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.domain.dto.Role;
 import org.folio.roles.domain.dto.UserRole;
 import org.folio.roles.domain.dto.UserRoles;
 import org.folio.roles.domain.dto.UserRolesRequest;
+import org.folio.roles.domain.model.TotalRecords;
 import org.folio.roles.domain.model.event.UserPermissionsChangedEvent;
 import org.folio.roles.integration.keyclock.KeycloakRolesUserService;
 import org.folio.roles.utils.UpdateOperationHelper;
@@ -17,6 +32,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class UserRoleService {
@@ -61,6 +77,64 @@ public class UserRoleService {
     eventPublisher.publishEvent(UserPermissionsChangedEvent.userPermissionsChanged(userRole.getUserId()));
   }
 
+  /**
+   * Creates relations between users and roles in bulk, already existing relations are skipped.
+   *
+   * <p>Relations are grouped by user, so all roles of a user are assigned in Keycloak with a single request, and
+   * created relations are saved to the database in a single batch. If the database save fails, roles, assigned in
+   * Keycloak by this call, are revoked.
+   *
+   * @param userRoles - user-role relations to create
+   * @return {@link List} with {@link UserRole} relations that failed to be assigned in Keycloak
+   * @throws EntityNotFoundException if any of the roles is not found
+   */
+  @Transactional
+  public List<UserRole> createSafe(List<UserRole> userRoles) {
+    var userIds = userRoles.stream().map(UserRole::getUserId).collect(toSet());
+    var existingUserRoles = userRoleEntityService.findByUserIds(userIds).stream()
+      .map(UserRoleService::toUserRoleKey)
+      .collect(toSet());
+
+    var newUserRoles = userRoles.stream()
+      .filter(userRole -> !existingUserRoles.contains(toUserRoleKey(userRole)))
+      .distinct()
+      .toList();
+
+    if (newUserRoles.isEmpty()) {
+      return List.of();
+    }
+
+    // Fails with EntityNotFoundException before any Keycloak request, if some of the roles are not found
+    var roleIds = newUserRoles.stream().map(UserRole::getRoleId).distinct().toList();
+    var rolesById = roleService.findByIds(roleIds).stream().collect(toMap(Role::getId, identity()));
+    var rolesByUserId = newUserRoles.stream().collect(groupingBy(UserRole::getUserId, LinkedHashMap::new,
+      mapping(userRole -> rolesById.get(userRole.getRoleId()), toList())));
+
+    var failedUserIds = keycloakRolesUserService.assignRolesToUsers(rolesByUserId);
+    var assignedUserRoles = new ArrayList<UserRole>();
+    var failedUserRoles = new ArrayList<UserRole>();
+    for (var userRole : newUserRoles) {
+      if (failedUserIds.contains(userRole.getUserId())) {
+        failedUserRoles.add(userRole);
+      } else {
+        assignedUserRoles.add(userRole);
+      }
+    }
+
+    try {
+      userRoleEntityService.createSafe(assignedUserRoles);
+    } catch (RuntimeException exception) {
+      revokeAssignedRoles(rolesByUserId, failedUserIds);
+      throw exception;
+    }
+
+    rolesByUserId.keySet().stream()
+      .filter(userId -> !failedUserIds.contains(userId))
+      .forEach(userId -> eventPublisher.publishEvent(UserPermissionsChangedEvent.userPermissionsChanged(userId)));
+
+    return failedUserRoles;
+  }
+
   /**
    * Updates an existing {@link UserRole} relations based on the provided {@link UserRolesRequest}.
    *
@@ -99,6 +173,43 @@ public class UserRoleService {
     return userRoleEntityService.findByQuery(query, offset, limit);
   }
 
+  /**
+   * Finds {@link UserRole} relation items based on a provided CQL query, calculating total records as requested.
+   *
+   * @param query - the query used to find records
+   * @param offset - the starting point for record retrieval
+   * @param limit - the maximum number of records to return
+   * @param totalRecords - defines how total records are calculated
+   * @return a {@link UserRole} object containing the {@link UserRole} relation items
+   */
+  public UserRoles findByQuery(String query, Integer offset, Integer limit, TotalRecords totalRecords) {
+    return userRoleEntityService.findByQuery(query, offset, limit, totalRecords);
+  }
+
+  /**
+   * Streams {@link UserRole} relation items based on a provided CQL query, limit and offset values.
+   *
+   * @param query - the query used to find records
+   * @param offset - the offset of records to return
+   * @param limit - the maximum number of records to return
+   * @param consumer - consumer for found {@link UserRole} relation items
+   */
+  public void streamByQuery(String query, Integer offset, Integer limit, Consumer<UserRole> consumer) {
+    userRoleEntityService.streamByQuery(query, offset, limit, consumer);
+  }
+
+  /**
+   * Finds {@link UserRole} relation items based on a provided CQL query using keyset pagination.
+   *
+   * @param query - the query used to find records
+   * @param after - cursor token of the previous page, empty value means the first page
+   * @param limit - the maximum number of records to return
+   * @return a {@link UserRoles} object containing the {@link UserRole} relation items and the next page cursor
+   */
+  public UserRoles findByQueryAfter(String query, String after, Integer limit) {
+    return userRoleEntityService.findByQueryAfter(query, after, limit);
+  }
+
   /**
    * Deletes a `RolesUser` with the specified id.
    *
@@ -118,6 +229,24 @@ public class UserRoleService {
     return new UserRoles().userRoles(userRolesList).totalRecords(userRolesList.size());
   }
 
+  private static String toUserRoleKey(UserRole userRole) {
+    return userRole.getUserId() + ":" + userRole.getRoleId();
+  }
+
+  private void revokeAssignedRoles(Map<UUID, List<Role>> rolesByUserId, Set<UUID> failedUserIds) {
+    rolesByUserId.forEach((userId, roles) -> {
+      if (failedUserIds.contains(userId)) {
+        return;
+      }
+
+      try {
+        keycloakRolesUserService.unlinkRolesFromUser(userId, roles);
+      } catch (Exception exception) {
+        log.warn("Failed to revoke roles assigned in Keycloak: userId = {}", userId, exception);
+      }
+    });
+  }
+
   private void createNewRoles(List<UUID> newValues, UUID userId) {
     var roles = roleService.findByIds(newValues);
     userRoleEntityService.create(userId, newValues);
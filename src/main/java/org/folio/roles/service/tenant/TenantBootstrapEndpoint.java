@@ -0,0 +1,29 @@
+package org.folio.roles.service.tenant;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint, exposing tenant bootstrap progress of the module instance.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "tenantbootstrap")
+public class TenantBootstrapEndpoint {
+
+  private final TenantBootstrapScheduler scheduler;
+
+  @ReadOperation
+  public List<TenantBootstrapProgress> getProgress() {
+    return scheduler.getProgress();
+  }
+
+  @ReadOperation
+  public TenantBootstrapProgress getProgress(@Selector String tenantId) {
+    return scheduler.getProgress(tenantId).orElse(null);
+  }
+}
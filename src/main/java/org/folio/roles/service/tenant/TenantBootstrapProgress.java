@@ -0,0 +1,53 @@
+package org.folio.roles.service.tenant;
+
+import java.time.Instant;
+
+/**
+ * Progress of the tenant init (bootstrap).
+ *
+ * @param tenantId - tenant identifier
+ * @param status - bootstrap status
+ * @param stage - current or last bootstrap stage, {@code null} while the bootstrap is queued
+ * @param queuedAt - time the bootstrap is queued
+ * @param startedAt - time the bootstrap is started, {@code null} while the bootstrap is queued
+ * @param finishedAt - time the bootstrap is completed or failed
+ * @param error - error message of the failed bootstrap
+ */
+public record TenantBootstrapProgress(String tenantId, Status status, Stage stage, Instant queuedAt,
+  Instant startedAt, Instant finishedAt, String error) {
+
+  public static TenantBootstrapProgress queued(String tenantId) {
+    return new TenantBootstrapProgress(tenantId, Status.QUEUED, null, Instant.now(), null, null, null);
+  }
+
+  public TenantBootstrapProgress start() {
+    return new TenantBootstrapProgress(tenantId, Status.IN_PROGRESS, Stage.SCHEMA_UPDATE, queuedAt, Instant.now(),
+      null, null);
+  }
+
+  public TenantBootstrapProgress stage(Stage newStage) {
+    return new TenantBootstrapProgress(tenantId, status, newStage, queuedAt, startedAt, finishedAt, error);
+  }
+
+  public TenantBootstrapProgress complete() {
+    return new TenantBootstrapProgress(tenantId, Status.COMPLETED, stage, queuedAt, startedAt, Instant.now(), null);
+  }
+
+  public TenantBootstrapProgress fail(String errorMessage) {
+    return new TenantBootstrapProgress(tenantId, Status.FAILED, stage, queuedAt, startedAt, Instant.now(),
+      errorMessage);
+  }
+
+  public enum Status {
+    QUEUED,
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+  }
+
+  public enum Stage {
+    SCHEMA_UPDATE,
+    CAPABILITIES_MERGE,
+    REFERENCE_DATA_LOAD
+  }
+}
@@ -0,0 +1,162 @@
+package org.folio.roles.service.tenant;
+
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.function.UnaryOperator;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.configuration.property.TenantBootstrapProperties;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Stage;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Status;
+import org.springframework.stereotype.Service;
+
+/**
+ * Limits the number of tenants, initialized concurrently, and keeps the init progress of each tenant.
+ *
+ * <p>Tenant init requests above {@code application.tenant-bootstrap.max-concurrent} wait in a fair queue, so tenants
+ * are initialized in the order of requests. Progress is available with the {@code /admin/tenantbootstrap} endpoint,
+ * number of running and queued tenant inits is exported as {@code tenant.bootstrap.*} gauges.
+ */
+@Log4j2
+@Service
+public class TenantBootstrapScheduler implements MeterBinder {
+
+  private final Map<String, TenantBootstrapProgress> progressByTenant = new ConcurrentHashMap<>();
+  private final TenantBootstrapProperties properties;
+  private final Semaphore permits;
+
+  public TenantBootstrapScheduler(TenantBootstrapProperties properties) {
+    this.properties = properties;
+    this.permits = new Semaphore(properties.getMaxConcurrent(), true);
+  }
+
+  /**
+   * Runs tenant bootstrap, waiting in the queue while maximum number of tenants is being initialized.
+   *
+   * <p>Only one bootstrap of a tenant can be queued or running at a time, a repeated tenant init request is rejected
+   * until the previous one is completed or failed.
+   *
+   * @param tenantId - tenant identifier
+   * @param bootstrap - tenant bootstrap action
+   * @throws IllegalStateException if bootstrap of the tenant is already queued or running, or if bootstrap is not
+   *   started within the queue timeout
+   */
+  public void execute(String tenantId, Runnable bootstrap) {
+    enqueue(tenantId);
+    acquirePermit(tenantId);
+
+    try {
+      update(tenantId, TenantBootstrapProgress::start);
+      log.info("Tenant bootstrap started: tenant = {}, running = {}", tenantId, countByStatus(Status.IN_PROGRESS));
+      bootstrap.run();
+      var progress = update(tenantId, TenantBootstrapProgress::complete);
+      log.info("Tenant bootstrap completed: tenant = {}, duration = {}ms", tenantId,
+        Duration.between(progress.startedAt(), progress.finishedAt()).toMillis());
+    } catch (RuntimeException e) {
+      update(tenantId, progress -> progress.fail(e.getMessage()));
+      log.warn("Tenant bootstrap failed: tenant = {}", tenantId, e);
+      throw e;
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Updates the current stage of the running tenant bootstrap.
+   *
+   * @param tenantId - tenant identifier
+   * @param stage - new bootstrap stage
+   */
+  public void updateStage(String tenantId, Stage stage) {
+    progressByTenant.computeIfPresent(tenantId,
+      (id, progress) -> progress.status() == Status.IN_PROGRESS ? progress.stage(stage) : progress);
+  }
+
+  /**
+   * Finds bootstrap progress of the tenant.
+   *
+   * @param tenantId - tenant identifier
+   * @return {@link Optional} with the last bootstrap progress, empty if tenant has not been initialized
+   */
+  public Optional<TenantBootstrapProgress> getProgress(String tenantId) {
+    return Optional.ofNullable(progressByTenant.get(tenantId));
+  }
+
+  /**
+   * Returns bootstrap progress of all tenants, initialized by the module instance.
+   *
+   * @return list with bootstrap progress, sorted by tenant identifier
+   */
+  public List<TenantBootstrapProgress> getProgress() {
+    return progressByTenant.values().stream()
+      .sorted(comparing(TenantBootstrapProgress::tenantId))
+      .toList();
+  }
+
+  /**
+   * Removes bootstrap progress of the deleted tenant.
+   *
+   * @param tenantId - tenant identifier
+   */
+  public void remove(String tenantId) {
+    progressByTenant.remove(tenantId);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("tenant.bootstrap.running", this, scheduler -> scheduler.countByStatus(Status.IN_PROGRESS))
+      .description("Number of tenants being initialized")
+      .register(registry);
+    Gauge.builder("tenant.bootstrap.queued", this, scheduler -> scheduler.countByStatus(Status.QUEUED))
+      .description("Number of tenant init requests, waiting in the queue")
+      .register(registry);
+  }
+
+  private void enqueue(String tenantId) {
+    var queued = TenantBootstrapProgress.queued(tenantId);
+    var progress = progressByTenant.compute(tenantId, (id, current) -> isActive(current) ? current : queued);
+    if (progress != queued) {
+      log.warn("Tenant bootstrap is already {}: tenant = {}", progress.status(), tenantId);
+      throw new IllegalStateException("Tenant bootstrap is already in progress: tenant = " + tenantId);
+    }
+  }
+
+  private void acquirePermit(String tenantId) {
+    var queueTimeout = properties.getQueueTimeout();
+    try {
+      if (permits.tryAcquire(queueTimeout.toMillis(), MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      update(tenantId, progress -> progress.fail("Tenant bootstrap is interrupted"));
+      throw new IllegalStateException("Tenant bootstrap is interrupted: tenant = " + tenantId, e);
+    }
+
+    update(tenantId, progress -> progress.fail("Tenant bootstrap is not started within " + queueTimeout));
+    throw new IllegalStateException(
+      "Tenant bootstrap is not started within " + queueTimeout + ": tenant = " + tenantId);
+  }
+
+  private TenantBootstrapProgress update(String tenantId, UnaryOperator<TenantBootstrapProgress> updater) {
+    return progressByTenant.compute(tenantId,
+      (id, progress) -> updater.apply(progress != null ? progress : TenantBootstrapProgress.queued(id)));
+  }
+
+  private static boolean isActive(TenantBootstrapProgress progress) {
+    return progress != null && (progress.status() == Status.QUEUED || progress.status() == Status.IN_PROGRESS);
+  }
+
+  private long countByStatus(Status status) {
+    return progressByTenant.values().stream().filter(progress -> progress.status() == status).count();
+  }
+}
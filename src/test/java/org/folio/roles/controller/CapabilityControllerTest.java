@@ -1,6 +1,8 @@
 package org.folio.roles.controller;
 
 import static org.folio.roles.domain.model.PageResult.asSinglePage;
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
+import static org.folio.roles.domain.model.TotalRecords.NONE;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilityUtils.CAPABILITY_ID;
 import static org.folio.roles.support.CapabilityUtils.capabilities;
@@ -8,13 +10,26 @@ import static org.folio.roles.support.CapabilityUtils.capability;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.test.TestUtils.asJsonString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+import java.util.function.Consumer;
+import org.folio.roles.domain.dto.Capabilities;
+import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.model.KeysetPageResult;
+import org.folio.roles.domain.model.PageResult;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -50,7 +65,7 @@ class CapabilityControllerTest {
   void findCapabilitySets_positive() throws Exception {
     var query = "cql.allRecords = 1";
     var capability = capability();
-    when(capabilityService.find(query, 10, 15)).thenReturn(asSinglePage(capability));
+    when(capabilityService.find(query, 10, 15, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/capabilities")
         .queryParam("query", query)
@@ -63,6 +78,102 @@ class CapabilityControllerTest {
       .andExpect(content().json(asJsonString(capabilities(capability)), true));
   }
 
+  @Test
+  void findCapabilities_positive_totalRecordsNone() throws Exception {
+    var query = "cql.allRecords = 1";
+    var capability = capability();
+    when(capabilityService.find(query, 10, 0, NONE)).thenReturn(PageResult.of(0, List.of(capability)));
+
+    mockMvc.perform(get("/capabilities")
+        .queryParam("query", query)
+        .queryParam("limit", "10")
+        .queryParam("totalRecords", "none")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().json(asJsonString(new Capabilities().capabilities(List.of(capability))),
+        JsonCompareMode.STRICT));
+  }
+
+  @Test
+  void findCapabilities_negative_invalidTotalRecords() throws Exception {
+    mockMvc.perform(get("/capabilities")
+        .queryParam("totalRecords", "unknown")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void findCapabilities_positive_keyset() throws Exception {
+    var query = "cql.allRecords = 1";
+    var capability = capability();
+    when(capabilityService.findAfter(query, "", 10)).thenReturn(KeysetPageResult.of(List.of(capability), "next"));
+
+    mockMvc.perform(get("/capabilities")
+        .queryParam("query", query)
+        .queryParam("limit", "10")
+        .queryParam("after", "")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(new Capabilities().capabilities(List.of(capability)).next("next")),
+        JsonCompareMode.STRICT));
+  }
+
+  @Test
+  void findCapabilities_positive_stream() throws Exception {
+    var query = "cql.allRecords = 1";
+    var capability = capability();
+    doAnswer(inv -> {
+      inv.<Consumer<Capability>>getArgument(3).accept(capability);
+      return null;
+    }).when(capabilityService).stream(eq(query), eq(10), eq(0), any());
+
+    mockMvc.perform(get("/capabilities")
+        .queryParam("query", query)
+        .queryParam("limit", "10")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(capabilities(capability)), JsonCompareMode.STRICT));
+  }
+
+  @Test
+  void findCapabilities_negative_streamNegativeLimit() throws Exception {
+    mockMvc.perform(get("/capabilities")
+        .queryParam("limit", "-1")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("streamCapabilities.limit must be greater than or equal to 0")))
+      .andExpect(jsonPath("$.errors[0].type", is("ConstraintViolationException")))
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+    verifyNoInteractions(capabilityService);
+  }
+
+  @Test
+  void findCapabilities_positive_streamFullPage() throws Exception {
+    var capability = capability();
+    doAnswer(inv -> {
+      inv.<Consumer<Capability>>getArgument(3).accept(capability);
+      return null;
+    }).when(capabilityService).stream(isNull(), eq(1), eq(0), any());
+
+    mockMvc.perform(get("/capabilities")
+        .queryParam("limit", "1")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().json(asJsonString(new Capabilities().capabilities(List.of(capability))),
+        JsonCompareMode.STRICT));
+  }
+
   @Test
   void getCapabilitiesByCapabilitySetId_positive() throws Exception {
     var capability = capability();
@@ -1,18 +1,27 @@
 package org.folio.roles.controller;
 
 import static org.folio.roles.domain.model.PageResult.asSinglePage;
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilitySetUtils.capabilitySet;
 import static org.folio.roles.support.CapabilitySetUtils.capabilitySets;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.test.TestUtils.asJsonString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.function.Consumer;
+import org.folio.roles.domain.dto.CapabilitySet;
 import org.folio.roles.service.capability.CapabilitySetService;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -47,7 +56,7 @@ class CapabilitySetControllerTest {
   void findCapabilitySets_positive() throws Exception {
     var query = "cql.allRecords = 1";
     var capabilitySet = capabilitySet();
-    when(capabilitySetService.find(query, 10, 15)).thenReturn(asSinglePage(capabilitySet));
+    when(capabilitySetService.find(query, 10, 15, EXACT)).thenReturn(asSinglePage(capabilitySet));
 
     mockMvc.perform(get("/capability-sets")
         .queryParam("query", query)
@@ -59,4 +68,39 @@ class CapabilitySetControllerTest {
       .andExpect(content().contentType(APPLICATION_JSON))
       .andExpect(content().json(asJsonString(capabilitySets(capabilitySet)), true));
   }
+
+  @Test
+  void findCapabilitySets_positive_stream() throws Exception {
+    var query = "cql.allRecords = 1";
+    var capabilitySet = capabilitySet();
+    doAnswer(inv -> {
+      inv.<Consumer<CapabilitySet>>getArgument(3).accept(capabilitySet);
+      return null;
+    }).when(capabilitySetService).stream(eq(query), eq(10), eq(15), any());
+
+    mockMvc.perform(get("/capability-sets")
+        .queryParam("query", query)
+        .queryParam("offset", "15")
+        .queryParam("limit", "10")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(capabilitySets(16, capabilitySet)), true));
+  }
+
+  @Test
+  void findCapabilitySets_negative_streamNegativeLimit() throws Exception {
+    mockMvc.perform(get("/capability-sets")
+        .queryParam("limit", "-1")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("streamCapabilitySets.limit must be greater than or equal to 0")))
+      .andExpect(jsonPath("$.errors[0].type", is("ConstraintViolationException")))
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+    verifyNoInteractions(capabilitySetService);
+  }
 }
@@ -6,5 +6,5 @@ import org.springframework.context.annotation.Import;
 
 @TestConfiguration
 @SpringBootConfiguration
-@Import({ApiExceptionHandler.class})
+@Import({ApiExceptionHandler.class, StreamingResponseWriter.class, SerializedJsonHttpMessageConverter.class})
 public class ControllerTestConfiguration {}
@@ -94,6 +94,20 @@ class MigrationControllerTest {
       .andExpect(content().json(asJsonString(permissionMigrationJob)));
   }
 
+  @Test
+  void resumeMigration_positive() throws Exception {
+    var permissionMigrationJob = permissionMigrationJob();
+
+    when(migrationService.resumeMigration(MIGRATION_ID)).thenReturn(permissionMigrationJob);
+
+    mockMvc.perform(post("/roles-keycloak/migrations/{id}/resume", MIGRATION_ID)
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(permissionMigrationJob)));
+  }
+
   @Test
   void getMigrationErrors_positive() throws Exception {
     var migrationErrors = new org.folio.roles.domain.dto.PermissionMigrationErrors()
@@ -0,0 +1,65 @@
+package org.folio.roles.controller;
+
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.folio.roles.domain.dto.PermissionsDictionary;
+import org.folio.roles.service.capability.PermissionDictionaryService;
+import org.folio.roles.service.capability.model.PermissionDictionary;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@UnitTest
+@WebMvcTest(PermissionsDictionaryController.class)
+@Import({ControllerTestConfiguration.class, PermissionsDictionaryController.class})
+class PermissionsDictionaryControllerTest {
+
+  private static final PermissionDictionary DICTIONARY = PermissionDictionary.of(1L, List.of("a.get", "b.get"));
+
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean private PermissionDictionaryService permissionDictionaryService;
+
+  @Test
+  void getPermissionsDictionary_positive() throws Exception {
+    when(permissionDictionaryService.getDictionary()).thenReturn(DICTIONARY);
+
+    var expected = new PermissionsDictionary()
+      .version(DICTIONARY.getVersion())
+      .permissions(List.of("a.get", "b.get"))
+      .totalRecords(2);
+    mockMvc.perform(get("/permissions/dictionary")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(header().string(ETAG, "\"" + DICTIONARY.getVersion() + "\""))
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(expected)));
+  }
+
+  @Test
+  void getPermissionsDictionary_positive_notModified() throws Exception {
+    when(permissionDictionaryService.getDictionary()).thenReturn(DICTIONARY);
+
+    mockMvc.perform(get("/permissions/dictionary")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID)
+        .header(IF_NONE_MATCH, "\"" + DICTIONARY.getVersion() + "\""))
+      .andExpect(status().isNotModified())
+      .andExpect(content().string(""));
+  }
+}
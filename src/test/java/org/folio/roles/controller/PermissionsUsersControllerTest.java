@@ -1,20 +1,35 @@
 package org.folio.roles.controller;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.folio.roles.support.CapabilityUtils.PERMISSION_NAME;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.test.TestUtils.asJsonString;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
+import static org.springframework.http.HttpHeaders.VARY;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
 import org.folio.roles.domain.dto.PermissionsUser;
+import org.folio.roles.domain.dto.PermissionsUserBitmap;
+import org.folio.roles.domain.model.SerializedPermissionsUser;
 import org.folio.roles.service.capability.CapabilityService;
+import org.folio.roles.service.capability.PermissionDictionaryService;
+import org.folio.roles.service.capability.model.SerializedPermissions;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -26,42 +41,43 @@ import org.springframework.test.web.servlet.MockMvc;
 @Import({ControllerTestConfiguration.class, PermissionsUsersController.class})
 class PermissionsUsersControllerTest {
 
+  private static final String ENTITY_TAG = "W/\"d41d8cd98f00b204e9800998ecf8427e\"";
+
   @Autowired private MockMvc mockMvc;
   @MockitoBean private CapabilityService capabilityService;
+  @MockitoBean private PermissionDictionaryService permissionDictionaryService;
 
   @Test
   void getPermissionsUser_positive() throws Exception {
     var foundPermissions = List.of(PERMISSION_NAME);
-    when(capabilityService.getUserPermissions(USER_ID, false, null, false)).thenReturn(foundPermissions);
+    var permissionsUser = new PermissionsUser().userId(USER_ID).permissions(foundPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
 
     mockMvc.perform(get("/permissions/users/{id}", USER_ID)
         .contentType(APPLICATION_JSON)
         .header(TENANT, TENANT_ID))
       .andExpect(content().contentType(APPLICATION_JSON))
-      .andExpect(content().json(asJsonString(
-        new PermissionsUser().userId(USER_ID).permissions(foundPermissions))
-      ));
+      .andExpect(content().json(asJsonString(permissionsUser)));
   }
 
   @Test
   void getPermissionsUser_positive_onlyVisibleIsTrue() throws Exception {
     var foundPermissions = List.of(PERMISSION_NAME);
-    when(capabilityService.getUserPermissions(USER_ID, true, null, false)).thenReturn(foundPermissions);
+    var permissionsUser = new PermissionsUser().userId(USER_ID).permissions(foundPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, true, null, false)).thenReturn(permissionsUser);
 
     mockMvc.perform(get("/permissions/users/{id}", USER_ID)
       .param("onlyVisible", "true")
       .contentType(APPLICATION_JSON)
       .header(TENANT, TENANT_ID))
       .andExpect(content().contentType(APPLICATION_JSON))
-      .andExpect(content().json(asJsonString(
-        new PermissionsUser().userId(USER_ID).permissions(foundPermissions))
-      ));
+      .andExpect(content().json(asJsonString(permissionsUser)));
   }
 
   @Test
   void getPermissionsUser_positive_defaultEntitledOnlyIsFalse() throws Exception {
-    var foundPermissions = List.of(PERMISSION_NAME);
-    when(capabilityService.getUserPermissions(USER_ID, false, null, false)).thenReturn(foundPermissions);
+    var permissionsUser = new PermissionsUser().userId(USER_ID).permissions(List.of(PERMISSION_NAME));
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
 
     mockMvc.perform(get("/permissions/users/{id}", USER_ID)
         .contentType(APPLICATION_JSON)
@@ -71,8 +87,8 @@ class PermissionsUsersControllerTest {
 
   @Test
   void getPermissionsUser_positive_entitledOnlyTrue() throws Exception {
-    var foundPermissions = List.of(PERMISSION_NAME);
-    when(capabilityService.getUserPermissions(USER_ID, false, null, true)).thenReturn(foundPermissions);
+    var permissionsUser = new PermissionsUser().userId(USER_ID).permissions(List.of(PERMISSION_NAME));
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, true)).thenReturn(permissionsUser);
 
     mockMvc.perform(get("/permissions/users/{id}", USER_ID)
         .param("entitledOnly", "true")
@@ -80,4 +96,104 @@ class PermissionsUsersControllerTest {
         .header(TENANT, TENANT_ID))
       .andExpect(content().contentType(APPLICATION_JSON));
   }
+
+  @Test
+  void getPermissionsUser_positive_serializedResponse() throws Exception {
+    var serializedJson = "{\"userId\":\"" + USER_ID + "\",\"permissions\":[\"" + PERMISSION_NAME + "\"]}";
+    var serializedPermissions = new SerializedPermissions(serializedJson.getBytes(UTF_8), null, ENTITY_TAG);
+    var permissionsUser = new SerializedPermissionsUser(USER_ID, List.of(PERMISSION_NAME), serializedPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, true, null, false)).thenReturn(permissionsUser);
+
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID)
+        .param("onlyVisible", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(header().string(ETAG, ENTITY_TAG))
+      .andExpect(header().doesNotExist(CONTENT_ENCODING))
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().string(serializedJson));
+  }
+
+  @Test
+  void getPermissionsUser_positive_notModified() throws Exception {
+    var serializedPermissions = new SerializedPermissions("{}".getBytes(UTF_8), null, ENTITY_TAG);
+    var permissionsUser = new SerializedPermissionsUser(USER_ID, List.of(PERMISSION_NAME), serializedPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
+
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID)
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID)
+        .header(IF_NONE_MATCH, ENTITY_TAG))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(ETAG, ENTITY_TAG))
+      .andExpect(content().string(""));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"gzip, deflate", "deflate, GZIP;q=0.5", "deflate, *;q=0.1", "br;q=1.0, gzip ; q=1"})
+  void getPermissionsUser_positive_gzippedResponse(String acceptEncoding) throws Exception {
+    var gzippedJson = new byte[] {31, -117, 8, 0};
+    var serializedPermissions = new SerializedPermissions("{}".getBytes(UTF_8), gzippedJson, ENTITY_TAG);
+    var permissionsUser = new SerializedPermissionsUser(USER_ID, List.of(PERMISSION_NAME), serializedPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
+
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID)
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID)
+        .header(ACCEPT_ENCODING, acceptEncoding))
+      .andExpect(status().isOk())
+      .andExpect(header().string(CONTENT_ENCODING, "gzip"))
+      .andExpect(header().string(VARY, ACCEPT_ENCODING))
+      .andExpect(content().bytes(gzippedJson));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"gzip;q=0", "x-gzip", "deflate, br", "*;q=1, gzip;q=0", "gzip;q=invalid", "*;q=0"})
+  void getPermissionsUser_positive_gzipRejectedByAcceptEncoding(String acceptEncoding) throws Exception {
+    var serializedPermissions = new SerializedPermissions("{}".getBytes(UTF_8), new byte[] {31, -117}, ENTITY_TAG);
+    var permissionsUser = new SerializedPermissionsUser(USER_ID, List.of(PERMISSION_NAME), serializedPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
+
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID)
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID)
+        .header(ACCEPT_ENCODING, acceptEncoding))
+      .andExpect(status().isOk())
+      .andExpect(header().doesNotExist(CONTENT_ENCODING))
+      .andExpect(content().string("{}"));
+  }
+
+  @Test
+  void getPermissionsUser_positive_gzipNotAccepted() throws Exception {
+    var serializedPermissions = new SerializedPermissions("{}".getBytes(UTF_8), new byte[] {31, -117}, ENTITY_TAG);
+    var permissionsUser = new SerializedPermissionsUser(USER_ID, List.of(PERMISSION_NAME), serializedPermissions);
+    when(capabilityService.getPermissionsUser(USER_ID, false, null, false)).thenReturn(permissionsUser);
+
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID)
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(header().doesNotExist(CONTENT_ENCODING))
+      .andExpect(header().string(VARY, ACCEPT_ENCODING))
+      .andExpect(content().string("{}"));
+  }
+
+  @Test
+  void getPermissionsUserBitmap_positive() throws Exception {
+    var permissionsUserBitmap = new PermissionsUserBitmap()
+      .userId(USER_ID)
+      .dictionaryVersion("version")
+      .bitmap(new byte[] {5});
+    when(permissionDictionaryService.getPermissionsUserBitmap(USER_ID, true, false)).thenReturn(permissionsUserBitmap);
+
+    mockMvc.perform(get("/permissions/users/{id}/bitmap", USER_ID)
+        .param("onlyVisible", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(jsonPath("$.dictionaryVersion").value("version"))
+      .andExpect(jsonPath("$.bitmap").value("BQ=="));
+  }
 }
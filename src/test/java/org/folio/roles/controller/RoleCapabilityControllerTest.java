@@ -1,6 +1,7 @@
 package org.folio.roles.controller;
 
 import static org.folio.roles.domain.model.PageResult.asSinglePage;
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_NAME;
 import static org.folio.roles.support.CapabilityUtils.CAPABILITY_ID;
@@ -119,7 +120,7 @@ class RoleCapabilityControllerTest {
   @Test
   void findByRoleId_positive() throws Exception {
     var foundCapability = capability();
-    when(capabilityService.findByRoleId(ROLE_ID, false, false, true, 100, 20))
+    when(capabilityService.findByRoleId(ROLE_ID, false, false, true, 100, 20, EXACT))
       .thenReturn(asSinglePage(foundCapability));
 
     mockMvc.perform(get("/roles/{id}/capabilities", ROLE_ID)
@@ -136,7 +137,7 @@ class RoleCapabilityControllerTest {
   void findByRoleId_positive_defaultPageParameters() throws Exception {
     var capability = capability();
     when(roleService.getById(ROLE_ID)).thenReturn(role());
-    when(capabilityService.findByRoleId(ROLE_ID, false, false, true, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByRoleId(ROLE_ID, false, false, true, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/roles/{id}/capabilities", ROLE_ID)
         .contentType(APPLICATION_JSON)
@@ -151,7 +152,7 @@ class RoleCapabilityControllerTest {
   void findByRoleId_positive_expandCapabilities() throws Exception {
     var capability = capability();
     when(roleService.getById(ROLE_ID)).thenReturn(role());
-    when(capabilityService.findByRoleId(ROLE_ID, true, false, true, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByRoleId(ROLE_ID, true, false, true, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/roles/{id}/capabilities", ROLE_ID)
         .queryParam("expand", "true")
@@ -167,7 +168,7 @@ class RoleCapabilityControllerTest {
   void findByRoleId_positive_dedupFalse() throws Exception {
     var capability = capability();
     when(roleService.getById(ROLE_ID)).thenReturn(role());
-    when(capabilityService.findByRoleId(ROLE_ID, true, false, false, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByRoleId(ROLE_ID, true, false, false, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/roles/{id}/capabilities", ROLE_ID)
         .queryParam("expand", "true")
@@ -184,7 +185,7 @@ class RoleCapabilityControllerTest {
   void findByRoleId_positive_includeDummyCapabilities() throws Exception {
     var capability = capability();
     when(roleService.getById(ROLE_ID)).thenReturn(role());
-    when(capabilityService.findByRoleId(ROLE_ID, false, true, true, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByRoleId(ROLE_ID, false, true, true, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/roles/{id}/capabilities", ROLE_ID)
         .queryParam("includeDummy", "true")
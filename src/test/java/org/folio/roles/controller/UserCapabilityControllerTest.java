@@ -1,6 +1,7 @@
 package org.folio.roles.controller;
 
 import static org.folio.roles.domain.model.PageResult.asSinglePage;
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilityUtils.capabilities;
 import static org.folio.roles.support.CapabilityUtils.capability;
@@ -11,7 +12,12 @@ import static org.folio.roles.support.UserCapabilityUtils.userCapabilities;
 import static org.folio.roles.support.UserCapabilityUtils.userCapability;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.test.TestUtils.asJsonString;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -19,11 +25,14 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.function.Consumer;
 import org.folio.roles.domain.dto.CapabilitiesUpdateRequest;
 import org.folio.roles.domain.dto.UserCapabilitiesRequest;
+import org.folio.roles.domain.dto.UserCapability;
 import org.folio.roles.integration.keyclock.KeycloakUserService;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.roles.service.capability.UserCapabilityService;
@@ -66,7 +75,7 @@ class UserCapabilityControllerTest {
   void searchUserCapabilities_positive() throws Exception {
     var query = "cql.allRecords=1";
     var userCapability = userCapability();
-    when(userCapabilityService.find(query, 100, 20)).thenReturn(asSinglePage(userCapability));
+    when(userCapabilityService.find(query, 100, 20, EXACT)).thenReturn(asSinglePage(userCapability));
 
     mockMvc.perform(get("/users/capabilities")
         .contentType(APPLICATION_JSON)
@@ -82,7 +91,7 @@ class UserCapabilityControllerTest {
   @Test
   void searchUserCapabilities_positive_defaultQueryAndPageParameters() throws Exception {
     var userCapability = userCapability();
-    when(userCapabilityService.find(null, 10, 0)).thenReturn(asSinglePage(userCapability));
+    when(userCapabilityService.find(null, 10, 0, EXACT)).thenReturn(asSinglePage(userCapability));
 
     mockMvc.perform(get("/users/capabilities")
         .contentType(APPLICATION_JSON)
@@ -92,10 +101,44 @@ class UserCapabilityControllerTest {
       .andExpect(content().json(asJsonString(userCapabilities(1, userCapability)), JsonCompareMode.STRICT));
   }
 
+  @Test
+  void searchUserCapabilities_positive_stream() throws Exception {
+    var query = "cql.allRecords=1";
+    var userCapability = userCapability();
+    doAnswer(inv -> {
+      inv.<Consumer<UserCapability>>getArgument(3).accept(userCapability);
+      return null;
+    }).when(userCapabilityService).stream(eq(query), eq(100), eq(0), any());
+
+    mockMvc.perform(get("/users/capabilities")
+        .contentType(APPLICATION_JSON)
+        .param("query", query)
+        .param("limit", "100")
+        .param("stream", "true")
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(APPLICATION_JSON))
+      .andExpect(content().json(asJsonString(userCapabilities(1, userCapability)), JsonCompareMode.STRICT));
+  }
+
+  @Test
+  void searchUserCapabilities_negative_streamNegativeLimit() throws Exception {
+    mockMvc.perform(get("/users/capabilities")
+        .queryParam("limit", "-1")
+        .queryParam("stream", "true")
+        .contentType(APPLICATION_JSON)
+        .header(TENANT, TENANT_ID))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors[0].message", is("streamUserCapabilities.limit must be greater than or equal to 0")))
+      .andExpect(jsonPath("$.errors[0].type", is("ConstraintViolationException")))
+      .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+    verifyNoInteractions(userCapabilityService);
+  }
+
   @Test
   void findByUserId_positive() throws Exception {
     var foundCapability = capability();
-    when(capabilityService.findByUserId(USER_ID, false, false, 100, 20)).thenReturn(asSinglePage(foundCapability));
+    when(capabilityService.findByUserId(USER_ID, false, false, 100, 20, EXACT)).thenReturn(asSinglePage(foundCapability));
 
     mockMvc.perform(get("/users/{id}/capabilities", USER_ID)
         .param("limit", "100")
@@ -111,7 +154,7 @@ class UserCapabilityControllerTest {
   void findByUserId_positive_defaultPageParameters() throws Exception {
     var capability = capability();
     when(keycloakUserService.getKeycloakUserByUserId(USER_ID)).thenReturn(keycloakUser());
-    when(capabilityService.findByUserId(USER_ID, false, false, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByUserId(USER_ID, false, false, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/users/{id}/capabilities", USER_ID)
         .contentType(APPLICATION_JSON)
@@ -126,7 +169,7 @@ class UserCapabilityControllerTest {
   void findByUserId_positive_expandCapabilities() throws Exception {
     var capability = capability();
     when(keycloakUserService.getKeycloakUserByUserId(USER_ID)).thenReturn(keycloakUser());
-    when(capabilityService.findByUserId(USER_ID, true, false, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByUserId(USER_ID, true, false, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/users/{id}/capabilities", USER_ID)
         .queryParam("expand", "true")
@@ -141,7 +184,7 @@ class UserCapabilityControllerTest {
   void findByUserId_positive_expandCapabilitiesAndIncludeDummy() throws Exception {
     var capability = capability();
     when(keycloakUserService.getKeycloakUserByUserId(USER_ID)).thenReturn(keycloakUser());
-    when(capabilityService.findByUserId(USER_ID, true, true, 10, 0)).thenReturn(asSinglePage(capability));
+    when(capabilityService.findByUserId(USER_ID, true, true, 10, 0, EXACT)).thenReturn(asSinglePage(capability));
 
     mockMvc.perform(get("/users/{id}/capabilities", USER_ID)
         .queryParam("expand", "true")
@@ -1,5 +1,6 @@
 package org.folio.roles.controller;
 
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
 import static org.folio.roles.support.RoleUtils.ROLE_ID;
 import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.folio.roles.support.UserRoleTestUtils.userRole;
@@ -8,9 +9,14 @@ import static org.folio.roles.support.UserRoleTestUtils.userRolesRequest;
 import static org.folio.test.TestUtils.asJsonString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.json.JsonCompareMode.STRICT;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -22,6 +28,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.folio.roles.domain.dto.UserRole;
+import org.folio.roles.domain.dto.UserRoles;
 import org.folio.roles.integration.keyclock.exception.KeycloakApiException;
 import org.folio.roles.service.role.UserRoleService;
 import org.folio.test.types.UnitTest;
@@ -123,12 +132,36 @@ class UserRoleControllerTest {
     @Test
     void positive() throws Exception {
       var userRoles = userRoles(List.of(userRole(ROLE_ID)));
-      when(service.findByQuery(null, 0, 10)).thenReturn(userRoles);
+      when(service.findByQuery(null, 0, 10, EXACT)).thenReturn(userRoles);
       mockMvc.perform(get("/roles/users"))
         .andExpect(status().isOk())
         .andExpect(content().contentType(APPLICATION_JSON))
         .andExpect(content().json(asJsonString(userRoles)));
     }
+
+    @Test
+    void positive_streamFullPage() throws Exception {
+      var userRole = userRole(ROLE_ID);
+      doAnswer(inv -> {
+        inv.<Consumer<UserRole>>getArgument(3).accept(userRole);
+        return null;
+      }).when(service).streamByQuery(isNull(), eq(0), eq(1), any());
+
+      mockMvc.perform(get("/roles/users").queryParam("limit", "1").queryParam("stream", "true"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(APPLICATION_JSON))
+        .andExpect(content().json(asJsonString(new UserRoles().userRoles(List.of(userRole))), STRICT));
+    }
+
+    @Test
+    void negative_streamNegativeLimit() throws Exception {
+      mockMvc.perform(get("/roles/users").queryParam("limit", "-1").queryParam("stream", "true"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].message", is("streamUserRoles.limit must be greater than or equal to 0")))
+        .andExpect(jsonPath("$.errors[0].type", is("ConstraintViolationException")))
+        .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
+      verifyNoInteractions(service);
+    }
   }
 
   @Nested
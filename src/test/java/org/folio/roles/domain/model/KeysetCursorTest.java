@@ -0,0 +1,39 @@
+package org.folio.roles.domain.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+import org.folio.roles.exception.RequestValidationException;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class KeysetCursorTest {
+
+  @Test
+  void encode_positive_decodedBack() {
+    var cursor = new KeysetCursor("foo_item:bar.view", UUID.randomUUID());
+
+    var result = KeysetCursor.decode(cursor.encode());
+
+    assertThat(result).isEqualTo(cursor);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  void decode_positive_firstPage(String token) {
+    assertThat(KeysetCursor.decode(token)).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"!invalid!", "Zm9vX2l0ZW0", "Zm9vX2l0ZW06YmFy"})
+  void decode_negative_invalidToken(String token) {
+    assertThatThrownBy(() -> KeysetCursor.decode(token))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Invalid cursor value");
+  }
+}
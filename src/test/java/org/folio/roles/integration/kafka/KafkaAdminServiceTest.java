@@ -0,0 +1,81 @@
+package org.folio.roles.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.roles.exception.TenantListenersPausedException;
+import org.folio.roles.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaAdminServiceTest {
+
+  private static final String TENANT_ID = "tenant";
+  private static final TopicPartition TENANT_PARTITION =
+    new TopicPartition("folio.tenant.mgr-tenant-entitlements.capability", 0);
+  private static final TopicPartition OTHER_TENANT_PARTITION =
+    new TopicPartition("folio.tenant2.mgr-tenant-entitlements.capability", 0);
+  private static final TopicPartition OTHER_ENVIRONMENT_PARTITION =
+    new TopicPartition("other.folio.tenant.mgr-tenant-entitlements.capability", 0);
+
+  private KafkaAdminService kafkaAdminService;
+  @Mock private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock private MessageListenerContainer container;
+
+  @BeforeEach
+  void setUp() {
+    kafkaAdminService = new KafkaAdminService(kafkaListenerEndpointRegistry, "folio");
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void pauseTenantListeners_positive_resumedByLastResumeRequest() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers()).thenReturn(List.of(container));
+    when(container.getAssignedPartitions())
+      .thenReturn(Set.of(TENANT_PARTITION, OTHER_TENANT_PARTITION, OTHER_ENVIRONMENT_PARTITION));
+
+    kafkaAdminService.pauseTenantListeners(TENANT_ID);
+    kafkaAdminService.pauseTenantListeners(TENANT_ID);
+    kafkaAdminService.resumeTenantListeners(TENANT_ID);
+    verify(container).pausePartition(TENANT_PARTITION);
+
+    kafkaAdminService.resumeTenantListeners(TENANT_ID);
+    verify(container).resumePartition(TENANT_PARTITION);
+  }
+
+  @Test
+  void checkTenantListenersNotPaused_positive_notPaused() {
+    kafkaAdminService.checkTenantListenersNotPaused(TENANT_ID);
+  }
+
+  @Test
+  void checkTenantListenersNotPaused_negative_paused() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers()).thenReturn(List.of(container));
+    when(container.getAssignedPartitions()).thenReturn(Set.of(TENANT_PARTITION));
+
+    kafkaAdminService.pauseTenantListeners(TENANT_ID);
+    assertThatThrownBy(() -> kafkaAdminService.checkTenantListenersNotPaused(TENANT_ID))
+      .isInstanceOf(TenantListenersPausedException.class)
+      .hasMessage("Kafka listeners are paused for tenant: tenant");
+
+    verify(container, times(2)).pausePartition(TENANT_PARTITION);
+  }
+}
@@ -4,7 +4,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.roles.support.CapabilityUtils.APPLICATION_ID;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -17,8 +19,11 @@ import java.util.Optional;
 import java.util.concurrent.Callable;
 import org.folio.integration.kafka.model.ResourceEvent;
 import org.folio.roles.domain.model.CapabilityReplacements;
+import org.folio.roles.exception.TenantListenersPausedException;
+import org.folio.roles.integration.mte.MteEntitlementService;
 import org.folio.roles.service.capability.CapabilityReplacementsService;
 import org.folio.roles.service.capability.UserPermissionsCacheEvictor;
+import org.folio.roles.service.metrics.MetricsService;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.context.ExecutionContextBuilder;
@@ -48,6 +53,9 @@ class KafkaMessageListenerTest {
   @Mock private ExecutionContextBuilder executionContextBuilder;
   @Mock private UserPermissionsCacheEvictor userPermissionsCacheEvictor;
   @Mock private LiquibaseMigrationLockService liquibaseMigrationLockService;
+  @Mock private MetricsService metricsService;
+  @Mock private KafkaAdminService kafkaAdminService;
+  @Mock private MteEntitlementService mteEntitlementService;
 
   @AfterEach
   void tearDown() {
@@ -57,9 +65,9 @@ class KafkaMessageListenerTest {
 
   @BeforeEach
   void setUp() {
-    when(executionContextBuilder.buildContext(TENANT_ID))
+    lenient().when(executionContextBuilder.buildContext(TENANT_ID))
       .thenReturn(mock(FolioExecutionContext.class));
-    when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(false);
+    lenient().when(liquibaseMigrationLockService.isMigrationRunning()).thenReturn(false);
   }
 
   @Test
@@ -72,6 +80,8 @@ class KafkaMessageListenerTest {
     // Assert
     verify(capabilityKafkaEventHandler).handleEvent(resourceEvent);
     verify(userPermissionsCacheEvictor).evictUserPermissionsForCurrentTenant();
+    verify(mteEntitlementService).markOutdatedForCurrentTenant();
+    verify(metricsService).recordCapabilityEvent(any(), eq(TENANT_ID), eq(MODULE_ID), eq("success"));
     verifyNoInteractions(capabilityReplacementsService);
   }
 
@@ -105,6 +115,7 @@ class KafkaMessageListenerTest {
       .hasMessage("error");
 
     verify(userPermissionsCacheEvictor).evictUserPermissionsForCurrentTenant();
+    verify(metricsService).recordCapabilityEvent(any(), eq(TENANT_ID), eq(MODULE_ID), eq("failure"));
     verifyNoInteractions(capabilityReplacementsService);
   }
 
@@ -163,6 +174,20 @@ class KafkaMessageListenerTest {
     verify(userPermissionsCacheEvictor).evictUserPermissionsForCurrentTenant();
   }
 
+  @Test
+  void handleCapabilityEvent_negative_tenantListenersPaused() {
+    var resourceEvent = resourceEvent();
+    doThrow(new TenantListenersPausedException("Kafka listeners are paused for tenant: " + TENANT_ID))
+      .when(kafkaAdminService).checkTenantListenersNotPaused(TENANT_ID);
+
+    assertThatThrownBy(() -> kafkaMessageListener.handleCapabilityEvent(resourceEvent))
+      .isInstanceOf(TenantListenersPausedException.class)
+      .hasMessage("Kafka listeners are paused for tenant: " + TENANT_ID);
+
+    verifyNoInteractions(capabilityKafkaEventHandler, userPermissionsCacheEvictor, mteEntitlementService,
+      metricsService, liquibaseMigrationLockService);
+  }
+
   private void givenSystemUserScopedExecutionRunsCallable() {
     when(systemUserScopedExecutionService.executeSystemUserScoped(any())).thenAnswer(inv -> {
       Callable<?> callable = inv.getArgument(0);
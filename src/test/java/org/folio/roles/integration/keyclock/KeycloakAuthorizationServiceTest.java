@@ -18,6 +18,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -107,7 +108,7 @@ class KeycloakAuthorizationServiceTest {
     props.setPermissions(permissions);
 
     var context = new DefaultFolioExecutionContext(new TestModRolesKeycloakModuleMetadata(), emptyMap());
-    permissionsExecutor = new KeycloakPermissionsExecutor(props, context, null);
+    permissionsExecutor = new KeycloakPermissionsExecutor(props, context, ObservationRegistry.NOOP, null);
     keycloakAuthService = new KeycloakAuthorizationService(jsonHelper, authResourceProvider, permissionsExecutor);
   }
 
@@ -0,0 +1,90 @@
+package org.folio.roles.integration.keyclock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Response;
+import java.net.URI;
+import org.folio.roles.service.metrics.MetricsService;
+import org.folio.roles.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.jboss.resteasy.client.jaxrs.ClientHttpEngine;
+import org.jboss.resteasy.client.jaxrs.internal.ClientInvocation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakMetricsHttpEngineTest {
+
+  private static final String POLICY_PATH = "/admin/realms/" + TENANT_ID + "/clients/c1/authz/resource-server/policy";
+
+  @InjectMocks private KeycloakMetricsHttpEngine keycloakMetricsHttpEngine;
+  @Mock private ClientHttpEngine delegate;
+  @Mock private MetricsService metricsService;
+  @Mock private ClientInvocation invocation;
+  @Mock private Response response;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void invoke_positive() {
+    when(invocation.getUri()).thenReturn(URI.create("http://keycloak:8080" + POLICY_PATH + "/user"));
+    when(invocation.getMethod()).thenReturn("POST");
+    when(delegate.invoke(invocation)).thenReturn(response);
+    when(response.getStatus()).thenReturn(201);
+
+    var result = keycloakMetricsHttpEngine.invoke(invocation);
+
+    assertThat(result).isSameAs(response);
+    verify(metricsService).recordKeycloakRequest(eq("POST"), eq("policy"), eq("201"), eq("none"), eq(TENANT_ID),
+      anyLong());
+  }
+
+  @Test
+  void invoke_negative_connectionFailure() {
+    var error = new ProcessingException("Connection refused");
+    when(invocation.getUri()).thenReturn(URI.create("http://keycloak:8080" + POLICY_PATH));
+    when(invocation.getMethod()).thenReturn("GET");
+    when(delegate.invoke(invocation)).thenThrow(error);
+
+    assertThatThrownBy(() -> keycloakMetricsHttpEngine.invoke(invocation)).isSameAs(error);
+
+    verify(metricsService).recordKeycloakRequest(eq("GET"), eq("policy"), eq("CLIENT_ERROR"),
+      eq("ProcessingException"), eq(TENANT_ID), anyLong());
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "/admin/realms/test/clients/c1/authz/resource-server/permission/scope/p1, permission",
+    "/admin/realms/test/users/u1/role-mappings/realm, role-mapping",
+    "/admin/realms/test/users, user",
+    "/admin/realms/test/roles/r1, role",
+    "/realms/master/protocol/openid-connect/token, token",
+    "/admin/serverinfo, other"
+  })
+  void getResourceType_parameterized(String path, String expected) {
+    assertThat(KeycloakMetricsHttpEngine.getResourceType(path)).isEqualTo(expected);
+  }
+
+  @Test
+  void getRealm_positive() {
+    assertThat(KeycloakMetricsHttpEngine.getRealm("/admin/realms/test/users")).isEqualTo("test");
+    assertThat(KeycloakMetricsHttpEngine.getRealm("/admin/serverinfo")).isNull();
+  }
+}
@@ -4,6 +4,7 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.micrometer.observation.ObservationRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -163,6 +164,44 @@ class KeycloakPermissionsExecutorTest {
     }
   }
 
+  @Test
+  void executeAwaitsRunningOperationsOnError() {
+    executor = buildExecutor(2, 2);
+
+    var endpoints = List.of(
+      new Endpoint().path("/slow").method(HttpMethod.GET),
+      new Endpoint().path("/fail").method(HttpMethod.GET)
+    );
+
+    var slowStarted = new CountDownLatch(1);
+    var completed = new ConcurrentLinkedQueue<String>();
+    assertThatThrownBy(() -> executor.execute(endpoints, endpoint -> {
+      if (endpoint.getPath().equals("/slow")) {
+        slowStarted.countDown();
+        // Ignores the interruption, as a blocking HTTP call can do
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        while (System.nanoTime() < deadline) {
+          Thread.onSpinWait();
+        }
+        completed.add(endpoint.getPath());
+        return;
+      }
+
+      try {
+        if (!slowStarted.await(5, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("slow endpoint did not start within 5s");
+        }
+      } catch (InterruptedException interruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IllegalStateException("boom");
+    }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("boom");
+
+    assertThat(completed).containsExactly("/slow");
+  }
+
   private KeycloakPermissionsExecutor buildExecutor(int parallelism, int batchSize) {
     var props = new KeycloakConfigurationProperties();
     var permissions = new KeycloakConfigurationProperties.Permissions();
@@ -172,7 +211,7 @@ class KeycloakPermissionsExecutorTest {
     var context = new DefaultFolioExecutionContext(new TestModRolesKeycloakModuleMetadata(), emptyMap());
     // Mirror the bean logic: allocate a fixed pool with core-thread timeout when parallelism > 1
     sharedExecutorService = parallelism > 1 ? buildExecutorService(parallelism) : null;
-    return new KeycloakPermissionsExecutor(props, context, sharedExecutorService);
+    return new KeycloakPermissionsExecutor(props, context, ObservationRegistry.NOOP, sharedExecutorService);
   }
 
   private static ExecutorService buildExecutorService(int parallelism) {
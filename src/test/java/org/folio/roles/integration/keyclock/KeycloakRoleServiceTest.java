@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 import jakarta.ws.rs.NotAuthorizedException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.WebApplicationException;
+import java.util.List;
 import org.folio.roles.integration.keyclock.exception.KeycloakApiException;
 import org.folio.roles.mapper.KeycloakRoleMapper;
 import org.folio.roles.support.TestUtils;
@@ -36,6 +37,7 @@ import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RealmResource;
 import org.keycloak.admin.client.resource.RoleByIdResource;
 import org.keycloak.admin.client.resource.RolesResource;
+import org.keycloak.representations.idm.RoleRepresentation;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -106,6 +108,42 @@ class KeycloakRoleServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("findByNames")
+  class FindByNames {
+
+    @Test
+    void positive() {
+      var role = role();
+      var keycloakRole = keycloakRole();
+      var otherKeycloakRole = new RoleRepresentation();
+      otherKeycloakRole.setName("other-role");
+
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(realmResource.roles().list(0, 1000, true)).thenReturn(List.of(otherKeycloakRole, keycloakRole));
+      when(keycloakRoleMapper.toRole(keycloakRole)).thenReturn(role);
+
+      var result = keycloakRoleService.findByNames(List.of(ROLE_NAME, "unknown-role"));
+
+      assertThat(result).containsExactly(role);
+      verify(realmResource, atLeastOnce()).roles();
+    }
+
+    @Test
+    void negative_keycloakApiExceptionIfUnauthorized() {
+      var exception = new NotAuthorizedException(new ServerResponse(null, 401, new Headers<>()));
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(realmResource.roles().list(0, 1000, true)).thenThrow(exception);
+
+      var roleNames = List.of(ROLE_NAME);
+      assertThatThrownBy(() -> keycloakRoleService.findByNames(roleNames))
+        .isInstanceOf(KeycloakApiException.class)
+        .hasMessage("Failed to find roles by names");
+
+      verify(realmResource, atLeastOnce()).roles();
+    }
+  }
+
   @Nested
   @DisplayName("create")
   class Create {
@@ -1,19 +1,28 @@
 package org.folio.roles.integration.keyclock;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.roles.support.KeycloakUserUtils.KEYCLOAK_USER_ID;
 import static org.folio.roles.support.RoleUtils.keycloakRole;
 import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.folio.test.TestConstants.TENANT_ID;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.NotAuthorizedException;
+import jakarta.ws.rs.NotFoundException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.folio.roles.domain.dto.Role;
 import org.folio.roles.integration.keyclock.exception.KeycloakApiException;
 import org.folio.roles.mapper.KeycloakRoleMapper;
@@ -48,6 +57,7 @@ class KeycloakRolesUserServiceTest {
   @Mock private KeycloakRoleMapper keycloakRoleMapper;
   @Mock private KeycloakUserService userService;
   @Mock private FolioExecutionContext context;
+  @Mock private KeycloakPermissionsExecutor keycloakPermissionsExecutor;
 
   @Mock private RoleScopeResource roleScopeResource;
   @Mock(answer = RETURNS_DEEP_STUBS) private RealmResource realmResource;
@@ -55,7 +65,6 @@ class KeycloakRolesUserServiceTest {
   @BeforeEach
   void beforeEach() {
     when(context.getTenantId()).thenReturn(TENANT_ID);
-    when(userService.findKeycloakIdByUserId(USER_ID)).thenReturn(KEYCLOAK_USER_ID);
   }
 
   @AfterEach
@@ -71,6 +80,11 @@ class KeycloakRolesUserServiceTest {
   @DisplayName("assignRolesToUser")
   class AssignRolesToUser {
 
+    @BeforeEach
+    void setUp() {
+      when(userService.findKeycloakIdByUserId(USER_ID)).thenReturn(KEYCLOAK_USER_ID);
+    }
+
     @Test
     void positive() {
       var role1 = role(ROLE_ID_1, "test-role-1");
@@ -112,12 +126,138 @@ class KeycloakRolesUserServiceTest {
 
       verify(realmResource, atLeastOnce()).users();
     }
+
+    @Test
+    void positive_keycloakUserIdIsOutdated() {
+      var role1 = role(ROLE_ID_1, "test-role-1");
+      var keycloakRole1 = keycloakRole(role1);
+      var actualKeycloakUserId = UUID.randomUUID().toString();
+      var actualRoleScopeResource = mock(RoleScopeResource.class);
+
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(keycloakRoleMapper.toKeycloakRole(role1)).thenReturn(keycloakRole1);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).roles().realmLevel()).thenReturn(roleScopeResource);
+      when(realmResource.users().get(actualKeycloakUserId).roles().realmLevel()).thenReturn(actualRoleScopeResource);
+      doThrow(NotFoundException.class).when(roleScopeResource).add(List.of(keycloakRole1));
+      when(userService.refreshKeycloakIdByUserId(USER_ID)).thenReturn(actualKeycloakUserId);
+
+      service.assignRolesToUser(USER_ID, List.of(role1));
+
+      verify(realmResource, atLeastOnce()).users();
+      verify(actualRoleScopeResource).add(List.of(keycloakRole1));
+    }
+
+    @Test
+    void negative_keycloakUserIsNotFound() {
+      var role1 = role(ROLE_ID_1, "test-role-1");
+      var keycloakRole1 = keycloakRole(role1);
+
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(keycloakRoleMapper.toKeycloakRole(role1)).thenReturn(keycloakRole1);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).roles().realmLevel()).thenReturn(roleScopeResource);
+      doThrow(new NotFoundException()).when(roleScopeResource).add(List.of(keycloakRole1));
+      when(userService.refreshKeycloakIdByUserId(USER_ID)).thenReturn(KEYCLOAK_USER_ID);
+
+      assertThatThrownBy(() -> service.assignRolesToUser(USER_ID, List.of(role1)))
+        .isInstanceOf(KeycloakApiException.class)
+        .hasMessage("Failed to assign roles to user: userId = %s", USER_ID);
+
+      verify(realmResource, atLeastOnce()).users();
+    }
+  }
+
+  @Nested
+  @DisplayName("assignRolesToUsers")
+  class AssignRolesToUsers {
+
+    private static final UUID USER_ID_2 = UUID.randomUUID();
+    private static final String KEYCLOAK_USER_ID_2 = UUID.randomUUID().toString();
+
+    @BeforeEach
+    void setUp() {
+      doAnswer(inv -> {
+        inv.<List<UUID>>getArgument(0).forEach(inv.<Consumer<UUID>>getArgument(1));
+        return null;
+      }).when(keycloakPermissionsExecutor).executeAll(anyList(), any());
+    }
+
+    @Test
+    void positive() {
+      var role1 = role(ROLE_ID_1, "test-role-1");
+      var role2 = role(ROLE_ID_2, "test-role-2");
+      var keycloakRole1 = keycloakRole(role1);
+      var keycloakRole2 = keycloakRole(role2);
+      var rolesByUserId = new LinkedHashMap<UUID, List<Role>>();
+      rolesByUserId.put(USER_ID, List.of(role1, role2));
+      rolesByUserId.put(USER_ID_2, List.of(role1));
+      var roleScopeResource2 = mock(RoleScopeResource.class);
+
+      when(userService.findKeycloakIdsByUserIds(rolesByUserId.keySet()))
+        .thenReturn(Map.of(USER_ID, KEYCLOAK_USER_ID, USER_ID_2, KEYCLOAK_USER_ID_2));
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(keycloakRoleMapper.toKeycloakRole(role1)).thenReturn(keycloakRole1);
+      when(keycloakRoleMapper.toKeycloakRole(role2)).thenReturn(keycloakRole2);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).roles().realmLevel()).thenReturn(roleScopeResource);
+      when(realmResource.users().get(KEYCLOAK_USER_ID_2).roles().realmLevel()).thenReturn(roleScopeResource2);
+
+      var result = service.assignRolesToUsers(rolesByUserId);
+
+      assertThat(result).isEmpty();
+      verify(realmResource, atLeastOnce()).users();
+      verify(roleScopeResource).add(List.of(keycloakRole1, keycloakRole2));
+      verify(roleScopeResource2).add(List.of(keycloakRole1));
+    }
+
+    @Test
+    void negative_keycloakUserNotFound() {
+      var role1 = role(ROLE_ID_1, "test-role-1");
+      var keycloakRole1 = keycloakRole(role1);
+      var rolesByUserId = new LinkedHashMap<UUID, List<Role>>();
+      rolesByUserId.put(USER_ID, List.of(role1));
+      rolesByUserId.put(USER_ID_2, List.of(role1));
+
+      when(userService.findKeycloakIdsByUserIds(rolesByUserId.keySet())).thenReturn(Map.of(USER_ID, KEYCLOAK_USER_ID));
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(keycloakRoleMapper.toKeycloakRole(role1)).thenReturn(keycloakRole1);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).roles().realmLevel()).thenReturn(roleScopeResource);
+
+      var result = service.assignRolesToUsers(rolesByUserId);
+
+      assertThat(result).containsExactly(USER_ID_2);
+      verify(realmResource, atLeastOnce()).users();
+      verify(roleScopeResource).add(List.of(keycloakRole1));
+    }
+
+    @Test
+    void negative_unauthorizedException() {
+      var role1 = role(ROLE_ID_1, "test-role-1");
+      var keycloakRole1 = keycloakRole(role1);
+      var rolesByUserId = Map.of(USER_ID, List.of(role1));
+
+      when(userService.findKeycloakIdsByUserIds(rolesByUserId.keySet())).thenReturn(Map.of(USER_ID, KEYCLOAK_USER_ID));
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(keycloakRoleMapper.toKeycloakRole(role1)).thenReturn(keycloakRole1);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).roles().realmLevel()).thenReturn(roleScopeResource);
+
+      var exception = new NotAuthorizedException(new ServerResponse(null, 401, new Headers<>()));
+      doThrow(exception).when(roleScopeResource).add(List.of(keycloakRole1));
+
+      var result = service.assignRolesToUsers(rolesByUserId);
+
+      assertThat(result).containsExactly(USER_ID);
+      verify(realmResource, atLeastOnce()).users();
+    }
   }
 
   @Nested
   @DisplayName("unlinkRolesFromUser")
   class UnlinkRolesFromUser {
 
+    @BeforeEach
+    void setUp() {
+      when(userService.findKeycloakIdByUserId(USER_ID)).thenReturn(KEYCLOAK_USER_ID);
+    }
+
     @Test
     void positive() {
       var role1 = role(ROLE_ID_1, "test-role-1");
@@ -0,0 +1,123 @@
+package org.folio.roles.integration.keyclock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.KeycloakUserUtils.KEYCLOAK_USER_ID;
+import static org.folio.roles.support.TestConstants.USER_ID;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.roles.domain.entity.KeycloakUserIdMappingEntity;
+import org.folio.roles.repository.KeycloakUserIdMappingRepository;
+import org.folio.roles.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakUserIdMappingServiceTest {
+
+  @InjectMocks private KeycloakUserIdMappingService service;
+  @Mock private KeycloakUserIdMappingRepository repository;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  private static KeycloakUserIdMappingEntity mapping(UUID userId, String keycloakUserId) {
+    var entity = new KeycloakUserIdMappingEntity();
+    entity.setUserId(userId);
+    entity.setKeycloakUserId(keycloakUserId);
+    return entity;
+  }
+
+  @Nested
+  @DisplayName("findKeycloakUserId")
+  class FindKeycloakUserId {
+
+    @Test
+    void positive() {
+      when(repository.findById(USER_ID)).thenReturn(Optional.of(mapping(USER_ID, KEYCLOAK_USER_ID)));
+
+      var result = service.findKeycloakUserId(USER_ID);
+
+      assertThat(result).contains(KEYCLOAK_USER_ID);
+    }
+
+    @Test
+    void positive_mappingNotFound() {
+      when(repository.findById(USER_ID)).thenReturn(Optional.empty());
+
+      var result = service.findKeycloakUserId(USER_ID);
+
+      assertThat(result).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("findKeycloakUserIds")
+  class FindKeycloakUserIds {
+
+    @Test
+    void positive() {
+      var userId2 = UUID.randomUUID();
+      var userIds = List.of(USER_ID, userId2);
+      when(repository.findAllByUserIdIn(userIds)).thenReturn(List.of(mapping(USER_ID, KEYCLOAK_USER_ID)));
+
+      var result = service.findKeycloakUserIds(userIds);
+
+      assertThat(result).isEqualTo(Map.of(USER_ID, KEYCLOAK_USER_ID));
+    }
+  }
+
+  @Nested
+  @DisplayName("save")
+  class Save {
+
+    @Test
+    void positive() {
+      var result = service.save(USER_ID, KEYCLOAK_USER_ID);
+
+      assertThat(result).isEqualTo(KEYCLOAK_USER_ID);
+      verify(repository).upsert(USER_ID, KEYCLOAK_USER_ID);
+    }
+  }
+
+  @Nested
+  @DisplayName("saveAll")
+  class SaveAll {
+
+    @Test
+    void positive() {
+      var userId2 = UUID.randomUUID();
+      var keycloakUserId2 = UUID.randomUUID().toString();
+
+      service.saveAll(Map.of(USER_ID, KEYCLOAK_USER_ID, userId2, keycloakUserId2));
+
+      verify(repository).upsert(USER_ID, KEYCLOAK_USER_ID);
+      verify(repository).upsert(userId2, keycloakUserId2);
+    }
+  }
+
+  @Nested
+  @DisplayName("delete")
+  class Delete {
+
+    @Test
+    void positive() {
+      service.delete(USER_ID);
+      verify(repository).deleteById(USER_ID);
+    }
+  }
+}
@@ -9,12 +9,15 @@ import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.folio.test.TestConstants.TENANT_ID;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.ws.rs.NotFoundException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.folio.roles.support.TestUtils;
 import org.folio.spring.FolioExecutionContext;
@@ -38,6 +41,7 @@ class KeycloakUserServiceTest {
   @Mock private Keycloak keycloak;
   @Mock(answer = RETURNS_DEEP_STUBS) private RealmResource realmResource;
   @Mock private FolioExecutionContext context;
+  @Mock private KeycloakUserIdMappingService userIdMappingService;
 
   @InjectMocks private KeycloakUserService service;
 
@@ -69,6 +73,7 @@ class KeycloakUserServiceTest {
       var query = "user_id:" + USER_ID;
       var foundKeycloakUsers = List.of(keycloakUser());
 
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.empty());
       when(context.getTenantId()).thenReturn(TENANT_ID);
       when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
       when(realmResource.users().searchByAttributes(null, null, null, false, query)).thenReturn(foundKeycloakUsers);
@@ -77,12 +82,23 @@ class KeycloakUserServiceTest {
 
       assertThat(result).isEqualTo(KEYCLOAK_USER_ID);
       verify(realmResource, atLeastOnce()).users();
+      verify(userIdMappingService).save(USER_ID, KEYCLOAK_USER_ID);
+    }
+
+    @Test
+    void positive_mappingFound() {
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.of(KEYCLOAK_USER_ID));
+
+      var result = service.findKeycloakIdByUserId(USER_ID);
+
+      assertThat(result).isEqualTo(KEYCLOAK_USER_ID);
     }
 
     @Test
     void negative_userNotFoundByAttributes() {
       var query = "user_id:" + USER_ID;
 
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.empty());
       when(context.getTenantId()).thenReturn(TENANT_ID);
       when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
       when(realmResource.users().searchByAttributes(null, null, null, false, query)).thenReturn(emptyList());
@@ -101,7 +117,7 @@ class KeycloakUserServiceTest {
       var userId2 = UUID.randomUUID().toString();
       var foundUsers = List.of(keycloakUser(userId1), keycloakUser(userId2));
 
-      when(context.getTenantId()).thenReturn(TENANT_ID);
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.empty());
       when(context.getTenantId()).thenReturn(TENANT_ID);
       when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
       when(realmResource.users().searchByAttributes(null, null, null, false, query)).thenReturn(foundUsers);
@@ -114,6 +130,109 @@ class KeycloakUserServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("refreshKeycloakIdByUserId")
+  class RefreshKeycloakIdByUserId {
+
+    @Test
+    void positive() {
+      var query = "user_id:" + USER_ID;
+
+      when(context.getTenantId()).thenReturn(TENANT_ID);
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(realmResource.users().searchByAttributes(null, null, null, false, query)).thenReturn(List.of(keycloakUser()));
+
+      var result = service.refreshKeycloakIdByUserId(USER_ID);
+
+      assertThat(result).isEqualTo(KEYCLOAK_USER_ID);
+      verify(userIdMappingService).delete(USER_ID);
+      verify(userIdMappingService).save(USER_ID, KEYCLOAK_USER_ID);
+      verify(realmResource, atLeastOnce()).users();
+    }
+  }
+
+  @Nested
+  @DisplayName("getKeycloakUserByUserId")
+  class GetKeycloakUserByUserId {
+
+    @Test
+    void positive_mappingFound() {
+      var keycloakUser = keycloakUser();
+
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.of(KEYCLOAK_USER_ID));
+      when(context.getTenantId()).thenReturn(TENANT_ID);
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(realmResource.users().get(KEYCLOAK_USER_ID).toRepresentation()).thenReturn(keycloakUser);
+
+      var result = service.getKeycloakUserByUserId(USER_ID);
+
+      assertThat(result).isEqualTo(keycloakUser);
+      verify(realmResource, atLeastOnce()).users();
+    }
+
+    @Test
+    void positive_mappingIsOutdated() {
+      var query = "user_id:" + USER_ID;
+      var outdatedKeycloakUserId = UUID.randomUUID().toString();
+      var keycloakUser = keycloakUser();
+
+      when(userIdMappingService.findKeycloakUserId(USER_ID)).thenReturn(Optional.of(outdatedKeycloakUserId));
+      when(context.getTenantId()).thenReturn(TENANT_ID);
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      doThrow(NotFoundException.class).when(realmResource.users().get(outdatedKeycloakUserId)).toRepresentation();
+      when(realmResource.users().searchByAttributes(null, null, null, false, query)).thenReturn(List.of(keycloakUser));
+
+      var result = service.getKeycloakUserByUserId(USER_ID);
+
+      assertThat(result).isEqualTo(keycloakUser);
+      verify(userIdMappingService).delete(USER_ID);
+      verify(userIdMappingService).save(USER_ID, KEYCLOAK_USER_ID);
+      verify(realmResource, atLeastOnce()).users();
+    }
+  }
+
+  @Nested
+  @DisplayName("findKeycloakIdsByUserIds")
+  class FindKeycloakIdsByUserIds {
+
+    @Test
+    void positive() {
+      var userId2 = UUID.randomUUID();
+      var userId3 = UUID.randomUUID();
+      var userIds = List.of(USER_ID, userId2, userId3);
+
+      when(userIdMappingService.findKeycloakUserIds(userIds)).thenReturn(Map.of(userId3, "kc-user-3"));
+      when(context.getTenantId()).thenReturn(TENANT_ID);
+      when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
+      when(realmResource.users().searchByAttributes(null, null, null, false, "user_id:" + USER_ID))
+        .thenReturn(List.of(keycloakUser()));
+      when(realmResource.users().searchByAttributes(null, null, null, false, "user_id:" + userId2))
+        .thenReturn(emptyList());
+
+      var result = service.findKeycloakIdsByUserIds(userIds);
+
+      assertThat(result).isEqualTo(Map.of(USER_ID, KEYCLOAK_USER_ID, userId3, "kc-user-3"));
+      verify(realmResource, atLeastOnce()).users();
+      verify(userIdMappingService).save(USER_ID, KEYCLOAK_USER_ID);
+    }
+
+    @Test
+    void positive_allMappingsFound() {
+      var userIds = List.of(USER_ID);
+      when(userIdMappingService.findKeycloakUserIds(userIds)).thenReturn(Map.of(USER_ID, KEYCLOAK_USER_ID));
+
+      var result = service.findKeycloakIdsByUserIds(userIds);
+
+      assertThat(result).isEqualTo(Map.of(USER_ID, KEYCLOAK_USER_ID));
+    }
+
+    @Test
+    void positive_emptyUserIds() {
+      var result = service.findKeycloakIdsByUserIds(emptyList());
+      assertThat(result).isEmpty();
+    }
+  }
+
   @Nested
   @DisplayName("getUserId")
   class GetUserId {
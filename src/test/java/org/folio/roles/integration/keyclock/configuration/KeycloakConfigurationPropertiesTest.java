@@ -14,5 +14,6 @@ class KeycloakConfigurationPropertiesTest {
 
     assertThat(props.getPermissions().getParallelism()).isEqualTo(4);
     assertThat(props.getPermissions().getBatchSize()).isEqualTo(50);
+    assertThat(props.getConnectionPoolSize()).isEqualTo(10);
   }
 }
@@ -2,38 +2,61 @@ package org.folio.roles.integration.mte;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
 import org.folio.roles.integration.mte.model.MteApplicationDescriptor;
 import org.folio.roles.integration.mte.model.MteApplicationDescriptors;
 import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @UnitTest
-@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+@ExtendWith(MockitoExtension.class)
 class MteEntitlementServiceTest {
 
+  private static final Duration REFRESH_AFTER = Duration.ofMinutes(1);
+
   @Mock private TenantEntitlementsClient client;
   @Mock private FolioExecutionContext folioExecutionContext;
-  @InjectMocks private MteEntitlementService service;
+  @Mock private SystemUserScopedExecutionService systemUserScopedExecutionService;
 
-  @Test
-  void getEntitledApplicationIds_positive_extractsIds() {
+  private MteEntitlementService service;
+
+  @BeforeEach
+  void setUp() {
     when(folioExecutionContext.getTenantId()).thenReturn("test");
     when(folioExecutionContext.getToken()).thenReturn("token");
+    var cacheManager = new ConcurrentMapCacheManager(MteEntitlementService.CACHE_NAME);
+    service = new MteEntitlementService(client, folioExecutionContext, systemUserScopedExecutionService, cacheManager,
+      REFRESH_AFTER);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  void getEntitledApplicationIds_positive_extractsIds() {
     when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
-      .thenReturn(MteApplicationDescriptors.builder()
-        .applicationDescriptors(List.of(MteApplicationDescriptor.builder().id("app-a-1.0.0").build()))
-        .totalRecords(1)
-        .build());
+      .thenReturn(page(List.of("app-a-1.0.0"), 1));
 
     var result = service.getEntitledApplicationIdsForCurrentTenant();
     assertThat(result).containsExactly("app-a-1.0.0");
@@ -41,8 +64,6 @@ class MteEntitlementServiceTest {
 
   @Test
   void getEntitledApplicationIds_positive_nullIdIsFiltered() {
-    when(folioExecutionContext.getTenantId()).thenReturn("test");
-    when(folioExecutionContext.getToken()).thenReturn("token");
     when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
       .thenReturn(MteApplicationDescriptors.builder()
         .applicationDescriptors(List.of(MteApplicationDescriptor.builder().build()))
@@ -55,8 +76,6 @@ class MteEntitlementServiceTest {
 
   @Test
   void getEntitledApplicationIds_positive_emptyDescriptorsList() {
-    when(folioExecutionContext.getTenantId()).thenReturn("test");
-    when(folioExecutionContext.getToken()).thenReturn("token");
     when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
       .thenReturn(MteApplicationDescriptors.builder().applicationDescriptors(List.of()).totalRecords(0).build());
 
@@ -65,24 +84,47 @@ class MteEntitlementServiceTest {
   }
 
   @Test
-  void getEntitledApplicationIds_positive_logsWarnWhenTotalRecordsExceedsPageSize(CapturedOutput output) {
-    when(folioExecutionContext.getTenantId()).thenReturn("test");
-    when(folioExecutionContext.getToken()).thenReturn("token");
+  void getEntitledApplicationIds_positive_fetchesAllPages() {
+    var firstPage = IntStream.range(0, 500).mapToObj(i -> "app-" + i + "-1.0.0").toList();
     when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
-      .thenReturn(MteApplicationDescriptors.builder()
-        .applicationDescriptors(List.of(MteApplicationDescriptor.builder().id("app-a-1.0.0").build()))
-        .totalRecords(501)
-        .build());
+      .thenReturn(page(firstPage, 501));
+    when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 500))
+      .thenReturn(page(List.of("app-500-1.0.0"), 501));
 
     var result = service.getEntitledApplicationIdsForCurrentTenant();
+    assertThat(result).hasSize(501).contains("app-0-1.0.0", "app-500-1.0.0");
+  }
+
+  @Test
+  void getEntitledApplicationIds_positive_cachedPerTenant() {
+    when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
+      .thenReturn(page(List.of("app-a-1.0.0"), 1));
+
+    service.getEntitledApplicationIdsForCurrentTenant();
+    var result = service.getEntitledApplicationIdsForCurrentTenant();
+
     assertThat(result).containsExactly("app-a-1.0.0");
-    assertThat(output.getAll()).contains("MTE returned totalRecords=501");
+    verify(client).findEntitledApplicationsByTenantName("test", "token", "test", 500, 0);
+  }
+
+  @Test
+  void getEntitledApplicationIds_positive_outdatedValueRefreshedInBackground() {
+    when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
+      .thenReturn(page(List.of("app-a-1.0.0"), 1), page(List.of("app-a-1.0.0", "app-b-1.0.0"), 2));
+    mockSystemUserScopedExecution();
+
+    service.getEntitledApplicationIdsForCurrentTenant();
+    service.markOutdatedForCurrentTenant();
+    var outdatedResult = service.getEntitledApplicationIdsForCurrentTenant();
+
+    assertThat(outdatedResult).containsExactly("app-a-1.0.0");
+    await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(service.getEntitledApplicationIdsForCurrentTenant())
+      .containsExactlyInAnyOrder("app-a-1.0.0", "app-b-1.0.0"));
+    verify(systemUserScopedExecutionService).executeSystemUserScoped(eq("test"), any(Callable.class));
   }
 
   @Test
   void getEntitledApplicationIds_negative_propagatesClientFailure() {
-    when(folioExecutionContext.getTenantId()).thenReturn("test");
-    when(folioExecutionContext.getToken()).thenReturn("token");
     when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
       .thenThrow(new RuntimeException("mte unavailable"));
 
@@ -90,4 +132,33 @@ class MteEntitlementServiceTest {
       .isInstanceOf(RuntimeException.class)
       .hasMessage("mte unavailable");
   }
+
+  @Test
+  void getEntitledApplicationIds_negative_refreshFailureKeepsCachedValue() {
+    when(client.findEntitledApplicationsByTenantName("test", "token", "test", 500, 0))
+      .thenReturn(page(List.of("app-a-1.0.0"), 1))
+      .thenThrow(new RuntimeException("mte unavailable"));
+    mockSystemUserScopedExecution();
+
+    service.getEntitledApplicationIdsForCurrentTenant();
+    service.markOutdatedForCurrentTenant();
+    var result = service.getEntitledApplicationIdsForCurrentTenant();
+
+    assertThat(result).containsExactly("app-a-1.0.0");
+    verify(client, timeout(5000).times(2)).findEntitledApplicationsByTenantName("test", "token", "test", 500, 0);
+  }
+
+  private void mockSystemUserScopedExecution() {
+    when(systemUserScopedExecutionService.executeSystemUserScoped(eq("test"), any(Callable.class)))
+      .thenAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+  }
+
+  private static MteApplicationDescriptors page(List<String> applicationIds, int totalRecords) {
+    return MteApplicationDescriptors.builder()
+      .applicationDescriptors(applicationIds.stream()
+        .map(id -> MteApplicationDescriptor.builder().id(id).build())
+        .toList())
+      .totalRecords(totalRecords)
+      .build();
+  }
 }
@@ -19,6 +19,7 @@ import org.springframework.test.context.TestPropertySource;
 @TestPropertySource(properties = {
   "KC_CONFIG_TTL=PT0.1S",
   "KC_USER_ID_CACHE_TTL=PT0.05S",
+  "KC_USER_ID_MAPPING_CACHE_TTL=PT0.05S",
 })
 class CacheConfigIT extends BaseIntegrationTest {
 
@@ -43,6 +44,14 @@ class CacheConfigIT extends BaseIntegrationTest {
     checkCacheExpiration(kcUserIdCache, 50);
   }
 
+  @Test
+  void testUserPermissionsCacheWeightedByDefault() {
+    var userPermissionsCache = getCaffeineCache("user-permissions");
+
+    var eviction = userPermissionsCache.getNativeCache().policy().eviction().orElseThrow();
+    assertThat(eviction.isWeighted()).isTrue();
+  }
+
   CaffeineCache getCaffeineCache(String name) {
     var cache = (CaffeineCache) cacheManager.getCache(name);
     assertNotNull(cache);
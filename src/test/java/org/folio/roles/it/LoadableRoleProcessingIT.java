@@ -376,7 +376,7 @@ class LoadableRoleProcessingIT extends BaseIntegrationTest {
     var createdFirstRole = getLoadableRoleByName(firstRoleName);
     assertThat(findPermission(createdFirstRole, permissionName).getCapabilityId()).isNull();
 
-    // Step 2: Create the capability now. However, pause handleCapabilitiesCreatedEvent(...) after the capability
+    // Step 2: Create the capability now. However, pause handleCapabilityBatchEvent(...) after the capability
     // event reaches the listener to simulate the race condition.
     var processorEntered = new CountDownLatch(1);
     var allowProcessorToContinue = new CountDownLatch(1);
@@ -385,7 +385,7 @@ class LoadableRoleProcessingIT extends BaseIntegrationTest {
       processorEntered.countDown();
       assertThat(allowProcessorToContinue.await(10, TimeUnit.SECONDS)).isTrue();
       return invocation.callRealMethod();
-    }).when(assignmentProcessor).handleCapabilitiesCreatedEvent(any());
+    }).when(assignmentProcessor).handleCapabilityBatchEvent(any());
 
     try (var executor = Executors.newSingleThreadExecutor()) {
       var capabilityEvent = readValue("json/kafka-events/be-notes-capability-event.json", ResourceEvent.class);
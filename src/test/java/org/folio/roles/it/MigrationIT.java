@@ -8,6 +8,7 @@ import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.folio.roles.support.TestUtils.await;
 import static org.folio.test.TestUtils.parseResponse;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
@@ -149,6 +150,19 @@ class MigrationIT extends BaseIntegrationTest {
         .andExpect(content().contentType(MediaType.APPLICATION_JSON))
         .andExpect(jsonPath("$.id", is(migrationId.toString())))
         .andExpect(jsonPath("$.status", is("finished"))));
+
+    doGet("/roles-keycloak/migrations/" + migrationId)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.stages[*].stage",
+        contains("load_users", "load_permissions", "create_roles", "assign_users", "assign_capabilities")))
+      .andExpect(jsonPath("$.stages[?(@.stage == 'create_roles')].processedRecords", contains(2)))
+      .andExpect(jsonPath("$.stages[?(@.stage == 'create_roles')].totalRecords", contains(2)));
+  }
+
+  @Test
+  void resumeMigration_negative_notFound() throws Exception {
+    attemptPost("/roles-keycloak/migrations/{id}/resume", null, UUID.randomUUID())
+      .andExpect(status().isNotFound());
   }
 
   @Test
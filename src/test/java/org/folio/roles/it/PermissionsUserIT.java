@@ -1,11 +1,13 @@
 package org.folio.roles.it;
 
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
 import static org.folio.roles.support.TestConstants.USER_ID_HEADER;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
 import static org.folio.test.TestUtils.asJsonString;
+import static org.folio.test.TestUtils.parseResponse;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
 import static org.springframework.test.context.jdbc.SqlMergeMode.MergeMode.MERGE;
@@ -13,16 +15,20 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.folio.roles.base.BaseIntegrationTest;
+import org.folio.roles.domain.dto.PermissionsDictionary;
 import org.folio.roles.domain.dto.PermissionsUser;
+import org.folio.roles.domain.dto.PermissionsUserBitmap;
 import org.folio.test.types.IntegrationTest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -75,6 +81,22 @@ class PermissionsUserIT extends BaseIntegrationTest {
       .andExpect(content().json(asJsonString(expectedPermissionsUser)));
   }
 
+  @Test
+  void getPermissionsUserBitmap_positive_decodedWithDictionary() throws Exception {
+    var userId = UUID.fromString("9d30bb2b-8c6d-47da-9726-0e067b65f30b");
+    var dictionary = parseResponse(doGet("/permissions/dictionary").andReturn(), PermissionsDictionary.class);
+    var mvcResult = doGet("/permissions/users/{id}/bitmap", userId).andReturn();
+    var permissionsUserBitmap = parseResponse(mvcResult, PermissionsUserBitmap.class);
+
+    var permissions = BitSet.valueOf(permissionsUserBitmap.getBitmap()).stream()
+      .mapToObj(dictionary.getPermissions()::get)
+      .toList();
+    assertThat(permissionsUserBitmap.getDictionaryVersion()).isEqualTo(dictionary.getVersion());
+    assertThat(permissions).containsExactlyInAnyOrder(
+      "foo.item.delete", "replaced.foo.item.delete", "foo.item.get", "foo.item.post", "foo.item.put",
+      "plugin.foo.item.get", "ui-foo.item.delete", "ui-foo.item.put", "replaced.ui-foo.item.put");
+  }
+
   private static Stream<Arguments> getPermissionsUserDataProvider() {
     var userId1 = UUID.fromString("cf078e4a-5d9c-45f1-9c1d-f87003790d9f");
     var userId2 = UUID.fromString("9d30bb2b-8c6d-47da-9726-0e067b65f30b");
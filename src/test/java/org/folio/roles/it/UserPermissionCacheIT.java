@@ -13,14 +13,22 @@ import static org.springframework.test.context.jdbc.SqlMergeMode.MergeMode.MERGE
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import org.folio.roles.base.BaseIntegrationTest;
 import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.service.capability.UserPermissionsCacheEvictor;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.test.types.IntegrationTest;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.jdbc.Sql;
@@ -48,6 +56,12 @@ class UserPermissionCacheIT extends BaseIntegrationTest {
   @MockitoSpyBean
   private CapabilityRepository capabilityRepository;
 
+  @Autowired
+  private UserPermissionsCacheEvictor userPermissionsCacheEvictor;
+
+  @Autowired
+  private FolioModuleMetadata folioModuleMetadata;
+
   @BeforeAll
   static void beforeAll() {
     enableTenant(TENANT_ID);
@@ -84,9 +98,8 @@ class UserPermissionCacheIT extends BaseIntegrationTest {
 
   @Test
   void getUserPermissions_positive_cacheIsTenantScoped() throws Exception {
-    var tenant1CacheKey = TENANT_ID + ":" + USER_ID_1 + ":mappings";
-    var tenant2 = "tenant2";
-    var tenant2CacheKey = tenant2 + ":" + USER_ID_1 + ":mappings";
+    var tenant1CacheKey = getCacheKey(TENANT_ID, USER_ID_1);
+    var tenant2CacheKey = getCacheKey("tenant2", USER_ID_1);
 
     // Populate cache for tenant1
     mockMvc.perform(get("/permissions/users/{id}", USER_ID_1)
@@ -101,25 +114,27 @@ class UserPermissionCacheIT extends BaseIntegrationTest {
   }
 
   @Test
-  void cacheEviction_positive_evictsOnlyCurrentTenant() {
-    var tenant1CacheKey = TENANT_ID + ":" + USER_ID_1 + ":mappings";
+  void cacheEviction_positive_evictsOnlyCurrentTenant() throws Exception {
     var tenant2 = "other_tenant";
-    var tenant2CacheKey = tenant2 + ":" + USER_ID_1 + ":mappings";
-
+    var tenant2CacheKey = getCacheKey(tenant2, USER_ID_1);
     var cache = getCaffeineCache(USER_PERMISSIONS_CACHE);
+    cache.put(tenant2CacheKey, List.of("perm3", "perm4"));
 
-    // Manually add entries for two tenants
-    cache.put(tenant1CacheKey, java.util.List.of("perm1", "perm2"));
-    cache.put(tenant2CacheKey, java.util.List.of("perm3", "perm4"));
-
-    assertThat(cache.get(tenant1CacheKey)).isNotNull();
-    assertThat(cache.get(tenant2CacheKey)).isNotNull();
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID_1)
+        .header(TENANT, TENANT_ID)
+        .header(USER_ID, USER_ID_HEADER))
+      .andExpect(status().isOk());
 
     // Evict cache for tenant1 only (this happens after any mutating operation)
-    evictCacheForTenant(TENANT_ID);
+    inTenant(TENANT_ID, userPermissionsCacheEvictor::evictUserPermissionsForCurrentTenant);
 
-    // Verify tenant1 entry is evicted, tenant2 entry remains
-    assertThat(cache.get(tenant1CacheKey)).isNull();
+    mockMvc.perform(get("/permissions/users/{id}", USER_ID_1)
+        .header(TENANT, TENANT_ID)
+        .header(USER_ID, USER_ID_HEADER))
+      .andExpect(status().isOk());
+
+    // Verify tenant1 entry is loaded again, tenant2 entry remains
+    verify(capabilityRepository, times(2)).findAllUserPermissionMappings(USER_ID_1);
     assertThat(cache.get(tenant2CacheKey)).isNotNull();
   }
 
@@ -129,14 +144,16 @@ class UserPermissionCacheIT extends BaseIntegrationTest {
     return cache;
   }
 
-  private void evictCacheForTenant(String tenantId) {
-    var cache = getCaffeineCache(USER_PERMISSIONS_CACHE);
-    var prefix = tenantId + ":";
-    var nativeCache = cache.getNativeCache();
-    for (var key : nativeCache.asMap().keySet()) {
-      if (key != null && key.toString().startsWith(prefix)) {
-        nativeCache.invalidate(key);
-      }
+  private String getCacheKey(String tenantId, UUID userId) {
+    var cacheKey = new AtomicReference<String>();
+    inTenant(tenantId, () -> cacheKey.set(userPermissionsCacheEvictor.getCacheKey(userId)));
+    return cacheKey.get();
+  }
+
+  private void inTenant(String tenantId, Runnable runnable) {
+    var headers = Map.<String, Collection<String>>of(TENANT, List.of(tenantId));
+    try (var ignored = new FolioExecutionContextSetter(folioModuleMetadata, headers)) {
+      runnable.run();
     }
   }
 }
@@ -0,0 +1,49 @@
+package org.folio.roles.load;
+
+import java.util.Arrays;
+
+/**
+ * Result of the load scenario execution.
+ *
+ * @param name - scenario name
+ * @param operations - number of executed operations
+ * @param errors - number of failed operations
+ * @param throughput - operations per second
+ * @param p50Millis - median operation latency in milliseconds
+ * @param p99Millis - 99th percentile of operation latency in milliseconds
+ * @param maxMillis - maximum operation latency in milliseconds
+ */
+public record LoadScenarioResult(String name, long operations, long errors, double throughput, double p50Millis,
+  double p99Millis, double maxMillis) {
+
+  /**
+   * Creates scenario result from the recorded operation latencies.
+   *
+   * @param name - scenario name
+   * @param latencyNanos - latencies of the successful operations in nanoseconds
+   * @param errors - number of failed operations
+   * @param elapsedNanos - scenario duration in nanoseconds
+   * @return {@link LoadScenarioResult} object
+   */
+  public static LoadScenarioResult of(String name, long[] latencyNanos, long errors, long elapsedNanos) {
+    var sorted = latencyNanos.clone();
+    Arrays.sort(sorted);
+    var operations = sorted.length + errors;
+    var throughput = elapsedNanos > 0 ? operations * 1_000_000_000d / elapsedNanos : 0d;
+    return new LoadScenarioResult(name, operations, errors, throughput,
+      percentile(sorted, 0.5), percentile(sorted, 0.99), sorted.length == 0 ? 0d : toMillis(sorted[sorted.length - 1]));
+  }
+
+  private static double percentile(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0d;
+    }
+
+    var index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return toMillis(sorted[Math.clamp(index, 0, sorted.length - 1)]);
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000d;
+  }
+}
@@ -0,0 +1,91 @@
+package org.folio.roles.load;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Executes load scenario operations with the fixed number of concurrent workers.
+ */
+@Log4j2
+public final class LoadScenarioRunner {
+
+  private LoadScenarioRunner() {
+  }
+
+  /**
+   * Runs the given operation until the duration is elapsed or the maximum number of operations is executed.
+   *
+   * @param name - scenario name
+   * @param concurrency - number of concurrent workers
+   * @param duration - maximum scenario duration
+   * @param maxOperations - maximum number of operations
+   * @param operation - operation to execute, receives the sequence number of the operation
+   * @return {@link LoadScenarioResult} with throughput and latency percentiles
+   */
+  public static LoadScenarioResult run(String name, int concurrency, Duration duration, long maxOperations,
+    LoadOperation operation) {
+    var latencies = new ConcurrentLinkedQueue<Long>();
+    var errors = new AtomicLong();
+    var sequence = new AtomicLong();
+    var startTime = System.nanoTime();
+    var deadline = startTime + duration.toNanos();
+
+    try (var executor = Executors.newFixedThreadPool(concurrency)) {
+      for (int i = 0; i < concurrency; i++) {
+        executor.execute(() -> {
+          long number;
+          while (System.nanoTime() < deadline && (number = sequence.getAndIncrement()) < maxOperations) {
+            var operationStart = System.nanoTime();
+            try {
+              operation.execute(number);
+              latencies.add(System.nanoTime() - operationStart);
+            } catch (Exception e) {
+              if (errors.incrementAndGet() == 1) {
+                log.warn("Load scenario operation failed: scenario = {}", name, e);
+              }
+            }
+          }
+        });
+      }
+
+      executor.shutdown();
+      awaitTermination(executor, duration);
+    }
+
+    var result = LoadScenarioResult.of(name, latencies.stream().mapToLong(Long::longValue).toArray(), errors.get(),
+      System.nanoTime() - startTime);
+    log.info("Load scenario is finished: {}", result);
+    return result;
+  }
+
+  private static void awaitTermination(ExecutorService executor, Duration duration) {
+    try {
+      if (!executor.awaitTermination(duration.plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS)) {
+        executor.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Single load scenario operation.
+   */
+  @FunctionalInterface
+  public interface LoadOperation {
+
+    /**
+     * Executes the operation.
+     *
+     * @param number - sequence number of the operation
+     * @throws Exception if operation failed
+     */
+    void execute(long number) throws Exception;
+  }
+}
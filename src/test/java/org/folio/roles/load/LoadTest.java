@@ -0,0 +1,15 @@
+package org.folio.roles.load;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.Tag;
+
+/**
+ * Marks database-backed load tests, executed only with the {@code load-test} Maven profile.
+ */
+@Tag("load")
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoadTest {}
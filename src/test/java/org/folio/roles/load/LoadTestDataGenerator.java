@@ -0,0 +1,144 @@
+package org.folio.roles.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the tenant schema with synthetic capabilities, capability sets, roles and users.
+ *
+ * <p>Data is generated by set-based SQL statements with deterministic identifiers: {@code md5(<kind> || <index>)}, so
+ * the same identifiers can be calculated with {@link #uuid(String, int)} and runs are comparable.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class LoadTestDataGenerator {
+
+  public static final String CAPABILITY = "capability-";
+  public static final String CAPABILITY_SET = "capability-set-";
+  public static final String ROLE = "role-";
+  public static final String ASSIGNMENT_ROLE = "assignment-role-";
+  public static final String USER = "user-";
+
+  private static final List<String> TABLES = List.of("capability", "capability_endpoint", "capability_set",
+    "capability_set_capability", "role", "role_capability", "role_capability_set", "user_role");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String schema;
+  private final LoadTestSettings settings;
+
+  /**
+   * Seeds the tenant data and refreshes table statistics.
+   */
+  public void seed() {
+    var startTime = System.currentTimeMillis();
+    execute("""
+      INSERT INTO {schema}.capability(id, name, description, resource, action, type, application_id, module_id,
+        folio_permission, visible)
+      SELECT md5('capability-' || i)::uuid,
+        'load_item_' || i || '.' || lower(action),
+        'Load capability ' || i,
+        'Load Item ' || i,
+        CAST(action AS {schema}.capability_action),
+        CAST('DATA' AS {schema}.capability_type),
+        'app-load-' || i % 50 || '-1.0.0',
+        'mod-load-' || i % 300 || '-1.0.0',
+        (ARRAY['ui-load', 'mod-load', 'plugin-load', 'module.load'])[1 + i / 4 % 4] || '.item-' || i || '.'
+          || (ARRAY['get', 'post', 'put', 'delete'])[1 + i % 4],
+        i % 2 = 0
+      FROM generate_series(0, {capabilities} - 1) i,
+        LATERAL (SELECT (ARRAY['VIEW', 'CREATE', 'EDIT', 'DELETE'])[1 + i % 4] AS action) a""");
+
+    execute("""
+      INSERT INTO {schema}.capability_endpoint(capability_id, path, method)
+      SELECT md5('capability-' || i)::uuid, '/load/items-' || i, CAST(method AS {schema}.http_method)
+      FROM generate_series(0, {capabilities} - 1) i, unnest(ARRAY['GET', 'POST']) method""");
+
+    execute("""
+      INSERT INTO {schema}.capability_set(id, name, description, resource, action, type, application_id,
+        folio_permission, visible)
+      SELECT md5('capability-set-' || j)::uuid, 'load_set_' || j || '.manage', 'Load capability set ' || j,
+        'Load Set ' || j, CAST('MANAGE' AS {schema}.capability_action),
+        CAST('DATA' AS {schema}.capability_type),
+        'app-load-' || j % 50 || '-1.0.0', 'load-set-' || j || '.all', true
+      FROM generate_series(0, {capabilitySets} - 1) j""");
+
+    execute("""
+      INSERT INTO {schema}.capability_set_capability(capability_set_id, capability_id)
+      SELECT DISTINCT md5('capability-set-' || j)::uuid,
+        md5('capability-' || (j * 7919 + k * 104729) % {capabilities})::uuid
+      FROM generate_series(0, {capabilitySets} - 1) j, generate_series(0, {capabilitiesPerSet} - 1) k""");
+
+    execute("""
+      INSERT INTO {schema}.role(id, name, description)
+      SELECT md5('role-' || r)::uuid, 'load-role-' || r, 'Load role ' || r FROM generate_series(0, {roles} - 1) r
+      UNION ALL
+      SELECT md5('assignment-role-' || r)::uuid, 'load-assignment-role-' || r, 'Load assignment role ' || r
+      FROM generate_series(0, {assignmentRoles} - 1) r""");
+
+    execute("""
+      INSERT INTO {schema}.role_capability_set(role_id, capability_set_id)
+      SELECT DISTINCT md5('role-' || r)::uuid, md5('capability-set-' || (r * 31 + k * 97) % {capabilitySets})::uuid
+      FROM generate_series(0, {roles} - 1) r, generate_series(0, {setsPerRole} - 1) k""");
+
+    execute("""
+      INSERT INTO {schema}.role_capability(role_id, capability_id)
+      SELECT DISTINCT md5('role-' || r)::uuid, md5('capability-' || (r * 131 + k * 7) % {capabilities})::uuid
+      FROM generate_series(0, {roles} - 1) r, generate_series(0, {capabilitiesPerRole} - 1) k""");
+
+    execute("""
+      INSERT INTO {schema}.user_role(user_id, role_id)
+      SELECT DISTINCT md5('user-' || u)::uuid, md5('role-' || (u * 17 + k * 53) % {roles})::uuid
+      FROM generate_series(0, {users} - 1) u, generate_series(0, {rolesPerUser} - 1) k""");
+
+    TABLES.forEach(table -> jdbcTemplate.execute("ANALYZE " + schema + "." + table));
+    log.info("Load test data is generated: settings = {}, duration = {}ms",
+      settings, System.currentTimeMillis() - startTime);
+  }
+
+  /**
+   * Removes the generated data.
+   */
+  public void cleanUp() {
+    jdbcTemplate.execute("TRUNCATE TABLE " + String.join(", ", TABLES.stream().map(t -> schema + "." + t).toList())
+      + " CASCADE");
+  }
+
+  /**
+   * Calculates identifier of the generated record, equal to {@code md5(<kind> || <index>)::uuid} in Postgres.
+   *
+   * @param kind - record kind prefix, e.g. {@link #USER}
+   * @param index - record index
+   * @return record identifier
+   */
+  public static UUID uuid(String kind, int index) {
+    try {
+      var digest = MessageDigest.getInstance("MD5").digest((kind + index).getBytes(UTF_8));
+      var buffer = ByteBuffer.wrap(digest);
+      return new UUID(buffer.getLong(), buffer.getLong());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("MD5 algorithm is not available", e);
+    }
+  }
+
+  private void execute(String sql) {
+    var statement = sql.replace("{schema}", schema)
+      .replace("{capabilities}", String.valueOf(settings.capabilities()))
+      .replace("{capabilitySets}", String.valueOf(settings.capabilitySets()))
+      .replace("{capabilitiesPerSet}", String.valueOf(settings.capabilitiesPerSet()))
+      .replace("{roles}", String.valueOf(settings.roles()))
+      .replace("{assignmentRoles}", String.valueOf(settings.assignmentRoles()))
+      .replace("{setsPerRole}", String.valueOf(settings.setsPerRole()))
+      .replace("{capabilitiesPerRole}", String.valueOf(settings.capabilitiesPerRole()))
+      .replace("{users}", String.valueOf(settings.users()))
+      .replace("{rolesPerUser}", String.valueOf(settings.rolesPerUser()));
+    jdbcTemplate.execute(statement);
+  }
+}
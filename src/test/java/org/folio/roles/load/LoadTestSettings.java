@@ -0,0 +1,47 @@
+package org.folio.roles.load;
+
+import java.time.Duration;
+
+/**
+ * Load test settings, overridable with {@code -Dload.<name>=<value>} system properties.
+ *
+ * @param users - number of users with roles
+ * @param roles - number of roles with capabilities and capability sets
+ * @param capabilities - number of capabilities, each with 2 endpoints
+ * @param capabilitySets - number of capability sets
+ * @param capabilitiesPerSet - number of capabilities in each capability set
+ * @param setsPerRole - number of capability sets, assigned to each role
+ * @param capabilitiesPerRole - number of capabilities, directly assigned to each role
+ * @param rolesPerUser - number of roles, assigned to each user
+ * @param assignmentRoles - number of empty roles, used by the role assignment scenario
+ * @param concurrency - number of concurrent clients
+ * @param duration - duration of each request scenario
+ * @param events - number of capability events, sent by the ingestion scenario
+ * @param permissionsPerEvent - number of permissions in each capability event
+ */
+public record LoadTestSettings(int users, int roles, int capabilities, int capabilitySets, int capabilitiesPerSet,
+  int setsPerRole, int capabilitiesPerRole, int rolesPerUser, int assignmentRoles, int concurrency, Duration duration,
+  int events, int permissionsPerEvent) {
+
+  /**
+   * Creates settings from system properties, defaults describe a large production tenant.
+   *
+   * @return {@link LoadTestSettings} object
+   */
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+      Integer.getInteger("load.users", 100_000),
+      Integer.getInteger("load.roles", 2_000),
+      Integer.getInteger("load.capabilities", 15_000),
+      Integer.getInteger("load.capabilitySets", 3_000),
+      Integer.getInteger("load.capabilitiesPerSet", 25),
+      Integer.getInteger("load.setsPerRole", 10),
+      Integer.getInteger("load.capabilitiesPerRole", 20),
+      Integer.getInteger("load.rolesPerUser", 3),
+      Integer.getInteger("load.assignmentRoles", 5_000),
+      Integer.getInteger("load.concurrency", 16),
+      Duration.ofSeconds(Integer.getInteger("load.durationSeconds", 60)),
+      Integer.getInteger("load.events", 20),
+      Integer.getInteger("load.permissionsPerEvent", 500));
+  }
+}
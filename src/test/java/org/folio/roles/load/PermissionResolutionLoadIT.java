@@ -0,0 +1,202 @@
+package org.folio.roles.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.load.LoadTestDataGenerator.ASSIGNMENT_ROLE;
+import static org.folio.roles.load.LoadTestDataGenerator.CAPABILITY_SET;
+import static org.folio.roles.load.LoadTestDataGenerator.ROLE;
+import static org.folio.roles.load.LoadTestDataGenerator.USER;
+import static org.folio.roles.load.LoadTestDataGenerator.uuid;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.folio.roles.support.TestConstants.USER_ID_HEADER;
+import static org.folio.spring.integration.XOkapiHeaders.USER_ID;
+import static org.folio.test.TestUtils.OBJECT_MAPPER;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.folio.roles.base.BaseIntegrationTest;
+import org.folio.roles.domain.dto.Endpoint;
+import org.folio.roles.domain.dto.HttpMethod;
+import org.folio.roles.domain.dto.RoleCapabilitySetsRequest;
+import org.folio.roles.integration.kafka.model.CapabilityEvent;
+import org.folio.roles.integration.kafka.model.FolioResource;
+import org.folio.roles.integration.kafka.model.ModuleType;
+import org.folio.roles.integration.kafka.model.Permission;
+import org.folio.roles.integration.keyclock.KeycloakAuthorizationService;
+import org.folio.roles.integration.keyclock.KeycloakPolicyService;
+import org.folio.roles.repository.CapabilityEndpointRepository;
+import org.folio.roles.repository.CapabilityRepository;
+import org.folio.spring.FolioModuleMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Load test of the permission resolution paths against the Postgres database with the production-like data volume.
+ *
+ * <p>Keycloak is replaced with mocks, so the measured latencies include only the module and database work. Data volume,
+ * concurrency and duration are configured with {@code load.*} system properties, see {@link LoadTestSettings}. Results
+ * and query plans are written to {@code target/load-test/load-test-report.json}.
+ */
+@Log4j2
+@LoadTest
+@TestPropertySource(properties = {
+  "spring.jpa.show-sql=false",
+  "spring.jpa.properties.hibernate.format_sql=false",
+  "logging.level.org.folio.roles=warn",
+  "logging.level.org.folio.roles.load=info"
+})
+class PermissionResolutionLoadIT extends BaseIntegrationTest {
+
+  private static final Path REPORT_PATH = Path.of("target", "load-test", "load-test-report.json");
+  private static final String EVENT_MODULE_PREFIX = "mod-load-event-";
+  private static final int CAPABILITY_SETS_PER_ASSIGNMENT = 5;
+  private static final long EVENT_TIMEOUT_MILLIS = 120_000L;
+
+  private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+  @Autowired private DataSource dataSource;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private FolioModuleMetadata folioModuleMetadata;
+  @Autowired private KafkaTemplate<String, Object> kafkaTemplate;
+  @MockitoBean private KeycloakPolicyService keycloakPolicyService;
+  @MockitoBean private KeycloakAuthorizationService keycloakAuthorizationService;
+
+  private String schema;
+  private LoadTestDataGenerator dataGenerator;
+
+  @BeforeEach
+  void setUp() {
+    enableTenant(TENANT_ID);
+    schema = folioModuleMetadata.getDBSchemaName(TENANT_ID);
+    dataGenerator = new LoadTestDataGenerator(jdbcTemplate, schema, settings);
+    dataGenerator.seed();
+  }
+
+  @AfterEach
+  void tearDown() {
+    dataGenerator.cleanUp();
+    removeTenant(TENANT_ID);
+  }
+
+  @Test
+  void permissionResolution_underLoad() throws Exception {
+    var results = new ArrayList<LoadScenarioResult>();
+    results.add(LoadScenarioRunner.run("get-user-permissions", settings.concurrency(), settings.duration(),
+      Long.MAX_VALUE, number -> getUserPermissions()));
+    results.add(LoadScenarioRunner.run("assign-role-capability-sets", settings.concurrency(), settings.duration(),
+      settings.assignmentRoles(), this::assignRoleCapabilitySets));
+    results.add(LoadScenarioRunner.run("ingest-capability-event", 1, settings.duration(),
+      settings.events(), this::ingestCapabilityEvent));
+
+    var queryPlans = collectQueryPlans();
+    writeReport(results, queryPlans);
+
+    assertThat(results).allSatisfy(result -> {
+      assertThat(result.operations()).isPositive();
+      assertThat(result.errors()).isZero();
+    });
+  }
+
+  private void getUserPermissions() throws Exception {
+    var userId = uuid(USER, ThreadLocalRandom.current().nextInt(settings.users()));
+    mockMvc.perform(get("/permissions/users/{id}", userId)
+        .headers(okapiHeaders())
+        .header(USER_ID, USER_ID_HEADER))
+      .andExpect(status().isOk());
+  }
+
+  private void assignRoleCapabilitySets(long number) throws Exception {
+    var roleId = uuid(ASSIGNMENT_ROLE, (int) number);
+    var capabilitySetIds = IntStream.range(0, CAPABILITY_SETS_PER_ASSIGNMENT)
+      .mapToObj(i -> uuid(CAPABILITY_SET, ThreadLocalRandom.current().nextInt(settings.capabilitySets())))
+      .distinct()
+      .toList();
+
+    var request = new RoleCapabilitySetsRequest().roleId(roleId).capabilitySetIds(capabilitySetIds);
+    mockMvc.perform(post("/roles/capability-sets")
+        .headers(okapiHeaders())
+        .header(USER_ID, USER_ID_HEADER)
+        .content(asJsonString(request))
+        .contentType(APPLICATION_JSON))
+      .andExpect(status().isCreated());
+  }
+
+  private void ingestCapabilityEvent(long number) throws Exception {
+    var moduleName = EVENT_MODULE_PREFIX + number;
+    var resources = IntStream.range(0, settings.permissionsPerEvent())
+      .mapToObj(i -> new FolioResource()
+        .permission(new Permission().permissionName(moduleName + ".item-" + i + ".get").visible(true))
+        .endpoints(List.of(new Endpoint().path("/" + moduleName + "/items-" + i).method(HttpMethod.GET))))
+      .toList();
+
+    var moduleId = moduleName + "-1.0.0";
+    var capabilityEvent = new CapabilityEvent()
+      .moduleId(moduleId)
+      .moduleType(ModuleType.MODULE)
+      .applicationId("app-load-event-1.0.0")
+      .resources(resources);
+
+    var resourceEvent = new LinkedHashMap<String, Object>();
+    resourceEvent.put("type", "CREATE");
+    resourceEvent.put("tenant", TENANT_ID);
+    resourceEvent.put("resourceName", "Capability");
+    resourceEvent.put("new", capabilityEvent);
+    kafkaTemplate.send(FOLIO_IT_CAPABILITIES_TOPIC, resourceEvent).get();
+    awaitCapabilities(moduleId, settings.permissionsPerEvent());
+  }
+
+  private void awaitCapabilities(String moduleId, int expectedCount) throws Exception {
+    var sql = "SELECT count(*) FROM " + schema + ".capability WHERE module_id = ?";
+    var deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      var count = jdbcTemplate.queryForObject(sql, Long.class, moduleId);
+      if (count != null && count >= expectedCount) {
+        return;
+      }
+      Thread.sleep(20);
+    }
+
+    throw new TimeoutException("Capabilities are not created in time: moduleId = " + moduleId);
+  }
+
+  private Map<String, List<String>> collectQueryPlans() {
+    var collector = new QueryPlanCollector(dataSource, schema);
+    var setIds = List.of(uuid(CAPABILITY_SET, 0), uuid(CAPABILITY_SET, 1), uuid(CAPABILITY_SET, 2));
+
+    collector.explain(CapabilityRepository.class, "findAllUserPermissionMappings", Map.of("user_id", uuid(USER, 0)));
+    collector.explain(CapabilityEndpointRepository.class, "findByCapabilitySetIds", Map.of("ids", setIds));
+    collector.explain(CapabilityEndpointRepository.class, "getByRoleId",
+      Map.of("roleId", uuid(ROLE, 0), "capabilityIds", "{}", "capabilitySetIds", "{" + setIds.getFirst() + "}"));
+    return collector.getPlans();
+  }
+
+  private void writeReport(List<LoadScenarioResult> results, Map<String, List<String>> queryPlans) throws Exception {
+    var report = new LinkedHashMap<String, Object>();
+    report.put("settings", settings);
+    report.put("scenarios", results);
+    report.put("queryPlans", queryPlans);
+
+    Files.createDirectories(REPORT_PATH.getParent());
+    OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(REPORT_PATH.toFile(), report);
+    log.info("Load test report is written: path = {}", REPORT_PATH.toAbsolutePath());
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.roles.load;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Collects execution plans of the repository queries with {@code EXPLAIN (ANALYZE, BUFFERS)}.
+ *
+ * <p>Queries are read from the {@link Query} annotations of the repository methods, so plans are always collected for
+ * the SQL, executed by the module.
+ */
+@RequiredArgsConstructor
+public class QueryPlanCollector {
+
+  private final DataSource dataSource;
+  private final String schema;
+  private final Map<String, List<String>> plans = new LinkedHashMap<>();
+
+  /**
+   * Executes repository query with {@code EXPLAIN (ANALYZE, BUFFERS)} and stores its plan.
+   *
+   * @param repository - repository class
+   * @param methodName - name of the repository method, annotated with {@link Query}
+   * @param parameters - named query parameters
+   */
+  public void explain(Class<?> repository, String methodName, Map<String, ?> parameters) {
+    var query = Arrays.stream(repository.getMethods())
+      .filter(method -> method.getName().equals(methodName))
+      .map(method -> method.getAnnotation(Query.class))
+      .filter(annotation -> annotation != null && annotation.nativeQuery())
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException("Native query is not found: " + methodName));
+
+    try (var connection = dataSource.getConnection()) {
+      connection.setSchema(schema);
+      var jdbcTemplate = new NamedParameterJdbcTemplate(new SingleConnectionDataSource(connection, true));
+      var plan = jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + query.value(), parameters, String.class);
+      plans.put(repository.getSimpleName() + "." + methodName, plan);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Failed to explain query: " + methodName, e);
+    }
+  }
+
+  /**
+   * Returns collected query plans.
+   *
+   * @return map with query plans, where key is the repository method and value is the list of plan lines
+   */
+  public Map<String, List<String>> getPlans() {
+    return plans;
+  }
+}
@@ -0,0 +1,133 @@
+package org.folio.roles.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.CapabilitySetUtils.capabilitySetEntity;
+import static org.folio.roles.support.CapabilityUtils.capabilityEntity;
+import static org.folio.roles.support.TestConstants.USER_ID;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.folio.roles.base.BaseRepositoryTest;
+import org.folio.roles.domain.dto.HttpMethod;
+import org.folio.roles.domain.entity.CapabilityEntity;
+import org.folio.roles.domain.entity.CapabilitySetEntity;
+import org.folio.roles.domain.entity.EmbeddableEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Import(CapabilityCatalogRepository.class)
+@Transactional(propagation = NOT_SUPPORTED)
+class CapabilityCatalogRepositoryIT extends BaseRepositoryTest {
+
+  @Autowired private CapabilityCatalogRepository capabilityCatalogRepository;
+  @Autowired private CapabilityRepository capabilityRepository;
+  @Autowired private CapabilitySetRepository capabilitySetRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getUserId()).thenReturn(USER_ID);
+    transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Test
+  void getVersion_positive_changedByEachKindOfCatalogWrite() {
+    var capabilityId = writeCatalog(() -> capabilityRepository.save(newCapability()).getId());
+
+    writeCatalog(() -> updateCapability(capabilityId, entity -> entity.setDescription("updated description")));
+    writeCatalog(() -> updateCapability(capabilityId, entity -> entity.setEndpoints(new ArrayList<>(List.of(
+      endpoint("/foo/items", HttpMethod.GET), endpoint("/foo/items", HttpMethod.POST))))));
+    writeCatalog(() -> updateCapability(capabilityId, entity -> entity.getEndpoints().removeFirst()));
+
+    var capabilitySetId = writeCatalog(() -> capabilitySetRepository.save(newCapabilitySet(capabilityId)).getId());
+    writeCatalog(() -> updateCapabilitySet(capabilitySetId, entity -> entity.setDescription("updated description")));
+    writeCatalog(() -> updateCapabilitySet(capabilitySetId, entity -> entity.setCapabilities(new ArrayList<>())));
+
+    writeCatalog(() -> deleteById(capabilitySetRepository::deleteById, capabilitySetId));
+    writeCatalog(() -> deleteById(capabilityRepository::deleteById, capabilityId));
+  }
+
+  @Test
+  void getVersion_positive_currentTransactionChangedCatalog() {
+    var version = transactionTemplate.execute(status -> {
+      capabilityRepository.save(newCapability());
+      return capabilityCatalogRepository.getVersion();
+    });
+
+    assertThat(version).isEqualTo(-1L);
+  }
+
+  @Test
+  void compactChanges_positive_versionIsNotChanged() {
+    writeCatalog(() -> capabilityRepository.save(newCapability()).getId());
+    var version = getVersion();
+
+    transactionTemplate.executeWithoutResult(status -> capabilityCatalogRepository.compactChanges());
+
+    assertThat(getVersion()).isEqualTo(version);
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM capability_catalog_change", Long.class)).isZero();
+  }
+
+  private <T> T writeCatalog(Supplier<T> catalogWrite) {
+    var version = getVersion();
+    var result = transactionTemplate.execute(status -> catalogWrite.get());
+    assertThat(getVersion()).isEqualTo(version + 1);
+    return result;
+  }
+
+  private long getVersion() {
+    var version = transactionTemplate.execute(status -> capabilityCatalogRepository.getVersion());
+    assertThat(version).isNotNull().isNotNegative();
+    return version;
+  }
+
+  private UUID updateCapability(UUID id, Consumer<CapabilityEntity> update) {
+    var entity = capabilityRepository.findById(id).orElseThrow();
+    update.accept(entity);
+    return capabilityRepository.saveAndFlush(entity).getId();
+  }
+
+  private UUID updateCapabilitySet(UUID id, Consumer<CapabilitySetEntity> update) {
+    var entity = capabilitySetRepository.findById(id).orElseThrow();
+    update.accept(entity);
+    return capabilitySetRepository.saveAndFlush(entity).getId();
+  }
+
+  private static UUID deleteById(Consumer<UUID> deleteAction, UUID id) {
+    deleteAction.accept(id);
+    return id;
+  }
+
+  private static CapabilityEntity newCapability() {
+    var entity = capabilityEntity(null);
+    entity.setName("catalog_version_" + UUID.randomUUID());
+    entity.setEndpoints(new ArrayList<>(List.of(endpoint("/foo/items", HttpMethod.GET))));
+    return entity;
+  }
+
+  private static CapabilitySetEntity newCapabilitySet(UUID capabilityId) {
+    var entity = capabilitySetEntity(null, new ArrayList<>(List.of(capabilityId)));
+    entity.setName("catalog_version_set_" + UUID.randomUUID());
+    return entity;
+  }
+
+  private static EmbeddableEndpoint endpoint(String path, HttpMethod method) {
+    var endpoint = new EmbeddableEndpoint();
+    endpoint.setPath(path);
+    endpoint.setMethod(method);
+    return endpoint;
+  }
+}
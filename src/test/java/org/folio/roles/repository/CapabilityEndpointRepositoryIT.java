@@ -1,6 +1,7 @@
 package org.folio.roles.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.domain.dto.CapabilityAction.VIEW;
 import static org.folio.roles.support.CapabilitySetUtils.capabilitySetEntity;
 import static org.folio.roles.support.CapabilityUtils.capabilityEntity;
 import static org.folio.roles.support.RoleCapabilitySetUtils.roleCapabilitySetEntity;
@@ -19,6 +20,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 class CapabilityEndpointRepositoryIT extends BaseRepositoryTest {
 
+  private static final UUID[] NO_IDS = new UUID[0];
+
   @Autowired
   private CapabilityEndpointRepository capabilityEndpointRepository;
 
@@ -41,12 +44,12 @@ class CapabilityEndpointRepositoryIT extends BaseRepositoryTest {
     entityManager.persistAndFlush(roleCapabilityEntity(roleId, capabilityEntity.getId()));
     entityManager.persistAndFlush(getCapabilityEndpointEntity(capabilityEntity.getId()));
 
-    var capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, null);
+    var capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).hasSize(1);
 
     capabilityEntity.setDummyCapability(true);
     entityManager.flush();
-    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, null);
+    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).isEmpty();
   }
 
@@ -63,12 +66,12 @@ class CapabilityEndpointRepositoryIT extends BaseRepositoryTest {
     entityManager.persistAndFlush(roleCapabilitySetEntity(roleId, capabilitySetEntity.getId()));
     entityManager.persistAndFlush(getCapabilityEndpointEntity(capabilityEntity.getId()));
 
-    var capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, null, null);
+    var capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).hasSize(1);
 
     capabilityEntity.setDummyCapability(true);
     entityManager.flush();
-    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, null, null);
+    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).isEmpty();
   }
 
@@ -80,12 +83,12 @@ class CapabilityEndpointRepositoryIT extends BaseRepositoryTest {
     entityManager.persistAndFlush(userCapabilityEntity(userId, capabilityEntity.getId()));
     entityManager.persistAndFlush(getCapabilityEndpointEntity(capabilityEntity.getId()));
 
-    var capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, null);
+    var capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).hasSize(1);
 
     capabilityEntity.setDummyCapability(true);
     entityManager.flush();
-    capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, null);
+    capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).isEmpty();
   }
 
@@ -99,12 +102,73 @@ class CapabilityEndpointRepositoryIT extends BaseRepositoryTest {
     entityManager.persistAndFlush(userCapabilitySetEntity(userId, capabilitySetEntity.getId()));
     entityManager.persistAndFlush(getCapabilityEndpointEntity(capabilityEntity.getId()));
 
-    var capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, null, null);
+    var capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).hasSize(1);
 
     capabilityEntity.setDummyCapability(true);
     entityManager.flush();
-    capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, null, null);
+    capabilitiesEndpoints = capabilityEndpointRepository.getByUserId(userId, NO_IDS, NO_IDS);
     assertThat(capabilitiesEndpoints).isEmpty();
   }
+
+  @Test
+  void getByRoleId_positive_excludedCapabilityAndCapabilitySetIds() {
+    var capabilityEntity = capabilityEntity(null);
+    var setCapabilityEntity = capabilityEntity(null, "Another Resource", VIEW, "another.resource.view");
+    var roleId = UUID.randomUUID();
+    var roleEntity = roleEntity();
+    roleEntity.setId(roleId);
+    entityManager.persistAndFlush(capabilityEntity);
+    entityManager.persistAndFlush(setCapabilityEntity);
+    entityManager.persistAndFlush(roleEntity);
+    var capabilitySetEntity = capabilitySetEntity(null, List.of(setCapabilityEntity.getId()));
+    entityManager.persistAndFlush(capabilitySetEntity);
+    entityManager.persistAndFlush(roleCapabilityEntity(roleId, capabilityEntity.getId()));
+    entityManager.persistAndFlush(roleCapabilitySetEntity(roleId, capabilitySetEntity.getId()));
+    entityManager.persistAndFlush(getCapabilityEndpointEntity(capabilityEntity.getId()));
+    entityManager.persistAndFlush(getCapabilityEndpointEntity(setCapabilityEntity.getId()));
+
+    var capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(roleId, NO_IDS, NO_IDS);
+    assertThat(capabilitiesEndpoints).hasSize(2);
+
+    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(
+      roleId, new UUID[] {capabilityEntity.getId()}, NO_IDS);
+    assertThat(capabilitiesEndpoints).extracting(CapabilityEndpointEntity::getCapabilityId)
+      .containsExactly(setCapabilityEntity.getId());
+
+    capabilitiesEndpoints = capabilityEndpointRepository.getByRoleId(
+      roleId, NO_IDS, new UUID[] {capabilitySetEntity.getId()});
+    assertThat(capabilitiesEndpoints).extracting(CapabilityEndpointEntity::getCapabilityId)
+      .containsExactly(capabilityEntity.getId());
+  }
+
+  @Test
+  void findByCapabilityIds_positive() {
+    var capabilityEntity = capabilityEntity(null);
+    entityManager.persistAndFlush(capabilityEntity);
+    var endpointEntity = getCapabilityEndpointEntity(capabilityEntity.getId());
+    entityManager.persistAndFlush(endpointEntity);
+
+    var result = capabilityEndpointRepository.findByCapabilityIds(List.of(capabilityEntity.getId(), UUID.randomUUID()));
+
+    assertThat(result).containsExactly(endpointEntity);
+  }
+
+  @Test
+  void findByCapabilitySetIds_positive_excludeDummy() {
+    var capabilityEntity = capabilityEntity(null);
+    entityManager.persistAndFlush(capabilityEntity);
+    var capabilitySetEntity = capabilitySetEntity(null, List.of(capabilityEntity.getId()));
+    entityManager.persistAndFlush(capabilitySetEntity);
+    var endpointEntity = getCapabilityEndpointEntity(capabilityEntity.getId());
+    entityManager.persistAndFlush(endpointEntity);
+
+    var result = capabilityEndpointRepository.findByCapabilitySetIds(List.of(capabilitySetEntity.getId()));
+    assertThat(result).containsExactly(endpointEntity);
+
+    capabilityEntity.setDummyCapability(true);
+    entityManager.flush();
+    result = capabilityEndpointRepository.findByCapabilitySetIds(List.of(capabilitySetEntity.getId()));
+    assertThat(result).isEmpty();
+  }
 }
@@ -3,6 +3,7 @@ package org.folio.roles.repository;
 import static java.time.temporal.ChronoUnit.MINUTES;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
+import static org.folio.roles.support.AuthResourceUtils.permissionEntity;
 import static org.folio.roles.support.CapabilitySetUtils.capabilitySetEntity;
 import static org.folio.roles.support.CapabilityUtils.capabilityEntity;
 import static org.folio.roles.support.RoleCapabilitySetUtils.roleCapabilitySetEntity;
@@ -131,6 +132,31 @@ class CapabilityRepositoryIT extends BaseRepositoryTest {
     assertThat(page.getTotalElements()).isEqualTo(3);
   }
 
+  @Test
+  void findAllByUserIdAfter_positive_seeksDirectAndCapabilitySetCapabilities() {
+    var userId = UUID.randomUUID();
+    var directCapability = capabilityEntity(null);
+    directCapability.setName("keyset_a_" + UUID.randomUUID());
+    var setCapability = capabilityEntity(null);
+    setCapability.setName("keyset_b_" + UUID.randomUUID());
+    directCapability = entityManager.persistAndFlush(directCapability);
+    setCapability = entityManager.persistAndFlush(setCapability);
+    entityManager.persistAndFlush(userCapabilityEntity(userId, directCapability.getId()));
+    var capabilitySetEntity = entityManager.persistAndFlush(capabilitySetEntity(null, List.of(setCapability.getId())));
+    entityManager.persistAndFlush(userCapabilitySetEntity(userId, capabilitySetEntity.getId()));
+
+    var firstPage = capabilityRepository.findAllByUserIdAfter(userId, false, "", new UUID(0L, 0L), 1);
+    assertThat(firstPage).extracting(CapabilityEntity::getId).containsExactly(directCapability.getId());
+
+    var secondPage = capabilityRepository.findAllByUserIdAfter(userId, false, directCapability.getName(),
+      directCapability.getId(), 1);
+    assertThat(secondPage).extracting(CapabilityEntity::getId).containsExactly(setCapability.getId());
+
+    var lastPage = capabilityRepository.findAllByUserIdAfter(userId, false, setCapability.getName(),
+      setCapability.getId(), 1);
+    assertThat(lastPage).isEmpty();
+  }
+
   @Test
   void findByRoleId_positive_excludeAndIncludeDummy() {
     var roleId = UUID.randomUUID();
@@ -356,6 +382,27 @@ class CapabilityRepositoryIT extends BaseRepositoryTest {
     assertThat(mappings.getFirst().getPermission()).isEqualTo("perm-real");
   }
 
+  @Test
+  void findAllFolioPermissionNames_positive_includesReplacedAndExcludesDummy() {
+    var capabilityEntity = capabilityEntity(null);
+    capabilityEntity.setPermission("perm-a");
+    var dummyCapabilityEntity = capabilityEntity(null);
+    dummyCapabilityEntity.setDummyCapability(true);
+    dummyCapabilityEntity.setName("dummy_" + UUID.randomUUID());
+    dummyCapabilityEntity.setPermission("perm-dummy");
+    var permissionEntity = permissionEntity(null, "perm-a");
+    permissionEntity.setReplaces(List.of("replaced.perm-a"));
+    var dummyPermissionEntity = permissionEntity(null, "perm-dummy");
+    dummyPermissionEntity.setReplaces(List.of("replaced.perm-dummy"));
+    entityManager.persistAndFlush(capabilityEntity);
+    entityManager.persistAndFlush(dummyCapabilityEntity);
+    entityManager.persistAndFlush(permissionEntity);
+    entityManager.persistAndFlush(dummyPermissionEntity);
+
+    var permissionNames = capabilityRepository.findAllFolioPermissionNames();
+    assertThat(permissionNames).containsExactlyInAnyOrder("perm-a", "replaced.perm-a");
+  }
+
   @Test
   void findAllByPermissionNames_positive_excludeDummyAndIncludeDummy() {
     var capabilityEntity = capabilityEntity(null);
@@ -42,4 +42,23 @@ class RoleEntityRepositoryIT extends BaseRepositoryTest {
     assertThat(stored.getUpdatedDate()).isCloseTo(now, within(1, MINUTES));
     assertThat(stored.getUpdatedByUserId()).isEqualTo(USER_ID);
   }
+
+  @Test
+  void insertAll_positive() {
+    var entities = Instancio.ofList(RoleEntity.class)
+      .size(3)
+      .ignore(field(Auditable::getCreatedDate))
+      .ignore(field(Auditable::getUpdatedDate))
+      .create();
+
+    var result = repository.insertAll(entities);
+
+    assertThat(result).containsExactlyElementsOf(entities);
+    entityManager.clear();
+    for (var entity : entities) {
+      var stored = entityManager.find(RoleEntity.class, entity.getId());
+      assertThat(stored.getName()).isEqualTo(entity.getName());
+      assertThat(stored.getCreatedByUserId()).isEqualTo(USER_ID);
+    }
+  }
 }
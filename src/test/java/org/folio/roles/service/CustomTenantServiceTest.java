@@ -1,6 +1,9 @@
 package org.folio.roles.service;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -18,6 +21,8 @@ import org.folio.roles.service.migration.CapabilitiesMergeService;
 import org.folio.roles.service.reference.PoliciesDataLoader;
 import org.folio.roles.service.reference.ReferenceDataLoader;
 import org.folio.roles.service.reference.RolesDataLoader;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Stage;
+import org.folio.roles.service.tenant.TenantBootstrapScheduler;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.tenant.domain.dto.TenantAttributes;
@@ -38,6 +43,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 class CustomTenantServiceTest {
 
   private static final String TENANT_ID = "test-tenant";
+  private static final String OTHER_TENANT_ID = "other-tenant";
 
   @Mock
   private RolesDataLoader rolesDataLoader;
@@ -61,6 +67,8 @@ class CustomTenantServiceTest {
   private KeycloakClientService keycloakClientService;
   @Mock
   private KeycloakAuthorizationClientProvider authorizationClientProvider;
+  @Mock
+  private TenantBootstrapScheduler bootstrapScheduler;
   private CustomTenantService customTenantService;
 
   @BeforeEach
@@ -68,28 +76,59 @@ class CustomTenantServiceTest {
     var referenceDataLoader = List.of(rolesDataLoader, policiesDataLoader);
     customTenantService = new TestCustomTenantService(jdbcTemplate, context, folioSpringLiquibase,
       kafkaAdminService, referenceDataLoader, loadableRoleService, keycloak, capabilitiesMergeService,
-      keycloakClientService, authorizationClientProvider);
+      keycloakClientService, authorizationClientProvider, bootstrapScheduler);
   }
 
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(kafkaAdminService, loadableRoleService, capabilitiesMergeService,
-      keycloakClientService, authorizationClientProvider);
+      keycloakClientService, authorizationClientProvider, bootstrapScheduler);
+  }
+
+  @Test
+  void createOrUpdateTenant_positive_executedByScheduler() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+
+    customTenantService.createOrUpdateTenant(new TenantAttributes());
+
+    verify(bootstrapScheduler).execute(eq(TENANT_ID), any(Runnable.class));
   }
 
   @Test
   void loadReferenceData_positive() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+
     customTenantService.loadReferenceData();
 
-    InOrder inOrder = inOrder(kafkaAdminService, rolesDataLoader, policiesDataLoader);
-    inOrder.verify(kafkaAdminService).stopKafkaListeners();
+    InOrder inOrder = inOrder(bootstrapScheduler, kafkaAdminService, rolesDataLoader, policiesDataLoader);
+    inOrder.verify(bootstrapScheduler).updateStage(TENANT_ID, Stage.REFERENCE_DATA_LOAD);
+    inOrder.verify(kafkaAdminService).pauseTenantListeners(TENANT_ID);
     inOrder.verify(rolesDataLoader).loadReferenceData();
     inOrder.verify(policiesDataLoader).loadReferenceData();
-    inOrder.verify(kafkaAdminService).startKafkaListeners();
+    inOrder.verify(kafkaAdminService).resumeTenantListeners(TENANT_ID);
+  }
+
+  @Test
+  void loadReferenceData_positive_concurrentInitDoesNotStopOtherTenantConsumption() {
+    when(keycloak.tokenManager()).thenReturn(mock(TokenManager.class));
+    when(context.getTenantId()).thenReturn(TENANT_ID, OTHER_TENANT_ID);
+    doAnswer(invocation -> {
+      customTenantService.afterTenantUpdate(new TenantAttributes());
+      return null;
+    }).when(rolesDataLoader).loadReferenceData();
+
+    customTenantService.loadReferenceData();
+
+    verify(bootstrapScheduler).updateStage(TENANT_ID, Stage.REFERENCE_DATA_LOAD);
+    verify(bootstrapScheduler).updateStage(OTHER_TENANT_ID, Stage.CAPABILITIES_MERGE);
+    verify(capabilitiesMergeService).mergeDuplicateCapabilities();
+    verify(kafkaAdminService).pauseTenantListeners(TENANT_ID);
+    verify(kafkaAdminService).resumeTenantListeners(TENANT_ID);
   }
 
   @Test
   void loadReferenceData_negative_exceptionWrappedAsIllegalState() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
     doThrow(RuntimeException.class).when(policiesDataLoader).loadReferenceData();
 
     assertThatThrownBy(() -> customTenantService.loadReferenceData())
@@ -99,10 +138,11 @@ class CustomTenantServiceTest {
 
     verify(rolesDataLoader).loadReferenceData();
     verify(policiesDataLoader).loadReferenceData();
+    verify(bootstrapScheduler).updateStage(TENANT_ID, Stage.REFERENCE_DATA_LOAD);
 
     InOrder inOrder = inOrder(kafkaAdminService);
-    inOrder.verify(kafkaAdminService).stopKafkaListeners();
-    inOrder.verify(kafkaAdminService).startKafkaListeners();
+    inOrder.verify(kafkaAdminService).pauseTenantListeners(TENANT_ID);
+    inOrder.verify(kafkaAdminService).resumeTenantListeners(TENANT_ID);
   }
 
   @Test
@@ -116,6 +156,7 @@ class CustomTenantServiceTest {
     verify(loadableRoleService).cleanupDefaultRolesFromKeycloak();
     verify(keycloakClientService).evictLoginClient(TENANT_ID);
     verify(authorizationClientProvider).evictAuthorizationClient(TENANT_ID);
+    verify(bootstrapScheduler).remove(TENANT_ID);
   }
 
   @Test
@@ -140,18 +181,21 @@ class CustomTenantServiceTest {
     verify(loadableRoleService).cleanupDefaultRolesFromKeycloak();
     verify(keycloakClientService).evictLoginClient(TENANT_ID);
     verify(authorizationClientProvider).evictAuthorizationClient(TENANT_ID);
+    verify(bootstrapScheduler).remove(TENANT_ID);
   }
 
   @Test
-  void afterTenantUpdate_positive_kafkaRestartedAndKeycloakTokenRefreshed() {
+  void afterTenantUpdate_positive_keycloakTokenRefreshedWithoutKafkaRestart() {
     var tokenManager = mock(TokenManager.class);
     when(keycloak.tokenManager()).thenReturn(tokenManager);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
 
     var attributes = new TenantAttributes();
     customTenantService.afterTenantUpdate(attributes);
 
-    verify(kafkaAdminService).restartEventListeners();
+    verifyNoInteractions(kafkaAdminService);
     verify(tokenManager).grantToken();
+    verify(bootstrapScheduler).updateStage(TENANT_ID, Stage.CAPABILITIES_MERGE);
     verify(capabilitiesMergeService).mergeDuplicateCapabilities();
   }
 
@@ -162,11 +206,11 @@ class CustomTenantServiceTest {
       List<ReferenceDataLoader> referenceDataLoaders,
       LoadableRoleService loadableRoleService, Keycloak keycloak, CapabilitiesMergeService capabilitiesMergeService,
       KeycloakClientService keycloakClientService,
-      KeycloakAuthorizationClientProvider authorizationClientProvider) {
+      KeycloakAuthorizationClientProvider authorizationClientProvider, TenantBootstrapScheduler bootstrapScheduler) {
 
       super(jdbcTemplate, context, folioSpringLiquibase, kafkaAdminService,
         referenceDataLoaders, loadableRoleService,
-        keycloak, capabilitiesMergeService, keycloakClientService, authorizationClientProvider);
+        keycloak, capabilitiesMergeService, keycloakClientService, authorizationClientProvider, bootstrapScheduler);
     }
 
     @Override
@@ -25,11 +25,15 @@ import java.util.UUID;
 import org.folio.roles.domain.dto.PermissionMigrationJob;
 import org.folio.roles.domain.dto.PermissionMigrationJobStatus;
 import org.folio.roles.domain.dto.PermissionMigrationJobs;
+import org.folio.roles.domain.dto.PermissionMigrationStage;
+import org.folio.roles.domain.dto.PermissionMigrationStageProgress;
 import org.folio.roles.domain.entity.migration.PermissionMigrationJobEntity;
 import org.folio.roles.domain.entity.type.EntityPermissionMigrationJobStatus;
 import org.folio.roles.exception.MigrationException;
+import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.mapper.PermissionMigrationMapper;
 import org.folio.roles.repository.PermissionMigrationJobRepository;
+import org.folio.roles.service.migration.MigrationProgressService;
 import org.folio.roles.service.migration.MigrationService;
 import org.folio.roles.service.migration.PermissionMigrationService;
 import org.folio.roles.support.TestUtils;
@@ -64,6 +68,7 @@ class MigrationServiceTest {
   @Mock private PermissionMigrationMapper permissionMigrationMapper;
   @Mock private PermissionMigrationService permissionMigrationService;
   @Mock private PermissionMigrationJobRepository migrationJobRepository;
+  @Mock private MigrationProgressService migrationProgressService;
   @Spy private final FolioExecutionContext folioExecutionContext =
     new DefaultFolioExecutionContext(new TestModRolesKeycloakModuleMetadata(), emptyMap());
 
@@ -103,12 +108,14 @@ class MigrationServiceTest {
 
     @Test
     void positive() {
+      var stages = List.of(stageProgress());
       when(migrationJobRepository.getReferenceById(MIGRATION_ID)).thenReturn(migrationJobEntity());
       when(permissionMigrationMapper.toDto(migrationJobEntity())).thenReturn(migrationJob());
+      when(migrationProgressService.getProgress(MIGRATION_ID)).thenReturn(stages);
 
       var result = migrationService.getMigrationById(MIGRATION_ID);
 
-      assertThat(result).isEqualTo(migrationJob());
+      assertThat(result).isEqualTo(migrationJob().stages(stages));
     }
 
     @Test
@@ -119,6 +126,13 @@ class MigrationServiceTest {
     }
   }
 
+  private static PermissionMigrationStageProgress stageProgress() {
+    return new PermissionMigrationStageProgress()
+      .stage(PermissionMigrationStage.ASSIGN_USERS)
+      .processedRecords(10)
+      .totalRecords(20);
+  }
+
   @Nested
   @DisplayName("findMigrations")
   class FindMigrations {
@@ -175,6 +189,68 @@ class MigrationServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("resumeMigration")
+  class ResumeMigration {
+
+    @Test
+    void positive() {
+      var stages = List.of(stageProgress());
+      var failedEntity = migrationJobEntity(FAILED);
+      var inProgressEntity = migrationJobEntity(IN_PROGRESS);
+      inProgressEntity.setFinishedAt(null);
+      var inProgressJob = migrationJob(PermissionMigrationJobStatus.IN_PROGRESS);
+
+      when(migrationJobRepository.getReferenceById(MIGRATION_ID)).thenReturn(failedEntity);
+      when(migrationJobRepository.existsByStatus(IN_PROGRESS)).thenReturn(false);
+      when(migrationJobRepository.save(inProgressEntity)).thenReturn(inProgressEntity);
+      doNothing().when(migrationJobRepository).flush();
+      doAnswer(answersWithDelay(100, inv -> 10)).when(permissionMigrationService).migratePermissions(MIGRATION_ID);
+      when(migrationJobRepository.findById(MIGRATION_ID)).thenReturn(Optional.of(inProgressEntity));
+      when(permissionMigrationMapper.toDto(inProgressEntity)).thenReturn(inProgressJob);
+      when(migrationProgressService.getProgress(MIGRATION_ID)).thenReturn(stages);
+      when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+      try (var ignored = new FolioExecutionContextSetter(folioExecutionContext)) {
+        var migration = migrationService.resumeMigration(MIGRATION_ID);
+        assertThat(migration).isEqualTo(inProgressJob);
+        assertThat(migration.getStages()).isEqualTo(stages);
+      }
+
+      await().untilAsserted(() -> verify(migrationJobRepository).findById(MIGRATION_ID));
+      verify(migrationJobRepository, atLeastOnce()).save(inProgressEntity);
+      verify(folioExecutionContext, atLeastOnce()).getTenantId();
+      verify(folioExecutionContext, atLeastOnce()).getUserId();
+      verify(folioExecutionContext, atLeastOnce()).getFolioModuleMetadata();
+      verify(folioExecutionContext, atLeastOnce()).getRequestId();
+    }
+
+    @Test
+    void negative_migrationIsNotFailed() {
+      var finishedEntity = migrationJobEntity(FINISHED);
+      when(migrationJobRepository.getReferenceById(MIGRATION_ID)).thenReturn(finishedEntity);
+      when(permissionMigrationMapper.toDto(finishedEntity)).thenReturn(migrationJob());
+
+      assertThatThrownBy(() -> migrationService.resumeMigration(MIGRATION_ID))
+        .isInstanceOf(RequestValidationException.class)
+        .hasMessage("Only failed migration job can be resumed");
+
+      verify(permissionMigrationService, never()).migratePermissions(MIGRATION_ID);
+    }
+
+    @Test
+    void negative_concurrentMigrationInProgress() {
+      when(migrationJobRepository.getReferenceById(MIGRATION_ID)).thenReturn(migrationJobEntity(FAILED));
+      when(migrationJobRepository.existsByStatus(IN_PROGRESS)).thenReturn(true);
+
+      assertThatThrownBy(() -> migrationService.resumeMigration(MIGRATION_ID))
+        .isInstanceOf(RequestValidationException.class)
+        .hasMessageContaining("There is already an active migration job in progress");
+
+      verify(permissionMigrationService, never()).migratePermissions(MIGRATION_ID);
+    }
+  }
+
   @Nested
   @DisplayName("createMigration")
   class CreateMigration {
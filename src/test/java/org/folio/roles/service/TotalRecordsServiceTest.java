@@ -0,0 +1,150 @@
+package org.folio.roles.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.domain.model.TotalRecords.ESTIMATED;
+import static org.folio.roles.domain.model.TotalRecords.EXACT;
+import static org.folio.roles.domain.model.TotalRecords.NONE;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.folio.roles.domain.entity.CapabilityEntity;
+import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.repository.TableStatisticsRepository;
+import org.folio.roles.support.TestUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TotalRecordsServiceTest {
+
+  private static final String RECORD_COUNTS_CACHE = "record-counts";
+  private static final String COUNT_KEY = "capabilities";
+  private static final String CACHE_KEY = TENANT_ID + ":" + COUNT_KEY;
+  private static final Pageable PAGEABLE = PageRequest.of(1, 2);
+  private static final List<String> RECORDS = List.of("r3", "r4");
+
+  @InjectMocks private TotalRecordsService totalRecordsService;
+  @Mock private CacheManager cacheManager;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private TableStatisticsRepository tableStatisticsRepository;
+  @Mock private Cache cache;
+  @Mock private Function<Pageable, Page<String>> pageQuery;
+  @Mock private Function<Pageable, Slice<String>> sliceQuery;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  private void mockCache() {
+    when(cacheManager.getCache(RECORD_COUNTS_CACHE)).thenReturn(cache);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  private void mockPageQuery() {
+    when(pageQuery.apply(PAGEABLE)).thenReturn(new PageImpl<>(RECORDS, PAGEABLE, 10));
+  }
+
+  private void mockSliceQuery() {
+    when(sliceQuery.apply(PAGEABLE)).thenReturn(new SliceImpl<>(RECORDS, PAGEABLE, true));
+  }
+
+  @Nested
+  @DisplayName("find")
+  class Find {
+
+    @Test
+    void positive_exact() {
+      mockCache();
+      mockPageQuery();
+
+      var result = totalRecordsService.find(EXACT, COUNT_KEY, PAGEABLE, pageQuery, sliceQuery);
+
+      assertThat(result).isEqualTo(PageResult.of(10, RECORDS));
+      verify(cache).put(CACHE_KEY, 10L);
+    }
+
+    @Test
+    void positive_none() {
+      mockSliceQuery();
+
+      var result = totalRecordsService.find(NONE, COUNT_KEY, PAGEABLE, pageQuery, sliceQuery);
+
+      assertThat(result.getRecords()).isEqualTo(RECORDS);
+    }
+
+    @Test
+    void positive_estimatedFromCachedCount() {
+      mockCache();
+      mockSliceQuery();
+      when(cache.get(CACHE_KEY, Long.class)).thenReturn(10L);
+
+      var result = totalRecordsService.find(ESTIMATED, COUNT_KEY, PAGEABLE, pageQuery, sliceQuery);
+
+      assertThat(result).isEqualTo(PageResult.of(10, RECORDS));
+    }
+
+    @Test
+    void positive_estimatedCountNotCached() {
+      mockCache();
+      mockPageQuery();
+      when(cache.get(CACHE_KEY, Long.class)).thenReturn(null);
+
+      var result = totalRecordsService.find(ESTIMATED, COUNT_KEY, PAGEABLE, pageQuery, sliceQuery);
+
+      assertThat(result).isEqualTo(PageResult.of(10, RECORDS));
+      verify(cache).put(CACHE_KEY, 10L);
+    }
+  }
+
+  @Nested
+  @DisplayName("findByQuery")
+  class FindByQuery {
+
+    @Test
+    void positive_estimatedFromTableStatistics() {
+      mockSliceQuery();
+      when(tableStatisticsRepository.findEstimatedRowCount(CapabilityEntity.class)).thenReturn(Optional.of(1000L));
+
+      var result = totalRecordsService.findByQuery(ESTIMATED, CapabilityEntity.class, null, PAGEABLE,
+        pageQuery, sliceQuery);
+
+      assertThat(result).isEqualTo(PageResult.of(1000, RECORDS));
+    }
+
+    @Test
+    void positive_estimatedWithQuery() {
+      var query = "name==test";
+      var cacheKey = TENANT_ID + ":CapabilityEntity:" + query;
+      mockCache();
+      mockSliceQuery();
+      when(cache.get(cacheKey, Long.class)).thenReturn(10L);
+
+      var result = totalRecordsService.findByQuery(ESTIMATED, CapabilityEntity.class, query, PAGEABLE,
+        pageQuery, sliceQuery);
+
+      assertThat(result).isEqualTo(PageResult.of(10, RECORDS));
+    }
+  }
+}
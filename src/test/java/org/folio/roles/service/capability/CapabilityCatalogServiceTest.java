@@ -0,0 +1,185 @@
+package org.folio.roles.service.capability;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.CapabilityUtils.capability;
+import static org.folio.roles.support.CapabilityUtils.capabilityEntity;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.folio.roles.support.TestUtils.awaitUntilAsserted;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.folio.roles.configuration.property.CapabilityCatalogProperties;
+import org.folio.roles.mapper.entity.CapabilityEntityMapper;
+import org.folio.roles.repository.CapabilityCatalogRepository;
+import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.support.TestUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CapabilityCatalogServiceTest {
+
+  private final CapabilityCatalogProperties properties = new CapabilityCatalogProperties();
+  private CapabilityCatalogService capabilityCatalogService;
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private CapabilityRepository capabilityRepository;
+  @Mock private CapabilityCatalogRepository capabilityCatalogRepository;
+  @Mock private CapabilityEntityMapper capabilityEntityMapper;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  @BeforeEach
+  void setUp() {
+    capabilityCatalogService = new CapabilityCatalogService(properties, folioExecutionContext, capabilityRepository,
+      capabilityCatalogRepository, capabilityEntityMapper, transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    capabilityCatalogService.shutdown();
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void findCurrent_positive_catalogIsBuiltInBackground() {
+    var capabilityEntity = capabilityEntity();
+    var capability = capability();
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(capabilityCatalogRepository.getVersion()).thenReturn(1L);
+    when(capabilityRepository.count()).thenReturn(1L);
+    when(capabilityRepository.findAll()).thenReturn(List.of(capabilityEntity));
+    when(capabilityEntityMapper.convert(List.of(capabilityEntity))).thenReturn(List.of(capability));
+    when(capabilityCatalogRepository.findCapabilityIdsBySetId()).thenReturn(emptyMap());
+
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    awaitUntilAsserted(() -> assertThat(capabilityCatalogService.findCurrent()).isPresent());
+
+    var catalog = capabilityCatalogService.findCurrent().orElseThrow();
+    assertThat(catalog.getVersion()).isEqualTo(1L);
+    assertThat(catalog.findByIds(List.of(capability.getId()))).containsExactly(capability);
+
+    var meterRegistry = new SimpleMeterRegistry();
+    capabilityCatalogService.bindTo(meterRegistry);
+    assertThat(meterRegistry.get("capability.catalog.tenants").gauge().value()).isEqualTo(1d);
+    assertThat(meterRegistry.get("capability.catalog.capabilities").gauge().value()).isEqualTo(1d);
+    verify(capabilityCatalogRepository, atLeastOnce()).getVersion();
+    verify(capabilityCatalogRepository).compactChanges();
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(isNull());
+  }
+
+  @Test
+  void findCurrent_positive_catalogExceedsSizeLimit() {
+    properties.setMaxCapabilities(1);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(capabilityCatalogRepository.getVersion()).thenReturn(1L);
+    when(capabilityRepository.count()).thenReturn(2L);
+
+    capabilityCatalogService.refresh();
+
+    awaitUntilAsserted(() -> verify(transactionManager).commit(isNull()));
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    verify(capabilityCatalogRepository, atLeastOnce()).getVersion();
+    verify(capabilityCatalogRepository).compactChanges();
+    verify(transactionManager).getTransaction(any());
+  }
+
+  @Test
+  void findCurrent_positive_catalogChangedInTransactionRebuiltAfterCommit() {
+    properties.setMaxCapabilities(0);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.initSynchronization();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(capabilityCatalogRepository.getVersion()).thenReturn(-1L, -1L, 2L);
+    when(capabilityRepository.count()).thenReturn(1L);
+
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    verifyNoInteractions(transactionManager);
+
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+    assertThat(synchronizations).hasSize(1);
+    synchronizations.forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+
+    awaitUntilAsserted(() -> assertThat(capabilityCatalogService.findVersion()).hasValue(2L));
+    assertThat(TransactionSynchronizationManager.hasResource(capabilityCatalogService)).isFalse();
+    verify(capabilityCatalogRepository, times(3)).getVersion();
+    verify(capabilityCatalogRepository).compactChanges();
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(isNull());
+  }
+
+  @Test
+  void findVersion_positive_snapshotVersionReturnedWithoutQuery() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(capabilityCatalogRepository.getVersion()).thenReturn(3L);
+    when(capabilityRepository.count()).thenReturn(0L);
+    when(capabilityRepository.findAll()).thenReturn(emptyList());
+    when(capabilityEntityMapper.convert(emptyList())).thenReturn(emptyList());
+    when(capabilityCatalogRepository.findCapabilityIdsBySetId()).thenReturn(emptyMap());
+
+    assertThat(capabilityCatalogService.findVersion()).isEmpty();
+    awaitUntilAsserted(() -> assertThat(capabilityCatalogService.findVersion()).hasValue(3L));
+    assertThat(capabilityCatalogService.findVersion()).hasValue(3L);
+
+    verify(capabilityCatalogRepository).getVersion();
+    verify(capabilityCatalogRepository).compactChanges();
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(isNull());
+  }
+
+  @Test
+  void findVersion_positive_catalogIsDisabled() {
+    properties.setEnabled(false);
+
+    assertThat(capabilityCatalogService.findVersion()).isEmpty();
+
+    verifyNoInteractions(capabilityCatalogRepository, capabilityRepository);
+  }
+
+  @Test
+  void findCurrent_positive_noActiveTransaction() {
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    verifyNoInteractions(capabilityCatalogRepository);
+  }
+
+  @Test
+  void findCurrent_positive_catalogIsDisabled() {
+    properties.setEnabled(false);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    assertThat(capabilityCatalogService.findCurrent()).isEmpty();
+    capabilityCatalogService.refresh();
+
+    verifyNoInteractions(capabilityCatalogRepository, capabilityRepository);
+  }
+}
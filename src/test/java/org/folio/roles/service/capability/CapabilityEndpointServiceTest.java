@@ -1,20 +1,28 @@
 package org.folio.roles.service.capability;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.domain.dto.CapabilityAction.VIEW;
 import static org.folio.roles.domain.dto.HttpMethod.GET;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilityUtils.CAPABILITY_ID;
-import static org.folio.roles.support.CapabilityUtils.capability;
 import static org.folio.roles.support.EndpointUtils.endpoint;
 import static org.folio.roles.support.RoleUtils.ROLE_ID;
 import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.Endpoint;
 import org.folio.roles.domain.entity.CapabilityEndpointEntity;
 import org.folio.roles.repository.CapabilityEndpointRepository;
+import org.folio.roles.service.capability.model.CapabilityCatalog;
+import org.folio.roles.support.CapabilityUtils;
 import org.folio.roles.support.TestUtils;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
@@ -31,14 +39,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class CapabilityEndpointServiceTest {
 
   @InjectMocks private CapabilityEndpointService capabilityEndpointService;
-  @Mock private CapabilityService capabilityService;
   @Mock private CapabilityEndpointRepository endpointRepository;
+  @Mock private CapabilityCatalogService capabilityCatalogService;
 
   @AfterEach
   void tearDown() {
     TestUtils.verifyNoMoreInteractions(this);
   }
 
+  private static Capability capability(UUID id, String resource, String... paths) {
+    return CapabilityUtils.capability(id, resource, VIEW, resource + ".view",
+      Arrays.stream(paths).map(path -> endpoint(path, GET)).toArray(Endpoint[]::new));
+  }
+
   @Nested
   @DisplayName("getByCapabilityIds")
   class GetByCapabilityIds {
@@ -48,31 +61,50 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive() {
-      var endpoint1 = endpoint("/c2", GET);
-      var endpoint2 = endpoint("/c1", GET);
-      var capability1 = capability(capabilityId1, endpoint1);
-      var capability2 = capability(capabilityId2, endpoint2);
-      when(capabilityService.findByIds(List.of(capabilityId1))).thenReturn(List.of(capability1));
-      when(capabilityService.findByIds(List.of(capabilityId2))).thenReturn(List.of(capability2));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      var assignedEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/c1", GET));
+      when(endpointRepository.findByCapabilityIds(List.of(capabilityId1))).thenReturn(changedEntities);
+      when(endpointRepository.findByCapabilityIds(List.of(capabilityId2))).thenReturn(assignedEntities);
 
       var result = capabilityEndpointService.getByCapabilityIds(List.of(capabilityId1), List.of(capabilityId2));
 
-      assertThat(result).containsExactly(endpoint1);
+      assertThat(result).containsExactly(endpoint("/c2", GET));
     }
 
     @Test
     void positive_allEndpointsAssigned() {
-      var endpoint1 = endpoint("/c2", GET);
-      var endpoint2 = endpoint("/c1", GET);
-      var capability1 = capability(capabilityId1, endpoint1);
-      var capability2 = capability(capabilityId2, endpoint1, endpoint2);
-      when(capabilityService.findByIds(List.of(capabilityId1))).thenReturn(List.of(capability1));
-      when(capabilityService.findByIds(List.of(capabilityId2))).thenReturn(List.of(capability2));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      var assignedEntities = List.of(
+        CapabilityEndpointEntity.of(capabilityId2, "/c2", GET),
+        CapabilityEndpointEntity.of(capabilityId2, "/c1", GET));
+      when(endpointRepository.findByCapabilityIds(List.of(capabilityId1))).thenReturn(changedEntities);
+      when(endpointRepository.findByCapabilityIds(List.of(capabilityId2))).thenReturn(assignedEntities);
 
       var result = capabilityEndpointService.getByCapabilityIds(List.of(capabilityId1), List.of(capabilityId2));
 
       assertThat(result).isEmpty();
     }
+
+    @Test
+    void positive_changedCapabilitiesAssigned() {
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var result = capabilityEndpointService.getByCapabilityIds(List.of(capabilityId1), List.of(capabilityId1));
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    void positive_fromCatalog() {
+      var catalog = CapabilityCatalog.of(1L, List.of(
+        capability(capabilityId1, "resource-a", "/c1", "/c2"),
+        capability(capabilityId2, "resource-b", "/c1")), emptyMap());
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.of(catalog));
+
+      var result = capabilityEndpointService.getByCapabilityIds(List.of(capabilityId1), List.of(capabilityId2));
+
+      assertThat(result).containsExactly(endpoint("/c2", GET));
+    }
   }
 
   @Nested
@@ -86,45 +118,72 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive() {
-      var endpoint1 = endpoint("/c2", GET);
-      var endpoint2 = endpoint("/c1", GET);
-      var capability1 = capability(capabilityId1, endpoint1);
-      var capability2 = capability(capabilityId2, endpoint2);
-      when(capabilityService.findByCapabilitySetIds(List.of(csId1))).thenReturn(List.of(capability1));
-      when(capabilityService.findByCapabilitySetIds(List.of(csId2))).thenReturn(List.of(capability2));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      var assignedEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/c1", GET));
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId1))).thenReturn(changedEntities);
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId2))).thenReturn(assignedEntities);
 
       var result = capabilityEndpointService.getByCapabilitySetIds(List.of(csId1), List.of(csId2), emptyList());
 
-      assertThat(result).containsExactly(endpoint1);
+      assertThat(result).containsExactly(endpoint("/c2", GET));
     }
 
     @Test
     void positive_endpointExcluded() {
-      var endpoint1 = endpoint("/c2", GET);
-      var endpoint2 = endpoint("/c1", GET);
-      var capability1 = capability(capabilityId1, endpoint1);
-      var capability2 = capability(capabilityId2, endpoint2);
-      when(capabilityService.findByCapabilitySetIds(List.of(csId1))).thenReturn(List.of(capability1));
-      when(capabilityService.findByCapabilitySetIds(List.of(csId2))).thenReturn(List.of(capability2));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      var assignedEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/c1", GET));
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId1))).thenReturn(changedEntities);
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId2))).thenReturn(assignedEntities);
 
-      var result = capabilityEndpointService.getByCapabilitySetIds(List.of(csId1), List.of(csId2), List.of(endpoint1));
+      var result = capabilityEndpointService.getByCapabilitySetIds(
+        List.of(csId1), List.of(csId2), List.of(endpoint("/c2", GET)));
 
       assertThat(result).isEmpty();
     }
 
     @Test
     void positive_allEndpointsAssigned() {
-      var endpoint1 = endpoint("/c2", GET);
-      var endpoint2 = endpoint("/c1", GET);
-      var capability1 = capability(capabilityId1, endpoint1);
-      var capability2 = capability(capabilityId2, endpoint1, endpoint2);
-      when(capabilityService.findByCapabilitySetIds(List.of(csId1))).thenReturn(List.of(capability1));
-      when(capabilityService.findByCapabilitySetIds(List.of(csId2))).thenReturn(List.of(capability2));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      var assignedEntities = List.of(
+        CapabilityEndpointEntity.of(capabilityId2, "/c2", GET),
+        CapabilityEndpointEntity.of(capabilityId2, "/c1", GET));
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId1))).thenReturn(changedEntities);
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId2))).thenReturn(assignedEntities);
 
       var result = capabilityEndpointService.getByCapabilitySetIds(List.of(csId1), List.of(csId2), emptyList());
 
       assertThat(result).isEmpty();
     }
+
+    @Test
+    void positive_noAssignedCapabilitySets() {
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
+      var changedEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/c2", GET));
+      when(endpointRepository.findByCapabilitySetIds(List.of(csId1))).thenReturn(changedEntities);
+
+      var result = capabilityEndpointService.getByCapabilitySetIds(List.of(csId1), emptyList(), emptyList());
+
+      assertThat(result).containsExactly(endpoint("/c2", GET));
+    }
+
+    @Test
+    void positive_fromCatalog() {
+      var capabilityId3 = UUID.randomUUID();
+      var catalog = CapabilityCatalog.of(1L, List.of(
+          capability(capabilityId1, "resource-a", "/c1", "/c2"),
+          capability(capabilityId2, "resource-b", "/c1"),
+          capability(capabilityId3, "resource-c", "/c3", "/c4")),
+        Map.of(csId1, List.of(capabilityId1, capabilityId2, capabilityId3), csId2, List.of(capabilityId2)));
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.of(catalog));
+
+      var result = capabilityEndpointService.getByCapabilitySetIds(
+        List.of(csId1), List.of(csId2), List.of(endpoint("/c4", GET)));
+
+      assertThat(result).containsExactly(endpoint("/c2", GET), endpoint("/c3", GET));
+    }
   }
 
   @Nested
@@ -133,16 +192,12 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive_bothExclusionListsPresent() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
-
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
-
-      var capabilitiesString = CAPABILITY_ID.toString();
-      var setString = CAPABILITY_SET_ID.toString();
-      when(endpointRepository.getByRoleId(ROLE_ID, capabilitiesString)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByRoleId(ROLE_ID, capabilitiesString, setString)).thenReturn(setEntities);
+      var entities = List.of(
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET),
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/2", GET));
+      var capabilityIds = new UUID[] {CAPABILITY_ID};
+      var setIds = new UUID[] {CAPABILITY_SET_ID};
+      when(endpointRepository.getByRoleId(ROLE_ID, capabilityIds, setIds)).thenReturn(entities);
 
       var result = capabilityEndpointService.getRoleAssignedEndpoints(
         ROLE_ID, List.of(CAPABILITY_ID), List.of(CAPABILITY_SET_ID));
@@ -152,34 +207,34 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive_exclusionsListEmpty() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
-
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
-
-      when(endpointRepository.getByRoleId(ROLE_ID, null)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByRoleId(ROLE_ID, null, null)).thenReturn(setEntities);
+      var entities = List.of(CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByRoleId(ROLE_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
       var result = capabilityEndpointService.getRoleAssignedEndpoints(ROLE_ID, emptyList(), emptyList());
 
-      assertThat(result).containsExactly(endpoint("/test/1", GET), endpoint("/test/2", GET));
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
     }
 
     @Test
     void positive_exclusionsListNull() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
+      var entities = List.of(CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByRoleId(ROLE_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
+      var result = capabilityEndpointService.getRoleAssignedEndpoints(ROLE_ID, null, null);
 
-      when(endpointRepository.getByRoleId(ROLE_ID, null)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByRoleId(ROLE_ID, null, null)).thenReturn(setEntities);
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
+    }
 
-      var result = capabilityEndpointService.getRoleAssignedEndpoints(ROLE_ID, null, null);
+    @Test
+    void positive_sameEndpointOfDifferentCapabilities() {
+      var entities = List.of(
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET),
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByRoleId(ROLE_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
-      assertThat(result).containsExactly(endpoint("/test/1", GET), endpoint("/test/2", GET));
+      var result = capabilityEndpointService.getRoleAssignedEndpoints(ROLE_ID, emptyList(), emptyList());
+
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
     }
   }
 
@@ -189,16 +244,12 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive_bothExclusionListsPresent() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
-
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
-
-      var capabilitiesString = CAPABILITY_ID.toString();
-      var setString = CAPABILITY_SET_ID.toString();
-      when(endpointRepository.getByUserId(USER_ID, capabilitiesString)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByUserId(USER_ID, capabilitiesString, setString)).thenReturn(setEntities);
+      var entities = List.of(
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET),
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/2", GET));
+      var capabilityIds = new UUID[] {CAPABILITY_ID};
+      var setIds = new UUID[] {CAPABILITY_SET_ID};
+      when(endpointRepository.getByUserId(USER_ID, capabilityIds, setIds)).thenReturn(entities);
 
       var result = capabilityEndpointService.getUserAssignedEndpoints(
         USER_ID, List.of(CAPABILITY_ID), List.of(CAPABILITY_SET_ID));
@@ -208,34 +259,34 @@ class CapabilityEndpointServiceTest {
 
     @Test
     void positive_exclusionsListEmpty() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
-
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
-
-      when(endpointRepository.getByUserId(USER_ID, null)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByUserId(USER_ID, null, null)).thenReturn(setEntities);
+      var entities = List.of(CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByUserId(USER_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
       var result = capabilityEndpointService.getUserAssignedEndpoints(USER_ID, emptyList(), emptyList());
 
-      assertThat(result).containsExactly(endpoint("/test/1", GET), endpoint("/test/2", GET));
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
     }
 
     @Test
     void positive_exclusionsListNull() {
-      var capabilityId1 = UUID.randomUUID();
-      var capabilityId2 = UUID.randomUUID();
+      var entities = List.of(CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByUserId(USER_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
-      var capabilityEntities = List.of(CapabilityEndpointEntity.of(capabilityId1, "/test/1", GET));
-      var setEntities = List.of(CapabilityEndpointEntity.of(capabilityId2, "/test/2", GET));
+      var result = capabilityEndpointService.getUserAssignedEndpoints(USER_ID, null, null);
 
-      when(endpointRepository.getByUserId(USER_ID, null)).thenReturn(capabilityEntities);
-      when(endpointRepository.getByUserId(USER_ID, null, null)).thenReturn(setEntities);
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
+    }
 
-      var result = capabilityEndpointService.getUserAssignedEndpoints(USER_ID, null, null);
+    @Test
+    void positive_sameEndpointOfDifferentCapabilities() {
+      var entities = List.of(
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET),
+        CapabilityEndpointEntity.of(UUID.randomUUID(), "/test/1", GET));
+      when(endpointRepository.getByUserId(USER_ID, new UUID[0], new UUID[0])).thenReturn(entities);
 
-      assertThat(result).containsExactly(endpoint("/test/1", GET), endpoint("/test/2", GET));
+      var result = capabilityEndpointService.getUserAssignedEndpoints(USER_ID, emptyList(), emptyList());
+
+      assertThat(result).containsExactly(endpoint("/test/1", GET));
     }
   }
 }
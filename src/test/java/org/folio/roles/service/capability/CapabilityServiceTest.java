@@ -1,5 +1,6 @@
 package org.folio.roles.service.capability;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -7,6 +8,7 @@ import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.integration.kafka.model.ResourceEventType.CREATE;
+import static org.folio.roles.domain.entity.CapabilityEntity.CAPABILITY_KEYSET_SORT;
 import static org.folio.roles.domain.entity.CapabilityEntity.DEFAULT_CAPABILITY_SORT;
 import static org.folio.roles.support.CapabilitySetUtils.CAPABILITY_SET_ID;
 import static org.folio.roles.support.CapabilitySetUtils.capabilitySet;
@@ -19,29 +21,43 @@ import static org.folio.roles.support.CapabilityUtils.capabilityEntity;
 import static org.folio.roles.support.CapabilityUtils.technicalCapability;
 import static org.folio.roles.support.RoleUtils.ROLE_ID;
 import static org.folio.roles.support.TestConstants.USER_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.roles.domain.dto.Capability;
+import org.folio.roles.domain.dto.PermissionsUser;
 import org.folio.roles.domain.entity.CapabilityEntity;
+import org.folio.roles.domain.model.KeysetCursor;
+import org.folio.roles.domain.model.KeysetPageResult;
 import org.folio.roles.domain.model.PageResult;
+import org.folio.roles.domain.model.SerializedPermissionsUser;
 import org.folio.roles.domain.model.event.CapabilityEvent;
+import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.integration.mte.MteEntitlementService;
 import org.folio.roles.mapper.entity.CapabilityEntityMapper;
 import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.repository.CqlEntityStreamer;
+import org.folio.roles.repository.CqlKeysetQueryExecutor;
 import org.folio.roles.repository.RoleCapabilityRepository;
 import org.folio.roles.repository.projection.CapabilityDirectProjection;
+import org.folio.roles.service.TotalRecordsService;
+import org.folio.roles.service.capability.model.CapabilityCatalog;
+import org.folio.roles.service.capability.model.SerializedPermissions;
 import org.folio.roles.service.capability.model.UserPermissionMappings;
 import org.folio.roles.support.TestUtils;
 import org.folio.roles.support.TestUtils.TestModRolesKeycloakModuleMetadata;
@@ -81,6 +97,10 @@ class CapabilityServiceTest {
   @Mock private ApplicationEventPublisher applicationEventPublisher;
   @Mock private UserPermissionCacheService userPermissionCacheService;
   @Mock private MteEntitlementService mteEntitlementService;
+  @Mock private CqlEntityStreamer cqlEntityStreamer;
+  @Mock private CqlKeysetQueryExecutor cqlKeysetQueryExecutor;
+  @Mock private TotalRecordsService totalRecordsService;
+  @Mock private CapabilityCatalogService capabilityCatalogService;
   @Captor private ArgumentCaptor<CapabilityEvent> eventCaptor;
 
   @BeforeEach
@@ -88,7 +108,8 @@ class CapabilityServiceTest {
     var folioExecutionContext = new DefaultFolioExecutionContext(new TestModRolesKeycloakModuleMetadata(), emptyMap());
     this.capabilityService = new CapabilityService(capabilityRepository, roleCapabilityRepository,
       folioExecutionContext, capabilityEntityMapper, applicationEventPublisher, userPermissionCacheService,
-      mteEntitlementService, capabilitySetService);
+      mteEntitlementService, cqlEntityStreamer, cqlKeysetQueryExecutor, totalRecordsService, capabilityCatalogService,
+      capabilitySetService);
   }
 
   @AfterEach
@@ -260,6 +281,105 @@ class CapabilityServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("stream")
+  class StreamCapabilities {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void positive() {
+      var query = "cql.allRecords = 1";
+      var capability = capability();
+      when(cqlEntityStreamer.stream(eq(CapabilityEntity.class), eq(query), eq(DEFAULT_CAPABILITY_SORT), eq(0), eq(10),
+        any(Function.class))).thenReturn(Stream.of(capability));
+
+      var result = new ArrayList<Capability>();
+      capabilityService.stream(query, 10, 0, result::add);
+
+      assertThat(result).containsExactly(capability);
+    }
+  }
+
+  @Nested
+  @DisplayName("findAfter")
+  class FindAfter {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void positive() {
+      var query = "cql.allRecords = 1";
+      var cursor = new KeysetCursor("foo_item.view", CAPABILITY_ID);
+      var expected = KeysetPageResult.of(List.of(capability()), "next");
+      when(cqlKeysetQueryExecutor.findAfter(eq(CapabilityEntity.class), eq(query), eq(CAPABILITY_KEYSET_SORT),
+        eq(cursor), eq(10), any(Function.class))).thenReturn(expected);
+
+      var result = capabilityService.findAfter(query, cursor.encode(), 10);
+
+      assertThat(result).isEqualTo(expected);
+    }
+  }
+
+  @Nested
+  @DisplayName("findByUserIdAfter")
+  class FindByUserIdAfter {
+
+    @Test
+    void positive_firstFullPage() {
+      var capability = capability();
+      var capabilityEntity = capabilityEntity();
+      when(capabilityRepository.findAllByUserIdAfter(USER_ID, false, "", new UUID(0L, 0L), 1))
+        .thenReturn(List.of(capabilityEntity));
+      when(capabilityEntityMapper.convert(capabilityEntity)).thenReturn(capability);
+
+      var result = capabilityService.findByUserIdAfter(USER_ID, true, false, "", 1);
+
+      var expectedNext = new KeysetCursor(capabilityEntity.getName(), capabilityEntity.getId()).encode();
+      assertThat(result).isEqualTo(KeysetPageResult.of(List.of(capability), expectedNext));
+    }
+
+    @Test
+    void positive_lastPage() {
+      var capability = capability();
+      var capabilityEntity = capabilityEntity();
+      var cursor = new KeysetCursor("foo_item.create", UUID.randomUUID());
+      when(capabilityRepository.findByUserIdAfter(USER_ID, true, cursor.sortValue(), cursor.id(), 10))
+        .thenReturn(List.of(capabilityEntity));
+      when(capabilityEntityMapper.convert(capabilityEntity)).thenReturn(capability);
+
+      var result = capabilityService.findByUserIdAfter(USER_ID, false, true, cursor.encode(), 10);
+
+      assertThat(result).isEqualTo(KeysetPageResult.of(List.of(capability), null));
+    }
+  }
+
+  @Nested
+  @DisplayName("findByRoleIdAfter")
+  class FindByRoleIdAfter {
+
+    @Test
+    void positive_expand() {
+      var capability = capability();
+      var capabilityEntity = capabilityEntity();
+      when(capabilityRepository.findAllByRoleIdAfter(ROLE_ID, false, "", new UUID(0L, 0L), 10))
+        .thenReturn(List.of(capabilityEntity));
+      when(roleCapabilityRepository.findCapabilityIdsByRoleId(ROLE_ID)).thenReturn(Set.of());
+      when(capabilityEntityMapper.convert(capabilityEntity)).thenReturn(capability);
+
+      var result = capabilityService.findByRoleIdAfter(ROLE_ID, true, false, null, 10);
+
+      assertThat(result.getNext()).isNull();
+      assertThat(result.getRecords()).containsExactly(capability);
+      assertThat(result.getRecords()).extracting(Capability::getDirect).containsExactly(false);
+    }
+
+    @Test
+    void negative_invalidCursor() {
+      assertThatThrownBy(() -> capabilityService.findByRoleIdAfter(ROLE_ID, true, false, "invalid", 10))
+        .isInstanceOf(RequestValidationException.class)
+        .hasMessage("Invalid cursor value");
+    }
+  }
+
   @Nested
   @DisplayName("find")
   class Find {
@@ -552,6 +672,7 @@ class CapabilityServiceTest {
       var capabilityEntity = capabilityEntity();
       var capabilityNames = List.of("test_resource.create");
 
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findAllByNames(capabilityNames)).thenReturn(List.of(capabilityEntity));
       when(capabilityEntityMapper.convert(List.of(capabilityEntity))).thenReturn(List.of(capability));
 
@@ -559,6 +680,19 @@ class CapabilityServiceTest {
 
       assertThat(result).isEqualTo(List.of(capability));
     }
+
+    @Test
+    void positive_fromCatalog() {
+      var capability = capability();
+      var catalog = CapabilityCatalog.of(1L, List.of(capability), emptyMap());
+
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.of(catalog));
+
+      var result = capabilityService.findByNames(List.of(capability.getName(), "unknown.view"));
+
+      assertThat(result).isEqualTo(List.of(capability));
+      assertThat(result.getFirst()).isNotSameAs(capability);
+    }
   }
 
   @Nested
@@ -618,6 +752,7 @@ class CapabilityServiceTest {
       var capabilityEntities = List.of(capabilityEntity());
       var capabilitySetIds = List.of(CAPABILITY_SET_ID);
 
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findByCapabilitySetIds(capabilitySetIds)).thenReturn(capabilityEntities);
       when(capabilityEntityMapper.convert(capabilityEntities)).thenReturn(List.of(capability));
 
@@ -635,6 +770,7 @@ class CapabilityServiceTest {
     void positive() {
       var capabilityIds = List.of(CAPABILITY_ID);
       var capabilityIdsSet = Set.of(CAPABILITY_ID);
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findCapabilityIdsByIdIncludeDummy(capabilityIdsSet)).thenReturn(capabilityIdsSet);
 
       capabilityService.checkIds(capabilityIds);
@@ -650,6 +786,7 @@ class CapabilityServiceTest {
 
     @Test
     void negative_capabilityNotFoundById() {
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findCapabilityIdsByIdIncludeDummy(Set.of(CAPABILITY_ID))).thenReturn(emptySet());
 
       var capabilityIds = List.of(CAPABILITY_ID);
@@ -657,6 +794,18 @@ class CapabilityServiceTest {
         .isInstanceOf(EntityNotFoundException.class)
         .hasMessage("Capabilities not found by ids: %s", List.of(CAPABILITY_ID));
     }
+
+    @Test
+    void negative_capabilityNotFoundInCatalog() {
+      var catalog = CapabilityCatalog.of(1L, List.of(capability()), emptyMap());
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.of(catalog));
+
+      var unknownId = UUID.randomUUID();
+      var capabilityIds = List.of(CAPABILITY_ID, unknownId);
+      assertThatThrownBy(() -> capabilityService.checkIds(capabilityIds))
+        .isInstanceOf(EntityNotFoundException.class)
+        .hasMessage("Capabilities not found by ids: %s", List.of(unknownId));
+    }
   }
 
   @Nested
@@ -668,8 +817,9 @@ class CapabilityServiceTest {
       var capability = capability();
       var capabilityEntity = capabilityEntity();
       var capabilityIds = List.of(CAPABILITY_ID);
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findAllById(capabilityIds)).thenReturn(List.of(capabilityEntity));
-      when(capabilityEntityMapper.convert(capabilityEntity)).thenReturn(capability);
+      when(capabilityEntityMapper.convert(List.of(capabilityEntity))).thenReturn(List.of(capability));
 
       var result = capabilityService.findByIds(capabilityIds);
 
@@ -779,6 +929,72 @@ class CapabilityServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("getPermissionsUser")
+  class GetPermissionsUser {
+
+    private static final SerializedPermissions SERIALIZED_PERMISSIONS =
+      new SerializedPermissions("{}".getBytes(UTF_8), null, "W/\"all\"");
+    private static final SerializedPermissions SERIALIZED_VISIBLE_PERMISSIONS =
+      new SerializedPermissions("{\"visible\":true}".getBytes(UTF_8), null, "W/\"visible\"");
+
+    @Test
+    void positive_serializedVisiblePermissions() {
+      var uiPermission = "ui-users.view";
+      var mappings = serializedMappings(List.of(PERMISSION_NAME, uiPermission));
+      when(userPermissionCacheService.getUserPermissionMappings(USER_ID)).thenReturn(mappings);
+
+      var result = capabilityService.getPermissionsUser(USER_ID, true, List.of(PERMISSION_NAME), false);
+
+      assertThat(result).isInstanceOfSatisfying(SerializedPermissionsUser.class, permissionsUser -> {
+        assertThat(permissionsUser.getSerializedPermissions()).isEqualTo(SERIALIZED_VISIBLE_PERMISSIONS);
+        assertThat(permissionsUser.getUserId()).isEqualTo(USER_ID);
+        assertThat(permissionsUser.getPermissions()).containsExactly(uiPermission);
+      });
+    }
+
+    @Test
+    void positive_serializedAllPermissions() {
+      var mappings = serializedMappings(List.of(PERMISSION_NAME));
+      when(userPermissionCacheService.getUserPermissionMappings(USER_ID)).thenReturn(mappings);
+
+      var result = capabilityService.getPermissionsUser(USER_ID, false, emptyList(), false);
+
+      assertThat(result).isInstanceOfSatisfying(SerializedPermissionsUser.class,
+        permissionsUser -> assertThat(permissionsUser.getSerializedPermissions()).isEqualTo(SERIALIZED_PERMISSIONS));
+    }
+
+    @Test
+    void positive_desiredPermissionsNotSerialized() {
+      var mappings = serializedMappings(List.of(PERMISSION_NAME, "ui-users.view"));
+      when(userPermissionCacheService.getUserPermissionMappings(USER_ID)).thenReturn(mappings);
+
+      var result = capabilityService.getPermissionsUser(USER_ID, false, List.of(PERMISSION_NAME), false);
+
+      assertThat(result).isExactlyInstanceOf(PermissionsUser.class);
+      assertThat(result.getPermissions()).containsExactly(PERMISSION_NAME);
+    }
+
+    @Test
+    void positive_entitledOnlyNotSerialized() {
+      var mappings = serializedMappings(List.of(PERMISSION_NAME));
+      when(userPermissionCacheService.getUserPermissionMappings(USER_ID)).thenReturn(mappings);
+      when(mteEntitlementService.getEntitledApplicationIdsForCurrentTenant()).thenReturn(Set.of(APPLICATION_ID));
+
+      var result = capabilityService.getPermissionsUser(USER_ID, false, emptyList(), true);
+
+      assertThat(result).isExactlyInstanceOf(PermissionsUser.class);
+      assertThat(result.getPermissions()).containsExactly(PERMISSION_NAME);
+    }
+
+    private static UserPermissionMappings serializedMappings(List<String> permissions) {
+      var permissionToApplicationId = permissions.stream()
+        .collect(Collectors.toMap(Function.identity(), permission -> APPLICATION_ID));
+      return new UserPermissionMappings(permissions, permissionToApplicationId,
+        list -> list.equals(permissions) ? SERIALIZED_PERMISSIONS : SERIALIZED_VISIBLE_PERMISSIONS);
+    }
+  }
+
   @Nested
   @DisplayName("updateApplicationVersion")
   class UpdateApplicationVersion {
@@ -800,6 +1016,7 @@ class CapabilityServiceTest {
       var capability = capability();
       var capabilityEntity = capabilityEntity();
       var permissionNames = List.of("test_resource.create");
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findAllByPermissionNames(permissionNames)).thenReturn(List.of(capabilityEntity));
       when(capabilityEntityMapper.convert(List.of(capabilityEntity))).thenReturn(List.of(capability));
 
@@ -864,6 +1081,7 @@ class CapabilityServiceTest {
     void positive_includingTechnicalCapabilities() {
       var capabilityEntity = capabilityEntity();
       var permissionNames = List.of(PERMISSION_NAME);
+      when(capabilityCatalogService.findCurrent()).thenReturn(Optional.empty());
       when(capabilityRepository.findAllByPermissionNames(permissionNames)).thenReturn(List.of(capabilityEntity));
       when(capabilityEntityMapper.convert(List.of(capabilityEntity))).thenReturn(List.of(technicalCapability()));
 
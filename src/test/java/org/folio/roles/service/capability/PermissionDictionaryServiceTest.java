@@ -0,0 +1,139 @@
+package org.folio.roles.service.capability;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.folio.roles.support.TestConstants.USER_ID;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.OptionalLong;
+import org.folio.roles.repository.CapabilityCatalogRepository;
+import org.folio.roles.repository.CapabilityRepository;
+import org.folio.roles.support.TestUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class PermissionDictionaryServiceTest {
+
+  @InjectMocks private PermissionDictionaryService permissionDictionaryService;
+  @Mock private CapabilityService capabilityService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private CapabilityRepository capabilityRepository;
+  @Mock private CapabilityCatalogService capabilityCatalogService;
+  @Mock private CapabilityCatalogRepository capabilityCatalogRepository;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void getDictionary_positive_cachedForCatalogVersion() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion())
+      .thenReturn(OptionalLong.of(1L), OptionalLong.of(1L), OptionalLong.of(2L));
+    when(capabilityRepository.findAllFolioPermissionNames()).thenReturn(List.of("b.get", "a.get"));
+
+    var dictionary = permissionDictionaryService.getDictionary();
+    var cachedDictionary = permissionDictionaryService.getDictionary();
+    var rebuiltDictionary = permissionDictionaryService.getDictionary();
+
+    assertThat(dictionary.getPermissions()).containsExactly("a.get", "b.get");
+    assertThat(cachedDictionary).isSameAs(dictionary);
+    assertThat(rebuiltDictionary).isNotSameAs(dictionary);
+    assertThat(rebuiltDictionary.getCatalogVersion()).isEqualTo(2L);
+    verify(capabilityCatalogService, times(3)).findVersion();
+    verify(capabilityRepository, times(2)).findAllFolioPermissionNames();
+  }
+
+  @Test
+  void getDictionary_positive_versionReadFromDatabaseWithoutSnapshot() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion()).thenReturn(OptionalLong.empty());
+    when(capabilityCatalogRepository.getVersion()).thenReturn(5L);
+    when(capabilityRepository.findAllFolioPermissionNames()).thenReturn(List.of("a.get"));
+
+    var dictionary = permissionDictionaryService.getDictionary();
+
+    assertThat(dictionary.getCatalogVersion()).isEqualTo(5L);
+    assertThat(dictionary.getPermissions()).containsExactly("a.get");
+  }
+
+  @Test
+  void getPermissionsUserBitmap_positive() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion()).thenReturn(OptionalLong.of(1L));
+    when(capabilityRepository.findAllFolioPermissionNames()).thenReturn(List.of("a.get", "b.get", "c.get"));
+    when(capabilityService.getUserPermissions(USER_ID, false, emptyList(), false)).thenReturn(List.of("c.get"));
+
+    var result = permissionDictionaryService.getPermissionsUserBitmap(USER_ID, false, false);
+
+    assertThat(result.getUserId()).isEqualTo(USER_ID);
+    assertThat(result.getDictionaryVersion()).isEqualTo(permissionDictionaryService.getDictionary().getVersion());
+    assertThat(BitSet.valueOf(result.getBitmap()).stream()).containsExactly(2);
+    verify(capabilityCatalogService, times(2)).findVersion();
+  }
+
+  @Test
+  void getPermissionsUserBitmap_positive_dictionaryRebuiltForUnknownPermission() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion()).thenReturn(OptionalLong.of(1L));
+    when(capabilityRepository.findAllFolioPermissionNames())
+      .thenReturn(List.of("a.get"), List.of("a.get", "replaced.a.get"));
+    when(capabilityService.getUserPermissions(USER_ID, true, emptyList(), true))
+      .thenReturn(List.of("a.get", "replaced.a.get"));
+
+    var result = permissionDictionaryService.getPermissionsUserBitmap(USER_ID, true, true);
+
+    assertThat(BitSet.valueOf(result.getBitmap()).stream()).containsExactly(0, 1);
+    verify(capabilityCatalogService).refresh();
+    verify(capabilityRepository, times(2)).findAllFolioPermissionNames();
+  }
+
+  @Test
+  void getPermissionsUserBitmap_positive_missingPermissionSkipped() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion()).thenReturn(OptionalLong.of(1L));
+    when(capabilityRepository.findAllFolioPermissionNames()).thenReturn(List.of("a.get", "b.get"));
+    when(capabilityService.getUserPermissions(USER_ID, false, emptyList(), false))
+      .thenReturn(List.of("b.get", "removed.get"));
+
+    var result = permissionDictionaryService.getPermissionsUserBitmap(USER_ID, false, false);
+
+    assertThat(BitSet.valueOf(result.getBitmap()).stream()).containsExactly(1);
+    verify(capabilityCatalogService).refresh();
+    verify(capabilityRepository, times(2)).findAllFolioPermissionNames();
+  }
+
+  @Test
+  void getPermissionsUserBitmap_positive_dictionaryRebuiltOncePerCatalogVersion() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(capabilityCatalogService.findVersion())
+      .thenReturn(OptionalLong.of(1L), OptionalLong.of(1L), OptionalLong.of(2L));
+    when(capabilityRepository.findAllFolioPermissionNames()).thenReturn(List.of("a.get", "b.get"));
+    when(capabilityService.getUserPermissions(USER_ID, false, emptyList(), false))
+      .thenReturn(List.of("b.get", "unknown.get"));
+
+    permissionDictionaryService.getPermissionsUserBitmap(USER_ID, false, false);
+    permissionDictionaryService.getPermissionsUserBitmap(USER_ID, false, false);
+    var result = permissionDictionaryService.getPermissionsUserBitmap(USER_ID, false, false);
+
+    assertThat(BitSet.valueOf(result.getBitmap()).stream()).containsExactly(1);
+    verify(capabilityService, times(3)).getUserPermissions(USER_ID, false, emptyList(), false);
+    verify(capabilityCatalogService, times(3)).findVersion();
+    verify(capabilityCatalogService, times(2)).refresh();
+    verify(capabilityRepository, times(4)).findAllFolioPermissionNames();
+  }
+}
@@ -1,34 +1,74 @@
 package org.folio.roles.service.capability;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.folio.roles.support.TestUtils.awaitUntilAsserted;
+import static org.folio.test.TestUtils.OBJECT_MAPPER;
+import static org.folio.test.TestUtils.asJsonString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.folio.roles.configuration.property.UserPermissionsProperties;
+import org.folio.roles.domain.dto.PermissionsUser;
 import org.folio.roles.repository.CapabilityRepository;
 import org.folio.roles.repository.projection.UserPermissionApplicationProjection;
+import org.folio.roles.service.capability.model.CachedUserPermissionMappings;
 import org.folio.roles.service.capability.model.UserPermissionMappings;
+import org.folio.roles.service.metrics.MetricsService;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.DigestUtils;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class UserPermissionCacheServiceTest {
 
+  private static final Duration CACHE_TTL = Duration.ofMinutes(1);
+
+  @Mock private MetricsService metricsService;
   @Mock private CapabilityRepository capabilityRepository;
-  @InjectMocks private UserPermissionCacheService userPermissionCacheService;
+  @Mock private UserPermissionsProperties userPermissionsProperties;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private PlatformTransactionManager transactionManager;
 
   private UUID userId;
+  private ConcurrentMapCacheManager cacheManager;
+  private UserPermissionsCacheEvictor userPermissionsCacheEvictor;
+  private UserPermissionCacheService userPermissionCacheService;
 
   @BeforeEach
   void setUp() {
     userId = UUID.randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    cacheManager = new ConcurrentMapCacheManager(UserPermissionCacheService.CACHE_NAME);
+    userPermissionsCacheEvictor = new UserPermissionsCacheEvictor(cacheManager, folioExecutionContext, CACHE_TTL);
+    userPermissionCacheService = new UserPermissionCacheService(metricsService, capabilityRepository, OBJECT_MAPPER,
+      userPermissionsProperties, userPermissionsCacheEvictor, cacheManager, transactionManager);
+  }
+
+  @AfterEach
+  void tearDown() {
+    userPermissionsCacheEvictor.shutdown();
   }
 
   @Test
@@ -42,7 +82,10 @@ class UserPermissionCacheServiceTest {
     UserPermissionMappings result = userPermissionCacheService.getUserPermissionMappings(userId);
 
     assertThat(result.permissions()).contains("foo.item.delete", "replaced.foo.item.delete");
-    assertThat(result.permissionToApplicationId()).containsEntry("replaced.foo.item.delete", "app-a-1.0.0");
+    assertThat(result.applicationIds()).containsExactly("app-a-1.0.0");
+    assertThat(result.findPermissions(result.findApplications(List.of("app-a-1.0.0")), false))
+      .containsExactly("foo.item.delete", "replaced.foo.item.delete");
+    verify(metricsService).recordUserPermissionsLoad(any());
   }
 
   @Test
@@ -56,7 +99,7 @@ class UserPermissionCacheServiceTest {
     UserPermissionMappings result = userPermissionCacheService.getUserPermissionMappings(userId);
 
     assertThat(result.permissions()).containsExactly("foo.item.get");
-    assertThat(result.permissionToApplicationId()).containsOnlyKeys("foo.item.get");
+    assertThat(result.applicationIds()).containsExactly("app-b-2.0.0");
   }
 
   @Test
@@ -66,6 +109,131 @@ class UserPermissionCacheServiceTest {
     UserPermissionMappings result = userPermissionCacheService.getUserPermissionMappings(userId);
 
     assertThat(result.permissions()).isEmpty();
-    assertThat(result.permissionToApplicationId()).isEmpty();
+    assertThat(result.applicationIds()).isEmpty();
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_serializedPermissions() {
+    var row = mock(UserPermissionApplicationProjection.class);
+    when(row.getPermission()).thenReturn("ui-foo.item.get");
+    when(row.getApplicationId()).thenReturn("app-a-1.0.0");
+    when(row.getReplaces()).thenReturn(new String[] {"foo.item.get"});
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenReturn(List.of(row));
+
+    var result = userPermissionCacheService.getUserPermissionMappings(userId);
+
+    var allPermissions = new PermissionsUser().userId(userId).permissions(List.of("ui-foo.item.get", "foo.item.get"));
+    var visiblePermissions = new PermissionsUser().userId(userId).permissions(List.of("ui-foo.item.get"));
+    assertThat(result.visiblePermissions()).containsExactly("ui-foo.item.get");
+    assertThat(result.findSerializedPermissions(false)).hasValueSatisfying(serialized -> {
+      assertThat(new String(serialized.json(), UTF_8)).isEqualTo(asJsonString(allPermissions));
+      assertThat(serialized.etag()).isEqualTo("W/\"" + DigestUtils.md5DigestAsHex(serialized.json()) + "\"");
+      assertThat(serialized.hasGzippedJson()).isFalse();
+    });
+    assertThat(result.findSerializedPermissions(true)).hasValueSatisfying(
+      serialized -> assertThat(new String(serialized.json(), UTF_8)).isEqualTo(asJsonString(visiblePermissions)));
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_gzippedPermissions() throws IOException {
+    var row = mock(UserPermissionApplicationProjection.class);
+    when(row.getPermission()).thenReturn("ui-foo.item.get");
+    when(row.getApplicationId()).thenReturn("app-a-1.0.0");
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenReturn(List.of(row));
+    when(userPermissionsProperties.isGzipEnabled()).thenReturn(true);
+
+    var result = userPermissionCacheService.getUserPermissionMappings(userId);
+
+    var serialized = result.findSerializedPermissions(false).orElseThrow();
+    assertThat(serialized.hasGzippedJson()).isTrue();
+    try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(serialized.gzippedJson()))) {
+      assertThat(inputStream.readAllBytes()).isEqualTo(serialized.json());
+    }
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_cached() {
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenReturn(List.of(row("foo.item.get")));
+
+    var result = userPermissionCacheService.getUserPermissionMappings(userId);
+    var cachedResult = userPermissionCacheService.getUserPermissionMappings(userId);
+
+    assertThat(cachedResult).isSameAs(result);
+    verify(capabilityRepository).findAllUserPermissionMappings(userId);
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(isNull());
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_userEvictedDuringLoad() {
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenAnswer(invocation -> {
+      userPermissionsCacheEvictor.evictUserPermissions(userId);
+      return List.of(row("foo.item.get"));
+    });
+
+    userPermissionCacheService.getUserPermissionMappings(userId);
+    userPermissionCacheService.getUserPermissionMappings(userId);
+
+    verify(capabilityRepository, times(2)).findAllUserPermissionMappings(userId);
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_tenantEvictedDuringLoad() {
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenAnswer(invocation -> {
+      userPermissionsCacheEvictor.evictUserPermissionsForCurrentTenant();
+      return List.of(row("foo.item.get"));
+    });
+
+    userPermissionCacheService.getUserPermissionMappings(userId);
+    userPermissionCacheService.getUserPermissionMappings(userId);
+
+    verify(capabilityRepository, times(2)).findAllUserPermissionMappings(userId);
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_outdatedGenerationReloaded() {
+    var cache = cacheManager.getCache(UserPermissionCacheService.CACHE_NAME);
+    when(capabilityRepository.findAllUserPermissionMappings(userId))
+      .thenReturn(List.of(row("foo.item.get")), List.of(row("foo.item.post")));
+
+    userPermissionCacheService.getUserPermissionMappings(userId);
+    var cacheKey = userPermissionsCacheEvictor.getCacheKey(userId);
+    var outdatedValue = requireNonNull(cache).get(cacheKey);
+    userPermissionsCacheEvictor.evictUserPermissions(userId);
+    cache.put(cacheKey, requireNonNull(outdatedValue).get());
+    var result = userPermissionCacheService.getUserPermissionMappings(userId);
+
+    assertThat(result.permissions()).containsExactly("foo.item.post");
+  }
+
+  @Test
+  void getUserPermissionMappings_positive_outdatedTenantGenerationRemoved() {
+    var cache = requireNonNull(cacheManager.getCache(UserPermissionCacheService.CACHE_NAME));
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenReturn(List.of(row("foo.item.get")));
+
+    userPermissionCacheService.getUserPermissionMappings(userId);
+    var cacheKey = userPermissionsCacheEvictor.getCacheKey(userId);
+    userPermissionsCacheEvictor.evictUserPermissionsForCurrentTenant();
+
+    awaitUntilAsserted(() -> assertThat(cache.get(cacheKey)).isNull());
+  }
+
+  @Test
+  void weigh_positive() {
+    when(capabilityRepository.findAllUserPermissionMappings(userId)).thenReturn(List.of(row("foo.item.get")));
+
+    var mappings = userPermissionCacheService.getUserPermissionMappings(userId);
+    var cacheKey = userPermissionsCacheEvictor.getCacheKey(userId);
+    var cachedValue = requireNonNull(cacheManager.getCache(UserPermissionCacheService.CACHE_NAME)).get(cacheKey);
+
+    assertThat(CachedUserPermissionMappings.weigh(cacheKey, requireNonNull(cachedValue).get()))
+      .isEqualTo(cacheKey.length() + mappings.weight());
+  }
+
+  private static UserPermissionApplicationProjection row(String permission) {
+    var row = mock(UserPermissionApplicationProjection.class);
+    when(row.getPermission()).thenReturn(permission);
+    when(row.getApplicationId()).thenReturn("app-a-1.0.0");
+    return row;
   }
 }
@@ -1,23 +1,27 @@
 package org.folio.roles.service.capability;
 
 import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.TestUtils.awaitUntilAsserted;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.folio.roles.service.capability.model.UserPermissionsGeneration;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.CacheManager;
@@ -31,184 +35,182 @@ class UserPermissionsCacheEvictorTest {
   private static final String TENANT_1 = "tenant1";
   private static final String TENANT_2 = "tenant2";
 
-  @InjectMocks private UserPermissionsCacheEvictor evictor;
-
   @Mock private CacheManager cacheManager;
   @Mock private FolioExecutionContext folioExecutionContext;
   @Mock private CaffeineCache caffeineCache;
-  @Mock private Cache<Object, Object> nativeCache;
+
+  private UserPermissionsCacheEvictor evictor;
+
+  @BeforeEach
+  void setUp() {
+    evictor = new UserPermissionsCacheEvictor(cacheManager, folioExecutionContext, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    evictor.shutdown();
+  }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_positive_evictsKeysWithCorrectPrefix() {
-    var userId1 = "user1";
-    var userId2 = "user2";
-    var tenant1User1Key = TENANT_1 + ":" + userId1;
-    var tenant1User2Key = TENANT_1 + ":" + userId2;
-    var tenant2User1Key = TENANT_2 + ":" + userId1;
-
-    ConcurrentMap<Object, Object> cacheEntries = new ConcurrentHashMap<>(Map.of(
-      tenant1User1Key, "perms1",
-      tenant1User2Key, "perms2",
-      tenant2User1Key, "perms3"
-    ));
+  void getCacheKey_positive() {
+    var userId = randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
 
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(cacheEntries);
+    var cacheKey = evictor.getCacheKey(userId);
+
+    assertThat(cacheKey).isEqualTo(TENANT_1 + ":0:" + userId + ":mappings");
+  }
+
+  @Test
+  void getGeneration_positive_initialGeneration() {
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
 
-    evictor.evictUserPermissionsForCurrentTenant();
+    var generation = evictor.getGeneration(randomUUID());
 
-    verify(nativeCache).invalidate(tenant1User1Key);
-    verify(nativeCache).invalidate(tenant1User2Key);
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verify(caffeineCache).getNativeCache();
-    verify(nativeCache).asMap();
+    assertThat(generation).isEqualTo(new UserPermissionsGeneration(0L, 0L));
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_positive_handlesEmptyCache() {
-    var emptyCache = new ConcurrentHashMap<Object, Object>();
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(emptyCache);
+  void getGeneration_positive_incrementedByEvictions() {
+    var userId = randomUUID();
+    var otherUserId = randomUUID();
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
 
+    evictor.evictUserPermissions(userId);
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verify(caffeineCache).getNativeCache();
-    verify(nativeCache).asMap();
-    verify(nativeCache, org.mockito.Mockito.never()).invalidate(org.mockito.ArgumentMatchers.any());
+    assertThat(evictor.getGeneration(userId)).isEqualTo(new UserPermissionsGeneration(1L, 1L));
+    assertThat(evictor.getGeneration(otherUserId)).isEqualTo(new UserPermissionsGeneration(1L, 0L));
   }
 
-  @ParameterizedTest
-  @NullAndEmptySource
-  @ValueSource(strings = "  ")
-  void evictUserPermissionsForCurrentTenant_negative_handlesInvalidTenantId(String tenantId) {
-    when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
+  @Test
+  void getGeneration_positive_doesNotIncludeOtherTenantEvictions() {
+    var userId = randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1, TENANT_1, TENANT_2);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
 
+    evictor.evictUserPermissions(userId);
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verifyNoInteractions(cacheManager, caffeineCache, nativeCache);
+    assertThat(evictor.getGeneration(userId)).isEqualTo(new UserPermissionsGeneration(0L, 0L));
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_negative_handlesMissingCache() {
+  void evictUserPermissionsForCurrentTenant_positive_incrementsTenantGeneration() {
+    var userId = randomUUID();
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(null);
 
+    evictor.evictUserPermissionsForCurrentTenant();
+    var cacheKey = evictor.getCacheKey(userId);
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verifyNoInteractions(caffeineCache, nativeCache);
+    assertThat(cacheKey).isEqualTo(TENANT_1 + ":1:" + userId + ":mappings");
+    assertThat(evictor.getCacheKey(userId)).isEqualTo(TENANT_1 + ":2:" + userId + ":mappings");
+    verifyNoInteractions(cacheManager, caffeineCache);
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_negative_handlesNonCaffeineCache() {
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
-    var nonCaffeineCache = new org.springframework.cache.concurrent.ConcurrentMapCache(USER_PERMISSIONS_CACHE);
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(nonCaffeineCache);
+  void evictUserPermissionsForCurrentTenant_positive_doesNotEvictOtherTenants() {
+    var userId = randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1, TENANT_2);
 
     evictor.evictUserPermissionsForCurrentTenant();
+    var cacheKey = evictor.getCacheKey(userId);
 
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verifyNoInteractions(caffeineCache, nativeCache);
+    assertThat(cacheKey).isEqualTo(TENANT_2 + ":0:" + userId + ":mappings");
+    verifyNoInteractions(cacheManager, caffeineCache);
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_positive_evictsAllEntriesForTenant() {
-    var userId1 = "user1";
-    var userId2 = "user2";
-    var userId3 = "user3";
-    var tenant1User1Key = TENANT_1 + ":" + userId1;
-    var tenant1User2Key = TENANT_1 + ":" + userId2;
-    var tenant1User3Key = TENANT_1 + ":" + userId3;
-
-    ConcurrentMap<Object, Object> cacheEntries = new ConcurrentHashMap<>(Map.of(
-      tenant1User1Key, "perms1",
-      tenant1User2Key, "perms2",
-      tenant1User3Key, "perms3"
-    ));
-
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(cacheEntries);
+  void evictUserPermissionsForCurrentTenant_positive_evictsRegisteredKeys() {
+    var userId = randomUUID();
+    var otherUserId = randomUUID();
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
 
+    var cacheKey = evictor.getCacheKey(userId);
+    var otherCacheKey = evictor.getCacheKey(otherUserId);
+    evictor.registerCacheKey(cacheKey);
+    evictor.registerCacheKey(otherCacheKey);
+    evictor.evictUserPermissionsForCurrentTenant();
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(nativeCache).invalidate(tenant1User1Key);
-    verify(nativeCache).invalidate(tenant1User2Key);
-    verify(nativeCache).invalidate(tenant1User3Key);
+    awaitUntilAsserted(() -> {
+      verify(caffeineCache).evict(cacheKey);
+      verify(caffeineCache).evict(otherCacheKey);
+      verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
+    });
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_positive_doesNotEvictOtherTenants() {
-    var userId1 = "user1";
-    var userId2 = "user2";
-    var tenant1User1Key = TENANT_1 + ":" + userId1;
-    var tenant2User1Key = TENANT_2 + ":" + userId1;
-    var tenant2User2Key = TENANT_2 + ":" + userId2;
-
-    ConcurrentMap<Object, Object> cacheEntries = new ConcurrentHashMap<>(Map.of(
-      tenant1User1Key, "perms1",
-      tenant2User1Key, "perms2",
-      tenant2User2Key, "perms3"
-    ));
-
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(cacheEntries);
+  void evictUserPermissionsForCurrentTenant_positive_evictsRegisteredKeysOffCallingThread() {
+    var evictionThread = new AtomicReference<Thread>();
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
+    doAnswer(inv -> {
+      evictionThread.set(Thread.currentThread());
+      return null;
+    }).when(caffeineCache).evict(any());
 
+    var cacheKey = evictor.getCacheKey(randomUUID());
+    evictor.registerCacheKey(cacheKey);
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(nativeCache).invalidate(tenant1User1Key);
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verify(caffeineCache).getNativeCache();
-    verify(nativeCache).asMap();
+    awaitUntilAsserted(() -> verify(caffeineCache).evict(cacheKey));
+    assertThat(evictionThread.get()).isNotNull().isNotSameAs(Thread.currentThread());
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_negative_handlesExceptionDuringEviction() {
-    var userId1 = "user1";
-    var tenant1User1Key = TENANT_1 + ":" + userId1;
+  void evictUserPermissionsForCurrentTenant_positive_doesNotEvictKeysOfOtherTenants() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1, TENANT_1, TENANT_2);
 
-    ConcurrentMap<Object, Object> cacheEntries = new ConcurrentHashMap<>(Map.of(
-      tenant1User1Key, "perms1"
-    ));
+    evictor.registerCacheKey(evictor.getCacheKey(randomUUID()));
+    evictor.evictUserPermissionsForCurrentTenant();
 
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(cacheEntries);
+    verifyNoInteractions(cacheManager, caffeineCache);
+  }
+
+  @Test
+  void evictUserPermissionsForCurrentTenant_negative_handlesExceptionDuringEviction() {
+    var cacheKey = TENANT_1 + ":0:" + randomUUID() + ":mappings";
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
-    when(nativeCache.asMap().keySet()).thenThrow(new RuntimeException("Test exception"));
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
+    doThrow(new RuntimeException("cache error")).when(caffeineCache).evict(any());
 
+    evictor.registerCacheKey(cacheKey);
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verify(caffeineCache).getNativeCache();
-    verify(nativeCache).asMap();
+    assertThat(evictor.getGeneration(randomUUID())).isEqualTo(new UserPermissionsGeneration(1L, 0L));
+    awaitUntilAsserted(() -> verify(caffeineCache).evict(cacheKey));
   }
 
   @Test
-  void evictUserPermissionsForCurrentTenant_positive_handlesTenantIdWithColon() {
-    var userId1 = "user1";
-    var tenant1User1Key = TENANT_1 + ":" + userId1;
+  void evictUserPermissions_positive_removesKeyFromTenantIndex() {
+    var userId = randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
 
-    ConcurrentMap<Object, Object> cacheEntries = new ConcurrentHashMap<>(Map.of(
-      tenant1User1Key, "perms1"
-    ));
+    var cacheKey = evictor.getCacheKey(userId);
+    evictor.registerCacheKey(cacheKey);
+    evictor.evictUserPermissions(userId);
+    evictor.evictUserPermissionsForCurrentTenant();
 
-    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    when(caffeineCache.getNativeCache()).thenReturn(nativeCache);
-    when(nativeCache.asMap()).thenReturn(cacheEntries);
-    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    verify(caffeineCache).evict(cacheKey);
+    verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = "  ")
+  void evictUserPermissionsForCurrentTenant_negative_handlesInvalidTenantId(String tenantId) {
+    var userId = randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn(tenantId);
 
     evictor.evictUserPermissionsForCurrentTenant();
 
-    verify(nativeCache).invalidate(tenant1User1Key);
+    assertThat(evictor.getCacheKey(userId)).isEqualTo(tenantId + ":0:" + userId + ":mappings");
+    verifyNoInteractions(cacheManager, caffeineCache);
   }
 
   @Test
@@ -220,10 +222,23 @@ class UserPermissionsCacheEvictorTest {
 
     evictor.evictUserPermissions(userId);
 
-    verify(caffeineCache).evict(TENANT_1 + ":" + userId + ":mappings");
+    verify(caffeineCache).evict(TENANT_1 + ":0:" + userId + ":mappings");
     verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
   }
 
+  @Test
+  void evictUserPermissions_positive_evictsKeyOfCurrentTenantGeneration() {
+    var userId = randomUUID();
+
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
+    when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
+
+    evictor.evictUserPermissionsForCurrentTenant();
+    evictor.evictUserPermissions(userId);
+
+    verify(caffeineCache).evict(TENANT_1 + ":1:" + userId + ":mappings");
+  }
+
   @ParameterizedTest
   @NullAndEmptySource
   @ValueSource(strings = "  ")
@@ -233,7 +248,8 @@ class UserPermissionsCacheEvictorTest {
 
     evictor.evictUserPermissions(userId);
 
-    verifyNoInteractions(cacheManager, caffeineCache, nativeCache);
+    assertThat(evictor.getGeneration(userId)).isEqualTo(new UserPermissionsGeneration(0L, 0L));
+    verifyNoInteractions(cacheManager, caffeineCache);
   }
 
   @Test
@@ -246,7 +262,7 @@ class UserPermissionsCacheEvictorTest {
     evictor.evictUserPermissions(userId);
 
     verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verifyNoInteractions(caffeineCache, nativeCache);
+    verifyNoInteractions(caffeineCache);
   }
 
   @Test
@@ -255,11 +271,11 @@ class UserPermissionsCacheEvictorTest {
 
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_1);
     when(cacheManager.getCache(USER_PERMISSIONS_CACHE)).thenReturn(caffeineCache);
-    doThrow(new RuntimeException("cache error")).when(caffeineCache).evict(org.mockito.ArgumentMatchers.any());
+    doThrow(new RuntimeException("cache error")).when(caffeineCache).evict(any());
 
     evictor.evictUserPermissions(userId);
 
     verify(cacheManager).getCache(USER_PERMISSIONS_CACHE);
-    verify(caffeineCache).evict(TENANT_1 + ":" + userId + ":mappings");
+    verify(caffeineCache).evict(TENANT_1 + ":0:" + userId + ":mappings");
   }
 }
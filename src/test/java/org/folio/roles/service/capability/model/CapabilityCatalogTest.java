@@ -0,0 +1,87 @@
+package org.folio.roles.service.capability.model;
+
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.domain.dto.CapabilityAction.EDIT;
+import static org.folio.roles.domain.dto.CapabilityAction.VIEW;
+import static org.folio.roles.domain.dto.HttpMethod.GET;
+import static org.folio.roles.support.CapabilityUtils.capability;
+import static org.folio.roles.support.EndpointUtils.endpoint;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CapabilityCatalogTest {
+
+  private static final UUID CAPABILITY_ID_1 = UUID.randomUUID();
+  private static final UUID CAPABILITY_ID_2 = UUID.randomUUID();
+  private static final UUID DUMMY_CAPABILITY_ID = UUID.randomUUID();
+  private static final UUID CAPABILITY_SET_ID_1 = UUID.randomUUID();
+  private static final UUID CAPABILITY_SET_ID_2 = UUID.randomUUID();
+
+  @Test
+  void findByCapabilitySetIds_positive() {
+    var catalog = catalog();
+
+    var result = catalog.findByCapabilitySetIds(List.of(CAPABILITY_SET_ID_1, CAPABILITY_SET_ID_2, UUID.randomUUID()));
+
+    assertThat(result).extracting("id").containsExactly(CAPABILITY_ID_2, CAPABILITY_ID_1);
+  }
+
+  @Test
+  void resolveCapabilitySets_positive_dummyCapabilitiesExcluded() {
+    var catalog = catalog();
+
+    var result = catalog.resolveCapabilitySets(List.of(CAPABILITY_SET_ID_2));
+    result.andNot(catalog.resolveCapabilities(List.of(CAPABILITY_ID_1)));
+
+    assertThat(catalog.findByIds(List.of(CAPABILITY_ID_1, CAPABILITY_ID_2, DUMMY_CAPABILITY_ID))).hasSize(3);
+    assertThat(result.cardinality()).isZero();
+    assertThat(catalog.resolveCapabilitySets(List.of(CAPABILITY_SET_ID_1)).cardinality()).isEqualTo(2);
+  }
+
+  @Test
+  void findByNames_positive_orderedByName() {
+    var result = catalog().findByNames(List.of("resource-b.view", "resource-a.edit", "dummy.view"), false);
+
+    assertThat(result).extracting("id").containsExactly(CAPABILITY_ID_2, CAPABILITY_ID_1);
+  }
+
+  @Test
+  void findByIds_positive_returnsCopies() {
+    var catalog = catalog();
+
+    var capability = catalog.findByIds(List.of(CAPABILITY_ID_1)).getFirst();
+    capability.setName("modified");
+    capability.getEndpoints().getFirst().setPath("/modified");
+
+    var result = catalog.findByIds(List.of(CAPABILITY_ID_1));
+    assertThat(result).extracting("name").containsExactly("resource-b.view");
+    assertThat(result.getFirst().getEndpoints()).containsExactly(endpoint("/b", GET));
+  }
+
+  @Test
+  void unavailable_positive() {
+    var catalog = CapabilityCatalog.unavailable(2L);
+
+    assertThat(catalog.isAvailable()).isFalse();
+    assertThat(catalog.size()).isZero();
+    assertThat(catalog.resolveCapabilitySets(List.of(CAPABILITY_SET_ID_1)).isEmpty()).isTrue();
+    assertThat(CapabilityCatalog.of(1L, List.of(), emptyMap()).isAvailable()).isTrue();
+  }
+
+  private static CapabilityCatalog catalog() {
+    var capabilities = List.of(
+      capability(CAPABILITY_ID_1, "resource-b", VIEW, "resource-b.view", endpoint("/b", GET)),
+      capability(CAPABILITY_ID_2, "resource-a", EDIT, "resource-a.edit"),
+      capability(DUMMY_CAPABILITY_ID, "dummy", VIEW, "dummy.view").dummyCapability(true));
+
+    return CapabilityCatalog.of(1L, capabilities, Map.of(
+      CAPABILITY_SET_ID_1, List.of(CAPABILITY_ID_1, CAPABILITY_ID_2, DUMMY_CAPABILITY_ID),
+      CAPABILITY_SET_ID_2, List.of(CAPABILITY_ID_1, DUMMY_CAPABILITY_ID)));
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.roles.service.capability.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PermissionDictionaryTest {
+
+  @Test
+  void of_positive_sortedDistinctPermissions() {
+    var dictionary = PermissionDictionary.of(1L, List.of("foo.item.put", "foo.item.get", "foo.item.put"));
+
+    assertThat(dictionary.getCatalogVersion()).isEqualTo(1L);
+    assertThat(dictionary.getPermissions()).containsExactly("foo.item.get", "foo.item.put");
+    assertThat(dictionary.size()).isEqualTo(2);
+  }
+
+  @Test
+  void of_positive_versionDependsOnPermissionsOnly() {
+    var dictionary = PermissionDictionary.of(1L, List.of("foo.item.get", "foo.item.put"));
+
+    assertThat(PermissionDictionary.of(2L, List.of("foo.item.put", "foo.item.get")).getVersion())
+      .isEqualTo(dictionary.getVersion());
+    assertThat(PermissionDictionary.of(1L, List.of("foo.item.get")).getVersion())
+      .isNotEqualTo(dictionary.getVersion());
+  }
+
+  @Test
+  void resolvePermissions_positive() {
+    var dictionary = PermissionDictionary.of(1L, List.of("a.get", "b.get", "c.get"));
+
+    var result = dictionary.resolvePermissions(List.of("c.get", "a.get", "unknown.get"));
+
+    assertThat(result.stream()).containsExactly(0, 2);
+    assertThat(dictionary.containsAll(List.of("c.get", "a.get"))).isTrue();
+    assertThat(dictionary.containsAll(List.of("c.get", "unknown.get"))).isFalse();
+  }
+}
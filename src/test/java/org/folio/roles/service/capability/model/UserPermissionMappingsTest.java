@@ -0,0 +1,89 @@
+package org.folio.roles.service.capability.model;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class UserPermissionMappingsTest {
+
+  private static final String APP_A = "app-a-1.0.0";
+  private static final String APP_B = "app-b-1.0.0";
+
+  @Test
+  void findPermissions_positive_selectedApplications() {
+    var mappings = new UserPermissionMappings(List.of("a.get", "b.get", "a.post", "unmapped.get"),
+      Map.of("a.get", APP_A, "b.get", APP_B, "a.post", APP_A));
+
+    var result = mappings.findPermissions(mappings.findApplications(Set.of(APP_A, "app-c-1.0.0")), false);
+
+    assertThat(mappings.applicationIds()).containsExactly(APP_A, APP_B);
+    assertThat(result).containsExactly("a.get", "a.post");
+  }
+
+  @Test
+  void findPermissions_positive_allApplicationsSelected() {
+    var mappings = new UserPermissionMappings(List.of("a.get", "b.get"), Map.of("a.get", APP_A, "b.get", APP_B));
+
+    var result = mappings.findPermissions(mappings.findApplications(Set.of(APP_A, APP_B)), false);
+
+    assertThat(result).isSameAs(mappings.permissions());
+  }
+
+  @Test
+  void findPermissions_positive_unmappedPermissionExcluded() {
+    var mappings = new UserPermissionMappings(List.of("a.get", "unmapped.get"), Map.of("a.get", APP_A));
+
+    var result = mappings.findPermissions(mappings.findApplications(Set.of(APP_A)), false);
+
+    assertThat(result).containsExactly("a.get");
+  }
+
+  @Test
+  void findPermissions_positive_noApplicationsSelected() {
+    var mappings = new UserPermissionMappings(List.of("a.get"), Map.of("a.get", APP_A));
+
+    var result = mappings.findPermissions(mappings.findApplications(Set.of()), false);
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void findPermissions_positive_onlyVisible() {
+    var mappings = new UserPermissionMappings(List.of("ui-a.get", "a.get", "plugin-b.get", "module.a.post"),
+      Map.of("ui-a.get", APP_A, "a.get", APP_A, "plugin-b.get", APP_B, "module.a.post", APP_A));
+
+    var result = mappings.findPermissions(mappings.findApplications(Set.of(APP_A)), true);
+
+    assertThat(mappings.visiblePermissions()).containsExactly("ui-a.get", "plugin-b.get", "module.a.post");
+    assertThat(result).containsExactly("ui-a.get", "module.a.post");
+  }
+
+  @Test
+  void findSerializedPermissions_positive() {
+    var mappings = new UserPermissionMappings(List.of("ui-a.get", "a.get"), Map.of(),
+      permissions -> new SerializedPermissions(String.join(",", permissions).getBytes(UTF_8), null, "etag"));
+
+    assertThat(mappings.findSerializedPermissions(false)).map(SerializedPermissions::json).map(String::new)
+      .hasValue("ui-a.get,a.get");
+    assertThat(mappings.findSerializedPermissions(true)).map(SerializedPermissions::json).map(String::new)
+      .hasValue("ui-a.get");
+    assertThat(new UserPermissionMappings(List.of("a.get"), Map.of()).findSerializedPermissions(false)).isEmpty();
+  }
+
+  @Test
+  void weight_positive_includesSerializedPermissions() {
+    var mappings = new UserPermissionMappings(List.of("ui-a.get", "a.get"), Map.of("a.get", APP_A));
+    var serializedMappings = new UserPermissionMappings(List.of("ui-a.get", "a.get"), Map.of("a.get", APP_A),
+      permissions -> new SerializedPermissions(String.join(",", permissions).getBytes(UTF_8), new byte[4], "etag"));
+
+    var serializedSize = "ui-a.get,a.get".length() + "ui-a.get".length() + 2 * 4;
+    assertThat(mappings.weight()).isPositive();
+    assertThat(serializedMappings.weight()).isEqualTo(mappings.weight() + serializedSize);
+  }
+}
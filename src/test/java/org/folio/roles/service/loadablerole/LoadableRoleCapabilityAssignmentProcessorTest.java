@@ -19,8 +19,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import org.folio.roles.domain.dto.LoadablePermission;
-import org.folio.roles.domain.model.event.CapabilityEvent;
+import java.util.Set;
 import org.folio.roles.domain.model.event.CapabilitySetEvent;
 import org.folio.roles.service.capability.CapabilityService;
 import org.folio.roles.service.capability.RoleCapabilityService;
@@ -66,45 +65,47 @@ class LoadableRoleCapabilityAssignmentProcessorTest {
   }
 
   @Test
-  void handleCapabilitiesCreatedEvent_positive() {
-    var permission = "permission1";
+  void handleCapabilityBatchEvent_positive_capabilities() {
+    var permission1 = "permission1";
+    var permission2 = "permission2";
+    var capability1 = capability(randomUUID(), permission1);
+    var capability2 = capability(randomUUID(), permission2);
     when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
-    doNothing().when(transactionManager).commit(any());
-    var capabilityId = randomUUID();
-
-    var perms = loadablePermissions(5);
-    for (LoadablePermission perm : perms) {
-      perm.setPermissionName(permission);
-      perm.setCapabilityId(null); // reset capset id, it should be populated by the processor
-    }
-
-    when(service.findAllByPermissions(List.of(permission))).thenReturn(perms);
-
-    perms.forEach(perm -> {
-      when(roleCapabilityService.create(perm.getRoleId(), List.of(capabilityId), true)).thenReturn(null);
-
-      var permsWithCapabilityId = List.of(copy(perm).capabilityId(capabilityId));
-      when(service.saveAll(permsWithCapabilityId)).thenReturn(permsWithCapabilityId);
-    });
 
-    var capability = capability(capabilityId, permission);
-    var event = (CapabilityEvent) CapabilityEvent.created(capability).withContext(context);
-    processor.handleCapabilitiesCreatedEvent(event);
-
-    var firstLoadablePermission = perms.get(0);
-    verify(roleCapabilityService).create(firstLoadablePermission.getRoleId(), List.of(capabilityId), true);
-    verify(service).saveAll(List.of(copy(firstLoadablePermission).capabilityId(capabilityId)));
+    var roleId = randomUUID();
+    var rolePerm1 = loadablePermission(roleId, permission1).capabilityId(null);
+    var rolePerm2 = loadablePermission(roleId, permission2).capabilityId(null);
+    var siblingPerm = loadablePermission(randomUUID(), permission2).capabilityId(null);
+    when(service.findAllByPermissions(Set.of(permission1, permission2)))
+      .thenReturn(List.of(rolePerm1, rolePerm2, siblingPerm));
+
+    var expectedRolePerms = List.of(copy(rolePerm1).capabilityId(capability1.getId()),
+      copy(rolePerm2).capabilityId(capability2.getId()));
+    var expectedSiblingPerms = List.of(copy(siblingPerm).capabilityId(capability2.getId()));
+
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapability(capability1);
+    event.addCapability(capability(randomUUID(), null));
+    event.addCapability(capability2);
+    processor.handleCapabilityBatchEvent(event);
+
+    verify(roleCapabilityService).create(roleId, List.of(capability1.getId(), capability2.getId()), true);
+    verify(roleCapabilityService).create(siblingPerm.getRoleId(), List.of(capability2.getId()), true);
+    verify(service).saveAll(expectedRolePerms);
+    verify(service).saveAll(expectedSiblingPerms);
+    verify(transactionManager, times(2)).getTransaction(any());
+    verify(transactionManager, times(2)).commit(any());
   }
 
   @Test
-  void handleCapabilitiesCreatedEvent_positive_siblingRoleAssignedWhenOneRoleFails() {
+  void handleCapabilityBatchEvent_positive_siblingRoleAssignedWhenOneRoleFails() {
     var permission = "permission1";
     var failedPerm = loadablePermission(randomUUID(), permission);
     failedPerm.setCapabilityId(null);
     var siblingPerm = loadablePermission(randomUUID(), permission);
     siblingPerm.setCapabilityId(null);
 
-    when(service.findAllByPermissions(List.of(permission))).thenReturn(List.of(failedPerm, siblingPerm));
+    when(service.findAllByPermissions(Set.of(permission))).thenReturn(List.of(failedPerm, siblingPerm));
     when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
 
     var capabilityId = randomUUID();
@@ -114,10 +115,10 @@ class LoadableRoleCapabilityAssignmentProcessorTest {
     var savedSiblingPerms = List.of(copy(siblingPerm).capabilityId(capabilityId));
     when(service.saveAll(savedSiblingPerms)).thenReturn(savedSiblingPerms);
 
-    var capability = capability(capabilityId, permission);
-    var event = (CapabilityEvent) CapabilityEvent.created(capability).withContext(context);
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapability(capability(capabilityId, permission));
 
-    assertThatThrownBy(() -> processor.handleCapabilitiesCreatedEvent(event)).isSameAs(duplicateKey);
+    assertThatThrownBy(() -> processor.handleCapabilityBatchEvent(event)).isSameAs(duplicateKey);
 
     verify(service).saveAll(savedSiblingPerms);
     verify(transactionManager, times(2)).getTransaction(any());
@@ -126,62 +127,19 @@ class LoadableRoleCapabilityAssignmentProcessorTest {
   }
 
   @Test
-  void handleCapabilitiesCreatedEvent_positive_loadablePermissionsNotFound() {
-    var permission = "permission1";
-    var capability = capability(randomUUID(), permission);
-    var event = (CapabilityEvent) CapabilityEvent.created(capability).withContext(context);
-    when(service.findAllByPermissions(List.of(permission))).thenReturn(emptyList());
-
-    processor.handleCapabilitiesCreatedEvent(event);
-
-    verifyNoInteractions(roleCapabilityService, roleCapabilitySetService);
-  }
-
-  @Test
-  void handleCapabilitiesUpdateEvent_positive() {
-    var permission = "permission1";
-    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
-    doNothing().when(transactionManager).commit(any());
-    var capabilityId = randomUUID();
-
-    var perms = loadablePermissions(5);
-    for (LoadablePermission perm : perms) {
-      perm.setPermissionName(permission);
-      perm.setCapabilityId(null);
-    }
-
-    when(service.findAllByPermissions(List.of(permission))).thenReturn(perms);
-
-    perms.forEach(perm -> {
-      when(roleCapabilityService.create(perm.getRoleId(), List.of(capabilityId), true)).thenReturn(null);
-
-      var permsWithCapabilityId = List.of(copy(perm).capabilityId(capabilityId));
-      when(service.saveAll(permsWithCapabilityId)).thenReturn(permsWithCapabilityId);
-    });
-
-    var capability = capability(capabilityId, permission);
-    var event = (CapabilityEvent) CapabilityEvent.updated(capability, capability).withContext(context);
-    processor.handleCapabilitiesUpdateEvent(event);
-
-    var firstLoadablePermission = perms.getFirst();
-    verify(roleCapabilityService).create(firstLoadablePermission.getRoleId(), List.of(capabilityId), true);
-    verify(service).saveAll(List.of(copy(firstLoadablePermission).capabilityId(capabilityId)));
-  }
-
-  @Test
-  void handleCapabilitiesUpdateEvent_positive_loadablePermissionsNotFound() {
+  void handleCapabilityBatchEvent_positive_loadablePermissionsNotFound() {
     var permission = "permission1";
-    var capability = capability(randomUUID(), permission);
-    var event = (CapabilityEvent) CapabilityEvent.updated(capability, capability).withContext(context);
-    when(service.findAllByPermissions(List.of(permission))).thenReturn(emptyList());
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapability(capability(randomUUID(), permission));
+    when(service.findAllByPermissions(Set.of(permission))).thenReturn(emptyList());
 
-    processor.handleCapabilitiesUpdateEvent(event);
+    processor.handleCapabilityBatchEvent(event);
 
     verifyNoInteractions(roleCapabilityService, roleCapabilitySetService);
   }
 
   @Test
-  void handleCapabilitySetCreatedEvent_positive() {
+  void handleCapabilityBatchEvent_positive_capabilitySet() {
     var capabilitySet = capabilitySet();
     var capability = capability();
 
@@ -192,49 +150,91 @@ class LoadableRoleCapabilityAssignmentProcessorTest {
     });
 
     when(capabilityService.findByNames(List.of(capabilitySet.getName()))).thenReturn(List.of(capability));
-    when(service.findAllByPermissions(List.of(capability.getPermission()))).thenReturn(perms);
+    when(service.findAllByPermissions(Set.of(capability.getPermission()))).thenReturn(perms);
     when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
     doNothing().when(transactionManager).commit(any());
     perms.forEach(perm -> {
       when(roleCapabilitySetService.create(perm.getRoleId(), List.of(capabilitySet.getId()), true)).thenReturn(null);
 
-      var permWithCapabilitySetId = copy(perm).capabilitySetId(capabilitySet.getId());
-      when(service.save(permWithCapabilitySetId)).thenReturn(permWithCapabilitySetId);
+      var permsWithCapabilitySetId = List.of(copy(perm).capabilitySetId(capabilitySet.getId()));
+      when(service.saveAll(permsWithCapabilitySetId)).thenReturn(permsWithCapabilitySetId);
     });
 
-    var extendedCapabilitySet = extendedCapabilitySet(capabilitySet, emptyList());
-    var event = (CapabilitySetEvent) CapabilitySetEvent.created(extendedCapabilitySet).withContext(context);
-    processor.handleCapabilitySetCreatedEvent(event);
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapabilitySet(extendedCapabilitySet(capabilitySet, emptyList()));
+    processor.handleCapabilityBatchEvent(event);
 
-    var firstLoadablePermission = perms.get(0);
+    var firstLoadablePermission = perms.getFirst();
     verify(roleCapabilitySetService).create(firstLoadablePermission.getRoleId(), List.of(CAPABILITY_SET_ID), true);
-    verify(service).save(copy(firstLoadablePermission).capabilitySetId(CAPABILITY_SET_ID));
+    verify(service).saveAll(List.of(copy(firstLoadablePermission).capabilitySetId(CAPABILITY_SET_ID)));
   }
 
   @Test
-  void handleCapabilitySetCreatedEvent_positive_loadablePermissionsNotFound() {
+  void handleCapabilityBatchEvent_positive_capabilityAndCapabilitySetAssignedInSeparateTransactions() {
     var capabilitySet = capabilitySet();
-    var extendedCapabilitySet = extendedCapabilitySet(capabilitySet, emptyList());
-    var event = (CapabilitySetEvent) CapabilitySetEvent.created(extendedCapabilitySet).withContext(context);
-    var capability = capability();
+    var setCapability = capability();
+    var capability = capability(randomUUID(), "permission1");
+    var roleId = randomUUID();
+    var capabilityPerm = loadablePermission(roleId, capability.getPermission()).capabilityId(null);
+    var capabilitySetPerm = loadablePermission(roleId, setCapability.getPermission()).capabilitySetId(null);
+
+    when(capabilityService.findByNames(List.of(capabilitySet.getName()))).thenReturn(List.of(setCapability));
+    when(service.findAllByPermissions(Set.of(capability.getPermission(), setCapability.getPermission())))
+      .thenReturn(List.of(capabilityPerm, capabilitySetPerm));
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
 
-    when(capabilityService.findByNames(List.of(capabilitySet.getName()))).thenReturn(List.of(capability));
-    when(service.findAllByPermissions(List.of(capability.getPermission()))).thenReturn(emptyList());
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapability(capability);
+    event.addCapabilitySet(extendedCapabilitySet(capabilitySet, emptyList()));
+    processor.handleCapabilityBatchEvent(event);
 
-    processor.handleCapabilitySetCreatedEvent(event);
+    verify(roleCapabilityService).create(roleId, List.of(capability.getId()), true);
+    verify(roleCapabilitySetService).create(roleId, List.of(CAPABILITY_SET_ID), true);
+    verify(service).saveAll(List.of(copy(capabilityPerm).capabilityId(capability.getId())));
+    verify(service).saveAll(List.of(copy(capabilitySetPerm).capabilitySetId(CAPABILITY_SET_ID)));
+    verify(transactionManager, times(2)).getTransaction(any());
+    verify(transactionManager, times(2)).commit(any());
+  }
 
-    verifyNoInteractions(roleCapabilityService, roleCapabilitySetService);
+  @Test
+  void handleCapabilityBatchEvent_negative_ambiguousCapabilitySetPermissionDoesNotRollbackCapabilities() {
+    var capabilitySet = capabilitySet();
+    var setCapability = capability();
+    var capability = capability(randomUUID(), "permission1");
+    var roleId = randomUUID();
+    var capabilityPerm = loadablePermission(roleId, capability.getPermission()).capabilityId(null);
+    var capabilitySetPerm1 = loadablePermission(roleId, setCapability.getPermission()).capabilitySetId(null);
+    var capabilitySetPerm2 = loadablePermission(roleId, setCapability.getPermission()).capabilitySetId(null);
+
+    when(capabilityService.findByNames(List.of(capabilitySet.getName()))).thenReturn(List.of(setCapability));
+    when(service.findAllByPermissions(Set.of(capability.getPermission(), setCapability.getPermission())))
+      .thenReturn(List.of(capabilityPerm, capabilitySetPerm1, capabilitySetPerm2));
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapability(capability);
+    event.addCapabilitySet(extendedCapabilitySet(capabilitySet, emptyList()));
+
+    assertThatThrownBy(() -> processor.handleCapabilityBatchEvent(event))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Expected one loadable permission in the role but several found");
+
+    verify(roleCapabilityService).create(roleId, List.of(capability.getId()), true);
+    verify(service).saveAll(List.of(copy(capabilityPerm).capabilityId(capability.getId())));
+    verify(transactionManager).getTransaction(any());
+    verify(transactionManager).commit(any());
+    verifyNoInteractions(roleCapabilitySetService);
   }
 
   @Test
-  void handleCapabilitySetCreatedEvent_positive_capabilityNotFound() {
+  void handleCapabilityBatchEvent_positive_capabilityNotFoundForCapabilitySet() {
     var capabilitySet = capabilitySet();
-    var extendedCapabilitySet = extendedCapabilitySet(capabilitySet, emptyList());
-    var event = (CapabilitySetEvent) CapabilitySetEvent.created(extendedCapabilitySet).withContext(context);
+    var event = new LoadableRoleCapabilityBatchEvent(context);
+    event.addCapabilitySet(extendedCapabilitySet(capabilitySet, emptyList()));
 
     when(capabilityService.findByNames(List.of(capabilitySet.getName()))).thenReturn(emptyList());
 
-    processor.handleCapabilitySetCreatedEvent(event);
+    processor.handleCapabilityBatchEvent(event);
 
     verifyNoInteractions(roleCapabilityService, roleCapabilitySetService, service);
   }
@@ -0,0 +1,107 @@
+package org.folio.roles.service.loadablerole;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.CapabilitySetUtils.capabilitySet;
+import static org.folio.roles.support.CapabilitySetUtils.extendedCapabilitySet;
+import static org.folio.roles.support.CapabilityUtils.capability;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+import org.folio.roles.domain.model.event.CapabilityEvent;
+import org.folio.roles.domain.model.event.CapabilitySetEvent;
+import org.folio.roles.support.TestUtils;
+import org.folio.roles.support.TestUtils.TestModRolesKeycloakModuleMetadata;
+import org.folio.spring.DefaultFolioExecutionContext;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class LoadableRoleCapabilityEventCollectorTest {
+
+  @InjectMocks private LoadableRoleCapabilityEventCollector collector;
+  @Mock private ApplicationEventPublisher applicationEventPublisher;
+  @Captor private ArgumentCaptor<LoadableRoleCapabilityBatchEvent> batchCaptor;
+  private FolioExecutionContext context;
+
+  @BeforeEach
+  void setUp() {
+    context = new DefaultFolioExecutionContext(new TestModRolesKeycloakModuleMetadata(), emptyMap());
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(STATUS_ROLLED_BACK));
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void collect_positive_singleBatchPerTransaction() {
+    TransactionSynchronizationManager.initSynchronization();
+    var capability1 = capability(randomUUID(), "permission1");
+    var capability2 = capability(randomUUID(), "permission2");
+    var capabilitySet = extendedCapabilitySet(capabilitySet(), emptyList());
+
+    collector.collectCapabilityEvent((CapabilityEvent) CapabilityEvent.created(capability1).withContext(context));
+    collector.collectCapabilityEvent(
+      (CapabilityEvent) CapabilityEvent.updated(capability2, capability2).withContext(context));
+    collector.collectCapabilitySetEvent(
+      (CapabilitySetEvent) CapabilitySetEvent.created(capabilitySet).withContext(context));
+
+    verify(applicationEventPublisher).publishEvent(batchCaptor.capture());
+    var batch = batchCaptor.getValue();
+    assertThat(batch.getCapabilities()).containsExactly(capability1, capability2);
+    assertThat(batch.getCapabilitySets()).containsExactly(capabilitySet);
+    assertThat(batch.getContext().getTenantId()).isEqualTo(context.getTenantId());
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(STATUS_COMMITTED));
+    collector.collectCapabilityEvent((CapabilityEvent) CapabilityEvent.created(capability1).withContext(context));
+
+    verify(applicationEventPublisher, times(2)).publishEvent(any(LoadableRoleCapabilityBatchEvent.class));
+  }
+
+  @Test
+  void collect_positive_batchIsUnboundWhileTransactionIsSuspended() {
+    TransactionSynchronizationManager.initSynchronization();
+    var capability = capability(randomUUID(), "permission1");
+    collector.collectCapabilityEvent((CapabilityEvent) CapabilityEvent.created(capability).withContext(context));
+    var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+    synchronizations.forEach(TransactionSynchronization::suspend);
+    assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    synchronizations.forEach(TransactionSynchronization::resume);
+    collector.collectCapabilityEvent((CapabilityEvent) CapabilityEvent.created(capability).withContext(context));
+
+    verify(applicationEventPublisher).publishEvent(any(LoadableRoleCapabilityBatchEvent.class));
+    synchronizations.forEach(sync -> sync.afterCompletion(STATUS_COMMITTED));
+    assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+  }
+
+  @Test
+  void collect_positive_transactionIsNotActive() {
+    var capability = capability(randomUUID(), "permission1");
+
+    collector.collectCapabilityEvent((CapabilityEvent) CapabilityEvent.created(capability).withContext(context));
+  }
+}
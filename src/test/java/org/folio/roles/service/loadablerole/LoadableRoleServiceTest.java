@@ -16,10 +16,14 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.folio.roles.domain.entity.LoadablePermissionEntity;
+import org.folio.roles.domain.entity.LoadableRoleEntity;
 import org.folio.roles.domain.entity.type.EntityRoleType;
+import org.folio.roles.domain.model.PlainLoadableRole;
 import org.folio.roles.exception.RequestValidationException;
 import org.folio.roles.exception.ServiceException;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
@@ -242,6 +246,85 @@ class LoadableRoleServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("defaultRolesFromFiles")
+  class DefaultRolesFromFiles {
+
+    @Test
+    void findDefaultRoleContentHashes_positive() {
+      var role = defaultRoleEntity("hash");
+      var roleWithoutHash = defaultRoleEntity(null);
+
+      when(repository.findAllByTypeAndLoadedFromFile(EntityRoleType.DEFAULT, true))
+        .thenReturn(Stream.of(role, roleWithoutHash));
+
+      var actual = service.findDefaultRoleContentHashes();
+
+      assertThat(actual).isEqualTo(Map.of(role.getName(), "hash"));
+    }
+
+    @Test
+    void saveDefaultRole_positive_contentHashUpdated() {
+      var role = loadableRole();
+      var incoming = loadableRoleEntity(role);
+      incoming.setType(EntityRoleType.DEFAULT);
+      var existing = loadableRoleEntity(role);
+      existing.setType(EntityRoleType.DEFAULT);
+      existing.setLoadedFromFile(true);
+      existing.setContentHash("old-hash");
+
+      when(mapper.toRoleEntity(role)).thenReturn(incoming);
+      when(repository.findById(role.getId())).thenReturn(Optional.of(existing));
+
+      service.saveDefaultRole(role, "new-hash");
+
+      assertThat(existing.getContentHash()).isEqualTo("new-hash");
+      verify(capabilityAssignmentHelper).assignCapabilitiesAndSetsForPermissions(Set.of());
+      verify(capabilityAssignmentHelper).removeCapabilitiesAndSetsForPermissions(Set.of());
+      verify(repository).saveAllAndFlush(List.of(existing));
+    }
+
+    @Test
+    void deleteDefaultRolesNotIn_positive() {
+      var role = defaultRoleEntity("hash1");
+      var obsoleteRole = defaultRoleEntity("hash2");
+
+      when(repository.findAllByTypeAndLoadedFromFile(EntityRoleType.DEFAULT, true))
+        .thenReturn(Stream.of(role, obsoleteRole));
+
+      service.deleteDefaultRolesNotIn(List.of(new PlainLoadableRole().name(role.getName())));
+
+      verify(repository).flush();
+      verify(repository).deleteAllInBatch(List.of(obsoleteRole));
+      verify(keycloakService).deleteById(obsoleteRole.getId());
+    }
+
+    @Test
+    void deleteDefaultRolesNotIn_positive_renamedRoleMatchedById() {
+      var role = defaultRoleEntity("hash1");
+      var obsoleteRole = defaultRoleEntity("hash2");
+      obsoleteRole.setId(randomUUID());
+      obsoleteRole.setName("obsolete role");
+
+      when(repository.findAllByTypeAndLoadedFromFile(EntityRoleType.DEFAULT, true))
+        .thenReturn(Stream.of(role, obsoleteRole));
+
+      service.deleteDefaultRolesNotIn(List.of(new PlainLoadableRole().id(role.getId()).name("renamed role")));
+
+      verify(repository).flush();
+      verify(repository).deleteAllInBatch(List.of(obsoleteRole));
+      verify(keycloakService).deleteById(obsoleteRole.getId());
+    }
+
+    private static LoadableRoleEntity defaultRoleEntity(String contentHash) {
+      var entity = loadableRoleEntity(loadableRole());
+      entity.setType(EntityRoleType.DEFAULT);
+      entity.setLoadedFromFile(true);
+      entity.setContentHash(contentHash);
+      return entity;
+    }
+  }
+
   @Nested
   @DisplayName("roleNameValidation")
   class RoleNameValidation {
@@ -0,0 +1,109 @@
+package org.folio.roles.service.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.folio.roles.configuration.property.MetricsProperties;
+import org.folio.roles.support.TestUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MetricsServiceTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MetricsProperties metricsProperties = new MetricsProperties();
+  private MetricsService metricsService;
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  @BeforeEach
+  void setUp() {
+    metricsService = new MetricsService(meterRegistry, metricsProperties, folioExecutionContext);
+  }
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void recordUserPermissionsLoad_positive() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+
+    metricsService.recordUserPermissionsLoad(metricsService.startTimer());
+
+    assertThat(meterRegistry.get("user.permissions.load").tag("tenant", TENANT_ID).timer().count()).isEqualTo(1L);
+  }
+
+  @Test
+  void recordCapabilityEvent_positive() {
+    metricsService.recordCapabilityEvent(metricsService.startTimer(), TENANT_ID, "mod-foo-1.0.0", "success");
+    metricsService.recordCapabilityEvent(metricsService.startTimer(), TENANT_ID, null, "failure");
+
+    var successTimer = meterRegistry.get("capability.events")
+      .tags("tenant", TENANT_ID, "module", "mod-foo", "outcome", "success").timer();
+    var failureTimer = meterRegistry.get("capability.events")
+      .tags("tenant", TENANT_ID, "module", "unknown", "outcome", "failure").timer();
+    assertThat(successTimer.count()).isEqualTo(1L);
+    assertThat(failureTimer.count()).isEqualTo(1L);
+  }
+
+  @Test
+  void recordKeycloakRequest_positive() {
+    metricsService.recordKeycloakRequest("GET", "policy", "200", "none", TENANT_ID, 1_000_000L);
+
+    var timer = meterRegistry.get("keycloak.requests")
+      .tags("method", "GET", "resource", "policy", "status", "200", "exception", "none", "tenant", TENANT_ID).timer();
+    assertThat(timer.count()).isEqualTo(1L);
+    assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1d);
+  }
+
+  @Test
+  void recordKeycloakRequest_positive_masterRealmDoesNotTakeTenantTag() {
+    metricsProperties.setMaxTenantTags(1);
+
+    metricsService.recordKeycloakRequest("POST", "token", "CLIENT_ERROR", "ProcessingException", "master", 1L);
+    metricsService.recordKeycloakRequest("GET", "user", "200", "none", TENANT_ID, 1L);
+
+    var masterRealmTimer = meterRegistry.get("keycloak.requests").tags("tenant", "master", "status", "CLIENT_ERROR");
+    assertThat(masterRealmTimer.timer().count()).isEqualTo(1L);
+    assertThat(meterRegistry.get("keycloak.requests").tags("tenant", TENANT_ID).timer().count()).isEqualTo(1L);
+  }
+
+  @Test
+  void recordMigrationStage_positive() {
+    metricsService.recordMigrationStage("LOAD_USERS", 3, Duration.ofSeconds(1));
+
+    assertThat(meterRegistry.get("permission.migration.records").tag("stage", "LOAD_USERS").counter().count())
+      .isEqualTo(3d);
+    assertThat(meterRegistry.get("permission.migration.stage").tag("stage", "LOAD_USERS").timer().count())
+      .isEqualTo(1L);
+  }
+
+  @Test
+  void getTenantTag_positive_limitIsReached() {
+    metricsProperties.setMaxTenantTags(1);
+
+    assertThat(metricsService.getTenantTag("tenant1")).isEqualTo("tenant1");
+    assertThat(metricsService.getTenantTag("tenant2")).isEqualTo("other");
+    assertThat(metricsService.getTenantTag("tenant1")).isEqualTo("tenant1");
+  }
+
+  @Test
+  void getTenantTag_positive_blankTenant() {
+    assertThat(metricsService.getTenantTag(null)).isEqualTo("unknown");
+    assertThat(metricsService.getTenantTag(" ")).isEqualTo("unknown");
+  }
+}
@@ -0,0 +1,263 @@
+package org.folio.roles.service.migration;
+
+import static java.util.function.Function.identity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.ASSIGN_USERS;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.CREATE_ROLES;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.LOAD_USERS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.roles.domain.dto.PermissionMigrationStage;
+import org.folio.roles.domain.dto.PermissionMigrationStageProgress;
+import org.folio.roles.domain.entity.key.PermissionMigrationJobProgressKey;
+import org.folio.roles.domain.entity.migration.PermissionMigrationJobProgressEntity;
+import org.folio.roles.domain.entity.type.EntityPermissionMigrationStage;
+import org.folio.roles.mapper.PermissionMigrationMapper;
+import org.folio.roles.repository.PermissionMigrationJobProgressRepository;
+import org.folio.roles.service.metrics.MetricsService;
+import org.folio.roles.support.TestUtils;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MigrationProgressServiceTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+
+  @InjectMocks private MigrationProgressService migrationProgressService;
+  @Mock private PermissionMigrationMapper migrationMapper;
+  @Mock private PlatformTransactionManager transactionManager;
+  @Mock private PermissionMigrationJobProgressRepository progressRepository;
+  @Mock private MetricsService metricsService;
+  @Captor private ArgumentCaptor<PermissionMigrationJobProgressEntity> progressCaptor;
+
+  @AfterEach
+  void tearDown() {
+    TestUtils.verifyNoMoreInteractions(this);
+  }
+
+  private static PermissionMigrationJobProgressEntity progress(EntityPermissionMigrationStage stage,
+    int processedRecords, int totalRecords) {
+    var entity = new PermissionMigrationJobProgressEntity();
+    entity.setMigrationJobId(JOB_ID);
+    entity.setStage(stage);
+    entity.setProcessedRecords(processedRecords);
+    entity.setTotalRecords(totalRecords);
+    entity.setStartedAt(OffsetDateTime.now());
+    return entity;
+  }
+
+  @Nested
+  @DisplayName("getProgress")
+  class GetProgress {
+
+    @Test
+    void positive() {
+      var entities = List.of(progress(LOAD_USERS, 2, 2));
+      var expected = List.of(new PermissionMigrationStageProgress()
+        .stage(PermissionMigrationStage.LOAD_USERS).processedRecords(2).totalRecords(2));
+
+      when(progressRepository.findAllByMigrationJobIdOrderByStage(JOB_ID)).thenReturn(entities);
+      when(migrationMapper.toStageDtos(entities)).thenReturn(expected);
+
+      var result = migrationProgressService.getProgress(JOB_ID);
+
+      assertThat(result).isEqualTo(expected);
+    }
+  }
+
+  @Nested
+  @DisplayName("runStage")
+  class RunStage {
+
+    @Test
+    void positive() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, LOAD_USERS);
+      var existingProgress = progress(LOAD_USERS, 5, 5);
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+
+      var result = migrationProgressService.runStage(JOB_ID, LOAD_USERS, () -> List.of("u1", "u2"));
+
+      assertThat(result).containsExactly("u1", "u2");
+      assertThat(existingProgress.getProcessedRecords()).isEqualTo(2);
+      assertThat(existingProgress.getTotalRecords()).isEqualTo(2);
+      assertThat(existingProgress.getFinishedAt()).isNotNull();
+      verify(progressRepository, times(2)).save(existingProgress);
+      verify(metricsService).recordMigrationStage(eq("LOAD_USERS"), eq(2), any(Duration.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("processInChunks")
+  class ProcessInChunks {
+
+    private static final List<String> RECORDS = List.of("5", "3", "1", "4", "2");
+
+    @Test
+    void positive_newStage() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, ASSIGN_USERS);
+      when(progressRepository.findById(key)).thenReturn(Optional.empty());
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+      doNothing().when(transactionManager).commit(any());
+
+      var processedChunks = new ArrayList<List<String>>();
+      migrationProgressService.processInChunks(JOB_ID, ASSIGN_USERS, RECORDS, identity(), 2, processedChunks::add);
+
+      assertThat(processedChunks).containsExactly(List.of("1", "2"), List.of("3", "4"), List.of("5"));
+      verify(transactionManager, times(3)).getTransaction(any());
+      verify(transactionManager, times(3)).commit(any());
+      verify(progressRepository, times(5)).save(progressCaptor.capture());
+      var progress = progressCaptor.getValue();
+      assertThat(progress.getProcessedRecords()).isEqualTo(5);
+      assertThat(progress.getLastProcessedKey()).isEqualTo("5");
+      assertThat(progress.getFinishedAt()).isNotNull();
+      verify(metricsService).recordMigrationStage(eq("ASSIGN_USERS"), eq(5), any(Duration.class));
+    }
+
+    @Test
+    void positive_resumedFromCheckpoint() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, ASSIGN_USERS);
+      var existingProgress = progress(ASSIGN_USERS, 4, 5);
+      existingProgress.setLastProcessedKey("4");
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+      doNothing().when(transactionManager).commit(any());
+
+      var processedChunks = new ArrayList<List<String>>();
+      migrationProgressService.processInChunks(JOB_ID, ASSIGN_USERS, RECORDS, identity(), 2, processedChunks::add);
+
+      assertThat(processedChunks).containsExactly(List.of("5"));
+      assertThat(existingProgress.getProcessedRecords()).isEqualTo(5);
+      assertThat(existingProgress.getLastProcessedKey()).isEqualTo("5");
+      assertThat(existingProgress.getFinishedAt()).isNotNull();
+      verify(transactionManager).getTransaction(any());
+      verify(transactionManager).commit(any());
+      verify(progressRepository, times(3)).save(existingProgress);
+      verify(metricsService).recordMigrationStage(eq("ASSIGN_USERS"), eq(1), any(Duration.class));
+    }
+
+    @Test
+    void positive_resumedFromCheckpointIfRecordsChanged() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, ASSIGN_USERS);
+      var existingProgress = progress(ASSIGN_USERS, 2, 3);
+      existingProgress.setLastProcessedKey("2");
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+      doNothing().when(transactionManager).commit(any());
+
+      var processedChunks = new ArrayList<List<String>>();
+      migrationProgressService.processInChunks(JOB_ID, ASSIGN_USERS, List.of("4", "1", "3"), identity(), 2,
+        processedChunks::add);
+
+      assertThat(processedChunks).containsExactly(List.of("3", "4"));
+      assertThat(existingProgress.getProcessedRecords()).isEqualTo(4);
+      assertThat(existingProgress.getTotalRecords()).isEqualTo(3);
+      assertThat(existingProgress.getLastProcessedKey()).isEqualTo("4");
+      verify(transactionManager).getTransaction(any());
+      verify(transactionManager).commit(any());
+      verify(progressRepository, times(3)).save(existingProgress);
+      verify(metricsService).recordMigrationStage(eq("ASSIGN_USERS"), eq(2), any(Duration.class));
+    }
+
+    @Test
+    void negative_chunkFailed() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, ASSIGN_USERS);
+      var existingProgress = progress(ASSIGN_USERS, 0, 0);
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+      assertThatThrownBy(() -> migrationProgressService.processInChunks(JOB_ID, ASSIGN_USERS, List.of("1", "2"),
+        identity(), 1, chunk -> {
+          throw new IllegalStateException("error");
+        }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("error");
+
+      assertThat(existingProgress.getProcessedRecords()).isZero();
+      assertThat(existingProgress.getLastProcessedKey()).isNull();
+      assertThat(existingProgress.getFinishedAt()).isNull();
+      verify(transactionManager).getTransaction(any());
+      verify(transactionManager).rollback(any());
+      verify(progressRepository, atLeastOnce()).save(existingProgress);
+    }
+  }
+
+  @Nested
+  @DisplayName("processInChunksSkippingFailures")
+  class ProcessInChunksSkippingFailures {
+
+    @Test
+    void positive_failedRecordsAreRecorded() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, CREATE_ROLES);
+      var existingProgress = progress(CREATE_ROLES, 0, 0);
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+      doNothing().when(transactionManager).commit(any());
+
+      migrationProgressService.processInChunksSkippingFailures(JOB_ID, CREATE_ROLES, List.of("1", "2", "3"),
+        identity(), 2, chunk -> chunk.contains("2") ? List.of("2") : List.of());
+
+      assertThat(existingProgress.getProcessedRecords()).isEqualTo(2);
+      assertThat(existingProgress.getLastProcessedKey()).isEqualTo("3");
+      assertThat(existingProgress.getFailedKeys()).containsExactly("2");
+      assertThat(existingProgress.getFinishedAt()).isNull();
+      verify(transactionManager, times(2)).getTransaction(any());
+      verify(transactionManager, times(2)).commit(any());
+      verify(progressRepository, times(4)).save(existingProgress);
+      verify(metricsService).recordMigrationStage(eq("CREATE_ROLES"), eq(3), any(Duration.class));
+    }
+
+    @Test
+    void positive_failedRecordsAreRetriedOnResume() {
+      var key = PermissionMigrationJobProgressKey.of(JOB_ID, CREATE_ROLES);
+      var existingProgress = progress(CREATE_ROLES, 2, 4);
+      existingProgress.setLastProcessedKey("3");
+      existingProgress.setFailedKeys(new ArrayList<>(List.of("2")));
+      when(progressRepository.findById(key)).thenReturn(Optional.of(existingProgress));
+      when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+      doNothing().when(transactionManager).commit(any());
+
+      var processedChunks = new ArrayList<List<String>>();
+      migrationProgressService.processInChunksSkippingFailures(JOB_ID, CREATE_ROLES, List.of("1", "2", "3", "4"),
+        identity(), 5, chunk -> {
+          processedChunks.add(chunk);
+          return List.of();
+        });
+
+      assertThat(processedChunks).containsExactly(List.of("2", "4"));
+      assertThat(existingProgress.getProcessedRecords()).isEqualTo(4);
+      assertThat(existingProgress.getLastProcessedKey()).isEqualTo("4");
+      assertThat(existingProgress.getFailedKeys()).isEmpty();
+      assertThat(existingProgress.getFinishedAt()).isNotNull();
+      verify(transactionManager).getTransaction(any());
+      verify(transactionManager).commit(any());
+      verify(progressRepository, times(3)).save(existingProgress);
+      verify(metricsService).recordMigrationStage(eq("CREATE_ROLES"), eq(2), any(Duration.class));
+    }
+  }
+}
@@ -1,13 +1,11 @@
 package org.folio.roles.service.migration;
 
-import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.roles.support.RoleUtils.ROLE_ID;
 import static org.folio.roles.support.RoleUtils.ROLE_NAME;
 import static org.folio.roles.support.RoleUtils.role;
 import static org.folio.roles.support.TestConstants.USER_ID;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,7 +13,6 @@ import java.util.List;
 import java.util.UUID;
 import org.folio.roles.domain.dto.Role;
 import org.folio.roles.domain.dto.RoleType;
-import org.folio.roles.domain.dto.Roles;
 import org.folio.roles.domain.dto.UserRole;
 import org.folio.roles.domain.model.UserPermissions;
 import org.folio.roles.exception.MigrationException;
@@ -58,10 +55,6 @@ class MigrationRoleCreatorTest {
       .description("System generated role during migration");
   }
 
-  private static Roles createdMigrationRoles() {
-    return new Roles().addRolesItem(createdMigrationRole()).totalRecords(1L);
-  }
-
   private static org.folio.roles.service.role.RoleCreationResult successfulRoleCreation() {
     var result = new org.folio.roles.service.role.RoleCreationResult();
     result.addSuccess(createdMigrationRole());
@@ -98,7 +91,7 @@ class MigrationRoleCreatorTest {
     @Test
     void positive_roleFound() {
       when(roleMigrationService.createRolesSafely(List.of(migrationRole()))).thenReturn(emptyRoleCreation());
-      when(roleService.search("name==" + ROLE_NAME, 0, 1)).thenReturn(createdMigrationRoles());
+      when(roleService.findByNames(List.of(ROLE_NAME))).thenReturn(List.of(createdMigrationRole()));
 
       var result = migrationRoleCreator.createRoles(List.of(userPermissions()), JOB_ID);
 
@@ -120,7 +113,7 @@ class MigrationRoleCreatorTest {
       partialResult.addFailure("role2", "Failed to create in Keycloak", new RuntimeException("Test error"));
       
       when(roleMigrationService.createRolesSafely(List.of(role1, role2))).thenReturn(partialResult);
-      when(roleService.search("name==role2", 0, 1)).thenReturn(new Roles().totalRecords(0L));
+      when(roleService.findByNames(List.of("role2"))).thenReturn(List.of());
       
       var userPerm1 = userPermissions();
       var userPerm2 = new UserPermissions().userId(USER_ID).roleName("role2").permissions(List.of("bar.item.get"));
@@ -144,7 +137,7 @@ class MigrationRoleCreatorTest {
       failureResult.addFailure(ROLE_NAME, "Failed to create", new RuntimeException("Test error"));
       
       when(roleMigrationService.createRolesSafely(List.of(migrationRole()))).thenReturn(failureResult);
-      when(roleService.search("name==" + ROLE_NAME, 0, 1)).thenReturn(new Roles().totalRecords(0L));
+      when(roleService.findByNames(List.of(ROLE_NAME))).thenReturn(List.of());
       
       var result = migrationRoleCreator.createRoles(List.of(userPermissions()), JOB_ID);
       
@@ -162,14 +155,13 @@ class MigrationRoleCreatorTest {
       failureResult.addFailure(ROLE_NAME, "Failed to create", new RuntimeException("Creation failed"));
       
       when(roleMigrationService.createRolesSafely(List.of(migrationRole()))).thenReturn(failureResult);
-      when(roleService.search("name==" + ROLE_NAME, 0, 1))
-        .thenThrow(new RuntimeException("Search failed"));
+      when(roleService.findByNames(List.of(ROLE_NAME))).thenThrow(new RuntimeException("Search failed"));
       
       var result = migrationRoleCreator.createRoles(List.of(userPermissions()), JOB_ID);
       
       assertThat(result).isEmpty();
       assertThat(output.getAll()).contains("Recording 1 role creation failure(s)");
-      assertThat(output.getAll()).contains("Failed to search for role: name = " + ROLE_NAME);
+      assertThat(output.getAll()).contains("Failed to search for missing roles: count = 1");
       
       // Verify error was logged from creation result
       verify(migrationErrorService).logError(JOB_ID, "ROLE_CREATION_FAILED",
@@ -177,6 +169,20 @@ class MigrationRoleCreatorTest {
     }
   }
 
+  @Nested
+  @DisplayName("findRoles")
+  class FindRoles {
+
+    @Test
+    void positive() {
+      when(roleService.findByNames(List.of(ROLE_NAME, "role2"))).thenReturn(List.of(createdMigrationRole()));
+
+      var result = migrationRoleCreator.findRoles(List.of(ROLE_NAME, "role2"));
+
+      assertThat(result).containsExactly(createdMigrationRole());
+    }
+  }
+
   @Nested
   @DisplayName("assignUsers")
   class AssignUsers {
@@ -184,18 +190,19 @@ class MigrationRoleCreatorTest {
     @Test
     void positive(CapturedOutput output) {
       var userPermissionsList = List.of(userPermissions().role(role()));
+      var userRoles = List.of(new UserRole().userId(USER_ID).roleId(ROLE_ID));
+      when(userRoleService.createSafe(userRoles)).thenReturn(List.of());
 
       migrationRoleCreator.assignUsers(userPermissionsList);
 
-      verify(userRoleService).createSafe(new UserRole().userId(USER_ID).roleId(ROLE_ID));
       assertThat(output.getAll()).contains("User-role relations creation process finished: totalRecords = 1");
     }
 
     @Test
-    void negative_userRoleNotCreated(CapturedOutput output) {
+    void negative_userRoleNotCreated() {
       var userPermissionsList = List.of(userPermissions().role(role()));
-      var exception = new RuntimeException("error");
-      doThrow(exception).when(userRoleService).createSafe(new UserRole().userId(USER_ID).roleId(ROLE_ID));
+      var userRoles = List.of(new UserRole().userId(USER_ID).roleId(ROLE_ID));
+      when(userRoleService.createSafe(userRoles)).thenReturn(userRoles);
 
       assertThatThrownBy(() -> migrationRoleCreator.assignUsers(userPermissionsList))
         .isInstanceOf(MigrationException.class)
@@ -204,8 +211,6 @@ class MigrationRoleCreatorTest {
           + "    roleId: " + ROLE_ID + "\n"
           + "    metadata: null\n"
           + "}]");
-
-      assertThat(output.getAll()).contains(format("Failed to assign user %s to role %s", USER_ID, ROLE_ID));
     }
   }
 }
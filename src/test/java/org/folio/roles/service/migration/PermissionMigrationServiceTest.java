@@ -1,8 +1,19 @@
 package org.folio.roles.service.migration;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.ASSIGN_CAPABILITIES;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.ASSIGN_USERS;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.CREATE_ROLES;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.LOAD_PERMISSIONS;
+import static org.folio.roles.domain.entity.type.EntityPermissionMigrationStage.LOAD_USERS;
 import static org.folio.roles.support.TestConstants.USER_ID;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,14 +21,21 @@ import static org.mockito.Mockito.when;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import org.folio.roles.domain.dto.Role;
 import org.folio.roles.domain.model.UserPermissions;
 import org.folio.roles.exception.MigrationException;
+import org.folio.roles.integration.keyclock.configuration.KeycloakConfigurationProperties;
 import org.folio.roles.support.TestUtils;
 import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -33,6 +51,16 @@ class PermissionMigrationServiceTest {
   @Mock private UserPermissionsLoader userPermissionsLoader;
   @Mock private RolePermissionAssignor rolePermissionAssignor;
   @Mock private ManagePermissionsResolver managePermissionsResolver;
+  @Mock private MigrationProgressService migrationProgressService;
+  @Mock(answer = RETURNS_DEEP_STUBS) private KeycloakConfigurationProperties keycloakConfigurationProperties;
+  @Captor private ArgumentCaptor<Function<UserPermissions, String>> keyExtractorCaptor;
+  @Captor private ArgumentCaptor<Function<List<UserPermissions>, List<UserPermissions>>> chunkProcessorCaptor;
+
+  @BeforeEach
+  void setUp() {
+    doAnswer(inv -> inv.<Supplier<List<?>>>getArgument(2).get())
+      .when(migrationProgressService).runStage(eq(MIGRATION_ID), any(), any());
+  }
 
   @AfterEach
   void tearDown() {
@@ -48,15 +76,35 @@ class PermissionMigrationServiceTest {
 
     var userPermissionsList = List.of(userPermissions);
     var roles = List.of(new Role().id(UUID.randomUUID()).name("test"));
-    when(userPermissionsLoader.loadUserPermissions()).thenReturn(userPermissionsList);
+    when(keycloakConfigurationProperties.getMigration().getChunkSize()).thenReturn(10);
+    when(userPermissionsLoader.loadUserIds()).thenReturn(List.of(USER_ID));
+    when(userPermissionsLoader.loadUserPermissions(List.of(USER_ID))).thenReturn(userPermissionsList);
     when(migrationRoleCreator.createRoles(userPermissionsList, MIGRATION_ID)).thenReturn(roles);
+    when(migrationRoleCreator.findRoles(List.of("test"))).thenReturn(roles);
     doNothing().when(managePermissionsResolver).addManageCapabilities(any());
+    doAnswer(inv -> inv.<Function<List<?>, List<?>>>getArgument(5).apply(inv.getArgument(2)))
+      .when(migrationProgressService)
+      .processInChunksSkippingFailures(eq(MIGRATION_ID), any(), any(), any(), anyInt(), any());
+    doAnswer(inv -> {
+      inv.<Consumer<List<?>>>getArgument(5).accept(inv.getArgument(2));
+      return null;
+    }).when(migrationProgressService).processInChunks(eq(MIGRATION_ID), any(), any(), any(), anyInt(), any());
 
     permissionMigrationService.migratePermissions(MIGRATION_ID);
 
+    verify(migrationProgressService).runStage(eq(MIGRATION_ID), eq(LOAD_USERS), any());
+    verify(migrationProgressService).runStage(eq(MIGRATION_ID), eq(LOAD_PERMISSIONS), any());
+    verify(migrationProgressService)
+      .processInChunksSkippingFailures(eq(MIGRATION_ID), eq(CREATE_ROLES), any(), any(), eq(10), any());
+    verify(migrationProgressService)
+      .processInChunks(eq(MIGRATION_ID), eq(ASSIGN_USERS), any(), any(), eq(10), any());
+    verify(migrationProgressService)
+      .processInChunks(eq(MIGRATION_ID), eq(ASSIGN_CAPABILITIES), any(), any(), eq(10), any());
+    verify(migrationRoleCreator).createRoles(userPermissionsList, MIGRATION_ID);
     verify(migrationRoleCreator).assignUsers(userPermissionsList);
     verify(rolePermissionAssignor).assignPermissions(userPermissionsList);
     verify(managePermissionsResolver).addManageCapabilities(any());
+    verify(keycloakConfigurationProperties, atLeastOnce()).getMigration();
   }
 
   @Test
@@ -64,12 +112,24 @@ class PermissionMigrationServiceTest {
     var permissions = List.of("foo.item.get", "foo.item.post");
     var userPermissions = new UserPermissions().roleName("test").userId(USER_ID).permissions(permissions);
     var userPermissionsList = List.of(userPermissions);
-    when(userPermissionsLoader.loadUserPermissions()).thenReturn(userPermissionsList);
+    when(keycloakConfigurationProperties.getMigration().getChunkSize()).thenReturn(10);
+    when(userPermissionsLoader.loadUserIds()).thenReturn(List.of(USER_ID));
+    when(userPermissionsLoader.loadUserPermissions(List.of(USER_ID))).thenReturn(userPermissionsList);
     when(migrationRoleCreator.createRoles(userPermissionsList, MIGRATION_ID)).thenReturn(Collections.emptyList());
+    when(migrationRoleCreator.findRoles(List.of("test"))).thenReturn(Collections.emptyList());
 
     assertThatThrownBy(() -> permissionMigrationService.migratePermissions(MIGRATION_ID))
       .isInstanceOf(MigrationException.class)
       .hasMessage("Roles are not created for user permissions: [UserPermissions("
         + "userId=%s, role=null, roleName=test, permissions=%s, manageCapabilities=[])]", USER_ID, permissions);
+
+    verify(migrationProgressService).runStage(eq(MIGRATION_ID), eq(LOAD_USERS), any());
+    verify(migrationProgressService).runStage(eq(MIGRATION_ID), eq(LOAD_PERMISSIONS), any());
+    verify(migrationProgressService).processInChunksSkippingFailures(eq(MIGRATION_ID), eq(CREATE_ROLES),
+      eq(userPermissionsList), keyExtractorCaptor.capture(), eq(10), chunkProcessorCaptor.capture());
+    assertThat(keyExtractorCaptor.getValue().apply(userPermissions)).isEqualTo("test");
+    assertThat(chunkProcessorCaptor.getValue().apply(userPermissionsList)).containsExactly(userPermissions);
+    verify(migrationRoleCreator).createRoles(userPermissionsList, MIGRATION_ID);
+    verify(keycloakConfigurationProperties, atLeastOnce()).getMigration();
   }
 }
@@ -14,6 +14,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.folio.roles.domain.model.UserPermissions;
+import org.folio.roles.integration.keyclock.KeycloakUserIdMappingService;
 import org.folio.roles.integration.keyclock.configuration.KeycloakConfigurationProperties;
 import org.folio.roles.integration.permissions.Permissions;
 import org.folio.roles.integration.permissions.PermissionsClient;
@@ -38,6 +39,7 @@ class UserPermissionsLoaderTest {
   @Mock private Keycloak keycloak;
   @Mock private PermissionsClient permissionsClient;
   @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private KeycloakUserIdMappingService userIdMappingService;
 
   @Mock(answer = RETURNS_DEEP_STUBS) private RealmResource realmResource;
   @Mock(answer = RETURNS_DEEP_STUBS) private KeycloakConfigurationProperties configurationProperties;
@@ -53,7 +55,8 @@ class UserPermissionsLoaderTest {
     when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
     when(configurationProperties.getMigration().getUsersBatchSize()).thenReturn(1);
 
-    when(realmResource.users().list(0, 1)).thenReturn(List.of(keycloakUser(USER_ID)));
+    var keycloakUser = keycloakUser(USER_ID);
+    when(realmResource.users().list(0, 1)).thenReturn(List.of(keycloakUser));
     when(realmResource.users().list(1, 1)).thenReturn(List.of(keycloakUser(null)));
     when(realmResource.users().list(2, 1)).thenReturn(emptyList());
 
@@ -67,6 +70,7 @@ class UserPermissionsLoaderTest {
     var userPermissions = new UserPermissions().userId(USER_ID).permissions(permissions).roleName(generatedRoleName);
     assertThat(result).containsExactly(userPermissions);
 
+    verify(userIdMappingService).saveAll(Map.of(USER_ID, keycloakUser.getId()));
     verify(configurationProperties, atLeastOnce()).getMigration();
     verify(realmResource, atLeastOnce()).users();
   }
@@ -77,7 +81,8 @@ class UserPermissionsLoaderTest {
     when(keycloak.realm(TENANT_ID)).thenReturn(realmResource);
     when(configurationProperties.getMigration().getUsersBatchSize()).thenReturn(1);
 
-    when(realmResource.users().list(0, 1)).thenReturn(List.of(keycloakUser(USER_ID)));
+    var keycloakUser = keycloakUser(USER_ID);
+    when(realmResource.users().list(0, 1)).thenReturn(List.of(keycloakUser));
     when(realmResource.users().list(1, 1)).thenReturn(emptyList());
 
     when(permissionsClient.getUserPermissions(USER_ID, "userId", true)).thenReturn(Optional.of(new Permissions()));
@@ -86,6 +91,7 @@ class UserPermissionsLoaderTest {
 
     assertThat(result).isEmpty();
 
+    verify(userIdMappingService).saveAll(Map.of(USER_ID, keycloakUser.getId()));
     verify(configurationProperties, atLeastOnce()).getMigration();
     verify(realmResource, atLeastOnce()).users();
   }
@@ -0,0 +1,100 @@
+package org.folio.roles.service.observation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.annotation.Observed;
+import java.util.ArrayList;
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+@UnitTest
+class ObservedMethodInterceptorTest {
+
+  private final List<Observation.Context> contexts = new ArrayList<>();
+  private TestService testService;
+
+  @BeforeEach
+  void setUp() {
+    var observationRegistry = ObservationRegistry.create();
+    observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+
+      @Override
+      public boolean supportsContext(Observation.Context context) {
+        return true;
+      }
+
+      @Override
+      public void onStop(Observation.Context context) {
+        contexts.add(context);
+      }
+    });
+
+    var proxyFactory = new ProxyFactory(new TestService());
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAdvice(new ObservedMethodInterceptor(() -> observationRegistry));
+    testService = (TestService) proxyFactory.getProxy();
+  }
+
+  @Test
+  void invoke_positive_classIsObserved() {
+    var result = testService.process("value");
+
+    assertThat(result).isEqualTo("processed value");
+    assertThat(contexts).singleElement().satisfies(context -> {
+      assertThat(context.getName()).isEqualTo(ObservedMethodInterceptor.DEFAULT_OBSERVATION_NAME);
+      assertThat(context.getContextualName()).isEqualTo("TestService#process");
+      assertThat(context.getLowCardinalityKeyValue("class").getValue()).isEqualTo("TestService");
+      assertThat(context.getLowCardinalityKeyValue("method").getValue()).isEqualTo("process");
+    });
+  }
+
+  @Test
+  void invoke_positive_methodAnnotationIsUsed() {
+    testService.custom();
+
+    assertThat(contexts).singleElement().satisfies(context -> {
+      assertThat(context.getName()).isEqualTo("custom.operation");
+      assertThat(context.getContextualName()).isEqualTo("TestService#custom");
+    });
+  }
+
+  @Test
+  void invoke_negative_errorIsRecorded() {
+    assertThatThrownBy(() -> testService.fail())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("failed");
+
+    assertThat(contexts).singleElement()
+      .satisfies(context -> assertThat(context.getError()).isInstanceOf(IllegalStateException.class));
+  }
+
+  @Test
+  void invoke_positive_objectMethodIsNotObserved() {
+    assertThat(testService.toString()).isNotBlank();
+    assertThat(contexts).isEmpty();
+  }
+
+  @Observed
+  public static class TestService {
+
+    public String process(String value) {
+      return "processed " + value;
+    }
+
+    @Observed(name = "custom.operation")
+    public void custom() {
+      // no operation
+    }
+
+    public void fail() {
+      throw new IllegalStateException("failed");
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package org.folio.roles.service.observation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import org.folio.roles.configuration.property.TracingProperties;
+import org.folio.roles.service.observation.SlowRequestObservationHandler.SpanNode;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class SlowRequestObservationHandlerTest {
+
+  private final TracingProperties tracingProperties = new TracingProperties();
+  private ObservationRegistry observationRegistry;
+
+  @BeforeEach
+  void setUp() {
+    tracingProperties.setSlowRequestThreshold(Duration.ZERO);
+    observationRegistry = ObservationRegistry.create();
+    observationRegistry.observationConfig()
+      .observationHandler(new SlowRequestObservationHandler(tracingProperties));
+  }
+
+  @Test
+  void onStop_positive_spanTreeIsCollected() {
+    var root = Observation.createNotStarted("http.server.requests", observationRegistry).contextualName("http post");
+    root.observe(() -> {
+      Observation.createNotStarted("method.observed", observationRegistry)
+        .contextualName("RoleCapabilityServiceImpl#create")
+        .observe(() -> {
+          for (int i = 0; i < 3; i++) {
+            Observation.createNotStarted("method.observed", observationRegistry)
+              .contextualName("KeycloakAuthorizationService#createPermission")
+              .observe(() -> { });
+          }
+        });
+      Observation.createNotStarted("method.observed", observationRegistry)
+        .contextualName("CapabilityEventHandler#handle")
+        .observe(() -> { });
+    });
+
+    var result = root.getContext().<SpanNode>get(SpanNode.class).format();
+
+    assertThat(result.lines().map(String::strip).map(line -> line.replaceAll("\\d+ms", "")))
+      .containsExactly("", "http post ", "RoleCapabilityServiceImpl#create ",
+        "KeycloakAuthorizationService#createPermission x3 total= max=", "CapabilityEventHandler#handle ");
+  }
+
+  @Test
+  void onStop_positive_spansAreLimited() {
+    tracingProperties.setMaxSpans(2);
+
+    var root = Observation.createNotStarted("http.server.requests", observationRegistry);
+    root.observe(() -> {
+      for (int i = 0; i < 3; i++) {
+        Observation.createNotStarted("child-" + i, observationRegistry).observe(() ->
+          Observation.createNotStarted("grandchild", observationRegistry).observe(() -> { }));
+      }
+    });
+
+    var result = root.getContext().<SpanNode>get(SpanNode.class).format();
+
+    assertThat(result).contains("child-0").doesNotContain("child-1", "child-2", "grandchild")
+      .endsWith("... 5 spans dropped");
+  }
+}
@@ -2,15 +2,21 @@ package org.folio.roles.service.reference;
 
 import static java.util.Collections.emptyList;
 import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.common.utils.CollectionUtils.mapItems;
 import static org.folio.roles.domain.dto.RoleType.DEFAULT;
 import static org.folio.roles.support.TestConstants.TENANT_ID;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -27,6 +33,8 @@ import org.folio.test.types.UnitTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -41,6 +49,7 @@ class RolesDataLoaderTest {
   @Mock private LoadableRoleService roleService;
   @Mock private ResourceHelper resourceHelper;
   @Mock private FolioExecutionContext folioExecutionContext;
+  @Captor private ArgumentCaptor<String> contentHashCaptor;
 
   @AfterEach
   void tearDown() {
@@ -55,10 +64,14 @@ class RolesDataLoaderTest {
 
     when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
       .thenReturn(Stream.of(roles));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(roleService.findByIdOrName(role.getId(), role.getName())).thenReturn(Optional.empty());
-    doNothing().when(roleService).saveAll(List.of(loadableRole));
 
     rolesDataLoader.loadReferenceData();
+
+    verify(roleService).saveDefaultRole(eq(loadableRole), anyString());
+    verify(roleService).deleteDefaultRolesNotIn(List.of(role));
   }
 
   @Test
@@ -76,10 +89,86 @@ class RolesDataLoaderTest {
 
     when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
       .thenReturn(Stream.of(roles));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of("role1", "outdated-hash"));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
     when(roleService.findByIdOrName(role.getId(), role.getName())).thenReturn(Optional.of(existingLoadableRole));
-    doNothing().when(roleService).saveAll(List.of(loadableRole));
 
     rolesDataLoader.loadReferenceData();
+
+    verify(roleService).saveDefaultRole(eq(loadableRole), contentHashCaptor.capture());
+    verify(roleService).deleteDefaultRolesNotIn(List.of(role));
+    assertThat(contentHashCaptor.getValue()).isNotEqualTo("outdated-hash").hasSize(64);
+  }
+
+  @Test
+  void loadReferenceData_positive_unchangedRoleSkipped() {
+    var role = new PlainLoadableRole().name("role1");
+    var changedRole = new PlainLoadableRole().name("role2");
+
+    when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
+      .thenReturn(Stream.of(sourced("role1.json", role)));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(roleService.findByIdOrName(null, "role1")).thenReturn(Optional.empty());
+
+    rolesDataLoader.loadReferenceData();
+
+    verify(roleService).saveDefaultRole(eq(loadableRole("role1")), contentHashCaptor.capture());
+    var contentHash = contentHashCaptor.getValue();
+
+    when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
+      .thenReturn(Stream.of(sourced("role1.json", role), sourced("role2.json", changedRole)));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of("role1", contentHash, "role2", contentHash));
+    when(roleService.findByIdOrName(null, "role2")).thenReturn(Optional.empty());
+
+    rolesDataLoader.loadReferenceData();
+
+    verify(roleService).saveDefaultRole(eq(loadableRole("role2")), anyString());
+    verify(roleService).deleteDefaultRolesNotIn(List.of(role));
+    verify(roleService).deleteDefaultRolesNotIn(List.of(role, changedRole));
+  }
+
+  @Test
+  void loadReferenceData_positive_changedRolesSaved() {
+    var roles = List.of(new PlainLoadableRole().name("role1"), new PlainLoadableRole().name("role2"),
+      new PlainLoadableRole().name("role3"));
+
+    when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
+      .thenReturn(Stream.of(new SourcedResource<>(ROLES_DIR + "/roles.json", new PlainLoadableRoles().roles(roles))));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(roleService.findByIdOrName(any(), anyString())).thenReturn(Optional.empty());
+
+    rolesDataLoader.loadReferenceData();
+
+    verify(roleService).findByIdOrName(null, "role1");
+    verify(roleService).findByIdOrName(null, "role2");
+    verify(roleService).findByIdOrName(null, "role3");
+    verify(roleService).saveDefaultRole(eq(loadableRole("role1")), anyString());
+    verify(roleService).saveDefaultRole(eq(loadableRole("role2")), anyString());
+    verify(roleService).saveDefaultRole(eq(loadableRole("role3")), anyString());
+    verify(roleService).deleteDefaultRolesNotIn(roles);
+  }
+
+  @Test
+  void loadReferenceData_negative_saveFailed() {
+    var roles = List.of(new PlainLoadableRole().name("role1"), new PlainLoadableRole().name("role2"));
+
+    when(resourceHelper.readSourcedObjectsFromDirectory(ROLES_DIR, PlainLoadableRoles.class))
+      .thenReturn(Stream.of(new SourcedResource<>(ROLES_DIR + "/roles.json", new PlainLoadableRoles().roles(roles))));
+    when(roleService.findDefaultRoleContentHashes()).thenReturn(Map.of());
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(roleService.findByIdOrName(any(), anyString())).thenReturn(Optional.empty());
+    doThrow(new IllegalStateException("Failed to save role"))
+      .when(roleService).saveDefaultRole(eq(loadableRole("role2")), anyString());
+
+    assertThatThrownBy(() -> rolesDataLoader.loadReferenceData())
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failed to save role");
+
+    verify(roleService).findByIdOrName(null, "role1");
+    verify(roleService).findByIdOrName(null, "role2");
+    verify(roleService).saveDefaultRole(eq(loadableRole("role1")), anyString());
   }
 
   @Test
@@ -108,6 +197,10 @@ class RolesDataLoaderTest {
     verifyNoInteractions(roleService);
   }
 
+  private static LoadableRole loadableRole(String name) {
+    return new LoadableRole().name(name).type(DEFAULT).permissions(emptyList());
+  }
+
   private static SourcedResource<PlainLoadableRoles> sourced(String fileName, PlainLoadableRole role) {
     return new SourcedResource<>(ROLES_DIR + "/" + fileName, new PlainLoadableRoles().roles(List.of(role)));
   }
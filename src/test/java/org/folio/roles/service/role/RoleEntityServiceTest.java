@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -105,6 +106,27 @@ class RoleEntityServiceTest {
       var dto = createRoleDto();
       assertThrows(RuntimeException.class, () -> service.create(dto));
     }
+
+    @Test
+    void positive_batch() {
+      var entity = createRoleEntity();
+      var dto = createRoleDto();
+
+      when(repository.insertAll(anyList())).thenReturn(List.of(entity));
+
+      var roles = service.create(List.of(dto));
+
+      assertThat(roles).hasSize(1);
+      assertEquals(dto.getId(), roles.get(0).getId());
+      assertEquals(dto.getName(), roles.get(0).getName());
+    }
+
+    @Test
+    void positive_batchWithEmptyList() {
+      var roles = service.create(List.<Role>of());
+
+      assertThat(roles).isEmpty();
+    }
   }
 
   @Nested
@@ -244,6 +266,21 @@ class RoleEntityServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("findByNames")
+  class FindByNames {
+
+    @Test
+    void positive() {
+      var roleNames = List.of(ROLE_NAME);
+      when(repository.findByNameIn(roleNames)).thenReturn(List.of(createRoleEntity()));
+
+      var result = service.findByNames(roleNames);
+
+      assertThat(result).containsExactly(createRoleDto().metadata(new Metadata()));
+    }
+  }
+
   @Nested
   @DisplayName("existById")
   class ExistById {
@@ -1,15 +1,24 @@
 package org.folio.roles.service.role;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.roles.support.RoleUtils.ROLE_ID_2;
 import static org.folio.roles.support.RoleUtils.role;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import jakarta.ws.rs.WebApplicationException;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.folio.roles.domain.dto.Role;
+import org.folio.roles.integration.keyclock.KeycloakPermissionsExecutor;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
 import org.folio.roles.integration.keyclock.exception.KeycloakApiException;
 import org.folio.test.types.UnitTest;
@@ -20,6 +29,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -27,9 +39,18 @@ class RoleMigrationServiceTest {
 
   @Mock private KeycloakRoleService keycloakRoleService;
   @Mock private RoleEntityService roleEntityService;
+  @Mock private KeycloakPermissionsExecutor keycloakPermissionsExecutor;
+  @Mock private PlatformTransactionManager transactionManager;
 
   @InjectMocks private RoleMigrationService roleMigrationService;
 
+  private void mockSequentialExecution() {
+    doAnswer(inv -> {
+      inv.<List<Role>>getArgument(0).forEach(inv.<Consumer<Role>>getArgument(1));
+      return null;
+    }).when(keycloakPermissionsExecutor).executeAll(anyList(), any());
+  }
+
   @Nested
   @DisplayName("createRolesSafely")
   class CreateRolesSafely {
@@ -37,59 +58,71 @@ class RoleMigrationServiceTest {
     @Test
     void positive_rolesCreatedSuccessfully() {
       var role = role();
+      mockSequentialExecution();
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
       when(keycloakRoleService.create(role)).thenReturn(role);
-      when(roleEntityService.create(role)).thenReturn(role);
+      when(roleEntityService.create(List.of(role))).thenReturn(List.of(role));
 
       var result = roleMigrationService.createRolesSafely(List.of(role));
 
-      assertThat(result.getSuccessfulRoles()).hasSize(1);
+      assertThat(result.getSuccessfulRoles()).containsExactly(role);
       assertThat(result.getFailures()).isEmpty();
       verify(keycloakRoleService).create(role);
-      verify(roleEntityService).create(role);
+      verify(roleEntityService).create(List.of(role));
     }
 
     @Test
     void positive_roleExistsInKeycloak() {
       var role = role();
-      when(keycloakRoleService.create(role)).thenThrow(
-        new KeycloakApiException("Role already exists", new WebApplicationException()));
-      when(keycloakRoleService.findByName(role.getName())).thenReturn(Optional.of(role));
-      when(roleEntityService.findByName(role.getName())).thenReturn(Optional.empty());
-      when(roleEntityService.create(role)).thenReturn(role);
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(Set.of(role.getName()))).thenReturn(List.of(role()));
+      when(roleEntityService.create(List.of(role))).thenReturn(List.of(role));
 
       var result = roleMigrationService.createRolesSafely(List.of(role));
 
-      assertThat(result.getSuccessfulRoles()).hasSize(1);
-      assertThat(result.getFailures()).hasSize(1);
-      assertThat(result.getFailures().get(0).getRoleName()).isEqualTo(role.getName());
-      assertThat(result.getFailures().get(0).getErrorMessage()).contains("Failed to create role in Keycloak");
-      verify(keycloakRoleService).create(role);
-      verify(keycloakRoleService).findByName(role.getName());
-      verify(roleEntityService, times(2)).findByName(role.getName());
-      verify(roleEntityService).create(role);
+      assertThat(result.getSuccessfulRoles()).containsExactly(role);
+      assertThat(result.getFailures()).isEmpty();
+      verify(keycloakRoleService, never()).create(any());
     }
 
     @Test
     void positive_roleAlreadyExistsInDb() {
       var role = role();
-      when(keycloakRoleService.create(role)).thenThrow(
-        new KeycloakApiException("Role already exists", new WebApplicationException()));
-      when(roleEntityService.findByName(role.getName())).thenReturn(Optional.of(role));
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of(role));
 
       var result = roleMigrationService.createRolesSafely(List.of(role));
 
-      assertThat(result.getSuccessfulRoles()).isEmpty();
-      assertThat(result.getFailures()).hasSize(1);
-      verify(keycloakRoleService).create(role);
-      verify(roleEntityService).findByName(role.getName());
-      verifyNoMoreInteractions(keycloakRoleService);
+      assertThat(result.getSuccessfulRoles()).containsExactly(role);
+      assertThat(result.getFailures()).isEmpty();
+      verifyNoInteractions(keycloakRoleService, keycloakPermissionsExecutor);
+      verifyNoMoreInteractions(roleEntityService);
+    }
+
+    @Test
+    void positive_keycloakLookupFails_rolesCreated() {
+      var role = role();
+      mockSequentialExecution();
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(Set.of(role.getName())))
+        .thenThrow(new KeycloakApiException("Failed", new WebApplicationException()));
+      when(keycloakRoleService.create(role)).thenReturn(role);
+      when(roleEntityService.create(List.of(role))).thenReturn(List.of(role));
+
+      var result = roleMigrationService.createRolesSafely(List.of(role));
+
+      assertThat(result.getSuccessfulRoles()).containsExactly(role);
+      assertThat(result.getFailures()).isEmpty();
     }
 
     @Test
     void positive_dbCreationFailsAfterKeycloakSuccess_rollbackHappens() {
       var role = role();
+      mockSequentialExecution();
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
       when(keycloakRoleService.create(role)).thenReturn(role);
-      when(roleEntityService.findByName(role.getName())).thenReturn(Optional.empty());
+      when(roleEntityService.create(List.of(role))).thenThrow(RuntimeException.class);
       when(roleEntityService.create(role)).thenThrow(RuntimeException.class);
 
       var result = roleMigrationService.createRolesSafely(List.of(role));
@@ -97,69 +130,89 @@ class RoleMigrationServiceTest {
       assertThat(result.getSuccessfulRoles()).isEmpty();
       assertThat(result.getFailures()).hasSize(1);
       assertThat(result.getFailures().get(0).getErrorMessage()).contains("Failed to create role in database");
-      verify(keycloakRoleService).create(role);
-      verify(roleEntityService).findByName(role.getName());
-      verify(roleEntityService).create(role);
       // Verify rollback: Keycloak role should be deleted after DB creation fails
       verify(keycloakRoleService).deleteById(role.getId());
     }
 
     @Test
-    void positive_keycloakRoleNotFound() {
+    void positive_roleExistsInKeycloakButDbCreateFails_keycloakRoleIsNotDeleted() {
       var role = role();
-      when(keycloakRoleService.create(role)).thenThrow(
-        new KeycloakApiException("Role already exists", new WebApplicationException()));
-      when(keycloakRoleService.findByName(role.getName())).thenReturn(Optional.empty());
-      when(roleEntityService.findByName(role.getName())).thenReturn(Optional.empty());
+      when(roleEntityService.findByNames(Set.of(role.getName()))).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(Set.of(role.getName()))).thenReturn(List.of(role()));
+      when(roleEntityService.create(List.of(role))).thenThrow(RuntimeException.class);
+      when(roleEntityService.create(role)).thenThrow(RuntimeException.class);
 
       var result = roleMigrationService.createRolesSafely(List.of(role));
 
       assertThat(result.getSuccessfulRoles()).isEmpty();
       assertThat(result.getFailures()).hasSize(1);
-      verify(keycloakRoleService).create(role);
-      verify(keycloakRoleService).findByName(role.getName());
-      verify(roleEntityService).findByName(role.getName());
-      verifyNoMoreInteractions(roleEntityService);
+      verify(keycloakRoleService, never()).deleteById(any());
     }
 
     @Test
-    void positive_roleExistsInKeycloakButDbCreateFails() {
-      var role = role();
-      when(keycloakRoleService.create(role)).thenThrow(
-        new KeycloakApiException("Role already exists", new WebApplicationException()));
-      when(keycloakRoleService.findByName(role.getName())).thenReturn(Optional.of(role));
-      when(roleEntityService.findByName(role.getName())).thenReturn(Optional.empty());
-      when(roleEntityService.create(role)).thenThrow(RuntimeException.class);
+    void positive_dbBatchFails_rolesCreatedOneByOneAndChunkTransactionCommitted() {
+      var role1 = role();
+      var role2 = role().id(ROLE_ID_2).name("role2");
+      var roleNames = Set.of(role1.getName(), role2.getName());
+      var chunkStatus = new SimpleTransactionStatus();
+      var batchStatus = new SimpleTransactionStatus();
+      var role1Status = new SimpleTransactionStatus();
+      var role2Status = new SimpleTransactionStatus();
+      mockSequentialExecution();
+      when(transactionManager.getTransaction(any())).thenReturn(chunkStatus, batchStatus, role1Status, role2Status);
+      when(roleEntityService.findByNames(roleNames)).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(roleNames)).thenReturn(List.of());
+      when(keycloakRoleService.create(role1)).thenReturn(role1);
+      when(keycloakRoleService.create(role2)).thenReturn(role2);
+      when(roleEntityService.create(List.of(role1, role2))).thenThrow(RuntimeException.class);
+      when(roleEntityService.create(role1)).thenReturn(role1);
+      when(roleEntityService.create(role2)).thenThrow(RuntimeException.class);
 
-      var result = roleMigrationService.createRolesSafely(List.of(role));
+      var chunkTransaction = new TransactionTemplate(transactionManager);
+      var result = chunkTransaction.execute(status -> roleMigrationService.createRolesSafely(List.of(role1, role2)));
 
-      assertThat(result.getSuccessfulRoles()).isEmpty();
-      assertThat(result.getFailures()).hasSize(2);
-      verify(keycloakRoleService).create(role);
-      verify(keycloakRoleService).findByName(role.getName());
-      verify(roleEntityService, times(2)).findByName(role.getName());
-      verify(roleEntityService).create(role);
-      // Verify rollback: Keycloak role should be deleted after DB creation fails
-      verify(keycloakRoleService).deleteById(role.getId());
+      assertThat(result).isNotNull();
+      assertThat(result.getSuccessfulRoles()).containsExactly(role1);
+      assertThat(result.getFailures()).hasSize(1);
+      assertThat(result.getFailures().get(0).getRoleName()).isEqualTo(role2.getName());
+      assertThat(chunkStatus.isRollbackOnly()).isFalse();
+      verify(transactionManager, times(4)).getTransaction(any());
+      verify(transactionManager).rollback(batchStatus);
+      verify(transactionManager).commit(role1Status);
+      verify(transactionManager).rollback(role2Status);
+      verify(transactionManager).commit(chunkStatus);
+      verify(keycloakRoleService).deleteById(role2.getId());
+      verify(keycloakRoleService, never()).deleteById(role1.getId());
     }
 
     @Test
     void positive_multipleRoles_partialSuccess() {
       var role1 = role();
-      var role2 = role().name("role2");
-      
+      var role2 = role().id(ROLE_ID_2).name("role2");
+      var roleNames = Set.of(role1.getName(), role2.getName());
+      mockSequentialExecution();
+      when(roleEntityService.findByNames(roleNames)).thenReturn(List.of());
+      when(keycloakRoleService.findByNames(roleNames)).thenReturn(List.of());
       when(keycloakRoleService.create(role1)).thenReturn(role1);
-      when(roleEntityService.create(role1)).thenReturn(role1);
-      
       when(keycloakRoleService.create(role2)).thenThrow(
         new KeycloakApiException("Failed", new WebApplicationException()));
+      when(roleEntityService.create(List.of(role1))).thenReturn(List.of(role1));
 
       var result = roleMigrationService.createRolesSafely(List.of(role1, role2));
 
-      assertThat(result.getSuccessfulRoles()).hasSize(1);
-      assertThat(result.getSuccessfulRoles().get(0).getName()).isEqualTo(role1.getName());
+      assertThat(result.getSuccessfulRoles()).containsExactly(role1);
       assertThat(result.getFailures()).hasSize(1);
       assertThat(result.getFailures().get(0).getRoleName()).isEqualTo(role2.getName());
+      assertThat(result.getFailures().get(0).getErrorMessage()).contains("Failed to create role in Keycloak");
+    }
+
+    @Test
+    void positive_emptyRoles() {
+      var result = roleMigrationService.createRolesSafely(List.of());
+
+      assertThat(result.getSuccessfulRoles()).isEmpty();
+      assertThat(result.getFailures()).isEmpty();
+      verifyNoInteractions(keycloakRoleService, roleEntityService, keycloakPermissionsExecutor);
     }
   }
 }
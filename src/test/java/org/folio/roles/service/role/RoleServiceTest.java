@@ -25,7 +25,9 @@ import static org.folio.roles.support.TestConstants.USER_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -38,6 +40,7 @@ import static org.mockito.Mockito.when;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.folio.roles.domain.dto.Endpoint;
 import org.folio.roles.domain.dto.Role;
@@ -45,6 +48,7 @@ import org.folio.roles.domain.dto.UserRole;
 import org.folio.roles.domain.model.PageResult;
 import org.folio.roles.exception.ServiceException;
 import org.folio.roles.integration.keyclock.KeycloakAuthorizationService;
+import org.folio.roles.integration.keyclock.KeycloakPermissionsExecutor;
 import org.folio.roles.integration.keyclock.KeycloakPolicyService;
 import org.folio.roles.integration.keyclock.KeycloakRoleService;
 import org.folio.roles.integration.keyclock.KeycloakRolesUserService;
@@ -76,11 +80,19 @@ class RoleServiceTest {
   @Mock private PolicyEntityService policyEntityService;
   @Mock private PolicyService policyService;
   @Mock private CapabilityEndpointService capabilityEndpointService;
+  @Mock private KeycloakPermissionsExecutor keycloakPermissionsExecutor;
 
   @Captor private ArgumentCaptor<Function<Endpoint, String>> nameGeneratorCaptor;
 
   @InjectMocks private RoleService facade;
 
+  private void mockSequentialExecution() {
+    doAnswer(inv -> {
+      inv.<List<Role>>getArgument(0).forEach(inv.<Consumer<Role>>getArgument(1));
+      return null;
+    }).when(keycloakPermissionsExecutor).executeAll(anyList(), any());
+  }
+
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(keycloakRolesUserService, keycloakAuthService, keycloakPolicyService,
@@ -135,17 +147,64 @@ class RoleServiceTest {
       var role1 = role();
       var role2 = role().id(ROLE_ID_2).name(ROLE_NAME_2);
 
+      mockSequentialExecution();
       when(keycloakService.create(role1)).thenReturn(role1);
-      when(entityService.create(role1)).thenReturn(role1);
       when(keycloakService.create(role2)).thenReturn(role2);
-      when(entityService.create(role2)).thenReturn(role2);
+      when(entityService.create(List.of(role1, role2))).thenReturn(List.of(role1, role2));
 
       var result = facade.create(List.of(role1, role2));
 
-      assertThat(result.getRoles()).hasSize(2);
+      assertThat(result.getRoles()).containsExactly(role1, role2);
       assertThat(result.getTotalRecords()).isEqualTo(2);
       verify(keycloakService, times(2)).create(any());
-      verify(entityService, times(2)).create(any());
+      verify(entityService).create(List.of(role1, role2));
+    }
+
+    @Test
+    void negative_multipleRoles_keycloakCreateFails_rollbackCreatedRoles() {
+      var role1 = role();
+      var role2 = role().id(ROLE_ID_2).name(ROLE_NAME_2);
+      var exception = new RuntimeException("error");
+
+      mockSequentialExecution();
+      when(keycloakService.create(role1)).thenReturn(role1);
+      when(keycloakService.create(role2)).thenThrow(exception);
+
+      var roles = List.of(role1, role2);
+      assertThatThrownBy(() -> facade.create(roles)).isSameAs(exception);
+
+      verify(keycloakService).deleteById(ROLE_ID);
+      verifyNoInteractions(entityService);
+    }
+
+    @Test
+    void negative_multipleRoles_dbCreateFails_rollbackKeycloak() {
+      var role1 = role();
+      var role2 = role().id(ROLE_ID_2).name(ROLE_NAME_2);
+
+      mockSequentialExecution();
+      when(keycloakService.create(role1)).thenReturn(role1);
+      when(keycloakService.create(role2)).thenReturn(role2);
+      when(entityService.create(List.of(role1, role2))).thenThrow(RuntimeException.class);
+
+      var roles = List.of(role1, role2);
+      assertThatThrownBy(() -> facade.create(roles))
+        .isInstanceOf(ServiceException.class)
+        .hasMessage("Failed to create roles");
+
+      verify(keycloakService).deleteById(ROLE_ID);
+      verify(keycloakService).deleteById(ROLE_ID_2);
+    }
+
+    @Test
+    void negative_multipleRoles_cannotCreateDefaultRole() {
+      var roles = List.of(role(), defaultRole());
+
+      assertThatThrownBy(() -> facade.create(roles))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Default role cannot be created, updated or deleted via roles API.");
+
+      verifyNoInteractions(keycloakService, entityService, keycloakPermissionsExecutor);
     }
 
     @Test
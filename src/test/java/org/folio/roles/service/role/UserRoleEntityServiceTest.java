@@ -97,6 +97,26 @@ class UserRoleEntityServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("createSafe(List)")
+  class CreateSafeBatch {
+
+    @Test
+    void positive() {
+      when(repository.insertAll(anyList())).thenReturn(List.of(userRoleEntity()));
+
+      var result = service.createSafe(List.of(userRole(USER_ID, ROLE_ID)));
+
+      assertThat(result).containsExactly(userRole(USER_ID, ROLE_ID).metadata(new Metadata()));
+    }
+
+    @Test
+    void positive_emptyList() {
+      var result = service.createSafe(List.of());
+      assertThat(result).isEmpty();
+    }
+  }
+
   @Nested
   @DisplayName("deleteByUserId")
   class DeleteByUserId {
@@ -140,6 +160,20 @@ class UserRoleEntityServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("findByUserIds")
+  class FindByUserIds {
+
+    @Test
+    void positive() {
+      when(repository.findByUserIdIn(List.of(USER_ID))).thenReturn(List.of(userRoleEntity()));
+
+      var result = service.findByUserIds(List.of(USER_ID));
+
+      assertThat(result).containsExactly(userRole(USER_ID, ROLE_ID).metadata(new Metadata()));
+    }
+  }
+
   @Nested
   @DisplayName("findByUserId")
   class FindByUserId {
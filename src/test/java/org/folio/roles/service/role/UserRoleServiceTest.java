@@ -2,6 +2,7 @@ package org.folio.roles.service.role;
 
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.roles.domain.model.event.UserPermissionsChangedEvent.userPermissionsChanged;
 import static org.folio.roles.support.RoleUtils.ROLE_ID;
 import static org.folio.roles.support.TestConstants.USER_ID;
@@ -15,8 +16,11 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityNotFoundException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.folio.roles.domain.dto.Role;
 import org.folio.roles.domain.dto.UserRole;
@@ -111,6 +115,116 @@ class UserRoleServiceTest {
     }
   }
 
+  @Nested
+  @DisplayName("createSafe(List)")
+  class CreateSafeBatch {
+
+    @Test
+    void positive() {
+      var userId2 = randomUUID();
+      var roleId2 = randomUUID();
+      var userRole1 = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+      var userRole2 = new UserRole().userId(USER_ID).roleId(roleId2);
+      var userRole3 = new UserRole().userId(userId2).roleId(ROLE_ID);
+      var userRoles = List.of(userRole1, userRole2, userRole3);
+
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID, userId2))).thenReturn(List.of());
+      when(roleService.findByIds(List.of(ROLE_ID, roleId2))).thenReturn(List.of(role(), role(roleId2)));
+      when(keycloakRolesUserService.assignRolesToUsers(Map.of(
+        USER_ID, List.of(role(), role(roleId2)), userId2, List.of(role())))).thenReturn(Set.of());
+
+      var result = userRoleService.createSafe(userRoles);
+
+      assertThat(result).isEmpty();
+      verify(userRoleEntityService).createSafe(userRoles);
+      verify(eventPublisher).publishEvent(userPermissionsChanged(USER_ID));
+      verify(eventPublisher).publishEvent(userPermissionsChanged(userId2));
+    }
+
+    @Test
+    void positive_existingRelationsAreSkipped() {
+      var roleId2 = randomUUID();
+      var userRole1 = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+      var userRole2 = new UserRole().userId(USER_ID).roleId(roleId2);
+
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID))).thenReturn(List.of(userRole(USER_ID, ROLE_ID)));
+      when(roleService.findByIds(List.of(roleId2))).thenReturn(List.of(role(roleId2)));
+      when(keycloakRolesUserService.assignRolesToUsers(Map.of(USER_ID, List.of(role(roleId2))))).thenReturn(Set.of());
+
+      var result = userRoleService.createSafe(List.of(userRole1, userRole2));
+
+      assertThat(result).isEmpty();
+      verify(userRoleEntityService).createSafe(List.of(userRole2));
+      verify(eventPublisher).publishEvent(userPermissionsChanged(USER_ID));
+    }
+
+    @Test
+    void positive_allRelationsExist() {
+      var userRole = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID))).thenReturn(List.of(userRole(USER_ID, ROLE_ID)));
+
+      var result = userRoleService.createSafe(List.of(userRole));
+
+      assertThat(result).isEmpty();
+      verifyNoInteractions(roleService, keycloakRolesUserService, eventPublisher);
+    }
+
+    @Test
+    void negative_keycloakAssignmentFailedForUser() {
+      var userId2 = randomUUID();
+      var userRole1 = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+      var userRole2 = new UserRole().userId(userId2).roleId(ROLE_ID);
+
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID, userId2))).thenReturn(List.of());
+      when(roleService.findByIds(List.of(ROLE_ID))).thenReturn(List.of(role()));
+      when(keycloakRolesUserService.assignRolesToUsers(Map.of(USER_ID, List.of(role()), userId2, List.of(role()))))
+        .thenReturn(Set.of(userId2));
+
+      var result = userRoleService.createSafe(List.of(userRole1, userRole2));
+
+      assertThat(result).containsExactly(userRole2);
+      verify(userRoleEntityService).createSafe(List.of(userRole1));
+      verify(eventPublisher).publishEvent(userPermissionsChanged(USER_ID));
+    }
+
+    @Test
+    void negative_roleNotFound() {
+      var userRole = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID))).thenReturn(List.of());
+      when(roleService.findByIds(List.of(ROLE_ID)))
+        .thenThrow(new EntityNotFoundException("Roles are not found for ids: " + List.of(ROLE_ID)));
+
+      var userRoles = List.of(userRole);
+      assertThatThrownBy(() -> userRoleService.createSafe(userRoles))
+        .isInstanceOf(EntityNotFoundException.class)
+        .hasMessage("Roles are not found for ids: [%s]", ROLE_ID);
+
+      verifyNoInteractions(keycloakRolesUserService, eventPublisher);
+    }
+
+    @Test
+    void negative_databaseSaveFailed() {
+      var userId2 = randomUUID();
+      var userRole1 = new UserRole().userId(USER_ID).roleId(ROLE_ID);
+      var userRole2 = new UserRole().userId(userId2).roleId(ROLE_ID);
+
+      when(userRoleEntityService.findByUserIds(Set.of(USER_ID, userId2))).thenReturn(List.of());
+      when(roleService.findByIds(List.of(ROLE_ID))).thenReturn(List.of(role()));
+      when(keycloakRolesUserService.assignRolesToUsers(Map.of(USER_ID, List.of(role()), userId2, List.of(role()))))
+        .thenReturn(Set.of(userId2));
+      when(userRoleEntityService.createSafe(List.of(userRole1))).thenThrow(new IllegalStateException("db error"));
+
+      var userRoles = List.of(userRole1, userRole2);
+      assertThatThrownBy(() -> userRoleService.createSafe(userRoles))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("db error");
+
+      verify(keycloakRolesUserService).unlinkRolesFromUser(USER_ID, List.of(role()));
+      verifyNoInteractions(eventPublisher);
+    }
+  }
+
   @Nested
   @DisplayName("update")
   class Update {
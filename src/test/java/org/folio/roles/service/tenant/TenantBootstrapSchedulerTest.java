@@ -0,0 +1,127 @@
+package org.folio.roles.service.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.roles.support.TestConstants.TENANT_ID;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.folio.roles.configuration.property.TenantBootstrapProperties;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Stage;
+import org.folio.roles.service.tenant.TenantBootstrapProgress.Status;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantBootstrapSchedulerTest {
+
+  private static final String OTHER_TENANT_ID = "other_tenant";
+
+  private TenantBootstrapScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new TenantBootstrapProperties();
+    properties.setMaxConcurrent(1);
+    properties.setQueueTimeout(Duration.ofMillis(100));
+    scheduler = new TenantBootstrapScheduler(properties);
+  }
+
+  @Test
+  void execute_positive() {
+    scheduler.execute(TENANT_ID, () -> scheduler.updateStage(TENANT_ID, Stage.REFERENCE_DATA_LOAD));
+
+    assertThat(scheduler.getProgress(TENANT_ID)).hasValueSatisfying(progress -> {
+      assertThat(progress.status()).isEqualTo(Status.COMPLETED);
+      assertThat(progress.stage()).isEqualTo(Stage.REFERENCE_DATA_LOAD);
+      assertThat(progress.startedAt()).isNotNull();
+      assertThat(progress.finishedAt()).isNotNull();
+      assertThat(progress.error()).isNull();
+    });
+  }
+
+  @Test
+  void execute_negative_bootstrapFailed() {
+    Runnable bootstrap = () -> {
+      throw new IllegalStateException("Unable to load reference data");
+    };
+
+    assertThatThrownBy(() -> scheduler.execute(TENANT_ID, bootstrap))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Unable to load reference data");
+
+    assertThat(scheduler.getProgress(TENANT_ID)).hasValueSatisfying(progress -> {
+      assertThat(progress.status()).isEqualTo(Status.FAILED);
+      assertThat(progress.error()).isEqualTo("Unable to load reference data");
+    });
+
+    scheduler.execute(OTHER_TENANT_ID, () -> { });
+    assertThat(scheduler.getProgress(OTHER_TENANT_ID)).map(TenantBootstrapProgress::status).hasValue(Status.COMPLETED);
+  }
+
+  @Test
+  void execute_negative_queueTimeout() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var running = CompletableFuture.runAsync(() -> scheduler.execute(TENANT_ID, () -> {
+      started.countDown();
+      await(release);
+    }));
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThatThrownBy(() -> scheduler.execute(OTHER_TENANT_ID, () -> { }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Tenant bootstrap is not started within PT0.1S: tenant = other_tenant");
+
+    assertThat(scheduler.getProgress()).extracting(TenantBootstrapProgress::tenantId, TenantBootstrapProgress::status)
+      .containsExactly(
+        tuple(OTHER_TENANT_ID, Status.FAILED),
+        tuple(TENANT_ID, Status.IN_PROGRESS));
+
+    release.countDown();
+    running.get(5, TimeUnit.SECONDS);
+    assertThat(scheduler.getProgress(TENANT_ID)).map(TenantBootstrapProgress::status).hasValue(Status.COMPLETED);
+  }
+
+  @Test
+  void execute_negative_tenantBootstrapInProgress() throws Exception {
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    var running = CompletableFuture.runAsync(() -> scheduler.execute(TENANT_ID, () -> {
+      started.countDown();
+      await(release);
+    }));
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThatThrownBy(() -> scheduler.execute(TENANT_ID, () -> { }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Tenant bootstrap is already in progress: tenant = " + TENANT_ID);
+    assertThat(scheduler.getProgress(TENANT_ID)).map(TenantBootstrapProgress::status).hasValue(Status.IN_PROGRESS);
+
+    release.countDown();
+    running.get(5, TimeUnit.SECONDS);
+    scheduler.execute(TENANT_ID, () -> { });
+    assertThat(scheduler.getProgress(TENANT_ID)).map(TenantBootstrapProgress::status).hasValue(Status.COMPLETED);
+  }
+
+  @Test
+  void remove_positive() {
+    scheduler.execute(TENANT_ID, () -> { });
+
+    scheduler.remove(TENANT_ID);
+
+    assertThat(scheduler.getProgress(TENANT_ID)).isEmpty();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
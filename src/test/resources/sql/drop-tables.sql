@@ -14,9 +14,13 @@ DROP TABLE IF EXISTS permission CASCADE;
 DROP TABLE IF EXISTS role_loadable_permission CASCADE;
 DROP TABLE IF EXISTS capability_set CASCADE;
 DROP TABLE IF EXISTS capability CASCADE;
+DROP TABLE IF EXISTS capability_catalog_version CASCADE;
+DROP TABLE IF EXISTS capability_catalog_change CASCADE;
 DROP TABLE IF EXISTS role_loadable CASCADE;
 DROP TABLE IF EXISTS role CASCADE;
+DROP TABLE IF EXISTS permission_migration_job_progress CASCADE;
 DROP TABLE IF EXISTS permission_migration_job CASCADE;
+DROP TABLE IF EXISTS keycloak_user_id_mapping CASCADE;
 
 DROP TYPE IF EXISTS POLICY_TYPE CASCADE;
 DROP TYPE IF EXISTS LOGIC_TYPE CASCADE;
@@ -26,3 +30,5 @@ DROP TYPE IF EXISTS HTTP_METHOD CASCADE;
 DROP TYPE IF EXISTS ROLE_TYPE CASCADE;
 DROP TYPE IF EXISTS SOURCE_TYPE CASCADE;
 DROP TYPE IF EXISTS PERMISSION_MIGRATION_JOB_STATUS_TYPE CASCADE;
+DROP TYPE IF EXISTS PERMISSION_MIGRATION_STAGE_TYPE CASCADE;
+DROP FUNCTION IF EXISTS increment_capability_catalog_version CASCADE;
@@ -1,2 +1,4 @@
 TRUNCATE TABLE test_mod_roles_keycloak.permission_migration_job CASCADE;
+TRUNCATE TABLE test_mod_roles_keycloak.permission_migration_job_progress CASCADE;
 TRUNCATE TABLE test_mod_roles_keycloak.permission_migration_error CASCADE;
+TRUNCATE TABLE test_mod_roles_keycloak.keycloak_user_id_mapping CASCADE;
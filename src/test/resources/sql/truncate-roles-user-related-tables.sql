@@ -1,2 +1,3 @@
 TRUNCATE TABLE test_mod_roles_keycloak.role CASCADE;
 TRUNCATE TABLE test_mod_roles_keycloak.user_role CASCADE;
+TRUNCATE TABLE test_mod_roles_keycloak.keycloak_user_id_mapping CASCADE;